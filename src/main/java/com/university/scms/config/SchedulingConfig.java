@@ -0,0 +1,51 @@
+package com.university.scms.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄링 설정
+ * 마일리지 스냅샷 등 주기 작업(@Scheduled)을 활성화합니다.
+ *
+ * <p>기본 스케줄러({@code taskScheduler})는 {@code scheduling.pool-size}(기본 4) 스레드로 야간 배치와 주기 작업을 함께 처리하고,
+ * 초 단위로 도는 타이밍 휠(프로그램 상태 전이, 상담 알림)은 긴 배치 뒤에 밀리지 않도록 휠마다 전용 단일 스레드 스케줄러를 씁니다.
+ * ({@code @Scheduled(scheduler = ...)}로 지정)</p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /** 프로그램 상태 전이 휠 전용 스케줄러 */
+    public static final String PROGRAM_STATUS_SCHEDULER = "programStatusTaskScheduler";
+
+    /** 상담 알림 휠 전용 스케줄러 */
+    public static final String COUNSELING_REMINDER_SCHEDULER = "counselingReminderTaskScheduler";
+
+    /**
+     * 기본 스케줄러 (scheduler를 지정하지 않은 @Scheduled)
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        return scheduler("scheduling-", poolSize);
+    }
+
+    @Bean(PROGRAM_STATUS_SCHEDULER)
+    public ThreadPoolTaskScheduler programStatusTaskScheduler() {
+        return scheduler("program-status-", 1);
+    }
+
+    @Bean(COUNSELING_REMINDER_SCHEDULER)
+    public ThreadPoolTaskScheduler counselingReminderTaskScheduler() {
+        return scheduler("counseling-reminder-", 1);
+    }
+
+    private static ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setPoolSize(poolSize);
+        return scheduler;
+    }
+}
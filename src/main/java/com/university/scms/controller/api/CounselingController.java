@@ -0,0 +1,148 @@
+package com.university.scms.controller.api;
+
+import com.university.scms.dto.counseling.CounselingReservationRequest;
+import com.university.scms.service.counseling.CounselingCalendarService;
+import com.university.scms.service.counseling.CounselingCalendarSyncResult;
+import com.university.scms.service.counseling.CounselingReservationResult;
+import com.university.scms.service.counseling.CounselingReservationService;
+import com.university.scms.service.counseling.CounselingSlot;
+import com.university.scms.service.counseling.CounselingSlotEngine;
+import com.university.scms.service.counseling.CounselorAvailabilityIndex;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 상담 API 컨트롤러
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/counseling")
+@RequiredArgsConstructor
+public class CounselingController {
+
+    private final CounselingSlotEngine slotEngine;
+    private final CounselingReservationService reservationService;
+    private final CounselorAvailabilityIndex availabilityIndex;
+    private final CounselingCalendarService calendarService;
+
+    /**
+     * 가장 이른 빈 상담 시간 (모든 상담사)
+     * GET /api/counseling/slots?type=GENERAL&duration=60&count=10&from=2026-10-19T09:00:00
+     */
+    @GetMapping("/slots")
+    public ResponseEntity<List<CounselingSlot>> findSlots(
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "60") int duration,
+            @RequestParam(defaultValue = "10") int count,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from) {
+        return ResponseEntity.ok(slotEngine.findNextSlots(
+                type, duration, count, from != null ? from : LocalDateTime.now()));
+    }
+
+    /**
+     * 해당 요일/시각에 가용한 상담사 수
+     * GET /api/counseling/availability/count?dayOfWeek=MONDAY&time=10:00
+     */
+    @GetMapping("/availability/count")
+    public ResponseEntity<Integer> countAvailableCounselors(
+            @RequestParam DayOfWeek dayOfWeek,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime time) {
+        return ResponseEntity.ok(availabilityIndex.countAvailableAt(dayOfWeek, time));
+    }
+
+    /**
+     * 해당 요일 구간 전체에 가용한 상담사 ID
+     * GET /api/counseling/availability/counselors?dayOfWeek=MONDAY&start=10:00&end=12:00
+     */
+    @GetMapping("/availability/counselors")
+    public ResponseEntity<List<Long>> findAvailableCounselors(
+            @RequestParam DayOfWeek dayOfWeek,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime end) {
+        return ResponseEntity.ok(availabilityIndex.findAvailableForRange(dayOfWeek, start, end));
+    }
+
+    /**
+     * 상담 예약 (상담사/학생의 다른 예약과 겹치면 409)
+     * POST /api/counseling/reservations
+     */
+    @PostMapping("/reservations")
+    public ResponseEntity<CounselingReservationResult> reserve(
+            @Valid @RequestBody CounselingReservationRequest request) {
+        return ResponseEntity.ok(reservationService.reserve(
+                request.studentId(), request.counselorId(), request.reservationDate(), request.sessionDuration(),
+                request.counselingType(), request.requestReason()));
+    }
+
+    /**
+     * 상담 예약 취소
+     * DELETE /api/counseling/reservations/{reservationId}?studentId={studentId}
+     */
+    @DeleteMapping("/reservations/{reservationId}")
+    public ResponseEntity<Void> cancel(
+            @PathVariable Long reservationId,
+            @RequestParam Long studentId,
+            @RequestParam(required = false) String reason) {
+        reservationService.cancel(reservationId, studentId, reason);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 상담사 캘린더 증분 동기화 (토큰 이후 변경된 예약/세션, 취소된 예약은 툼스톤)
+     * GET /api/counseling/counselors/{counselorId}/calendar/changes?syncToken={token}&limit=200
+     */
+    @GetMapping("/counselors/{counselorId}/calendar/changes")
+    public ResponseEntity<CounselingCalendarSyncResult> syncCalendar(
+            @PathVariable Long counselorId,
+            @RequestParam(required = false) String syncToken,
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(calendarService.sync(counselorId, syncToken, limit));
+    }
+
+    /**
+     * 상담사 캘린더 iCalendar 내보내기 (스트리밍)
+     * GET /api/counseling/counselors/{counselorId}/calendar.ics?from=2026-10-01&to=2026-12-31
+     *
+     * @param to 종료일 (포함)
+     */
+    @GetMapping("/counselors/{counselorId}/calendar.ics")
+    public ResponseEntity<StreamingResponseBody> exportCalendar(
+            @PathVariable Long counselorId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from.isAfter(to) || from.plusDays(CounselingCalendarService.MAX_EXPORT_DAYS).isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String filename = "counseling-" + counselorId + "-" + from + "_" + to + ".ics";
+        StreamingResponseBody body = out -> calendarService.exportICalendar(
+                counselorId, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/calendar; charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
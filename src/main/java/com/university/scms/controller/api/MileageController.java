@@ -0,0 +1,175 @@
+package com.university.scms.controller.api;
+
+import com.university.scms.domain.mileage.entity.TransactionType;
+import com.university.scms.dto.mileage.LeaderboardEntry;
+import com.university.scms.dto.mileage.MileageBalanceResponse;
+import com.university.scms.dto.mileage.MileageDashboardResponse;
+import com.university.scms.dto.mileage.MileageLedgerTotals;
+import com.university.scms.service.mileage.MileageAwardResult;
+import com.university.scms.service.mileage.MileageAwardService;
+import com.university.scms.service.mileage.MileageBalanceService;
+import com.university.scms.service.mileage.MileageDashboardService;
+import com.university.scms.service.mileage.MileageExportFormat;
+import com.university.scms.service.mileage.MileageExportService;
+import com.university.scms.service.mileage.MileageLeaderboard;
+import com.university.scms.service.mileage.MileageRankBasis;
+import com.university.scms.service.mileage.MileageReadConsistency;
+import com.university.scms.service.mileage.MileageSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 마일리지 API 컨트롤러
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/mileage")
+@RequiredArgsConstructor
+public class MileageController {
+
+    private final MileageAwardService awardService;
+    private final MileageLeaderboard leaderboard;
+    private final MileageSnapshotService snapshotService;
+    private final MileageExportService exportService;
+    private final MileageBalanceService balanceService;
+    private final MileageDashboardService dashboardService;
+
+    /**
+     * 출석 확인된 참여자 마일리지 일괄 지급
+     * POST /api/mileage/awards?programId={programId}
+     *
+     * @param programId 프로그램 ID (없으면 전체 미지급 참여자 대상)
+     */
+    @PostMapping("/awards")
+    public ResponseEntity<MileageAwardResult> award(@RequestParam(required = false) Long programId) {
+        MileageAwardResult result = programId == null
+                ? awardService.awardAll()
+                : awardService.awardProgram(programId);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 사용자 잔액 조회
+     * GET /api/mileage/users/{userId}/balance?consistency=READ_YOUR_WRITES
+     */
+    @GetMapping("/users/{userId}/balance")
+    public ResponseEntity<MileageBalanceResponse> balance(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "EVENTUAL") MileageReadConsistency consistency) {
+        return ResponseEntity.ok(balanceService.getBalance(userId, consistency));
+    }
+
+    /**
+     * 사용자 마일리지 대시보드 (요약, 월별 추이, 최근 거래, 전체 통계)
+     * GET /api/mileage/users/{userId}/dashboard
+     */
+    @GetMapping("/users/{userId}/dashboard")
+    public ResponseEntity<MileageDashboardResponse> dashboard(@PathVariable Long userId) {
+        return ResponseEntity.ok(dashboardService.getDashboard(userId));
+    }
+
+    /**
+     * 마일리지 상위 순위 조회
+     * GET /api/mileage/leaderboard?basis=AVAILABLE&size=10
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntry>> top(
+            @RequestParam(defaultValue = "AVAILABLE") MileageRankBasis basis,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(leaderboard.findTop(basis, Math.min(size, 100)));
+    }
+
+    /**
+     * 사용자 순위 조회
+     * GET /api/mileage/leaderboard/users/{userId}?basis=AVAILABLE
+     */
+    @GetMapping("/leaderboard/users/{userId}")
+    public ResponseEntity<LeaderboardEntry> rank(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "AVAILABLE") MileageRankBasis basis) {
+        return leaderboard.findRank(basis, userId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 사용자 주변 순위 조회
+     * GET /api/mileage/leaderboard/users/{userId}/around?basis=AVAILABLE&radius=5
+     */
+    @GetMapping("/leaderboard/users/{userId}/around")
+    public ResponseEntity<List<LeaderboardEntry>> around(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "AVAILABLE") MileageRankBasis basis,
+            @RequestParam(defaultValue = "5") int radius) {
+        return ResponseEntity.ok(leaderboard.findAround(basis, userId, Math.min(radius, 50)));
+    }
+
+    /**
+     * 전체 기간별 마일리지 통계 (월 단위)
+     * GET /api/mileage/statistics?from=2025-03&to=2025-08
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<MileageLedgerTotals> statistics(
+            @RequestParam YearMonth from,
+            @RequestParam YearMonth to) {
+        return ResponseEntity.ok(snapshotService.getTotals(from, to));
+    }
+
+    /**
+     * 사용자 마일리지 통계 (기간 미지정 시 전체 기간)
+     * GET /api/mileage/statistics/users/{userId}?from=2025-03&to=2025-08
+     */
+    @GetMapping("/statistics/users/{userId}")
+    public ResponseEntity<MileageLedgerTotals> userStatistics(
+            @PathVariable Long userId,
+            @RequestParam(required = false) YearMonth from,
+            @RequestParam(required = false) YearMonth to) {
+        if (from == null || to == null) {
+            return ResponseEntity.ok(snapshotService.getUserTotals(userId));
+        }
+        return ResponseEntity.ok(snapshotService.getUserTotals(userId, from, to));
+    }
+
+    /**
+     * 거래 내역 내보내기 (스트리밍)
+     * GET /api/mileage/transactions/export?format=CSV&from=2025-03-01&to=2025-08-31&type=EARN
+     *
+     * @param to 종료일 (포함)
+     */
+    @GetMapping("/transactions/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "CSV") MileageExportFormat format,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) TransactionType type) {
+        if (from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String filename = "mileage-transactions-" + from + "_" + to + "." + format.getExtension();
+        StreamingResponseBody body = out -> exportService.export(
+                format, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), type, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,138 @@
+package com.university.scms.controller.api;
+
+import com.university.scms.dto.program.ProgramApplicationHistoryItem;
+import com.university.scms.dto.program.ProgramApplyRequest;
+import com.university.scms.dto.program.ProgramCompletionItem;
+import com.university.scms.dto.program.ProgramReviewRequest;
+import com.university.scms.exception.ResourceNotFoundException;
+import com.university.scms.service.program.ProgramAdmissionQueue;
+import com.university.scms.service.program.ProgramAdmissionTicket;
+import com.university.scms.service.program.ProgramApplicationResult;
+import com.university.scms.service.program.ProgramApplicationReviewService;
+import com.university.scms.service.program.ProgramApplicationService;
+import com.university.scms.service.program.ProgramHistoryService;
+import com.university.scms.service.program.ProgramReviewResult;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 프로그램 신청 API 컨트롤러
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/programs")
+@RequiredArgsConstructor
+public class ProgramApplicationController {
+
+    private static final long MAX_WAIT_SECONDS = 20;
+
+    private final ProgramApplicationService applicationService;
+    private final ProgramAdmissionQueue admissionQueue;
+    private final ProgramHistoryService historyService;
+    private final ProgramApplicationReviewService reviewService;
+
+    /**
+     * 프로그램 신청 (정원이 차면 대기자 명단 등록)
+     * POST /api/programs/{programId}/applications
+     */
+    @PostMapping("/{programId}/applications")
+    public ResponseEntity<ProgramApplicationResult> apply(
+            @PathVariable Long programId,
+            @Valid @RequestBody ProgramApplyRequest request) {
+        return ResponseEntity.ok(applicationService.apply(programId, request.userId(), request.motivation()));
+    }
+
+    /**
+     * 프로그램 신청 취소
+     * DELETE /api/programs/applications/{applicationId}?userId={userId}
+     */
+    @DeleteMapping("/applications/{applicationId}")
+    public ResponseEntity<Void> cancel(
+            @PathVariable Long applicationId,
+            @RequestParam Long userId) {
+        applicationService.cancel(applicationId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 신청 일괄 승인/거부 (교직원)
+     * POST /api/programs/{programId}/applications/review
+     */
+    @PostMapping("/{programId}/applications/review")
+    public ResponseEntity<ProgramReviewResult> review(
+            @PathVariable Long programId,
+            @Valid @RequestBody ProgramReviewRequest request) {
+        return ResponseEntity.ok(reviewService.review(programId, request.applicationIds(), request.decision(),
+                                                      request.reviewerId(), request.rejectionReason()));
+    }
+
+    /**
+     * 대기열로 프로그램 신청 (대기표만 발급하고 즉시 반환, 인기 프로그램 오픈용)
+     * POST /api/programs/{programId}/admissions
+     */
+    @PostMapping("/{programId}/admissions")
+    public ResponseEntity<ProgramAdmissionTicket> enqueue(
+            @PathVariable Long programId,
+            @Valid @RequestBody ProgramApplyRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(admissionQueue.enqueue(programId, request.userId(), request.motivation()));
+    }
+
+    /**
+     * 대기표 결과 조회 (waitSeconds > 0이면 처리될 때까지 최대 그 시간만큼 대기)
+     * GET /api/programs/admissions/{ticketNumber}?waitSeconds=0
+     */
+    @GetMapping("/admissions/{ticketNumber}")
+    public CompletableFuture<ProgramAdmissionTicket> getAdmission(
+            @PathVariable long ticketNumber,
+            @RequestParam(defaultValue = "0") long waitSeconds) {
+        if (waitSeconds <= 0) {
+            return CompletableFuture.completedFuture(admissionQueue.find(ticketNumber)
+                    .orElseThrow(() -> new ResourceNotFoundException("대기표를 찾을 수 없습니다. 신청 이력을 확인하고 없으면 다시 신청해주세요.")));
+        }
+        return admissionQueue.await(ticketNumber, Duration.ofSeconds(Math.min(waitSeconds, MAX_WAIT_SECONDS)));
+    }
+
+    /**
+     * 신청 이력
+     * GET /api/programs/applications?userId={userId}
+     */
+    @GetMapping("/applications")
+    public ResponseEntity<List<ProgramApplicationHistoryItem>> getApplicationHistory(@RequestParam Long userId) {
+        return ResponseEntity.ok(historyService.getApplicationHistory(userId));
+    }
+
+    /**
+     * 취소 가능한 신청
+     * GET /api/programs/applications/cancellable?userId={userId}
+     */
+    @GetMapping("/applications/cancellable")
+    public ResponseEntity<List<ProgramApplicationHistoryItem>> getCancellableApplications(
+            @RequestParam Long userId) {
+        return ResponseEntity.ok(historyService.getCancellableApplications(userId));
+    }
+
+    /**
+     * 수료 이력
+     * GET /api/programs/completions?userId={userId}
+     */
+    @GetMapping("/completions")
+    public ResponseEntity<List<ProgramCompletionItem>> getCompletions(@RequestParam Long userId) {
+        return ResponseEntity.ok(historyService.getCompletions(userId));
+    }
+}
@@ -0,0 +1,125 @@
+package com.university.scms.controller.api;
+
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.dto.common.RatingSummaryResponse;
+import com.university.scms.dto.program.ProgramCatalogResponse;
+import com.university.scms.dto.program.ProgramDetailResponse;
+import com.university.scms.dto.program.ProgramSatisfactionStatisticsResponse;
+import com.university.scms.dto.program.ProgramSearchResponse;
+import com.university.scms.service.program.ProgramCatalogService;
+import com.university.scms.service.program.ProgramDetailService;
+import com.university.scms.service.program.ProgramSatisfactionAggregator;
+import com.university.scms.service.program.ProgramSatisfactionStatisticsService;
+import com.university.scms.service.program.ProgramSearchCondition;
+import com.university.scms.service.program.ProgramSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 프로그램 API 컨트롤러
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/programs")
+@RequiredArgsConstructor
+public class ProgramController {
+
+    private final ProgramSearchIndex searchIndex;
+    private final ProgramCatalogService catalogService;
+    private final ProgramDetailService detailService;
+    private final ProgramSatisfactionStatisticsService satisfactionStatisticsService;
+    private final ProgramSatisfactionAggregator satisfactionAggregator;
+
+    /**
+     * 프로그램 목록 (커서 기반, 스크롤할 때마다 nextCursor로 다음 페이지 요청)
+     * GET /api/programs?keyword=&status=OPEN&category=&cursor=&size=20
+     */
+    @GetMapping
+    public ResponseEntity<ProgramCatalogResponse> getCatalog(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) ProgramStatus status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(catalogService.getCatalog(keyword, status, category, cursor, size));
+    }
+
+    /**
+     * 프로그램 검색 (입력할 때마다 호출하는 검색어 자동 완성용)
+     * GET /api/programs/search?keyword=특강&category=&status=OPEN&from=2026-10-01&to=2026-12-31&page=0&size=20
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProgramSearchResponse> search(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) ProgramStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchIndex.search(
+                new ProgramSearchCondition(keyword, category, status, from, to, page, size)));
+    }
+
+    /**
+     * 프로그램 상세 (신청/출석/만족도 집계 포함)
+     * GET /api/programs/{programId}
+     */
+    @GetMapping("/{programId}")
+    public ResponseEntity<ProgramDetailResponse> getDetail(@PathVariable Long programId) {
+        return ResponseEntity.ok(detailService.getDetail(programId));
+    }
+
+    /**
+     * 프로그램 만족도 통계
+     * GET /api/programs/{programId}/satisfaction-statistics
+     */
+    @GetMapping("/{programId}/satisfaction-statistics")
+    public ResponseEntity<ProgramSatisfactionStatisticsResponse> getSatisfactionStatistics(
+            @PathVariable Long programId) {
+        return ResponseEntity.ok(satisfactionStatisticsService.getStatistics(programId));
+    }
+
+    /**
+     * 프로그램 만족도 요약 (누적 집계 기반 평균/분산/추천 비율)
+     * GET /api/programs/{programId}/satisfaction-summary
+     */
+    @GetMapping("/{programId}/satisfaction-summary")
+    public ResponseEntity<RatingSummaryResponse> getSatisfactionSummary(@PathVariable Long programId) {
+        return ResponseEntity.ok(satisfactionAggregator.getSummary(programId));
+    }
+
+    /**
+     * 여러 프로그램 만족도 통계 (precomputed=true면 사전 집계된 값)
+     * GET /api/programs/satisfaction-statistics?programIds=1,2,3&precomputed=false
+     */
+    @GetMapping("/satisfaction-statistics")
+    public ResponseEntity<List<ProgramSatisfactionStatisticsResponse>> getSatisfactionStatistics(
+            @RequestParam List<Long> programIds,
+            @RequestParam(defaultValue = "false") boolean precomputed) {
+        return ResponseEntity.ok(satisfactionStatisticsService.getStatistics(programIds, precomputed));
+    }
+
+    /**
+     * 기간별 만족도 리포트 (시작일 기준, to는 포함하지 않음)
+     * GET /api/programs/satisfaction-report?from=2026-09-01&to=2027-03-01&precomputed=true
+     */
+    @GetMapping("/satisfaction-report")
+    public ResponseEntity<List<ProgramSatisfactionStatisticsResponse>> getSatisfactionReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "true") boolean precomputed) {
+        return ResponseEntity.ok(satisfactionStatisticsService.getReport(
+                from.atStartOfDay(), to.atStartOfDay(), precomputed));
+    }
+}
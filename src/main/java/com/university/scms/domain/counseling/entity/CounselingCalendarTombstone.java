@@ -0,0 +1,35 @@
+package com.university.scms.domain.counseling.entity;
+
+import com.university.scms.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상담 캘린더 툼스톤
+ *
+ * <p>예약이 다른 상담사에게 넘어가면 이전 상담사의 캘린더 동기화 조회(상담사 ID 기준)에 더는 나타나지 않으므로,
+ * 이전 상담사 ID로 행을 하나 남겨 그 캘린더에서 일정을 지우게 합니다. 취소는 예약 행의 상태로 충분하므로 남기지 않습니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "counseling_calendar_tombstones",
+       indexes = {
+           @Index(name = "idx_counselor_updated", columnList = "counselor_id, updated_at, reservation_id")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CounselingCalendarTombstone extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "counselor_id", nullable = false)
+    private Long counselorId;  // 예약을 넘겨준 이전 상담사 ID
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+}
@@ -0,0 +1,12 @@
+package com.university.scms.domain.counseling.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상담 세션 후속 상담 일정 변경 이벤트 (알림 예약 갱신용)
+ *
+ * @param sessionId 세션 ID
+ * @param nextSessionDate 다음 상담 예정일 (후속 상담이 없거나 세션이 삭제되면 null)
+ */
+public record CounselingFollowUpChangedEvent(Long sessionId, LocalDateTime nextSessionDate) {
+}
@@ -23,8 +23,11 @@ import java.util.List;
            @Index(name = "idx_counselor", columnList = "counselor_id"),
            @Index(name = "idx_status", columnList = "status"),
            @Index(name = "idx_reservation_date", columnList = "reservation_date"),
-           @Index(name = "idx_counseling_type", columnList = "counseling_type")
+           @Index(name = "idx_counseling_type", columnList = "counseling_type"),
+           @Index(name = "idx_counselor_date", columnList = "counselor_id, reservation_date"),
+           @Index(name = "idx_counselor_updated", columnList = "counselor_id, updated_at, id")
        })
+@EntityListeners(CounselingReservationListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -158,6 +161,7 @@ public class CounselingReservation extends BaseEntity {
 
     /**
      * 예약 정보 수정
+     * 일시/상담 시간이 바뀌면 칸 점유도 옮겨야 하므로 {@code CounselingReservationService#update}에서만 호출합니다.
      * 
      * @param reservationDate 새 예약 일시
      * @param sessionDuration 새 상담 시간
@@ -180,6 +184,19 @@ public class CounselingReservation extends BaseEntity {
         this.requestReason = requestReason;
     }
 
+    /**
+     * 상담사 변경
+     * 칸 점유와 이전 상담사 캘린더 툼스톤을 함께 남겨야 하므로 {@code CounselingReservationService#reassign}에서만 호출합니다.
+     *
+     * @param counselorId 새 상담사 ID
+     */
+    public void reassign(Long counselorId) {
+        if (this.status != CounselingStatus.PENDING && this.status != CounselingStatus.CONFIRMED) {
+            throw new IllegalStateException("대기 중이거나 확정된 예약만 상담사를 바꿀 수 있습니다.");
+        }
+        this.counselorId = counselorId;
+    }
+
     /**
      * 상담 세션 추가
      * 
@@ -0,0 +1,20 @@
+package com.university.scms.domain.counseling.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상담 예약 저장/삭제 이벤트 (상담 가능 시간 색인 갱신용)
+ *
+ * @param reservationId 예약 ID
+ * @param counselorId 상담사 ID
+ * @param start 예약 일시
+ * @param durationMinutes 상담 시간 (분)
+ * @param occupiesSlot 상담사 시간을 점유하는지 여부 (대기/확정이면 true, 취소/완료/삭제면 false)
+ */
+public record CounselingReservationChangedEvent(
+        Long reservationId,
+        Long counselorId,
+        LocalDateTime start,
+        int durationMinutes,
+        boolean occupiesSlot) {
+}
@@ -0,0 +1,41 @@
+package com.university.scms.domain.counseling.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 상담 예약 엔티티 변경 리스너
+ *
+ * <p>저장/수정/삭제가 flush되는 시점의 예약 구간을 {@link CounselingReservationChangedEvent}로 발행합니다.
+ * 구독 측은 {@code @TransactionalEventListener}로 커밋 이후에만 반영해야 합니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@RequiredArgsConstructor
+public class CounselingReservationListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(CounselingReservation reservation) {
+        publish(reservation, reservation.isPending() || reservation.isConfirmed());
+    }
+
+    @PostRemove
+    public void onRemoved(CounselingReservation reservation) {
+        publish(reservation, false);
+    }
+
+    private void publish(CounselingReservation reservation, boolean occupiesSlot) {
+        eventPublisher.publishEvent(new CounselingReservationChangedEvent(
+                reservation.getId(),
+                reservation.getCounselorId(),
+                reservation.getReservationDate(),
+                reservation.getSessionDuration() != null ? reservation.getSessionDuration() : 0,
+                occupiesSlot));
+    }
+}
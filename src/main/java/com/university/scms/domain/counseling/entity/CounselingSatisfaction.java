@@ -1,6 +1,7 @@
 package com.university.scms.domain.counseling.entity;
 
 import com.university.scms.domain.common.BaseEntity;
+import com.university.scms.util.RatingTotals;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -21,6 +22,7 @@ import lombok.*;
         @Index(name = "idx_overall_rating", columnList = "overall_rating")
     }
 )
+@EntityListeners(CounselingSatisfactionRatingListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -74,6 +76,11 @@ public class CounselingSatisfaction extends BaseEntity {
     @Builder.Default
     private Boolean wouldRecommend = false;  // 추천 의향
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private RatingTotals appliedRatings;  // 누적 집계에 반영된 평점 (로드/저장 시점 기준)
+
     // ========== 비즈니스 메서드 ==========
 
     /**
@@ -181,4 +188,34 @@ public class CounselingSatisfaction extends BaseEntity {
         }
         return rating;
     }
+
+    // ========== 누적 집계 반영 ==========
+
+    /**
+     * 현재 평점 (응답 1건 단위)
+     */
+    public RatingTotals toRatingTotals() {
+        return RatingTotals.of(Boolean.TRUE.equals(wouldRecommend),
+                overallRating, counselorRating, environmentRating, problemSolvingRating, usefulnessRating);
+    }
+
+    /**
+     * 현재 평점을 집계 반영 기준으로 기록하고 직전 기준 대비 증감분을 반환
+     * (처음 저장이면 응답 1건 전체)
+     */
+    RatingTotals applyRatings() {
+        RatingTotals current = toRatingTotals();
+        RatingTotals delta = appliedRatings == null ? current : current.minus(appliedRatings);
+        appliedRatings = current;
+        return delta;
+    }
+
+    /**
+     * 삭제 시 집계에서 뺄 증감분
+     */
+    RatingTotals unapplyRatings() {
+        RatingTotals delta = (appliedRatings == null ? toRatingTotals() : appliedRatings).negate();
+        appliedRatings = null;
+        return delta;
+    }
 }
@@ -0,0 +1,15 @@
+package com.university.scms.domain.counseling.entity;
+
+import com.university.scms.util.RatingTotals;
+
+/**
+ * 상담 만족도 평점 변경 이벤트
+ *
+ * <p>저장하는 트랜잭션 안에서 동기로 발행되므로 수신 측은 같은 트랜잭션에서 누적 집계를 갱신합니다.</p>
+ *
+ * @param sessionId 만족도가 속한 상담 세션 ID (상담사는 집계 시 예약에서 찾음)
+ * @param delta     누적 집계에 더할 증감분 (삭제면 음수)
+ * @since 2026-10-18
+ */
+public record CounselingSatisfactionRatedEvent(Long sessionId, RatingTotals delta) {
+}
@@ -0,0 +1,46 @@
+package com.university.scms.domain.counseling.entity;
+
+import com.university.scms.util.RatingTotals;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 상담 만족도 평점 증감 리스너
+ *
+ * <p>로드 시점의 평점을 기억해 두었다가 INSERT/UPDATE/DELETE 직후 증감분을
+ * {@link CounselingSatisfactionRatedEvent}로 발행합니다. 세션은 LAZY 프록시의 ID만 사용합니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@RequiredArgsConstructor
+public class CounselingSatisfactionRatingListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoaded(CounselingSatisfaction satisfaction) {
+        satisfaction.applyRatings();
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(CounselingSatisfaction satisfaction) {
+        publish(satisfaction, satisfaction.applyRatings());
+    }
+
+    @PostRemove
+    public void onRemoved(CounselingSatisfaction satisfaction) {
+        publish(satisfaction, satisfaction.unapplyRatings());
+    }
+
+    private void publish(CounselingSatisfaction satisfaction, RatingTotals delta) {
+        if (!delta.isZero() && satisfaction.getCounselingSession() != null) {
+            eventPublisher.publishEvent(new CounselingSatisfactionRatedEvent(
+                    satisfaction.getCounselingSession().getId(), delta));
+        }
+    }
+}
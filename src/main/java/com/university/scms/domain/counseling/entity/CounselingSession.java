@@ -19,8 +19,11 @@ import java.time.LocalDateTime;
        indexes = {
            @Index(name = "idx_reservation", columnList = "reservation_id"),
            @Index(name = "idx_start_time", columnList = "start_time"),
-           @Index(name = "idx_follow_up", columnList = "follow_up_required")
+           @Index(name = "idx_follow_up", columnList = "follow_up_required"),
+           @Index(name = "idx_updated", columnList = "updated_at, id"),
+           @Index(name = "idx_next_session", columnList = "next_session_date")
        })
+@EntityListeners(CounselingSessionListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,33 @@
+package com.university.scms.domain.counseling.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 상담 세션 엔티티 변경 리스너
+ *
+ * <p>저장/수정/삭제가 flush되는 시점의 후속 상담 일정을 {@link CounselingFollowUpChangedEvent}로 발행합니다.
+ * 구독 측은 {@code @TransactionalEventListener}로 커밋 이후에만 반영해야 합니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@RequiredArgsConstructor
+public class CounselingSessionListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(CounselingSession session) {
+        eventPublisher.publishEvent(new CounselingFollowUpChangedEvent(
+                session.getId(), session.hasScheduledFollowUp() ? session.getNextSessionDate() : null));
+    }
+
+    @PostRemove
+    public void onRemoved(CounselingSession session) {
+        eventPublisher.publishEvent(new CounselingFollowUpChangedEvent(session.getId(), null));
+    }
+}
@@ -0,0 +1,57 @@
+package com.university.scms.domain.counseling.entity;
+
+import com.university.scms.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상담 시간 칸 점유
+ *
+ * <p>예약 한 건이 차지하는 고정 길이 칸(기본 15분)마다 상담사 행과 학생 행을 하나씩 둡니다.
+ * (소유자 유형, 소유자 ID, 칸 시작) 유니크 제약으로 겹치는 예약의 INSERT가 실패하므로
+ * 테이블 잠금이나 조회 후 저장 없이 이중 예약을 막습니다. 예약 취소 시 해당 예약의 행을 지웁니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "counseling_slot_claims",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_slot_claim", columnNames = {"owner_type", "owner_id", "slot_start"})
+       },
+       indexes = {
+           @Index(name = "idx_reservation", columnList = "reservation_id"),
+           @Index(name = "idx_slot_start", columnList = "slot_start")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CounselingSlotClaim extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", nullable = false, length = 20)
+    private OwnerType ownerType;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;  // 상담사 또는 학생 ID
+
+    @Column(name = "slot_start", nullable = false)
+    private LocalDateTime slotStart;  // 칸 시작 일시
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    /**
+     * 칸 소유자 유형
+     */
+    public enum OwnerType {
+        COUNSELOR,
+        STUDENT
+    }
+}
@@ -16,6 +16,7 @@ import lombok.*;
     @Index(name = "idx_counselor_id", columnList = "counselor_id"),
     @Index(name = "idx_available_days", columnList = "available_days")
 })
+@EntityListeners(CounselorAvailabilityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,6 +27,7 @@ import java.time.LocalTime;
                columnNames = {"counselor_id", "day_of_week", "start_time"}
            )
        })
+@EntityListeners(CounselorAvailabilityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
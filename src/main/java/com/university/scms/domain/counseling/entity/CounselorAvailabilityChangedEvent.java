@@ -0,0 +1,9 @@
+package com.university.scms.domain.counseling.entity;
+
+/**
+ * 상담사 가용 시간 또는 상담사 활동 상태 변경 이벤트 (상담 가능 시간 색인 갱신용)
+ *
+ * @param counselorId 상담사 ID
+ */
+public record CounselorAvailabilityChangedEvent(Long counselorId) {
+}
@@ -0,0 +1,35 @@
+package com.university.scms.domain.counseling.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 상담사/가용 시간 엔티티 변경 리스너
+ *
+ * <p>변경된 행의 상담사 ID를 {@link CounselorAvailabilityChangedEvent}로 발행합니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@RequiredArgsConstructor
+public class CounselorAvailabilityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        Long counselorId = null;
+        if (entity instanceof CounselorAvailability availability) {
+            counselorId = availability.getCounselorId();
+        } else if (entity instanceof Counselor counselor) {
+            counselorId = counselor.getCounselorId();
+        }
+        if (counselorId != null) {
+            eventPublisher.publishEvent(new CounselorAvailabilityChangedEvent(counselorId));
+        }
+    }
+}
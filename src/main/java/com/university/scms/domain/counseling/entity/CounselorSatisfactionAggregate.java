@@ -0,0 +1,84 @@
+package com.university.scms.domain.counseling.entity;
+
+import com.university.scms.domain.common.BaseEntity;
+import com.university.scms.util.RatingTotals;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상담사별 상담 만족도 누적 집계
+ *
+ * <p>응답 수, 항목별 합계/제곱합, 추천 수를 누적해 평균/분산/추천 비율을 원본 행 없이 O(1)로 계산합니다.
+ * 상담 만족도가 저장/수정/삭제될 때 같은 트랜잭션에서 증감분만 더하며, 매일 원본과 대조해 보정합니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "counselor_satisfaction_aggregates")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CounselorSatisfactionAggregate extends BaseEntity {
+
+    /**
+     * 평점 항목 이름 ({@link RatingTotals}의 항목 순서)
+     */
+    public static final List<String> DIMENSIONS = List.of(
+            "overall", "counselor", "environment", "problemSolving", "usefulness");
+
+    @Id
+    @Column(name = "counselor_id")
+    private Long counselorId;  // 상담사 ID (Auth Domain 참조)
+
+    @Column(name = "response_count", nullable = false)
+    private long responseCount;
+
+    @Column(name = "overall_sum", nullable = false)
+    private long overallSum;
+
+    @Column(name = "overall_square_sum", nullable = false)
+    private long overallSquareSum;
+
+    @Column(name = "counselor_sum", nullable = false)
+    private long counselorSum;
+
+    @Column(name = "counselor_square_sum", nullable = false)
+    private long counselorSquareSum;
+
+    @Column(name = "environment_sum", nullable = false)
+    private long environmentSum;
+
+    @Column(name = "environment_square_sum", nullable = false)
+    private long environmentSquareSum;
+
+    @Column(name = "problem_solving_sum", nullable = false)
+    private long problemSolvingSum;
+
+    @Column(name = "problem_solving_square_sum", nullable = false)
+    private long problemSolvingSquareSum;
+
+    @Column(name = "usefulness_sum", nullable = false)
+    private long usefulnessSum;
+
+    @Column(name = "usefulness_square_sum", nullable = false)
+    private long usefulnessSquareSum;
+
+    @Column(name = "recommend_count", nullable = false)
+    private long recommendCount;
+
+    // ========== 조회 메서드 ==========
+
+    public RatingTotals toRatingTotals() {
+        return new RatingTotals(responseCount,
+                new long[]{overallSum, counselorSum, environmentSum, problemSolvingSum, usefulnessSum},
+                new long[]{overallSquareSum, counselorSquareSum, environmentSquareSum, problemSolvingSquareSum,
+                           usefulnessSquareSum},
+                recommendCount);
+    }
+}
@@ -0,0 +1,487 @@
+package com.university.scms.domain.counseling.repository;
+
+import com.university.scms.domain.counseling.entity.CounselingSlotClaim;
+import com.university.scms.domain.counseling.entity.CounselingStatus;
+import com.university.scms.util.RatingTotals;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상담 JDBC Repository
+ *
+ * <p>상담사별 만족도 누적 집계처럼 JPA 엔티티 단위로 다루기 어려운 집계 갱신을 담당합니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+@RequiredArgsConstructor
+public class CounselingJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    // ========== 만족도 누적 집계 ==========
+
+    private static final String SATISFACTION_AGGREGATE_COLUMNS =
+            "counselor_id, response_count, overall_sum, overall_square_sum, counselor_sum, counselor_square_sum, " +
+            "environment_sum, environment_square_sum, problem_solving_sum, problem_solving_square_sum, " +
+            "usefulness_sum, usefulness_square_sum, recommend_count";
+
+    private static final String SATISFACTION_RAW_TOTALS =
+            "SELECT r.counselor_id, COUNT(*), " +
+            "       COALESCE(SUM(cs.overall_rating), 0), " +
+            "       COALESCE(SUM(cs.overall_rating * cs.overall_rating), 0), " +
+            "       COALESCE(SUM(cs.counselor_rating), 0), " +
+            "       COALESCE(SUM(cs.counselor_rating * cs.counselor_rating), 0), " +
+            "       COALESCE(SUM(cs.environment_rating), 0), " +
+            "       COALESCE(SUM(cs.environment_rating * cs.environment_rating), 0), " +
+            "       COALESCE(SUM(cs.problem_solving_rating), 0), " +
+            "       COALESCE(SUM(cs.problem_solving_rating * cs.problem_solving_rating), 0), " +
+            "       COALESCE(SUM(cs.usefulness_rating), 0), " +
+            "       COALESCE(SUM(cs.usefulness_rating * cs.usefulness_rating), 0), " +
+            "       COALESCE(SUM(cs.would_recommend), 0) ";
+
+    private static final String SATISFACTION_RAW_FROM =
+            "FROM counseling_satisfactions cs " +
+            "JOIN counseling_sessions s ON s.id = cs.session_id " +
+            "JOIN counseling_reservations r ON r.id = s.reservation_id ";
+
+    /**
+     * 상담 세션의 상담사 ID
+     */
+    public Optional<Long> findCounselorIdBySessionId(Long sessionId) {
+        return jdbcTemplate.queryForList(
+                "SELECT r.counselor_id FROM counseling_sessions s " +
+                "JOIN counseling_reservations r ON r.id = s.reservation_id WHERE s.id = ?",
+                Long.class, sessionId).stream().findFirst();
+    }
+
+    /**
+     * 상담사 만족도 누적 집계에 증감분 반영 (행이 없으면 생성)
+     *
+     * <p>집계 행을 갱신하는 동안 같은 상담사의 다른 반영은 커밋까지 대기합니다.</p>
+     */
+    public void applySatisfactionDelta(Long counselorId, RatingTotals delta, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(
+                "INSERT INTO counselor_satisfaction_aggregates (" + SATISFACTION_AGGREGATE_COLUMNS +
+                ", created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE response_count = response_count + VALUES(response_count), " +
+                "overall_sum = overall_sum + VALUES(overall_sum), " +
+                "overall_square_sum = overall_square_sum + VALUES(overall_square_sum), " +
+                "counselor_sum = counselor_sum + VALUES(counselor_sum), " +
+                "counselor_square_sum = counselor_square_sum + VALUES(counselor_square_sum), " +
+                "environment_sum = environment_sum + VALUES(environment_sum), " +
+                "environment_square_sum = environment_square_sum + VALUES(environment_square_sum), " +
+                "problem_solving_sum = problem_solving_sum + VALUES(problem_solving_sum), " +
+                "problem_solving_square_sum = problem_solving_square_sum + VALUES(problem_solving_square_sum), " +
+                "usefulness_sum = usefulness_sum + VALUES(usefulness_sum), " +
+                "usefulness_square_sum = usefulness_square_sum + VALUES(usefulness_square_sum), " +
+                "recommend_count = recommend_count + VALUES(recommend_count), " +
+                "updated_at = VALUES(updated_at)",
+                ps -> {
+                    ps.setLong(1, counselorId);
+                    ps.setLong(2, delta.count());
+                    for (int i = 0; i < delta.dimensions(); i++) {
+                        ps.setLong(3 + i * 2, delta.sum(i));
+                        ps.setLong(4 + i * 2, delta.squareSum(i));
+                    }
+                    ps.setLong(13, delta.recommends());
+                    ps.setTimestamp(14, timestamp);
+                    ps.setTimestamp(15, timestamp);
+                });
+    }
+
+    /**
+     * 원본 상담 만족도 행에서 다시 계산한 상담사별 합계
+     */
+    public Map<Long, RatingTotals> computeSatisfactionTotals() {
+        Map<Long, RatingTotals> totals = new HashMap<>();
+        jdbcTemplate.query(SATISFACTION_RAW_TOTALS + SATISFACTION_RAW_FROM + "GROUP BY r.counselor_id",
+                (ResultSet rs) -> {
+                    totals.put(rs.getLong(1), toRatingTotals(rs));
+                });
+        return totals;
+    }
+
+    /**
+     * 누적 집계 테이블의 상담사별 합계
+     */
+    public Map<Long, RatingTotals> findSatisfactionAggregateTotals() {
+        Map<Long, RatingTotals> totals = new HashMap<>();
+        jdbcTemplate.query("SELECT " + SATISFACTION_AGGREGATE_COLUMNS + " FROM counselor_satisfaction_aggregates",
+                (ResultSet rs) -> {
+                    totals.put(rs.getLong(1), toRatingTotals(rs));
+                });
+        return totals;
+    }
+
+    /**
+     * 상담사별 누적 집계를 원본 행 기준으로 다시 작성 (응답이 없으면 행 제거)
+     */
+    public void rebuildSatisfactionAggregates(Collection<Long> counselorIds, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("counselorIds", counselorIds)
+                .addValue("now", Timestamp.valueOf(now));
+        namedJdbcTemplate.update(
+                "DELETE FROM counselor_satisfaction_aggregates WHERE counselor_id IN (:counselorIds)", params);
+        namedJdbcTemplate.update(
+                "INSERT INTO counselor_satisfaction_aggregates (" + SATISFACTION_AGGREGATE_COLUMNS +
+                ", created_at, updated_at) " + SATISFACTION_RAW_TOTALS + ", :now, :now " + SATISFACTION_RAW_FROM +
+                "WHERE r.counselor_id IN (:counselorIds) GROUP BY r.counselor_id", params);
+    }
+
+    // ========== 상담 가능 시간 ==========
+
+    private static final String AVAILABILITY_WINDOWS =
+            "SELECT ca.counselor_id, ca.day_of_week, ca.start_time, ca.end_time, c.specialization " +
+            "FROM counselor_availability ca " +
+            "LEFT JOIN counselors c ON c.counselor_id = ca.counselor_id " +
+            "WHERE ca.is_available = TRUE " +
+            "AND (c.counselor_id IS NULL OR (c.is_active = TRUE AND c.deleted_at IS NULL)) ";
+
+    /**
+     * 활동 중인 상담사의 요일별 가용 시간 전체
+     */
+    public List<AvailabilityWindow> findAvailabilityWindows() {
+        return jdbcTemplate.query(AVAILABILITY_WINDOWS, (rs, rowNum) -> toAvailabilityWindow(rs));
+    }
+
+    /**
+     * 상담사 한 명의 요일별 가용 시간 (비활동 상담사면 빈 목록)
+     */
+    public List<AvailabilityWindow> findAvailabilityWindows(Long counselorId) {
+        return jdbcTemplate.query(AVAILABILITY_WINDOWS + "AND ca.counselor_id = ?",
+                (rs, rowNum) -> toAvailabilityWindow(rs), counselorId);
+    }
+
+    /**
+     * 상담사 시간을 점유하는 예약 (대기/확정, 시작 일시가 from 이후)
+     */
+    public List<ReservationInterval> findActiveReservationIntervals(LocalDateTime from) {
+        return jdbcTemplate.query(
+                "SELECT id, counselor_id, reservation_date, session_duration FROM counseling_reservations " +
+                "WHERE reservation_date >= ? AND status IN ('PENDING', 'CONFIRMED')",
+                (rs, rowNum) -> new ReservationInterval(
+                        rs.getLong("id"),
+                        rs.getLong("counselor_id"),
+                        rs.getTimestamp("reservation_date").toLocalDateTime(),
+                        rs.getInt("session_duration")),
+                Timestamp.valueOf(from));
+    }
+
+    private static AvailabilityWindow toAvailabilityWindow(ResultSet rs) throws SQLException {
+        return new AvailabilityWindow(
+                rs.getLong("counselor_id"),
+                DayOfWeek.valueOf(rs.getString("day_of_week")),
+                rs.getTime("start_time").toLocalTime(),
+                rs.getTime("end_time").toLocalTime(),
+                rs.getString("specialization"));
+    }
+
+    // ========== 상담 시간 칸 점유 ==========
+
+    /**
+     * 예약이 차지하는 칸을 상담사/학생 양쪽으로 점유 (배치 INSERT 한 번)
+     *
+     * @throws org.springframework.dao.DuplicateKeyException 상담사나 학생의 다른 예약이 이미 점유한 칸이 있을 때
+     */
+    public void claimSlots(Long reservationId, Long counselorId, Long studentId, List<LocalDateTime> slotStarts,
+                           LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> rows = new ArrayList<>(slotStarts.size() * 2);
+        for (LocalDateTime slotStart : slotStarts) {
+            rows.add(new Object[]{CounselingSlotClaim.OwnerType.COUNSELOR.name(), counselorId,
+                                  Timestamp.valueOf(slotStart), reservationId, timestamp, timestamp});
+            rows.add(new Object[]{CounselingSlotClaim.OwnerType.STUDENT.name(), studentId,
+                                  Timestamp.valueOf(slotStart), reservationId, timestamp, timestamp});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO counseling_slot_claims " +
+                "(owner_type, owner_id, slot_start, reservation_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    /**
+     * 예약이 점유한 칸 반환
+     */
+    public int releaseSlots(Long reservationId) {
+        return jdbcTemplate.update("DELETE FROM counseling_slot_claims WHERE reservation_id = ?", reservationId);
+    }
+
+    /**
+     * 칸 점유 행이 없는 대기/확정 예약 ID (칸 점유 도입 이전 예약, ID 순으로 afterId 이후 최대 limit건)
+     */
+    public List<Long> findUnclaimedReservationIds(LocalDateTime from, long afterId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT r.id FROM counseling_reservations r " +
+                "WHERE r.id > ? AND r.reservation_date >= ? AND r.status IN ('PENDING', 'CONFIRMED') " +
+                "AND NOT EXISTS (SELECT 1 FROM counseling_slot_claims c WHERE c.reservation_id = r.id) " +
+                "ORDER BY r.id LIMIT ?",
+                Long.class, afterId, Timestamp.valueOf(from), limit);
+    }
+
+    /**
+     * 칸 점유 행이 없는 대기/확정 예약 잠금 후 조회 (취소와 동시에 점유하지 않도록 예약 행을 먼저 잠금)
+     */
+    public Optional<UnclaimedReservation> lockUnclaimedReservation(Long reservationId) {
+        return jdbcTemplate.query(
+                "SELECT r.id, r.counselor_id, r.student_id, r.reservation_date, r.session_duration " +
+                "FROM counseling_reservations r " +
+                "WHERE r.id = ? AND r.status IN ('PENDING', 'CONFIRMED') " +
+                "AND NOT EXISTS (SELECT 1 FROM counseling_slot_claims c WHERE c.reservation_id = r.id) " +
+                "FOR UPDATE",
+                (rs, rowNum) -> new UnclaimedReservation(
+                        rs.getLong("id"),
+                        rs.getLong("counselor_id"),
+                        rs.getLong("student_id"),
+                        rs.getTimestamp("reservation_date").toLocalDateTime(),
+                        rs.getInt("session_duration")),
+                reservationId).stream().findFirst();
+    }
+
+    /**
+     * 지난 칸 정리 (한 번에 최대 limit건)
+     */
+    public int deleteSlotClaimsBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update("DELETE FROM counseling_slot_claims WHERE slot_start < ? LIMIT ?",
+                                   Timestamp.valueOf(before), limit);
+    }
+
+    // ========== 캘린더 동기화 ==========
+
+    /**
+     * 상담사 예약 중 from 이후 변경되고 (updatedAt, id)가 커서 이후인 예약 (변경 순, 최대 limit건)
+     * 다른 상담사에게 넘어간 예약은 툼스톤 행(deleted = true)으로 함께 돌려줍니다.
+     */
+    public List<CalendarReservationChange> findReservationChanges(Long counselorId, LocalDateTime from,
+                                                                  LocalDateTime afterUpdatedAt, long afterId,
+                                                                  int limit) {
+        Timestamp since = Timestamp.valueOf(from);
+        Timestamp after = Timestamp.valueOf(afterUpdatedAt);
+        return jdbcTemplate.query(
+                "SELECT id, student_id, reservation_date, session_duration, counseling_type, status, " +
+                "       FALSE AS moved, updated_at " +
+                "FROM counseling_reservations " +
+                "WHERE counselor_id = ? AND updated_at >= ? " +
+                "AND (updated_at > ? OR (updated_at = ? AND id > ?)) " +
+                "UNION ALL " +
+                "SELECT r.id, r.student_id, r.reservation_date, r.session_duration, r.counseling_type, r.status, " +
+                "       TRUE AS moved, t.updated_at " +
+                "FROM counseling_calendar_tombstones t " +
+                "JOIN counseling_reservations r ON r.id = t.reservation_id " +
+                "WHERE t.counselor_id = ? AND t.updated_at >= ? " +
+                "AND (t.updated_at > ? OR (t.updated_at = ? AND r.id > ?)) " +
+                "ORDER BY updated_at, id LIMIT ?",
+                (rs, rowNum) -> toCalendarReservationChange(rs, rs.getBoolean("moved")),
+                counselorId, since, after, after, afterId, counselorId, since, after, after, afterId, limit);
+    }
+
+    /**
+     * 상담사 예약의 세션 중 from 이후 변경되고 (updatedAt, id)가 커서 이후인 세션 (변경 순, 최대 limit건)
+     */
+    public List<CalendarSessionChange> findSessionChanges(Long counselorId, LocalDateTime from,
+                                                          LocalDateTime afterUpdatedAt, long afterId, int limit) {
+        Timestamp after = Timestamp.valueOf(afterUpdatedAt);
+        return jdbcTemplate.query(
+                "SELECT s.id, s.reservation_id, s.start_time, s.end_time, s.next_session_date, s.updated_at " +
+                "FROM counseling_sessions s " +
+                "JOIN counseling_reservations r ON r.id = s.reservation_id " +
+                "WHERE r.counselor_id = ? AND s.updated_at >= ? " +
+                "AND (s.updated_at > ? OR (s.updated_at = ? AND s.id > ?)) " +
+                "ORDER BY s.updated_at, s.id LIMIT ?",
+                (rs, rowNum) -> new CalendarSessionChange(
+                        rs.getLong("id"),
+                        rs.getLong("reservation_id"),
+                        toLocalDateTime(rs.getTimestamp("start_time")),
+                        toLocalDateTime(rs.getTimestamp("end_time")),
+                        toLocalDateTime(rs.getTimestamp("next_session_date")),
+                        rs.getTimestamp("updated_at").toLocalDateTime()),
+                counselorId, Timestamp.valueOf(from), after, after, afterId, limit);
+    }
+
+    /**
+     * 예약이 다른 상담사에게 넘어갔음을 이전 상담사 캘린더에 알리는 툼스톤 기록
+     */
+    public void insertCalendarTombstone(Long counselorId, Long reservationId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(
+                "INSERT INTO counseling_calendar_tombstones (counselor_id, reservation_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?)",
+                counselorId, reservationId, timestamp, timestamp);
+    }
+
+    /**
+     * 상담사 예약 중 예약 일시가 [from, to)이고 (reservationDate, id)가 커서 이후인 예약 (예약 일시 순, 최대 limit건)
+     */
+    public List<CalendarReservationChange> findCalendarReservations(Long counselorId, LocalDateTime from,
+                                                                    LocalDateTime to, LocalDateTime afterDate,
+                                                                    long afterId, int limit) {
+        Timestamp after = Timestamp.valueOf(afterDate);
+        return jdbcTemplate.query(
+                "SELECT id, student_id, reservation_date, session_duration, counseling_type, status, updated_at " +
+                "FROM counseling_reservations " +
+                "WHERE counselor_id = ? AND reservation_date >= ? AND reservation_date < ? " +
+                "AND (reservation_date > ? OR (reservation_date = ? AND id > ?)) " +
+                "ORDER BY reservation_date, id LIMIT ?",
+                (rs, rowNum) -> toCalendarReservationChange(rs, false),
+                counselorId, Timestamp.valueOf(from), Timestamp.valueOf(to), after, after, afterId, limit);
+    }
+
+    /**
+     * @param moved 다른 상담사에게 넘어간 예약의 툼스톤 행인지 여부
+     */
+    private static CalendarReservationChange toCalendarReservationChange(ResultSet rs, boolean moved)
+            throws SQLException {
+        CounselingStatus status = CounselingStatus.valueOf(rs.getString("status"));
+        return new CalendarReservationChange(
+                rs.getLong("id"),
+                rs.getLong("student_id"),
+                rs.getTimestamp("reservation_date").toLocalDateTime(),
+                rs.getInt("session_duration"),
+                rs.getString("counseling_type"),
+                status,
+                moved || status == CounselingStatus.CANCELLED,
+                rs.getTimestamp("updated_at").toLocalDateTime());
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    // ========== 상담 알림 ==========
+
+    private static final String RESERVATION_REMINDER_TARGETS =
+            "SELECT id, student_id, counselor_id, reservation_date AS appointment FROM counseling_reservations " +
+            "WHERE status IN ('PENDING', 'CONFIRMED') ";
+
+    private static final String FOLLOW_UP_REMINDER_TARGETS =
+            "SELECT s.id, r.student_id, r.counselor_id, s.next_session_date AS appointment " +
+            "FROM counseling_sessions s " +
+            "JOIN counseling_reservations r ON r.id = s.reservation_id " +
+            "WHERE s.follow_up_required = TRUE AND s.next_session_date IS NOT NULL ";
+
+    /**
+     * 예약 일시가 [from, to)인 대기/확정 예약
+     */
+    public List<ReminderTarget> findReservationReminderTargets(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+                RESERVATION_REMINDER_TARGETS + "AND reservation_date >= ? AND reservation_date < ?",
+                (rs, rowNum) -> toReminderTarget(rs), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 지정한 예약 중 대기/확정인 예약
+     */
+    public List<ReminderTarget> findReservationReminderTargets(Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query(
+                RESERVATION_REMINDER_TARGETS + "AND id IN (:ids)",
+                new MapSqlParameterSource("ids", reservationIds), (rs, rowNum) -> toReminderTarget(rs));
+    }
+
+    /**
+     * 다음 상담 예정일이 [from, to)인 후속 상담 세션
+     */
+    public List<ReminderTarget> findFollowUpReminderTargets(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(
+                FOLLOW_UP_REMINDER_TARGETS + "AND s.next_session_date >= ? AND s.next_session_date < ?",
+                (rs, rowNum) -> toReminderTarget(rs), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 지정한 세션 중 후속 상담이 예정된 세션
+     */
+    public List<ReminderTarget> findFollowUpReminderTargets(Collection<Long> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query(
+                FOLLOW_UP_REMINDER_TARGETS + "AND s.id IN (:ids)",
+                new MapSqlParameterSource("ids", sessionIds), (rs, rowNum) -> toReminderTarget(rs));
+    }
+
+    private static ReminderTarget toReminderTarget(ResultSet rs) throws SQLException {
+        return new ReminderTarget(
+                rs.getLong("id"),
+                rs.getLong("student_id"),
+                rs.getLong("counselor_id"),
+                rs.getTimestamp("appointment").toLocalDateTime());
+    }
+
+    /**
+     * 1번 열이 ID, 2번 열부터 응답 수, (합계, 제곱합) x 5, 추천 수 순서인 행을 합계로 변환
+     */
+    private static RatingTotals toRatingTotals(ResultSet rs) throws SQLException {
+        long[] sums = new long[5];
+        long[] squareSums = new long[5];
+        for (int i = 0; i < 5; i++) {
+            sums[i] = rs.getLong(3 + i * 2);
+            squareSums[i] = rs.getLong(4 + i * 2);
+        }
+        return new RatingTotals(rs.getLong(2), sums, squareSums, rs.getLong(13));
+    }
+
+    /**
+     * 상담사의 요일별 가용 시간 한 건
+     */
+    public record AvailabilityWindow(
+            Long counselorId, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime, String specialization) {
+    }
+
+    /**
+     * 칸 점유 행이 없는 예약 한 건
+     */
+    public record UnclaimedReservation(
+            Long reservationId, Long counselorId, Long studentId, LocalDateTime start, int durationMinutes) {
+    }
+
+    /**
+     * 상담사 시간을 점유하는 예약 한 건
+     */
+    public record ReservationInterval(Long reservationId, Long counselorId, LocalDateTime start, int durationMinutes) {
+    }
+
+    /**
+     * 캘린더 동기화용 예약 한 건 (취소되었거나 다른 상담사에게 넘어간 예약은 deleted = true인 툼스톤)
+     */
+    public record CalendarReservationChange(
+            Long id, Long studentId, LocalDateTime reservationDate, int sessionDuration, String counselingType,
+            CounselingStatus status, boolean deleted, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * 캘린더 동기화용 세션 한 건
+     */
+    public record CalendarSessionChange(
+            Long id, Long reservationId, LocalDateTime startTime, LocalDateTime endTime,
+            LocalDateTime nextSessionDate, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * 알림 대상 일정 한 건 (예약 또는 후속 상담 세션)
+     *
+     * @param id 예약 ID 또는 세션 ID
+     */
+    public record ReminderTarget(Long id, Long studentId, Long counselorId, LocalDateTime appointment) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.university.scms.domain.counseling.repository;
+
+import com.university.scms.domain.counseling.entity.CounselorSatisfactionAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * CounselorSatisfactionAggregate Repository
+ * 갱신은 JDBC 증감 반영으로만 하고 여기서는 조회만 합니다.
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public interface CounselorSatisfactionAggregateRepository extends JpaRepository<CounselorSatisfactionAggregate, Long> {
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,7 +15,8 @@ import java.util.List;
 @Table(name = "mileage_accounts",
        indexes = {
            @Index(name = "idx_user", columnList = "user_id"),
-           @Index(name = "idx_available_points", columnList = "available_points")
+           @Index(name = "idx_available_points", columnList = "available_points"),
+           @Index(name = "idx_usage_rate", columnList = "usage_rate, id")
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -35,6 +38,20 @@ public class MileageAccount extends BaseEntity {
     @Column(name = "used_points", nullable = false)
     private Integer usedPoints = 0;  // 사용한 마일리지
 
+    /**
+     * 사용률 (usedPoints / totalPoints, 누적 포인트가 0이면 NULL)
+     * DB 생성 컬럼이므로 엔티티 메서드, 조건부 UPDATE, JDBC 배치 등 어떤 경로로 갱신해도 항상 일치합니다.
+     */
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(name = "usage_rate",
+            columnDefinition = "double generated always as " +
+                    "(case when total_points > 0 then used_points / total_points end) stored")
+    private Double usageRate;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;  // 낙관적 잠금 버전 (조건부 UPDATE 시에도 증가)
+
     // 도메인 내부: JPA 관계 (외래키 제약조건 제거)
     @OneToMany(mappedBy = "account", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<MileageTransaction> transactions = new ArrayList<>();
@@ -46,6 +63,7 @@ public class MileageAccount extends BaseEntity {
         account.totalPoints = 0;
         account.availablePoints = 0;
         account.usedPoints = 0;
+        account.version = 0L;
         return account;
     }
 
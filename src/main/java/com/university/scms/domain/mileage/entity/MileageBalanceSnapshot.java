@@ -0,0 +1,115 @@
+package com.university.scms.domain.mileage.entity;
+
+import com.university.scms.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 월별 마일리지 잔액 스냅샷
+ *
+ * <p>마감된 한 달 동안의 유형별 증감(period)과 그 달 말까지의 누적 합계(cumulative)를 저장합니다.
+ * 통계 조회는 최근 스냅샷에 그 이후 거래만 더하므로 원장 전체를 SUM하지 않습니다.
+ * {@code userId = 0}({@link #ALL_USERS}) 행은 전체 사용자 합계입니다.</p>
+ *
+ * <p>포인트는 모두 절대값으로 저장하며, 조정(ADJUST)만 부호를 유지합니다.</p>
+ */
+@Entity
+@Table(name = "mileage_balance_snapshots",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_snapshot_user_period", columnNames = {"user_id", "period_start"})
+       },
+       indexes = {
+           @Index(name = "idx_period_start", columnList = "period_start")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MileageBalanceSnapshot extends BaseEntity {
+
+    /**
+     * 전체 사용자 합계 행의 사용자 ID
+     */
+    public static final Long ALL_USERS = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;  // Auth Domain 참조 (0: 전체)
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;  // 집계 월의 1일
+
+    // === 해당 월 증감 ===
+
+    @Column(name = "earned_points", nullable = false)
+    private Long earnedPoints = 0L;
+
+    @Column(name = "used_points", nullable = false)
+    private Long usedPoints = 0L;
+
+    @Column(name = "expired_points", nullable = false)
+    private Long expiredPoints = 0L;
+
+    @Column(name = "adjusted_points", nullable = false)
+    private Long adjustedPoints = 0L;
+
+    // === 월말 기준 누적 ===
+
+    @Column(name = "cumulative_earned", nullable = false)
+    private Long cumulativeEarned = 0L;
+
+    @Column(name = "cumulative_used", nullable = false)
+    private Long cumulativeUsed = 0L;
+
+    @Column(name = "cumulative_expired", nullable = false)
+    private Long cumulativeExpired = 0L;
+
+    @Column(name = "cumulative_adjusted", nullable = false)
+    private Long cumulativeAdjusted = 0L;
+
+    // === 생성 메서드 ===
+
+    public static MileageBalanceSnapshot create(
+            Long userId,
+            LocalDate periodStart,
+            long earnedPoints,
+            long usedPoints,
+            long expiredPoints,
+            long adjustedPoints,
+            MileageBalanceSnapshot previous) {
+
+        MileageBalanceSnapshot snapshot = new MileageBalanceSnapshot();
+        snapshot.userId = userId;
+        snapshot.periodStart = periodStart.withDayOfMonth(1);
+        snapshot.earnedPoints = earnedPoints;
+        snapshot.usedPoints = usedPoints;
+        snapshot.expiredPoints = expiredPoints;
+        snapshot.adjustedPoints = adjustedPoints;
+        snapshot.cumulativeEarned = (previous != null ? previous.cumulativeEarned : 0L) + earnedPoints;
+        snapshot.cumulativeUsed = (previous != null ? previous.cumulativeUsed : 0L) + usedPoints;
+        snapshot.cumulativeExpired = (previous != null ? previous.cumulativeExpired : 0L) + expiredPoints;
+        snapshot.cumulativeAdjusted = (previous != null ? previous.cumulativeAdjusted : 0L) + adjustedPoints;
+        return snapshot;
+    }
+
+    // === 조회 메서드 ===
+
+    /**
+     * 다음 집계 월의 1일 (이 스냅샷 이후 거래의 시작 시점)
+     */
+    public LocalDate getNextPeriodStart() {
+        return this.periodStart.plusMonths(1);
+    }
+
+    /**
+     * 월말 기준 잔액 (적립 - 사용 - 소멸 + 조정)
+     */
+    public long getBalance() {
+        return cumulativeEarned - cumulativeUsed - cumulativeExpired + cumulativeAdjusted;
+    }
+}
@@ -0,0 +1,105 @@
+package com.university.scms.domain.mileage.entity;
+
+import com.university.scms.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마일리지 적립 묶음 (Lot)
+ *
+ * <p>적립 거래 하나가 묶음 하나가 되며, 적립 출처(sourceType/sourceId)와 적립 시각, 소멸 예정 시각을 가집니다.
+ * 사용/차감 시에는 오래된 묶음부터(FIFO) 잔여 포인트를 줄이고,
+ * 소멸 배치는 소멸 예정 시각이 지난 묶음의 잔여 포인트를 한 번에 소멸시킵니다.</p>
+ *
+ * <p>불변식: 계정의 묶음 잔여 포인트 합계 = 계정의 사용 가능 마일리지
+ * (묶음 도입 이전 잔액은 묶음이 없으므로 소멸 대상이 아닙니다.)</p>
+ */
+@Entity
+@Table(name = "mileage_lots",
+       indexes = {
+           @Index(name = "idx_user_earned", columnList = "user_id, earned_at, id"),
+           @Index(name = "idx_account_expires", columnList = "account_id, expires_at, remaining_points"),
+           @Index(name = "idx_source", columnList = "source_type, source_id")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MileageLot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 도메인 내부: JPA 관계 (외래키 제약조건 제거)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false,
+                foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private MileageAccount account;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;  // Auth Domain 참조 (조회 편의용)
+
+    @Column(name = "source_type", length = 50)
+    private String sourceType;  // 적립 거래의 출처 타입
+
+    @Column(name = "source_id")
+    private Long sourceId;  // 적립 거래의 출처 ID
+
+    @Column(name = "earned_points", nullable = false)
+    private Integer earnedPoints;  // 적립 포인트
+
+    @Column(name = "remaining_points", nullable = false)
+    private Integer remainingPoints;  // 미사용 잔여 포인트
+
+    @Column(name = "expired_points", nullable = false)
+    private Integer expiredPoints = 0;  // 소멸된 포인트
+
+    @Column(name = "earned_at", nullable = false)
+    private LocalDateTime earnedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;  // 소멸 예정 시각
+
+    @Column(name = "expired_at")
+    private LocalDateTime expiredAt;  // 소멸 처리 시각
+
+    // === 생성 메서드 ===
+
+    public static MileageLot create(
+            MileageAccount account,
+            Long userId,
+            String sourceType,
+            Long sourceId,
+            int points,
+            LocalDateTime earnedAt,
+            LocalDateTime expiresAt) {
+
+        if (points <= 0) {
+            throw new IllegalArgumentException("적립 포인트는 0보다 커야 합니다.");
+        }
+        MileageLot lot = new MileageLot();
+        lot.account = account;
+        lot.userId = userId;
+        lot.sourceType = sourceType;
+        lot.sourceId = sourceId;
+        lot.earnedPoints = points;
+        lot.remainingPoints = points;
+        lot.expiredPoints = 0;
+        lot.earnedAt = earnedAt;
+        lot.expiresAt = expiresAt;
+        return lot;
+    }
+
+    // === 조회 메서드 ===
+
+    public boolean isOpen() {
+        return this.remainingPoints > 0;
+    }
+
+    public boolean isExpired() {
+        return this.expiredAt != null;
+    }
+}
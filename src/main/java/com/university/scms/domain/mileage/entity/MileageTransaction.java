@@ -8,11 +8,19 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "mileage_transactions",
+       uniqueConstraints = {
+           // 같은 출처의 같은 유형 거래는 사용자당 한 번만 (출처 없는 거래는 NULL이라 제약 대상 아님)
+           @UniqueConstraint(name = "uk_transaction_source",
+                             columnNames = {"source_type", "source_id", "user_id", "transaction_type"})
+       },
        indexes = {
            @Index(name = "idx_account", columnList = "account_id"),
            @Index(name = "idx_user", columnList = "user_id"),
            @Index(name = "idx_type", columnList = "transaction_type"),
-           @Index(name = "idx_source", columnList = "source_type, source_id")
+           @Index(name = "idx_created_at", columnList = "created_at"),
+           @Index(name = "idx_user_created_at", columnList = "user_id, created_at"),
+           @Index(name = "idx_projection_pending", columnList = "projection_pending, id"),
+           @Index(name = "idx_user_projection_pending", columnList = "user_id, projection_pending")
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -50,6 +58,9 @@ public class MileageTransaction extends BaseEntity {
     @Column(name = "balance_after", nullable = false)
     private Integer balanceAfter;  // 거래 후 잔액
 
+    @Column(name = "projection_pending")
+    private Boolean projectionPending;  // 이벤트 로그로 기록되어 계정 반영 대기 중이면 true (반영 후 NULL)
+
     // === 생성 메서드 ===
     
     public static MileageTransaction createEarn(
@@ -141,6 +152,13 @@ public class MileageTransaction extends BaseEntity {
     }
 
     // === 조회 메서드 ===
+
+    /**
+     * 계정 잔액에 반영되었는지 여부 (반영 전에는 accountId = 0, balanceAfter = 0)
+     */
+    public boolean isProjected() {
+        return !Boolean.TRUE.equals(this.projectionPending);
+    }
     
     public boolean isEarn() {
         return this.transactionType == TransactionType.EARN;
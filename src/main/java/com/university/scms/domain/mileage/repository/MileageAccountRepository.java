@@ -1,11 +1,14 @@
 package com.university.scms.domain.mileage.repository;
 
 import com.university.scms.domain.mileage.entity.MileageAccount;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +23,7 @@ import java.util.Optional;
  *   <li>포인트 기준 조회</li>
  *   <li>포인트 통계 및 순위</li>
  *   <li>계정 상태 관리</li>
+ *   <li>조건부 UPDATE 기반 포인트 갱신 (경합 없는 적립/사용)</li>
  * </ul>
  *
  * @since 2025-11-02
@@ -133,6 +137,19 @@ public interface MileageAccountRepository extends JpaRepository<MileageAccount,
     @Query("SELECT AVG(a.usedPoints) FROM MileageAccount a")
     Double getAverageUsedPoints();
 
+    /**
+     * 전체 계정 통계 (합계/평균을 집계 쿼리 1회로 조회)
+     */
+    @Query("SELECT COUNT(a) AS accountCount, " +
+           "       COALESCE(SUM(a.availablePoints), 0) AS totalAvailablePoints, " +
+           "       COALESCE(SUM(a.totalPoints), 0) AS totalAccumulatedPoints, " +
+           "       COALESCE(SUM(a.usedPoints), 0) AS totalUsedPoints, " +
+           "       COALESCE(AVG(a.availablePoints), 0.0) AS averageAvailablePoints, " +
+           "       COALESCE(AVG(a.totalPoints), 0.0) AS averageTotalPoints, " +
+           "       COALESCE(AVG(a.usedPoints), 0.0) AS averageUsedPoints " +
+           "FROM MileageAccount a")
+    MileageAccountStatistics getStatistics();
+
     // ========== 특정 조건 카운트 ==========
 
     /**
@@ -191,19 +208,20 @@ public interface MileageAccountRepository extends JpaRepository<MileageAccount,
 
     /**
      * 사용률이 높은 계정 조회 (usedPoints / totalPoints 비율)
+     * idx_usage_rate(usage_rate, id) 역순 스캔으로 정렬 없이 페이지만큼 읽습니다.
      */
     @Query("SELECT a FROM MileageAccount a " +
-           "WHERE a.totalPoints > 0 " +
-           "ORDER BY (CAST(a.usedPoints AS double) / a.totalPoints) DESC")
-    List<MileageAccount> findAccountsOrderByUsageRate();
+           "WHERE a.usageRate IS NOT NULL " +
+           "ORDER BY a.usageRate DESC, a.id DESC")
+    List<MileageAccount> findAccountsOrderByUsageRate(Pageable pageable);
 
     /**
-     * 특정 사용률 이상인 계정 조회
+     * 특정 사용률 이상인 계정 조회 (사용률 높은 순, idx_usage_rate 범위 스캔)
      */
     @Query("SELECT a FROM MileageAccount a " +
-           "WHERE a.totalPoints > 0 " +
-           "AND (CAST(a.usedPoints AS double) / a.totalPoints) >= :rate")
-    List<MileageAccount> findByUsageRateGreaterThanEqual(@Param("rate") Double rate);
+           "WHERE a.usageRate >= :rate " +
+           "ORDER BY a.usageRate DESC, a.id DESC")
+    List<MileageAccount> findByUsageRateGreaterThanEqual(@Param("rate") Double rate, Pageable pageable);
 
     // ========== 특정 사용자 목록 조회 ==========
 
@@ -223,4 +241,84 @@ public interface MileageAccountRepository extends JpaRepository<MileageAccount,
      * 최근 수정된 N개 계정 조회
      */
     List<MileageAccount> findTop10ByOrderByUpdatedAtDesc();
+
+    // ========== 조건부 포인트 갱신 ==========
+    // 엔티티를 읽지 않고 단일 UPDATE로 잔액을 변경합니다.
+    // 반환값은 갱신된 행 수이며, 0이면 계정이 없거나 잔액 조건을 만족하지 못한 것입니다.
+
+    /**
+     * 계정이 없으면 생성 (이미 있으면 무시)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO mileage_accounts " +
+                   "(user_id, total_points, available_points, used_points, version, created_at, updated_at) " +
+                   "VALUES (:userId, 0, 0, 0, 0, :now, :now)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 포인트 적립
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MileageAccount a " +
+           "SET a.totalPoints = a.totalPoints + :points, " +
+           "    a.availablePoints = a.availablePoints + :points, " +
+           "    a.version = a.version + 1, " +
+           "    a.updatedAt = :now " +
+           "WHERE a.userId = :userId")
+    int earnPoints(@Param("userId") Long userId,
+                   @Param("points") int points,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 포인트 사용 (잔액이 충분할 때만)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MileageAccount a " +
+           "SET a.availablePoints = a.availablePoints - :points, " +
+           "    a.usedPoints = a.usedPoints + :points, " +
+           "    a.version = a.version + 1, " +
+           "    a.updatedAt = :now " +
+           "WHERE a.userId = :userId " +
+           "AND a.availablePoints >= :points")
+    int usePoints(@Param("userId") Long userId,
+                  @Param("points") int points,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 포인트 소멸 (잔액이 충분할 때만)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MileageAccount a " +
+           "SET a.availablePoints = a.availablePoints - :points, " +
+           "    a.version = a.version + 1, " +
+           "    a.updatedAt = :now " +
+           "WHERE a.userId = :userId " +
+           "AND a.availablePoints >= :points")
+    int expirePoints(@Param("userId") Long userId,
+                     @Param("points") int points,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 포인트 조정 (음수면 차감, 차감 후 잔액이 음수가 되지 않을 때만)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MileageAccount a " +
+           "SET a.totalPoints = a.totalPoints + :points, " +
+           "    a.availablePoints = a.availablePoints + :points, " +
+           "    a.version = a.version + 1, " +
+           "    a.updatedAt = :now " +
+           "WHERE a.userId = :userId " +
+           "AND a.availablePoints + :points >= 0")
+    int adjustPoints(@Param("userId") Long userId,
+                     @Param("points") int points,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 계정 ID와 현재 잔액 조회 (영속성 컨텍스트를 거치지 않는 스칼라 조회)
+     */
+    @Query("SELECT a.id AS accountId, a.availablePoints AS availablePoints, " +
+           "a.totalPoints AS totalPoints, a.version AS version " +
+           "FROM MileageAccount a WHERE a.userId = :userId")
+    Optional<MileageBalance> findBalanceByUserId(@Param("userId") Long userId);
 }
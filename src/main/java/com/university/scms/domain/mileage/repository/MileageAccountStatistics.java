@@ -0,0 +1,21 @@
+package com.university.scms.domain.mileage.repository;
+
+/**
+ * 전체 마일리지 계정 통계 프로젝션
+ */
+public interface MileageAccountStatistics {
+
+    Long getAccountCount();
+
+    Long getTotalAvailablePoints();
+
+    Long getTotalAccumulatedPoints();
+
+    Long getTotalUsedPoints();
+
+    Double getAverageAvailablePoints();
+
+    Double getAverageTotalPoints();
+
+    Double getAverageUsedPoints();
+}
@@ -0,0 +1,17 @@
+package com.university.scms.domain.mileage.repository;
+
+/**
+ * 마일리지 잔액 조회용 프로젝션
+ *
+ * <p>조건부 UPDATE 직후 DB에 반영된 잔액을 엔티티 로딩 없이 읽을 때 사용합니다.</p>
+ */
+public interface MileageBalance {
+
+    Long getAccountId();
+
+    Integer getAvailablePoints();
+
+    Integer getTotalPoints();
+
+    Long getVersion();
+}
@@ -0,0 +1,126 @@
+package com.university.scms.domain.mileage.repository;
+
+import com.university.scms.domain.mileage.entity.MileageBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 월별 마일리지 잔액 스냅샷 Repository
+ *
+ * <p><b>주요 기능:</b></p>
+ * <ul>
+ *   <li>사용자/전체 최근 스냅샷 조회</li>
+ *   <li>기간별 스냅샷 조회</li>
+ *   <li>월 단위 스냅샷 일괄 생성 (INSERT ... SELECT)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public interface MileageBalanceSnapshotRepository extends JpaRepository<MileageBalanceSnapshot, Long> {
+
+    // ========== 조회 ==========
+
+    /**
+     * 사용자의 가장 최근 스냅샷 조회
+     */
+    Optional<MileageBalanceSnapshot> findTopByUserIdOrderByPeriodStartDesc(Long userId);
+
+    /**
+     * 사용자의 기간 내 스냅샷 조회 (월 오름차순)
+     */
+    List<MileageBalanceSnapshot> findByUserIdAndPeriodStartBetweenOrderByPeriodStartAsc(
+            Long userId,
+            LocalDate fromPeriod,
+            LocalDate toPeriod
+    );
+
+    /**
+     * 마지막으로 스냅샷이 생성된 월 (전체 합계 행 기준)
+     * @return 스냅샷이 없으면 null
+     */
+    @Query("SELECT MAX(s.periodStart) FROM MileageBalanceSnapshot s WHERE s.userId = 0")
+    LocalDate findLatestPeriodStart();
+
+    /**
+     * 특정 월 스냅샷 존재 여부
+     */
+    boolean existsByUserIdAndPeriodStart(Long userId, LocalDate periodStart);
+
+    // ========== 스냅샷 생성 ==========
+
+    /**
+     * 해당 월에 거래가 있는 사용자별 스냅샷 일괄 생성
+     * 누적값은 직전 스냅샷에 해당 월 증감을 더해 계산합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO mileage_balance_snapshots " +
+                   "(user_id, period_start, earned_points, used_points, expired_points, adjusted_points, " +
+                   " cumulative_earned, cumulative_used, cumulative_expired, cumulative_adjusted, " +
+                   " created_at, updated_at) " +
+                   "SELECT d.user_id, :periodStart, d.earned, d.used, d.expired, d.adjusted, " +
+                   "       COALESCE(p.cumulative_earned, 0) + d.earned, " +
+                   "       COALESCE(p.cumulative_used, 0) + d.used, " +
+                   "       COALESCE(p.cumulative_expired, 0) + d.expired, " +
+                   "       COALESCE(p.cumulative_adjusted, 0) + d.adjusted, " +
+                   "       :now, :now " +
+                   "FROM (SELECT t.user_id, " +
+                   "             SUM(CASE WHEN t.transaction_type = 'EARN' THEN t.points ELSE 0 END) AS earned, " +
+                   "             SUM(CASE WHEN t.transaction_type = 'USE' THEN ABS(t.points) ELSE 0 END) AS used, " +
+                   "             SUM(CASE WHEN t.transaction_type = 'EXPIRE' THEN ABS(t.points) ELSE 0 END) AS expired, " +
+                   "             SUM(CASE WHEN t.transaction_type = 'ADJUST' THEN t.points ELSE 0 END) AS adjusted " +
+                   "      FROM mileage_transactions t " +
+                   "      WHERE t.created_at >= :startDate AND t.created_at < :endDate " +
+                   "      GROUP BY t.user_id) d " +
+                   "LEFT JOIN mileage_balance_snapshots p " +
+                   "  ON p.user_id = d.user_id " +
+                   " AND p.period_start = (SELECT MAX(s.period_start) FROM mileage_balance_snapshots s " +
+                   "                       WHERE s.user_id = d.user_id AND s.period_start < :periodStart)",
+           nativeQuery = true)
+    int insertUserSnapshots(
+            @Param("periodStart") LocalDate periodStart,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 해당 월 전체 합계 스냅샷 생성 (거래가 없어도 생성하여 마감 월을 표시)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO mileage_balance_snapshots " +
+                   "(user_id, period_start, earned_points, used_points, expired_points, adjusted_points, " +
+                   " cumulative_earned, cumulative_used, cumulative_expired, cumulative_adjusted, " +
+                   " created_at, updated_at) " +
+                   "SELECT 0, :periodStart, d.earned, d.used, d.expired, d.adjusted, " +
+                   "       COALESCE(p.cumulative_earned, 0) + d.earned, " +
+                   "       COALESCE(p.cumulative_used, 0) + d.used, " +
+                   "       COALESCE(p.cumulative_expired, 0) + d.expired, " +
+                   "       COALESCE(p.cumulative_adjusted, 0) + d.adjusted, " +
+                   "       :now, :now " +
+                   "FROM (SELECT COALESCE(SUM(CASE WHEN t.transaction_type = 'EARN' THEN t.points ELSE 0 END), 0) AS earned, " +
+                   "             COALESCE(SUM(CASE WHEN t.transaction_type = 'USE' THEN ABS(t.points) ELSE 0 END), 0) AS used, " +
+                   "             COALESCE(SUM(CASE WHEN t.transaction_type = 'EXPIRE' THEN ABS(t.points) ELSE 0 END), 0) AS expired, " +
+                   "             COALESCE(SUM(CASE WHEN t.transaction_type = 'ADJUST' THEN t.points ELSE 0 END), 0) AS adjusted " +
+                   "      FROM mileage_transactions t " +
+                   "      WHERE t.created_at >= :startDate AND t.created_at < :endDate) d " +
+                   "LEFT JOIN mileage_balance_snapshots p " +
+                   "  ON p.user_id = 0 " +
+                   " AND p.period_start = (SELECT MAX(s.period_start) FROM mileage_balance_snapshots s " +
+                   "                       WHERE s.user_id = 0 AND s.period_start < :periodStart)",
+           nativeQuery = true)
+    int insertGlobalSnapshot(
+            @Param("periodStart") LocalDate periodStart,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("now") LocalDateTime now
+    );
+}
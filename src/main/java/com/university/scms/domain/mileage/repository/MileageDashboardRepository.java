@@ -0,0 +1,119 @@
+package com.university.scms.domain.mileage.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마일리지 대시보드 조회 Repository
+ *
+ * <p>사용자 대시보드에 필요한 계정 잔액, 소멸 예정 포인트, 최근 거래, 월별 적립/사용 합계를
+ * UNION ALL 한 문장으로 조회합니다. 행 종류(row_kind)별로 필요한 컬럼만 채워집니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+@RequiredArgsConstructor
+public class MileageDashboardRepository {
+
+    private static final String USER_DASHBOARD_SQL =
+            "SELECT 'ACCOUNT' AS row_kind, a.available_points, a.total_points, a.used_points, " +
+            "       (SELECT COALESCE(SUM(l.remaining_points), 0) FROM mileage_lots l " +
+            "        WHERE l.user_id = a.user_id AND l.remaining_points > 0 " +
+            "        AND l.expires_at > :expiringAfter AND l.expires_at <= :expiringUntil) AS expiring_points, " +
+            "       NULL AS id, NULL AS transaction_type, NULL AS points, NULL AS description, " +
+            "       NULL AS balance_after, NULL AS created_at, " +
+            "       NULL AS period, NULL AS period_earned, NULL AS period_used " +
+            "FROM mileage_accounts a WHERE a.user_id = :userId " +
+            "UNION ALL " +
+            "SELECT 'TX', NULL, NULL, NULL, NULL, " +
+            "       t.id, t.transaction_type, t.points, t.description, t.balance_after, t.created_at, " +
+            "       NULL, NULL, NULL " +
+            "FROM (SELECT id, transaction_type, points, description, balance_after, created_at " +
+            "      FROM mileage_transactions WHERE user_id = :userId AND projection_pending IS NULL " +
+            "      ORDER BY created_at DESC, id DESC LIMIT :recentLimit) t " +
+            "UNION ALL " +
+            "SELECT 'MONTH', NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, " +
+            "       DATE_FORMAT(created_at, '%Y-%m'), " +
+            "       SUM(CASE WHEN transaction_type = 'EARN' THEN points ELSE 0 END), " +
+            "       SUM(CASE WHEN transaction_type = 'USE' THEN -points ELSE 0 END) " +
+            "FROM mileage_transactions " +
+            "WHERE user_id = :userId AND created_at >= :trendFrom AND projection_pending IS NULL " +
+            "GROUP BY DATE_FORMAT(created_at, '%Y-%m')";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 사용자 대시보드 데이터 조회 (SQL 1회)
+     *
+     * @param recentLimit 최근 거래 건수
+     * @param trendFrom 월별 합계 시작 일시
+     * @param expiringAfter 이 시각 이전에 이미 만료된 묶음은 소멸 예정에서 제외 (보통 현재 시각)
+     * @param expiringUntil 이 시각까지 소멸 예정인 포인트를 집계
+     */
+    public UserDashboard findUserDashboard(Long userId, int recentLimit, LocalDateTime trendFrom,
+                                           LocalDateTime expiringAfter, LocalDateTime expiringUntil) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("recentLimit", recentLimit)
+                .addValue("trendFrom", Timestamp.valueOf(trendFrom))
+                .addValue("expiringAfter", Timestamp.valueOf(expiringAfter))
+                .addValue("expiringUntil", Timestamp.valueOf(expiringUntil));
+
+        AccountSummary[] account = new AccountSummary[1];
+        List<RecentTransaction> transactions = new ArrayList<>();
+        List<MonthlyAmount> months = new ArrayList<>();
+
+        namedJdbcTemplate.query(USER_DASHBOARD_SQL, params, rs -> {
+            switch (rs.getString("row_kind")) {
+                case "ACCOUNT" -> account[0] = new AccountSummary(
+                        rs.getInt("available_points"),
+                        rs.getInt("total_points"),
+                        rs.getInt("used_points"),
+                        rs.getLong("expiring_points"));
+                case "TX" -> transactions.add(new RecentTransaction(
+                        rs.getLong("id"),
+                        rs.getString("transaction_type"),
+                        rs.getInt("points"),
+                        rs.getString("description"),
+                        rs.getInt("balance_after"),
+                        rs.getTimestamp("created_at").toLocalDateTime()));
+                case "MONTH" -> months.add(new MonthlyAmount(
+                        YearMonth.parse(rs.getString("period")),
+                        rs.getLong("period_earned"),
+                        rs.getLong("period_used")));
+                default -> {
+                }
+            }
+        });
+
+        transactions.sort((a, b) -> b.createdAt().equals(a.createdAt())
+                ? Long.compare(b.id(), a.id())
+                : b.createdAt().compareTo(a.createdAt()));
+        return new UserDashboard(account[0], transactions, months);
+    }
+
+    /**
+     * 사용자 대시보드 조회 결과 (계정이 없으면 account는 null)
+     */
+    public record UserDashboard(AccountSummary account, List<RecentTransaction> recentTransactions,
+                                List<MonthlyAmount> monthlyAmounts) {
+    }
+
+    public record AccountSummary(int availablePoints, int totalPoints, int usedPoints, long expiringPoints) {
+    }
+
+    public record RecentTransaction(Long id, String transactionType, int points, String description,
+                                    int balanceAfter, LocalDateTime createdAt) {
+    }
+
+    public record MonthlyAmount(YearMonth month, long earnedPoints, long usedPoints) {
+    }
+}
@@ -0,0 +1,446 @@
+package com.university.scms.domain.mileage.repository;
+
+import com.university.scms.domain.mileage.entity.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 마일리지 JDBC 배치 Repository
+ *
+ * <p>대량 지급처럼 수천 건을 한 번에 반영해야 하는 경로에서 사용합니다.
+ * IDENTITY 전략 때문에 Hibernate INSERT 배치가 동작하지 않으므로 JDBC 배치로 직접 처리합니다.
+ * (MySQL에서는 {@code rewriteBatchedStatements=true}로 다중 VALUES INSERT로 재작성됩니다.)</p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+@RequiredArgsConstructor
+public class MileageJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 계정이 없는 사용자에 대해 계정 일괄 생성 (이미 있으면 무시)
+     */
+    public void insertAccountsIfAbsent(Collection<Long> userIds, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> args = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            args.add(new Object[]{userId, timestamp, timestamp});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO mileage_accounts " +
+                "(user_id, total_points, available_points, used_points, version, created_at, updated_at) " +
+                "VALUES (?, 0, 0, 0, 0, ?, ?)",
+                args);
+    }
+
+    /**
+     * 여러 사용자의 계정 ID와 잔액 조회
+     */
+    public Map<Long, AccountBalance> findBalancesByUserIds(Collection<Long> userIds) {
+        Map<Long, AccountBalance> balances = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return balances;
+        }
+        namedJdbcTemplate.query(
+                "SELECT id, user_id, available_points, total_points, version " +
+                "FROM mileage_accounts WHERE user_id IN (:userIds)",
+                new MapSqlParameterSource("userIds", userIds),
+                rs -> {
+                    AccountBalance balance = new AccountBalance(
+                            rs.getLong("id"),
+                            rs.getLong("user_id"),
+                            rs.getInt("available_points"),
+                            rs.getInt("total_points"),
+                            rs.getLong("version"));
+                    balances.put(balance.userId(), balance);
+                });
+        return balances;
+    }
+
+    /**
+     * 적립 거래 일괄 추가 (같은 출처/사용자 적립이 이미 있으면 무시)
+     *
+     * <p>계정 ID와 거래 후 잔액은 비워 두고 {@link #settlePendingTransactions}에서 채웁니다.
+     * 배치 재작성 시 행별 결과를 알 수 없으므로 실제로 추가된 행은 {@link #lockUnsettledEarns}로 다시 읽습니다.</p>
+     */
+    public void batchAppendEarns(List<EarnRow> rows, Boolean projectionPending, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO mileage_transactions " +
+                "(account_id, user_id, transaction_type, points, source_type, source_id, " +
+                " description, balance_after, projection_pending, created_at, updated_at) " +
+                "VALUES (0, ?, 'EARN', ?, ?, ?, ?, 0, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE id = id",
+                rows,
+                500,
+                (ps, row) -> {
+                    ps.setLong(1, row.userId());
+                    ps.setInt(2, row.points());
+                    ps.setString(3, row.sourceType());
+                    ps.setObject(4, row.sourceId());
+                    ps.setString(5, row.description());
+                    ps.setObject(6, projectionPending);
+                    ps.setTimestamp(7, timestamp);
+                    ps.setTimestamp(8, timestamp);
+                });
+    }
+
+    /**
+     * 아직 계정에 반영되지 않은 적립 거래 조회 및 잠금 (ID 오름차순)
+     *
+     * <p>이미 반영된 적립(중복)은 {@code account_id}가 채워져 있으므로 제외됩니다.</p>
+     */
+    public List<UnsettledEarn> lockUnsettledEarns(Collection<EarnRow> rows) {
+        List<Object[]> keys = rows.stream()
+                .map(row -> new Object[]{row.userId(), row.sourceType(), row.sourceId()})
+                .toList();
+        return namedJdbcTemplate.query(
+                "SELECT id, user_id, points FROM mileage_transactions " +
+                "WHERE (user_id, source_type, source_id) IN (:keys) " +
+                "  AND transaction_type = 'EARN' AND account_id = 0 " +
+                "ORDER BY id FOR UPDATE",
+                new MapSqlParameterSource("keys", keys),
+                (rs, rowNum) -> new UnsettledEarn(rs.getLong("id"), rs.getLong("user_id"), rs.getInt("points")));
+    }
+
+    // ========== 멱등 거래 기록 ==========
+
+    /**
+     * 거래 내역 선점 INSERT (같은 출처/사용자/유형 거래가 이미 있으면 무시)
+     *
+     * <p>계정 ID와 거래 후 잔액은 계정 UPDATE 이후 {@link #settleTransaction}에서 채우므로
+     * 중복 요청은 계정 행을 잠그지 않고 이 INSERT 한 번으로 끝납니다.
+     * 거래 ID는 INSERT 시점에 발급되므로 ID 순서가 계정 행 잠금 순서와 같다는 보장은 없습니다.</p>
+     *
+     * @return 새로 기록된 거래 ID (중복이면 empty)
+     */
+    public Optional<Long> claimTransaction(Long userId, TransactionType transactionType, int points,
+                                           String sourceType, Long sourceId, String description,
+                                           LocalDateTime now) {
+        return insertUnlessDuplicate(userId, transactionType, points, sourceType, sourceId, description, null, now);
+    }
+
+    /**
+     * 적립 이벤트 추가 (계정 반영은 {@link #settlePendingTransactions} 등 프로젝터가 수행)
+     *
+     * @return 새로 기록된 거래 ID (중복이면 empty)
+     */
+    public Optional<Long> appendPendingEarn(Long userId, int points, String sourceType, Long sourceId,
+                                            String description, LocalDateTime now) {
+        return insertUnlessDuplicate(
+                userId, TransactionType.EARN, points, sourceType, sourceId, description, Boolean.TRUE, now);
+    }
+
+    private Optional<Long> insertUnlessDuplicate(Long userId, TransactionType transactionType, int points,
+                                                 String sourceType, Long sourceId, String description,
+                                                 Boolean projectionPending, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                        "INSERT INTO mileage_transactions " +
+                        "(account_id, user_id, transaction_type, points, source_type, source_id, " +
+                        " description, balance_after, projection_pending, created_at, updated_at) " +
+                        "VALUES (0, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?)",
+                        Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, userId);
+                ps.setString(2, transactionType.name());
+                ps.setInt(3, points);
+                ps.setString(4, sourceType);
+                ps.setObject(5, sourceId);
+                ps.setString(6, description);
+                ps.setObject(7, projectionPending);
+                ps.setTimestamp(8, timestamp);
+                ps.setTimestamp(9, timestamp);
+                return ps;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
+            // 유니크 키 충돌만 중복으로 봄 (INSERT IGNORE와 달리 길이 초과/NULL 위반 등은 그대로 실패)
+            return Optional.empty();
+        }
+        return Optional.of(keyHolder.getKey().longValue());
+    }
+
+    /**
+     * 선점한 거래에 계정 ID와 거래 후 잔액 기록 (계정 UPDATE 이후 같은 트랜잭션에서 호출)
+     */
+    public void settleTransaction(Long transactionId) {
+        jdbcTemplate.update(
+                "UPDATE mileage_transactions t " +
+                "JOIN mileage_accounts a ON a.user_id = t.user_id " +
+                "SET t.account_id = a.id, t.balance_after = a.available_points " +
+                "WHERE t.id = ?",
+                transactionId);
+    }
+
+    // ========== 이벤트 로그 프로젝션 ==========
+
+    /**
+     * 반영 대기 이벤트 ID 조회 및 잠금 (다른 프로젝터가 잡은 행은 건너뜀)
+     */
+    public List<Long> lockPendingTransactionIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM mileage_transactions " +
+                "WHERE projection_pending = TRUE " +
+                "ORDER BY id LIMIT ? " +
+                "FOR UPDATE SKIP LOCKED",
+                Long.class,
+                limit);
+    }
+
+    /**
+     * 이벤트의 사용자 ID (오름차순, 중복 제거)
+     */
+    public List<Long> findUserIdsOfTransactions(Collection<Long> transactionIds) {
+        return namedJdbcTemplate.queryForList(
+                "SELECT DISTINCT user_id FROM mileage_transactions WHERE id IN (:ids) ORDER BY user_id",
+                new MapSqlParameterSource("ids", transactionIds),
+                Long.class);
+    }
+
+    /**
+     * 사용자 계정 행 잠금 (교착 상태를 피하기 위해 사용자 ID 오름차순)
+     */
+    public void lockAccountsByUserIds(Collection<Long> userIds) {
+        namedJdbcTemplate.query(
+                "SELECT id FROM mileage_accounts WHERE user_id IN (:userIds) ORDER BY user_id FOR UPDATE",
+                new MapSqlParameterSource("userIds", userIds),
+                rs -> {
+                });
+    }
+
+    /**
+     * 반영 대기 이벤트에 계정 ID와 거래 후 잔액 기록 (계정 반영 전 잔액 + 사용자별 누적 합계)
+     */
+    public int settlePendingTransactions(Collection<Long> transactionIds, LocalDateTime now) {
+        return namedJdbcTemplate.update(
+                "UPDATE mileage_transactions t " +
+                "JOIN (SELECT id, SUM(points) OVER (PARTITION BY user_id ORDER BY id) AS running " +
+                "      FROM mileage_transactions WHERE id IN (:ids)) r ON r.id = t.id " +
+                "JOIN mileage_accounts a ON a.user_id = t.user_id " +
+                "SET t.account_id = a.id, " +
+                "    t.balance_after = a.available_points + r.running, " +
+                "    t.projection_pending = NULL, " +
+                "    t.updated_at = :now",
+                new MapSqlParameterSource("ids", transactionIds)
+                        .addValue("now", Timestamp.valueOf(now)));
+    }
+
+    /**
+     * 이벤트 합계를 사용자별로 계정에 반영 (UPDATE 1회)
+     */
+    public int creditAccountsFromTransactions(Collection<Long> transactionIds, LocalDateTime now) {
+        return namedJdbcTemplate.update(
+                "UPDATE mileage_accounts a " +
+                "JOIN (SELECT user_id, SUM(points) AS points FROM mileage_transactions " +
+                "      WHERE id IN (:ids) GROUP BY user_id) e ON e.user_id = a.user_id " +
+                "SET a.total_points = a.total_points + e.points, " +
+                "    a.available_points = a.available_points + e.points, " +
+                "    a.version = a.version + 1, " +
+                "    a.updated_at = :now",
+                new MapSqlParameterSource("ids", transactionIds)
+                        .addValue("now", Timestamp.valueOf(now)));
+    }
+
+    /**
+     * 적립 이벤트마다 적립 묶음 생성 (INSERT ... SELECT, 적립 시각 = 이벤트 기록 시각)
+     */
+    public int insertLotsFromTransactions(Collection<Long> transactionIds, int validityMonths, LocalDateTime now) {
+        return namedJdbcTemplate.update(
+                "INSERT INTO mileage_lots " +
+                "(account_id, user_id, source_type, source_id, earned_points, remaining_points, expired_points, " +
+                " earned_at, expires_at, created_at, updated_at) " +
+                "SELECT t.account_id, t.user_id, t.source_type, t.source_id, t.points, t.points, 0, " +
+                "       t.created_at, DATE_ADD(t.created_at, INTERVAL :months MONTH), :now, :now " +
+                "FROM mileage_transactions t " +
+                "WHERE t.id IN (:ids) AND t.transaction_type = 'EARN' AND t.points > 0",
+                new MapSqlParameterSource("ids", transactionIds)
+                        .addValue("months", validityMonths)
+                        .addValue("now", Timestamp.valueOf(now)));
+    }
+
+    /**
+     * 반영된 잔액과 반영 대기 이벤트 합계를 한 문장으로 조회 (같은 스냅샷)
+     */
+    public PendingBalance findBalanceWithPending(Long userId) {
+        return namedJdbcTemplate.queryForObject(
+                "SELECT COALESCE((SELECT available_points FROM mileage_accounts WHERE user_id = :userId), 0) AS available_points, " +
+                "       COALESCE((SELECT total_points FROM mileage_accounts WHERE user_id = :userId), 0) AS total_points, " +
+                "       COALESCE((SELECT SUM(points) FROM mileage_transactions " +
+                "                 WHERE user_id = :userId AND projection_pending = TRUE), 0) AS pending_points",
+                new MapSqlParameterSource("userId", userId),
+                (rs, rowNum) -> new PendingBalance(
+                        rs.getInt("available_points"),
+                        rs.getInt("total_points"),
+                        rs.getInt("pending_points")));
+    }
+
+    // ========== 유효기간 만료 소멸 ==========
+
+    private static final String DUE_LOTS_BY_ACCOUNT =
+            "SELECT account_id, SUM(remaining_points) AS points " +
+            "FROM mileage_lots " +
+            "WHERE account_id IN (:accountIds) AND expires_at <= :cutoff AND remaining_points > 0 " +
+            "GROUP BY account_id";
+
+    /**
+     * 소멸 대상 묶음이 있는 계정 ID (계정 ID 키셋)
+     */
+    public List<Long> findAccountIdsWithDueLots(LocalDateTime cutoff, long afterAccountId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT account_id FROM mileage_lots " +
+                "WHERE account_id > ? AND expires_at <= ? AND remaining_points > 0 " +
+                "ORDER BY account_id LIMIT ?",
+                Long.class,
+                afterAccountId, Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * 계정 행 잠금 (ID 오름차순)
+     *
+     * <p>사용/차감 경로와 같은 순서(계정 → 묶음)로 잠가 그 사이 묶음이 바뀌지 않게 합니다.</p>
+     */
+    public void lockAccounts(Collection<Long> accountIds) {
+        namedJdbcTemplate.query(
+                "SELECT id FROM mileage_accounts WHERE id IN (:accountIds) ORDER BY id FOR UPDATE",
+                new MapSqlParameterSource("accountIds", accountIds),
+                rs -> {
+                });
+    }
+
+    /**
+     * 소멸 대상 잔여 포인트 합계
+     */
+    public long sumDuePoints(Collection<Long> accountIds, LocalDateTime cutoff) {
+        Long sum = namedJdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(remaining_points), 0) FROM mileage_lots " +
+                "WHERE account_id IN (:accountIds) AND expires_at <= :cutoff AND remaining_points > 0",
+                dueParams(accountIds, cutoff, null),
+                Long.class);
+        return sum == null ? 0L : sum;
+    }
+
+    /**
+     * 계정별 소멸 포인트만큼 사용 가능 마일리지 차감 (UPDATE 1회)
+     *
+     * @return 갱신된 계정 수
+     */
+    public int debitDuePoints(Collection<Long> accountIds, LocalDateTime cutoff, LocalDateTime now) {
+        return namedJdbcTemplate.update(
+                "UPDATE mileage_accounts a " +
+                "JOIN (" + DUE_LOTS_BY_ACCOUNT + ") e ON e.account_id = a.id " +
+                "SET a.available_points = a.available_points - e.points, " +
+                "    a.version = a.version + 1, " +
+                "    a.updated_at = :now",
+                dueParams(accountIds, cutoff, now));
+    }
+
+    /**
+     * 계정별 소멸 거래 내역 INSERT ... SELECT (차감 후 잔액 기록)
+     */
+    public int insertExpireTransactions(Collection<Long> accountIds, LocalDateTime cutoff, LocalDateTime now,
+                                        String sourceType, String description) {
+        MapSqlParameterSource params = dueParams(accountIds, cutoff, now)
+                .addValue("sourceType", sourceType)
+                .addValue("description", description);
+        return namedJdbcTemplate.update(
+                "INSERT INTO mileage_transactions " +
+                "(account_id, user_id, transaction_type, points, source_type, source_id, " +
+                " description, balance_after, created_at, updated_at) " +
+                "SELECT a.id, a.user_id, 'EXPIRE', -e.points, :sourceType, NULL, " +
+                "       :description, a.available_points, :now, :now " +
+                "FROM mileage_accounts a " +
+                "JOIN (" + DUE_LOTS_BY_ACCOUNT + ") e ON e.account_id = a.id",
+                params);
+    }
+
+    /**
+     * 소멸 대상 묶음 마감
+     *
+     * @return 소멸 처리된 묶음 수
+     */
+    public int closeDueLots(Collection<Long> accountIds, LocalDateTime cutoff, LocalDateTime now) {
+        return namedJdbcTemplate.update(
+                "UPDATE mileage_lots " +
+                "SET expired_points = expired_points + remaining_points, " +
+                "    remaining_points = 0, " +
+                "    expired_at = :now, " +
+                "    updated_at = :now " +
+                "WHERE account_id IN (:accountIds) AND expires_at <= :cutoff AND remaining_points > 0",
+                dueParams(accountIds, cutoff, now));
+    }
+
+    /**
+     * 여러 계정의 잔액 조회
+     */
+    public List<AccountBalance> findBalancesByAccountIds(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query(
+                "SELECT id, user_id, available_points, total_points, version " +
+                "FROM mileage_accounts WHERE id IN (:accountIds)",
+                new MapSqlParameterSource("accountIds", accountIds),
+                (rs, rowNum) -> new AccountBalance(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getInt("available_points"),
+                        rs.getInt("total_points"),
+                        rs.getLong("version")));
+    }
+
+    private MapSqlParameterSource dueParams(Collection<Long> accountIds, LocalDateTime cutoff, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("accountIds", accountIds)
+                .addValue("cutoff", Timestamp.valueOf(cutoff));
+        if (now != null) {
+            params.addValue("now", Timestamp.valueOf(now));
+        }
+        return params;
+    }
+
+    /**
+     * 계정 잔액 조회 결과
+     */
+    public record AccountBalance(Long accountId, Long userId, int availablePoints, int totalPoints, long version) {
+    }
+
+    /**
+     * 적립 거래 추가 행
+     */
+    public record EarnRow(Long userId, int points, String sourceType, Long sourceId, String description) {
+    }
+
+    /**
+     * 계정 반영 전 적립 거래
+     */
+    public record UnsettledEarn(Long id, Long userId, int points) {
+    }
+
+    /**
+     * 반영된 잔액과 반영 대기 포인트
+     */
+    public record PendingBalance(int availablePoints, int totalPoints, int pendingPoints) {
+    }
+}
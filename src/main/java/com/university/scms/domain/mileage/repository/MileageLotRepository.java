@@ -0,0 +1,70 @@
+package com.university.scms.domain.mileage.repository;
+
+import com.university.scms.domain.mileage.entity.MileageLot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마일리지 적립 묶음 Repository
+ */
+@Repository
+public interface MileageLotRepository extends JpaRepository<MileageLot, Long> {
+
+    // ========== 사용자별 조회 ==========
+
+    /**
+     * 사용자의 잔여 포인트가 있는 묶음 (FIFO 순서)
+     */
+    @Query("SELECT l FROM MileageLot l " +
+           "WHERE l.userId = :userId AND l.remainingPoints > 0 " +
+           "ORDER BY l.earnedAt ASC, l.id ASC")
+    List<MileageLot> findOpenLotsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 묶음 잔여 포인트 합계
+     */
+    @Query("SELECT COALESCE(SUM(l.remainingPoints), 0) FROM MileageLot l WHERE l.userId = :userId")
+    long sumRemainingPointsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 기준 시각 이전에 소멸 예정인 사용자 잔여 포인트 합계 (소멸 예정 안내용)
+     */
+    @Query("SELECT COALESCE(SUM(l.remainingPoints), 0) FROM MileageLot l " +
+           "WHERE l.userId = :userId AND l.remainingPoints > 0 AND l.expiresAt <= :until")
+    long sumExpiringPointsByUserId(@Param("userId") Long userId, @Param("until") LocalDateTime until);
+
+    // ========== FIFO 차감 ==========
+
+    /**
+     * 오래된 묶음부터 포인트 차감 (UPDATE 1회)
+     *
+     * <p>누적 합계(running)로 각 묶음에 남을 양을 계산합니다.
+     * 새 잔여 = LEAST(잔여, GREATEST(0, running - points)) 이며,
+     * 앞선 묶음만으로 충분한 묶음(running - 잔여 >= points)은 갱신하지 않습니다.
+     * 계정 행을 먼저 조건부 UPDATE로 잠근 뒤 호출해야 동시 차감이 직렬화됩니다.</p>
+     *
+     * <p>호출자의 영속성 컨텍스트는 비우지 않습니다. 이미 로딩된 {@code MileageLot} 엔티티의 잔여 포인트는
+     * 갱신되지 않으므로 차감 이후 묶음 잔여가 필요하면 다시 조회해야 합니다.</p>
+     *
+     * @return 갱신된 묶음 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE mileage_lots l " +
+                   "JOIN (SELECT id, remaining_points, " +
+                   "             SUM(remaining_points) OVER (ORDER BY earned_at, id) AS running " +
+                   "      FROM mileage_lots " +
+                   "      WHERE user_id = :userId AND remaining_points > 0) c ON c.id = l.id " +
+                   "SET l.remaining_points = LEAST(c.remaining_points, GREATEST(0, c.running - :points)), " +
+                   "    l.updated_at = :now " +
+                   "WHERE c.running - c.remaining_points < :points",
+           nativeQuery = true)
+    int consumeFifo(@Param("userId") Long userId,
+                    @Param("points") int points,
+                    @Param("now") LocalDateTime now);
+}
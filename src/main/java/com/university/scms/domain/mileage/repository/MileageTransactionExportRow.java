@@ -0,0 +1,23 @@
+package com.university.scms.domain.mileage.repository;
+
+import com.university.scms.domain.mileage.entity.TransactionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 내보내기용 행
+ *
+ * <p>JPQL 생성자 표현식으로 직접 생성되므로 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.</p>
+ */
+public record MileageTransactionExportRow(
+        Long id,
+        Long accountId,
+        Long userId,
+        TransactionType transactionType,
+        Integer points,
+        String sourceType,
+        Long sourceId,
+        String description,
+        Integer balanceAfter,
+        LocalDateTime createdAt) {
+}
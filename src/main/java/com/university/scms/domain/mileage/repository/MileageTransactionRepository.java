@@ -2,6 +2,7 @@ package com.university.scms.domain.mileage.repository;
 
 import com.university.scms.domain.mileage.entity.MileageTransaction;
 import com.university.scms.domain.mileage.entity.TransactionType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -219,6 +220,86 @@ public interface MileageTransactionRepository extends JpaRepository<MileageTrans
             @Param("endDate") LocalDateTime endDate
     );
 
+    // ========== 스냅샷 이후 증분 집계 ==========
+
+    /**
+     * 사용자의 전체 유형별 포인트 합계 (스냅샷이 없을 때)
+     */
+    @Query("SELECT t.transactionType AS transactionType, COALESCE(SUM(t.points), 0) AS points " +
+           "FROM MileageTransaction t " +
+           "WHERE t.userId = :userId " +
+           "GROUP BY t.transactionType")
+    List<TransactionTypeSum> sumByTypeForUser(@Param("userId") Long userId);
+
+    /**
+     * 사용자의 특정 시점 이후 유형별 포인트 합계 (스냅샷 이후 증분)
+     */
+    @Query("SELECT t.transactionType AS transactionType, COALESCE(SUM(t.points), 0) AS points " +
+           "FROM MileageTransaction t " +
+           "WHERE t.userId = :userId AND t.createdAt >= :from " +
+           "GROUP BY t.transactionType")
+    List<TransactionTypeSum> sumByTypeForUserSince(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from
+    );
+
+    /**
+     * 사용자의 기간별 유형별 포인트 합계 [from, to)
+     */
+    @Query("SELECT t.transactionType AS transactionType, COALESCE(SUM(t.points), 0) AS points " +
+           "FROM MileageTransaction t " +
+           "WHERE t.userId = :userId AND t.createdAt >= :from AND t.createdAt < :to " +
+           "GROUP BY t.transactionType")
+    List<TransactionTypeSum> sumByTypeForUserBetween(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 전체 기간별 유형별 포인트 합계 [from, to)
+     */
+    @Query("SELECT t.transactionType AS transactionType, COALESCE(SUM(t.points), 0) AS points " +
+           "FROM MileageTransaction t " +
+           "WHERE t.createdAt >= :from AND t.createdAt < :to " +
+           "GROUP BY t.transactionType")
+    List<TransactionTypeSum> sumByTypeBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 가장 오래된 거래 일시
+     */
+    @Query("SELECT MIN(t.createdAt) FROM MileageTransaction t")
+    LocalDateTime findFirstCreatedAt();
+
+    // ========== 내보내기 (키셋 페이징) ==========
+
+    /**
+     * (createdAt, id) 커서 이후 거래를 순서대로 조회 [커서 초과, to 미만]
+     * 첫 페이지는 cursorCreatedAt = 시작 일시, cursorId = 0으로 호출합니다.
+     * 계정에 아직 반영되지 않은 이벤트 로그 행(계정 ID 0, 거래 후 잔액 0)은 제외합니다.
+     * @param transactionType 거래 유형 (null이면 전체)
+     */
+    @Query("SELECT new com.university.scms.domain.mileage.repository.MileageTransactionExportRow(" +
+           "t.id, t.account.id, t.userId, t.transactionType, t.points, t.sourceType, t.sourceId, " +
+           "t.description, t.balanceAfter, t.createdAt) " +
+           "FROM MileageTransaction t " +
+           "WHERE (t.createdAt > :cursorCreatedAt " +
+           "       OR (t.createdAt = :cursorCreatedAt AND t.id > :cursorId)) " +
+           "AND t.createdAt < :to " +
+           "AND (:transactionType IS NULL OR t.transactionType = :transactionType) " +
+           "AND t.projectionPending IS NULL " +
+           "ORDER BY t.createdAt ASC, t.id ASC")
+    List<MileageTransactionExportRow> findExportRowsAfter(
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("to") LocalDateTime to,
+            @Param("transactionType") TransactionType transactionType,
+            Pageable pageable
+    );
+
     // ========== 최근 거래 조회 ==========
 
     /**
@@ -0,0 +1,15 @@
+package com.university.scms.domain.mileage.repository;
+
+import com.university.scms.domain.mileage.entity.TransactionType;
+
+/**
+ * 거래 유형별 포인트 합계 프로젝션
+ *
+ * <p>포인트는 저장된 부호 그대로 합산합니다. (사용/소멸은 음수)</p>
+ */
+public interface TransactionTypeSum {
+
+    TransactionType getTransactionType();
+
+    Long getPoints();
+}
@@ -0,0 +1,84 @@
+package com.university.scms.domain.notification.repository;
+
+import com.university.scms.domain.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 JDBC Repository
+ *
+ * <p>예약 알림처럼 한 번에 여러 건을 만드는 알림을 배치 INSERT로 저장합니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 알림 일괄 저장 (생성/수정 일시는 now, 발송 정보는 알림에 지정된 값)
+     */
+    public void insertAll(List<Notification> notifications, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notifications (user_id, type, title, content, template_id, reference_type, " +
+                "reference_id, link_url, is_read, is_sent, sent_at, send_method, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, FALSE, ?, ?, ?, ?, ?)",
+                notifications, BATCH_SIZE, (ps, notification) -> {
+                    ps.setLong(1, notification.getUserId());
+                    ps.setString(2, notification.getType());
+                    ps.setString(3, notification.getTitle());
+                    ps.setString(4, notification.getContent());
+                    ps.setObject(5, notification.getTemplateId(), Types.BIGINT);
+                    ps.setString(6, notification.getReferenceType());
+                    ps.setObject(7, notification.getReferenceId(), Types.BIGINT);
+                    ps.setString(8, notification.getLinkUrl());
+                    ps.setBoolean(9, Boolean.TRUE.equals(notification.getIsSent()));
+                    ps.setTimestamp(10, notification.getSentAt() != null
+                            ? Timestamp.valueOf(notification.getSentAt()) : null);
+                    ps.setString(11, notification.getSendMethod());
+                    ps.setTimestamp(12, timestamp);
+                    ps.setTimestamp(13, timestamp);
+                });
+    }
+
+    /**
+     * 참조 엔티티별 since 이후 마지막 알림 생성 일시 (알림이 없으면 키 없음)
+     */
+    public Map<Long, LocalDateTime> findLastCreatedAtByReference(String type, String referenceType,
+                                                                 Collection<Long> referenceIds, LocalDateTime since) {
+        if (referenceIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, LocalDateTime> lastCreatedAt = new HashMap<>();
+        namedJdbcTemplate.query(
+                "SELECT reference_id, MAX(created_at) AS last_created_at FROM notifications " +
+                "WHERE type = :type AND reference_type = :referenceType AND created_at >= :since " +
+                "AND reference_id IN (:referenceIds) GROUP BY reference_id",
+                new MapSqlParameterSource()
+                        .addValue("type", type)
+                        .addValue("referenceType", referenceType)
+                        .addValue("since", Timestamp.valueOf(since))
+                        .addValue("referenceIds", referenceIds),
+                rs -> {
+                    lastCreatedAt.put(rs.getLong("reference_id"), rs.getTimestamp("last_created_at").toLocalDateTime());
+                });
+        return lastCreatedAt;
+    }
+}
@@ -7,12 +7,14 @@ package com.university.scms.domain.program.entity;
  * APPROVED: 승인됨
  * REJECTED: 거부됨
  * CANCELLED: 취소됨
+ * WAITLISTED: 정원 초과로 대기자 명단 등록 (좌석이 나면 신청일 순으로 PENDING 전환)
  */
 public enum ApplicationStatus {
     PENDING("대기중"),
     APPROVED("승인됨"),
     REJECTED("거부됨"),
-    CANCELLED("취소됨");
+    CANCELLED("취소됨"),
+    WAITLISTED("대기자");
 
     private final String description;
 
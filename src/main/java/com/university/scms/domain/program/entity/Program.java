@@ -20,8 +20,15 @@ import java.util.List;
     @Index(name = "idx_organizer", columnList = "organizer_id"),
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_dates", columnList = "start_date, end_date"),
-    @Index(name = "idx_category", columnList = "category")
+    @Index(name = "idx_end_date", columnList = "end_date"),
+    @Index(name = "idx_application_start", columnList = "application_start"),
+    @Index(name = "idx_application_end", columnList = "application_end"),
+    @Index(name = "idx_category", columnList = "category"),
+    @Index(name = "idx_created_id", columnList = "created_at, id"),
+    @Index(name = "idx_status_created_id", columnList = "status, created_at, id"),
+    @Index(name = "idx_category_created_id", columnList = "category, created_at, id")
 })
+@EntityListeners(ProgramEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -73,8 +80,10 @@ public class Program extends BaseEntity {
     @Builder.Default
     private Integer mileagePoints = 0;  // 참여 시 지급 마일리지
 
+    // MySQL 방언은 STRING 열거형을 네이티브 enum(...)으로 만들고 ddl-auto: update는 값을 추가하지 않으므로 varchar로 고정
+    // (기존 DB: ALTER TABLE programs MODIFY status VARCHAR(20) NOT NULL;)
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 20)
+    @Column(nullable = false, length = 20, columnDefinition = "varchar(20)")
     @Builder.Default
     private ProgramStatus status = ProgramStatus.DRAFT;
 
@@ -138,22 +147,16 @@ public class Program extends BaseEntity {
     }
 
     /**
-     * 프로그램 진행 중 여부
+     * 프로그램 진행 중 여부 (운영 기간 전이는 상태 스케줄러가 반영)
      */
     public boolean isInProgress() {
-        LocalDateTime now = LocalDateTime.now();
-        return this.status == ProgramStatus.OPEN
-                && this.startDate != null
-                && this.endDate != null
-                && now.isAfter(this.startDate)
-                && now.isBefore(this.endDate);
+        return this.status == ProgramStatus.IN_PROGRESS;
     }
 
     /**
      * 프로그램 완료 여부
      */
     public boolean isCompleted() {
-        return this.status == ProgramStatus.COMPLETED
-                || (this.endDate != null && LocalDateTime.now().isAfter(this.endDate));
+        return this.status == ProgramStatus.COMPLETED;
     }
 }
@@ -0,0 +1,11 @@
+package com.university.scms.domain.program.entity;
+
+/**
+ * 프로그램 하위 데이터(신청/참여/만족도/역량 연결) 변경 이벤트
+ *
+ * <p>JDBC 일괄 처리나 JPQL 일괄 UPDATE처럼 엔티티 리스너를 거치지 않는 경로는 직접 발행해야 합니다.</p>
+ *
+ * @param programId 변경된 데이터가 속한 프로그램 ID
+ */
+public record ProgramActivityChangedEvent(Long programId) {
+}
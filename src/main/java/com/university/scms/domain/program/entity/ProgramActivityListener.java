@@ -0,0 +1,40 @@
+package com.university.scms.domain.program.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 신청/참여/만족도/역량 연결 엔티티 변경 리스너
+ *
+ * <p>변경된 행이 속한 프로그램 ID를 {@link ProgramActivityChangedEvent}로 발행합니다.
+ * (LAZY 프록시의 ID 조회는 초기화를 일으키지 않음)</p>
+ *
+ * @since 2026-10-18
+ */
+@RequiredArgsConstructor
+public class ProgramActivityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        Program program = null;
+        if (entity instanceof ProgramApplication application) {
+            program = application.getProgram();
+        } else if (entity instanceof ProgramParticipant participant) {
+            program = participant.getProgram();
+        } else if (entity instanceof ProgramSatisfaction satisfaction) {
+            program = satisfaction.getProgram();
+        } else if (entity instanceof ProgramCompetency competency) {
+            program = competency.getProgram();
+        }
+        if (program != null && program.getId() != null) {
+            eventPublisher.publishEvent(new ProgramActivityChangedEvent(program.getId()));
+        }
+    }
+}
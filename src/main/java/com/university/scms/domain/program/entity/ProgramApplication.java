@@ -21,8 +21,12 @@ import java.time.LocalDateTime;
     indexes = {
         @Index(name = "idx_user", columnList = "user_id"),
         @Index(name = "idx_status", columnList = "status"),
-        @Index(name = "idx_application_date", columnList = "application_date")
+        @Index(name = "idx_application_date", columnList = "application_date"),
+        @Index(name = "idx_program_status_date", columnList = "program_id, status, application_date"),
+        @Index(name = "idx_user_application_date", columnList = "user_id, application_date")
     })
+@NamedEntityGraph(name = ProgramApplication.WITH_PROGRAM, attributeNodes = @NamedAttributeNode("program"))
+@EntityListeners(ProgramActivityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,6 +34,11 @@ import java.time.LocalDateTime;
 @Builder
 public class ProgramApplication extends BaseEntity {
 
+    /**
+     * 프로그램을 함께 조회하는 fetch plan (목록에서 프로그램 정보를 쓸 때 N+1 방지)
+     */
+    public static final String WITH_PROGRAM = "ProgramApplication.withProgram";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -44,8 +53,10 @@ public class ProgramApplication extends BaseEntity {
     @Column(name = "user_id", nullable = false)
     private Long userId;  // 신청자 ID
 
+    // MySQL 방언은 STRING 열거형을 네이티브 enum(...)으로 만들고 ddl-auto: update는 값을 추가하지 않으므로 varchar로 고정
+    // (기존 DB: ALTER TABLE program_applications MODIFY status VARCHAR(20) NOT NULL;)
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 20)
+    @Column(nullable = false, length = 20, columnDefinition = "varchar(20)")
     @Builder.Default
     private ApplicationStatus status = ApplicationStatus.PENDING;
 
@@ -93,6 +104,20 @@ public class ProgramApplication extends BaseEntity {
         this.status = ApplicationStatus.CANCELLED;
     }
 
+    /**
+     * 좌석을 점유하는 상태 여부 (대기중/승인됨)
+     */
+    public boolean holdsSeat() {
+        return this.status == ApplicationStatus.PENDING || this.status == ApplicationStatus.APPROVED;
+    }
+
+    /**
+     * 대기자 명단 여부
+     */
+    public boolean isWaitlisted() {
+        return this.status == ApplicationStatus.WAITLISTED;
+    }
+
     /**
      * 승인 여부
      */
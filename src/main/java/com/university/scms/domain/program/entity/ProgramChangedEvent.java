@@ -0,0 +1,16 @@
+package com.university.scms.domain.program.entity;
+
+import com.university.scms.domain.program.repository.ProgramSearchDocument;
+
+/**
+ * 프로그램 저장/삭제 이벤트 (검색 색인 등 파생 데이터 갱신용)
+ *
+ * @param programId 프로그램 ID
+ * @param document 변경 후 문서 (삭제되었으면 null)
+ */
+public record ProgramChangedEvent(Long programId, ProgramSearchDocument document) {
+
+    public boolean isRemoved() {
+        return document == null;
+    }
+}
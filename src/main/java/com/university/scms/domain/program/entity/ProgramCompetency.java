@@ -20,6 +20,7 @@ import lombok.*;
         @Index(name = "idx_program_competency", columnList = "program_id, competency_id", unique = true)
     }
 )
+@EntityListeners(ProgramActivityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,225 @@
+package com.university.scms.domain.program.entity;
+
+import com.university.scms.domain.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로그램 상세 조회 모델 (비정규화)
+ *
+ * <p>프로그램 정보와 신청/출석/만족도 집계를 한 행에 모아 상세 화면을 PK 조회 1회로 그립니다.
+ * 평균은 합계와 건수로 보관하고 조회 시 계산합니다. (기존 AVG 쿼리와 같은 값)
+ * 행은 {@code ProgramDetailViewProjector}만 갱신하며 애플리케이션 코드에서 직접 수정하지 않습니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "program_detail_views",
+       indexes = {
+           @Index(name = "idx_start_date", columnList = "start_date")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProgramDetailView extends BaseEntity {
+
+    @Id
+    @Column(name = "program_id")
+    private Long programId;
+
+    // ========== 프로그램 정보 ==========
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(length = 50)
+    private String category;
+
+    // MySQL 방언은 STRING 열거형을 네이티브 enum(...)으로 만들고 ddl-auto: update는 값을 추가하지 않으므로 varchar로 고정
+    // (기존 DB: ALTER TABLE program_detail_views MODIFY status VARCHAR(20) NOT NULL;)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, columnDefinition = "varchar(20)")
+    private ProgramStatus status;
+
+    @Column(name = "organizer_id")
+    private Long organizerId;
+
+    @Column(length = 200)
+    private String location;
+
+    private Integer capacity;
+
+    @Column(name = "current_participants")
+    private Integer currentParticipants;
+
+    @Column(name = "mileage_points")
+    private Integer mileagePoints;
+
+    @Column(name = "start_date")
+    private LocalDateTime startDate;
+
+    @Column(name = "end_date")
+    private LocalDateTime endDate;
+
+    @Column(name = "application_start")
+    private LocalDateTime applicationStart;
+
+    @Column(name = "application_end")
+    private LocalDateTime applicationEnd;
+
+    @Column(name = "competency_ids", length = 1000)
+    private String competencyIds;  // 연결된 역량 ID (쉼표 구분, 오름차순)
+
+    // ========== 신청 집계 ==========
+
+    @Column(name = "pending_count", nullable = false)
+    private long pendingCount;
+
+    @Column(name = "approved_count", nullable = false)
+    private long approvedCount;
+
+    @Column(name = "waitlisted_count", nullable = false)
+    private long waitlistedCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private long rejectedCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private long cancelledCount;
+
+    // ========== 출석 집계 ==========
+
+    @Column(name = "registered_count", nullable = false)
+    private long registeredCount;
+
+    @Column(name = "attended_count", nullable = false)
+    private long attendedCount;
+
+    @Column(name = "absent_count", nullable = false)
+    private long absentCount;
+
+    @Column(name = "participant_rating_count", nullable = false)
+    private long participantRatingCount;
+
+    @Column(name = "participant_rating_sum", nullable = false)
+    private long participantRatingSum;
+
+    // ========== 만족도 집계 ==========
+
+    @Column(name = "satisfaction_count", nullable = false)
+    private long satisfactionCount;
+
+    @Column(name = "overall_rating_sum", nullable = false)
+    private long overallRatingSum;
+
+    @Column(name = "content_rating_sum", nullable = false)
+    private long contentRatingSum;
+
+    @Column(name = "instructor_rating_sum", nullable = false)
+    private long instructorRatingSum;
+
+    @Column(name = "facility_rating_sum", nullable = false)
+    private long facilityRatingSum;
+
+    @Column(name = "usefulness_rating_sum", nullable = false)
+    private long usefulnessRatingSum;
+
+    @Column(name = "recommend_count", nullable = false)
+    private long recommendCount;
+
+    @Column(name = "overall_rating_1_count", nullable = false)
+    private long overallRating1Count;
+
+    @Column(name = "overall_rating_2_count", nullable = false)
+    private long overallRating2Count;
+
+    @Column(name = "overall_rating_3_count", nullable = false)
+    private long overallRating3Count;
+
+    @Column(name = "overall_rating_4_count", nullable = false)
+    private long overallRating4Count;
+
+    @Column(name = "overall_rating_5_count", nullable = false)
+    private long overallRating5Count;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    // ========== 조회 메서드 ==========
+
+    public List<Long> getCompetencyIdList() {
+        if (competencyIds == null || competencyIds.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(competencyIds.split(",")).map(Long::valueOf).toList();
+    }
+
+    public Double getAverageOverallRating() {
+        return average(overallRatingSum, satisfactionCount);
+    }
+
+    public Double getAverageContentRating() {
+        return average(contentRatingSum, satisfactionCount);
+    }
+
+    public Double getAverageInstructorRating() {
+        return average(instructorRatingSum, satisfactionCount);
+    }
+
+    public Double getAverageFacilityRating() {
+        return average(facilityRatingSum, satisfactionCount);
+    }
+
+    public Double getAverageUsefulnessRating() {
+        return average(usefulnessRatingSum, satisfactionCount);
+    }
+
+    /**
+     * 전체 평균 만족도 (다섯 항목 평균의 평균)
+     */
+    public Double getTotalAverageRating() {
+        long sum = overallRatingSum + contentRatingSum + instructorRatingSum + facilityRatingSum + usefulnessRatingSum;
+        return satisfactionCount == 0 ? null : sum / 5.0 / satisfactionCount;
+    }
+
+    public Double getRecommendationRate() {
+        return average(recommendCount, satisfactionCount);
+    }
+
+    /**
+     * 전반적 만족도 평점 분포 (1~5점, 점수 오름차순)
+     */
+    public Map<Integer, Long> getOverallRatingHistogram() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(1, overallRating1Count);
+        histogram.put(2, overallRating2Count);
+        histogram.put(3, overallRating3Count);
+        histogram.put(4, overallRating4Count);
+        histogram.put(5, overallRating5Count);
+        return histogram;
+    }
+
+    public Double getAverageParticipantRating() {
+        return average(participantRatingSum, participantRatingCount);
+    }
+
+    private static Double average(long sum, long count) {
+        return count == 0 ? null : (double) sum / count;
+    }
+}
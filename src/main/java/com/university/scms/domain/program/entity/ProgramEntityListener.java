@@ -0,0 +1,34 @@
+package com.university.scms.domain.program.entity;
+
+import com.university.scms.domain.program.repository.ProgramSearchDocument;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 프로그램 엔티티 변경 리스너
+ *
+ * <p>저장/수정/삭제가 flush되는 시점의 상태를 {@link ProgramChangedEvent}로 발행합니다.
+ * 구독 측은 {@code @TransactionalEventListener}로 커밋 이후에만 반영해야 합니다.
+ * (JPQL 일괄 UPDATE는 리스너를 거치지 않으므로 색인 대상 컬럼을 일괄 변경하면 직접 이벤트를 발행해야 합니다.)</p>
+ *
+ * @since 2026-10-18
+ */
+@RequiredArgsConstructor
+public class ProgramEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Program program) {
+        eventPublisher.publishEvent(new ProgramChangedEvent(program.getId(), ProgramSearchDocument.from(program)));
+    }
+
+    @PostRemove
+    public void onRemoved(Program program) {
+        eventPublisher.publishEvent(new ProgramChangedEvent(program.getId(), null));
+    }
+}
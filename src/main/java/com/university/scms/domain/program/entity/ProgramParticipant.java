@@ -22,8 +22,11 @@ import java.time.LocalDateTime;
     indexes = {
         @Index(name = "idx_user", columnList = "user_id"),
         @Index(name = "idx_attendance", columnList = "attendance_status"),
-        @Index(name = "idx_mileage_awarded", columnList = "mileage_awarded")
+        @Index(name = "idx_mileage_awarded", columnList = "mileage_awarded"),
+        @Index(name = "idx_user_attendance", columnList = "user_id, attendance_status")
     })
+@NamedEntityGraph(name = ProgramParticipant.WITH_PROGRAM, attributeNodes = @NamedAttributeNode("program"))
+@EntityListeners(ProgramActivityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,6 +34,11 @@ import java.time.LocalDateTime;
 @Builder
 public class ProgramParticipant extends BaseEntity {
 
+    /**
+     * 프로그램을 함께 조회하는 fetch plan (목록에서 프로그램 정보를 쓸 때 N+1 방지)
+     */
+    public static final String WITH_PROGRAM = "ProgramParticipant.withProgram";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -0,0 +1,83 @@
+package com.university.scms.domain.program.entity;
+
+import com.university.scms.domain.common.BaseEntity;
+import com.university.scms.util.RatingTotals;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 프로그램 만족도 누적 집계
+ *
+ * <p>응답 수, 항목별 합계/제곱합, 추천 수를 누적해 평균/분산/추천 비율을 원본 행 없이 O(1)로 계산합니다.
+ * 만족도가 저장/수정/삭제될 때 같은 트랜잭션에서 증감분만 더하며, 매일 원본과 대조해 보정합니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "program_satisfaction_aggregates")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProgramSatisfactionAggregate extends BaseEntity {
+
+    /**
+     * 평점 항목 이름 ({@link RatingTotals}의 항목 순서)
+     */
+    public static final List<String> DIMENSIONS = List.of(
+            "overall", "content", "instructor", "facility", "usefulness");
+
+    @Id
+    @Column(name = "program_id")
+    private Long programId;  // 프로그램 ID
+
+    @Column(name = "response_count", nullable = false)
+    private long responseCount;
+
+    @Column(name = "overall_sum", nullable = false)
+    private long overallSum;
+
+    @Column(name = "overall_square_sum", nullable = false)
+    private long overallSquareSum;
+
+    @Column(name = "content_sum", nullable = false)
+    private long contentSum;
+
+    @Column(name = "content_square_sum", nullable = false)
+    private long contentSquareSum;
+
+    @Column(name = "instructor_sum", nullable = false)
+    private long instructorSum;
+
+    @Column(name = "instructor_square_sum", nullable = false)
+    private long instructorSquareSum;
+
+    @Column(name = "facility_sum", nullable = false)
+    private long facilitySum;
+
+    @Column(name = "facility_square_sum", nullable = false)
+    private long facilitySquareSum;
+
+    @Column(name = "usefulness_sum", nullable = false)
+    private long usefulnessSum;
+
+    @Column(name = "usefulness_square_sum", nullable = false)
+    private long usefulnessSquareSum;
+
+    @Column(name = "recommend_count", nullable = false)
+    private long recommendCount;
+
+    // ========== 조회 메서드 ==========
+
+    public RatingTotals toRatingTotals() {
+        return new RatingTotals(responseCount,
+                new long[]{overallSum, contentSum, instructorSum, facilitySum, usefulnessSum},
+                new long[]{overallSquareSum, contentSquareSum, instructorSquareSum, facilitySquareSum, usefulnessSquareSum},
+                recommendCount);
+    }
+}
@@ -0,0 +1,14 @@
+package com.university.scms.domain.program.entity;
+
+import com.university.scms.util.RatingTotals;
+
+/**
+ * 프로그램 만족도 평점 변경 이벤트
+ *
+ * <p>저장하는 트랜잭션 안에서 동기로 발행되므로 수신 측은 같은 트랜잭션에서 누적 집계를 갱신합니다.</p>
+ *
+ * @param delta 누적 집계에 더할 증감분 (삭제면 음수)
+ * @since 2026-10-18
+ */
+public record ProgramSatisfactionRatedEvent(Long programId, RatingTotals delta) {
+}
@@ -0,0 +1,45 @@
+package com.university.scms.domain.program.entity;
+
+import com.university.scms.util.RatingTotals;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 프로그램 만족도 평점 증감 리스너
+ *
+ * <p>로드 시점의 평점을 기억해 두었다가 INSERT/UPDATE/DELETE 직후 증감분을
+ * {@link ProgramSatisfactionRatedEvent}로 발행합니다. 평점이 바뀌지 않은 수정은 발행하지 않습니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@RequiredArgsConstructor
+public class ProgramSatisfactionRatingListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoaded(ProgramSatisfaction satisfaction) {
+        satisfaction.applyRatings();
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(ProgramSatisfaction satisfaction) {
+        publish(satisfaction, satisfaction.applyRatings());
+    }
+
+    @PostRemove
+    public void onRemoved(ProgramSatisfaction satisfaction) {
+        publish(satisfaction, satisfaction.unapplyRatings());
+    }
+
+    private void publish(ProgramSatisfaction satisfaction, RatingTotals delta) {
+        if (!delta.isZero() && satisfaction.getProgram() != null) {
+            eventPublisher.publishEvent(new ProgramSatisfactionRatedEvent(satisfaction.getProgram().getId(), delta));
+        }
+    }
+}
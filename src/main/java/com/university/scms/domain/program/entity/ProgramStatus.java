@@ -6,13 +6,18 @@ package com.university.scms.domain.program.entity;
  * DRAFT: 임시저장
  * OPEN: 모집중
  * CLOSED: 모집마감
+ * IN_PROGRESS: 진행중
  * COMPLETED: 완료
  * CANCELLED: 취소
+ *
+ * DRAFT → OPEN → CLOSED → IN_PROGRESS → COMPLETED 전이는 신청 시작/마감, 운영 시작/종료 시각에
+ * 상태 스케줄러가 자동으로 수행합니다. (CANCELLED는 자동 전이 대상이 아님)
  */
 public enum ProgramStatus {
     DRAFT("임시저장"),
     OPEN("모집중"),
     CLOSED("모집마감"),
+    IN_PROGRESS("진행중"),
     COMPLETED("완료"),
     CANCELLED("취소");
 
@@ -0,0 +1,37 @@
+package com.university.scms.domain.program.repository;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신청 이력/취소 화면용 프로젝션
+ *
+ * <p>신청과 프로그램을 JOIN 한 번으로 읽어 행마다 프로그램을 지연 로딩하지 않습니다.</p>
+ *
+ * @since 2026-10-18
+ */
+public interface ProgramApplicationHistoryRow {
+
+    Long getApplicationId();
+
+    Long getProgramId();
+
+    String getProgramTitle();
+
+    String getCategory();
+
+    String getLocation();
+
+    LocalDateTime getStartDate();
+
+    LocalDateTime getEndDate();
+
+    Integer getMileagePoints();
+
+    LocalDateTime getApplicationDate();
+
+    ApplicationStatus getStatus();
+
+    String getRejectionReason();
+}
@@ -3,12 +3,15 @@ package com.university.scms.domain.program.repository;
 import com.university.scms.domain.program.entity.ApplicationStatus;
 import com.university.scms.domain.program.entity.Program;
 import com.university.scms.domain.program.entity.ProgramApplication;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,21 +70,52 @@ public interface ProgramApplicationRepository extends JpaRepository<ProgramAppli
     // ========== 사용자별 신청 조회 ==========
     
     /**
-     * 사용자의 모든 신청 조회
+     * 사용자의 모든 신청 조회 (프로그램 함께 조회)
      */
+    @EntityGraph(ProgramApplication.WITH_PROGRAM)
     List<ProgramApplication> findByUserId(Long userId);
     
     /**
-     * 사용자의 특정 상태 신청 조회
+     * 사용자의 특정 상태 신청 조회 (프로그램 함께 조회)
      */
+    @EntityGraph(ProgramApplication.WITH_PROGRAM)
     List<ProgramApplication> findByUserIdAndStatus(Long userId, ApplicationStatus status);
     
     /**
-     * 사용자의 신청 목록을 신청일 기준 내림차순 정렬 조회
+     * 사용자의 신청 목록을 신청일 기준 내림차순 정렬 조회 (프로그램 함께 조회)
      */
+    @EntityGraph(ProgramApplication.WITH_PROGRAM)
     @Query("SELECT pa FROM ProgramApplication pa WHERE pa.userId = :userId ORDER BY pa.applicationDate DESC")
     List<ProgramApplication> findByUserIdOrderByApplicationDateDesc(@Param("userId") Long userId);
 
+    /**
+     * 사용자 신청 이력 화면용 프로젝션 (신청일 내림차순, 프로그램 JOIN 1회)
+     */
+    @Query("SELECT pa.id AS applicationId, p.id AS programId, p.title AS programTitle, p.category AS category, " +
+           "p.location AS location, p.startDate AS startDate, p.endDate AS endDate, " +
+           "p.mileagePoints AS mileagePoints, pa.applicationDate AS applicationDate, pa.status AS status, " +
+           "pa.rejectionReason AS rejectionReason " +
+           "FROM ProgramApplication pa JOIN pa.program p " +
+           "WHERE pa.userId = :userId " +
+           "ORDER BY pa.applicationDate DESC, pa.id DESC")
+    List<ProgramApplicationHistoryRow> findHistoryRowsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 취소 화면용 프로젝션: 아직 시작하지 않은 프로그램의 진행 중 신청
+     */
+    @Query("SELECT pa.id AS applicationId, p.id AS programId, p.title AS programTitle, p.category AS category, " +
+           "p.location AS location, p.startDate AS startDate, p.endDate AS endDate, " +
+           "p.mileagePoints AS mileagePoints, pa.applicationDate AS applicationDate, pa.status AS status, " +
+           "pa.rejectionReason AS rejectionReason " +
+           "FROM ProgramApplication pa JOIN pa.program p " +
+           "WHERE pa.userId = :userId AND pa.status IN :statuses " +
+           "AND (p.startDate IS NULL OR p.startDate > :now) " +
+           "ORDER BY pa.applicationDate DESC, pa.id DESC")
+    List<ProgramApplicationHistoryRow> findCancellableRowsByUserId(
+            @Param("userId") Long userId,
+            @Param("statuses") Collection<ApplicationStatus> statuses,
+            @Param("now") LocalDateTime now);
+
     // ========== 상태별 조회 ==========
     
     /**
@@ -201,6 +235,7 @@ public interface ProgramApplicationRepository extends JpaRepository<ProgramAppli
     /**
      * 사용자의 특정 프로그램 목록에 대한 신청 조회
      */
+    @EntityGraph(ProgramApplication.WITH_PROGRAM)
     @Query("SELECT pa FROM ProgramApplication pa WHERE pa.userId = :userId AND pa.program.id IN :programIds")
     List<ProgramApplication> findByUserIdAndProgramIdIn(@Param("userId") Long userId, @Param("programIds") List<Long> programIds);
     
@@ -212,4 +247,58 @@ public interface ProgramApplicationRepository extends JpaRepository<ProgramAppli
             @Param("status") ApplicationStatus status,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
+
+    // ========== 대기자 명단 ==========
+
+    /**
+     * 가장 먼저 대기한 신청 잠금 (다른 트랜잭션이 잡은 행은 건너뜀)
+     */
+    @Query(value = "SELECT id FROM program_applications " +
+                   "WHERE program_id = :programId AND status = 'WAITLISTED' " +
+                   "ORDER BY application_date ASC, id ASC " +
+                   "LIMIT 1 FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<Long> lockNextWaitlisted(@Param("programId") Long programId);
+
+    /**
+     * 대기 신청을 좌석 점유 상태(PENDING)로 전환
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProgramApplication pa " +
+           "SET pa.status = com.university.scms.domain.program.entity.ApplicationStatus.PENDING " +
+           "WHERE pa.id = :applicationId " +
+           "AND pa.status = com.university.scms.domain.program.entity.ApplicationStatus.WAITLISTED")
+    int promoteWaitlisted(@Param("applicationId") Long applicationId);
+
+    /**
+     * 먼저 대기한 신청부터 최대 {@code limit}건 잠금 (다른 트랜잭션이 잡은 행은 건너뜀)
+     */
+    @Query(value = "SELECT id FROM program_applications " +
+                   "WHERE program_id = :programId AND status = 'WAITLISTED' " +
+                   "ORDER BY application_date ASC, id ASC " +
+                   "LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockNextWaitlisted(@Param("programId") Long programId, @Param("limit") int limit);
+
+    /**
+     * 대기 신청 여러 건을 좌석 점유 상태(PENDING)로 일괄 전환
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProgramApplication pa " +
+           "SET pa.status = com.university.scms.domain.program.entity.ApplicationStatus.PENDING " +
+           "WHERE pa.id IN :applicationIds " +
+           "AND pa.status = com.university.scms.domain.program.entity.ApplicationStatus.WAITLISTED")
+    int promoteWaitlisted(@Param("applicationIds") Collection<Long> applicationIds);
+
+    /**
+     * 대기 순번 (앞선 대기 신청 수 + 1)
+     */
+    @Query("SELECT COUNT(pa) + 1 FROM ProgramApplication pa " +
+           "WHERE pa.program.id = :programId " +
+           "AND pa.status = com.university.scms.domain.program.entity.ApplicationStatus.WAITLISTED " +
+           "AND (pa.applicationDate < :applicationDate " +
+           "     OR (pa.applicationDate = :applicationDate AND pa.id < :applicationId))")
+    long findWaitlistPosition(@Param("programId") Long programId,
+                              @Param("applicationDate") LocalDateTime applicationDate,
+                              @Param("applicationId") Long applicationId);
 }
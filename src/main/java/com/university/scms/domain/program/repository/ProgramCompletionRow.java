@@ -0,0 +1,33 @@
+package com.university.scms.domain.program.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수료 이력 화면용 프로젝션
+ *
+ * <p>참여와 프로그램을 JOIN 한 번으로 읽어 행마다 프로그램을 지연 로딩하지 않습니다.</p>
+ *
+ * @since 2026-10-18
+ */
+public interface ProgramCompletionRow {
+
+    Long getParticipantId();
+
+    Long getProgramId();
+
+    String getProgramTitle();
+
+    String getCategory();
+
+    LocalDateTime getStartDate();
+
+    LocalDateTime getEndDate();
+
+    Integer getMileagePoints();
+
+    LocalDateTime getCompletedAt();
+
+    Boolean getMileageAwarded();
+
+    Integer getRating();
+}
@@ -0,0 +1,24 @@
+package com.university.scms.domain.program.repository;
+
+import com.university.scms.domain.program.entity.ProgramDetailView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ProgramDetailView Repository
+ * 갱신은 {@link ProgramJdbcRepository#refreshDetailViews}로만 하고 여기서는 조회만 합니다.
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public interface ProgramDetailViewRepository extends JpaRepository<ProgramDetailView, Long> {
+
+    /**
+     * 시작일이 기간 [from, to)에 속하는 프로그램 조회 (학기 리포트용)
+     */
+    List<ProgramDetailView> findByStartDateGreaterThanEqualAndStartDateLessThanOrderByStartDate(
+            LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,612 @@
+package com.university.scms.domain.program.repository;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.util.RatingTotals;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 프로그램 JDBC 배치 Repository
+ *
+ * <p>신청 대기열처럼 수백 건의 신청을 한 트랜잭션에서 반영하는 경로에서 사용합니다.
+ * (MySQL에서는 {@code rewriteBatchedStatements=true}로 다중 VALUES INSERT로 재작성됩니다.)</p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProgramJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * 프로그램 행 잠금 후 좌석 현황 조회
+     */
+    public Optional<SeatState> lockSeatState(Long programId) {
+        return jdbcTemplate.query(
+                "SELECT status, capacity, current_participants, application_start, application_end " +
+                "FROM programs WHERE id = ? FOR UPDATE",
+                (rs, rowNum) -> new SeatState(
+                        ProgramStatus.valueOf(rs.getString("status")),
+                        rs.getInt("capacity"),
+                        rs.getInt("current_participants"),
+                        toLocalDateTime(rs.getTimestamp("application_start")),
+                        toLocalDateTime(rs.getTimestamp("application_end"))),
+                programId).stream().findFirst();
+    }
+
+    /**
+     * 운영 시작 전(OPEN/CLOSED) 프로그램 중 남은 좌석과 대기 신청이 함께 있는 프로그램 ID
+     */
+    public List<Long> findProgramIdsWithWaitlistAndFreeSeats() {
+        return jdbcTemplate.queryForList(
+                "SELECT p.id FROM programs p " +
+                "WHERE p.status IN ('OPEN', 'CLOSED') AND p.current_participants < p.capacity " +
+                "AND EXISTS (SELECT 1 FROM program_applications pa " +
+                "            WHERE pa.program_id = p.id AND pa.status = 'WAITLISTED')",
+                Long.class);
+    }
+
+    /**
+     * 주어진 사용자 중 이미 신청한 사용자 ID
+     */
+    public Set<Long> findApplicantUserIds(Long programId, Collection<Long> userIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("programId", programId)
+                .addValue("userIds", userIds);
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+                "SELECT user_id FROM program_applications " +
+                "WHERE program_id = :programId AND user_id IN (:userIds)",
+                params, Long.class));
+    }
+
+    /**
+     * 대기자 명단 인원
+     */
+    public long countWaitlisted(Long programId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM program_applications WHERE program_id = ? AND status = 'WAITLISTED'",
+                Long.class, programId);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 신청 일괄 등록 (동시에 다른 경로로 등록된 신청은 유니크 키 충돌만 무시)
+     *
+     * <p>무시된 행은 갱신 건수로 구분할 수 없으므로(found rows) 호출 측이
+     * {@link #findApplicationsByUserIds}의 신청 일시로 직접 등록한 행인지 확인합니다.</p>
+     */
+    public void batchInsertApplications(Long programId, List<ApplicationRow> rows, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO program_applications " +
+                "(program_id, user_id, status, application_date, motivation, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE id = id",
+                rows,
+                500,
+                (ps, row) -> {
+                    ps.setLong(1, programId);
+                    ps.setLong(2, row.userId());
+                    ps.setString(3, row.status().name());
+                    ps.setTimestamp(4, Timestamp.valueOf(row.applicationDate()));
+                    ps.setString(5, row.motivation());
+                    ps.setTimestamp(6, timestamp);
+                    ps.setTimestamp(7, timestamp);
+                });
+    }
+
+    /**
+     * 신청 검토 결과 일괄 반영 (검토 시점 상태가 그대로인 신청만 변경)
+     *
+     * @return 신청별 반영 여부 (입력 순서)
+     */
+    public boolean[] batchReviewApplications(List<ReviewRow> rows, ApplicationStatus status, Long reviewerId,
+                                             String rejectionReason, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "UPDATE program_applications " +
+                "SET status = ?, reviewed_by = ?, reviewed_at = ?, rejection_reason = ?, updated_at = ? " +
+                "WHERE id = ? AND status = ?",
+                rows,
+                500,
+                (ps, row) -> {
+                    ps.setString(1, status.name());
+                    ps.setLong(2, reviewerId);
+                    ps.setTimestamp(3, timestamp);
+                    ps.setString(4, rejectionReason);
+                    ps.setTimestamp(5, timestamp);
+                    ps.setLong(6, row.applicationId());
+                    ps.setString(7, row.expectedStatus().name());
+                });
+        boolean[] applied = new boolean[rows.size()];
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                applied[index++] = count > 0 || count == Statement.SUCCESS_NO_INFO;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 참여자 일괄 등록 (이미 참여자인 사용자는 무시)
+     * 유니크 키 충돌만 건너뛰고, 잘린 값이나 NOT NULL 위반 같은 다른 오류는 INSERT IGNORE와 달리 그대로 예외가 됩니다.
+     */
+    public void batchInsertParticipants(Long programId, List<ParticipantRow> rows, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO program_participants " +
+                "(program_id, application_id, user_id, attendance_status, mileage_awarded, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 'REGISTERED', FALSE, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE id = id",
+                rows,
+                500,
+                (ps, row) -> {
+                    ps.setLong(1, programId);
+                    ps.setLong(2, row.applicationId());
+                    ps.setLong(3, row.userId());
+                    ps.setTimestamp(4, timestamp);
+                    ps.setTimestamp(5, timestamp);
+                });
+    }
+
+    /**
+     * 대기 신청을 좌석 점유 상태(PENDING)로 일괄 전환
+     *
+     * @return 전환된 신청 수
+     */
+    public int promoteWaitlisted(Collection<Long> applicationIds, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("applicationIds", applicationIds)
+                .addValue("now", Timestamp.valueOf(now));
+        return namedJdbcTemplate.update(
+                "UPDATE program_applications SET status = 'PENDING', updated_at = :now " +
+                "WHERE id IN (:applicationIds) AND status = 'WAITLISTED'",
+                params);
+    }
+
+    /**
+     * 사용자별 신청 ID, 상태, 신청 일시 조회
+     */
+    public Map<Long, StoredApplication> findApplicationsByUserIds(Long programId, Collection<Long> userIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("programId", programId)
+                .addValue("userIds", userIds);
+        Map<Long, StoredApplication> applications = new HashMap<>();
+        namedJdbcTemplate.query(
+                "SELECT id, user_id, status, application_date FROM program_applications " +
+                "WHERE program_id = :programId AND user_id IN (:userIds)",
+                params,
+                rs -> {
+                    applications.put(rs.getLong("user_id"), new StoredApplication(
+                            rs.getLong("id"), ApplicationStatus.valueOf(rs.getString("status")),
+                            toLocalDateTime(rs.getTimestamp("application_date"))));
+                });
+        return applications;
+    }
+
+    /**
+     * 점유한 좌석 수만큼 참여자 수 증가
+     */
+    public void addParticipants(Long programId, int seats, LocalDateTime now) {
+        jdbcTemplate.update(
+                "UPDATE programs SET current_participants = current_participants + ?, updated_at = ? WHERE id = ?",
+                seats, Timestamp.valueOf(now), programId);
+    }
+
+    private static final String SEARCH_DOCUMENT_SELECT =
+            "SELECT id, title, description, category, status, location, capacity, " +
+            "       start_date, end_date, application_start, application_end, created_at " +
+            "FROM programs ";
+
+    /**
+     * 검색 색인용 전체 프로그램 스트리밍 조회 (ID 오름차순)
+     */
+    public void forEachSearchDocument(Consumer<ProgramSearchDocument> consumer) {
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(
+                            SEARCH_DOCUMENT_SELECT + "ORDER BY id",
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(Integer.MIN_VALUE);  // MySQL: 행 단위 스트리밍
+                    return ps;
+                },
+                rs -> {
+                    consumer.accept(toSearchDocument(rs));
+                });
+    }
+
+    // ========== 상세 조회 모델 ==========
+
+    private static final String REFRESH_DETAIL_VIEWS =
+            "INSERT INTO program_detail_views " +
+            "(program_id, title, description, category, status, organizer_id, location, capacity, " +
+            " current_participants, mileage_points, start_date, end_date, application_start, application_end, " +
+            " competency_ids, pending_count, approved_count, waitlisted_count, rejected_count, cancelled_count, " +
+            " registered_count, attended_count, absent_count, participant_rating_count, participant_rating_sum, " +
+            " satisfaction_count, overall_rating_sum, content_rating_sum, instructor_rating_sum, " +
+            " facility_rating_sum, usefulness_rating_sum, recommend_count, overall_rating_1_count, " +
+            " overall_rating_2_count, overall_rating_3_count, overall_rating_4_count, overall_rating_5_count, " +
+            " refreshed_at, created_at, updated_at) " +
+            "SELECT p.id, p.title, p.description, p.category, p.status, p.organizer_id, p.location, p.capacity, " +
+            "       p.current_participants, p.mileage_points, p.start_date, p.end_date, " +
+            "       p.application_start, p.application_end, c.competency_ids, " +
+            "       COALESCE(a.pending, 0), COALESCE(a.approved, 0), COALESCE(a.waitlisted, 0), " +
+            "       COALESCE(a.rejected, 0), COALESCE(a.cancelled, 0), " +
+            "       COALESCE(pp.registered, 0), COALESCE(pp.attended, 0), COALESCE(pp.absent, 0), " +
+            "       COALESCE(pp.rating_count, 0), COALESCE(pp.rating_sum, 0), " +
+            "       COALESCE(s.responses, 0), COALESCE(s.overall_sum, 0), COALESCE(s.content_sum, 0), " +
+            "       COALESCE(s.instructor_sum, 0), COALESCE(s.facility_sum, 0), COALESCE(s.usefulness_sum, 0), " +
+            "       COALESCE(s.recommends, 0), COALESCE(s.overall_1, 0), COALESCE(s.overall_2, 0), " +
+            "       COALESCE(s.overall_3, 0), COALESCE(s.overall_4, 0), COALESCE(s.overall_5, 0), " +
+            "       :now, :now, :now " +
+            "FROM programs p " +
+            "LEFT JOIN (SELECT program_id, " +
+            "                  SUM(status = 'PENDING') AS pending, SUM(status = 'APPROVED') AS approved, " +
+            "                  SUM(status = 'WAITLISTED') AS waitlisted, SUM(status = 'REJECTED') AS rejected, " +
+            "                  SUM(status = 'CANCELLED') AS cancelled " +
+            "           FROM program_applications WHERE program_id IN (:programIds) " +
+            "           GROUP BY program_id) a ON a.program_id = p.id " +
+            "LEFT JOIN (SELECT program_id, " +
+            "                  SUM(attendance_status = 'REGISTERED') AS registered, " +
+            "                  SUM(attendance_status = 'ATTENDED') AS attended, " +
+            "                  SUM(attendance_status = 'ABSENT') AS absent, " +
+            "                  COUNT(rating) AS rating_count, SUM(rating) AS rating_sum " +
+            "           FROM program_participants WHERE program_id IN (:programIds) " +
+            "           GROUP BY program_id) pp ON pp.program_id = p.id " +
+            "LEFT JOIN (SELECT program_id, COUNT(*) AS responses, " +
+            "                  SUM(overall_rating) AS overall_sum, SUM(content_rating) AS content_sum, " +
+            "                  SUM(instructor_rating) AS instructor_sum, SUM(facility_rating) AS facility_sum, " +
+            "                  SUM(usefulness_rating) AS usefulness_sum, SUM(would_recommend) AS recommends, " +
+            "                  SUM(overall_rating = 1) AS overall_1, SUM(overall_rating = 2) AS overall_2, " +
+            "                  SUM(overall_rating = 3) AS overall_3, SUM(overall_rating = 4) AS overall_4, " +
+            "                  SUM(overall_rating = 5) AS overall_5 " +
+            "           FROM program_satisfactions WHERE program_id IN (:programIds) " +
+            "           GROUP BY program_id) s ON s.program_id = p.id " +
+            "LEFT JOIN (SELECT program_id, GROUP_CONCAT(competency_id ORDER BY competency_id) AS competency_ids " +
+            "           FROM program_competencies WHERE program_id IN (:programIds) " +
+            "           GROUP BY program_id) c ON c.program_id = p.id " +
+            "WHERE p.id IN (:programIds) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "title = VALUES(title), description = VALUES(description), category = VALUES(category), " +
+            "status = VALUES(status), organizer_id = VALUES(organizer_id), location = VALUES(location), " +
+            "capacity = VALUES(capacity), current_participants = VALUES(current_participants), " +
+            "mileage_points = VALUES(mileage_points), start_date = VALUES(start_date), end_date = VALUES(end_date), " +
+            "application_start = VALUES(application_start), application_end = VALUES(application_end), " +
+            "competency_ids = VALUES(competency_ids), pending_count = VALUES(pending_count), " +
+            "approved_count = VALUES(approved_count), waitlisted_count = VALUES(waitlisted_count), " +
+            "rejected_count = VALUES(rejected_count), cancelled_count = VALUES(cancelled_count), " +
+            "registered_count = VALUES(registered_count), attended_count = VALUES(attended_count), " +
+            "absent_count = VALUES(absent_count), participant_rating_count = VALUES(participant_rating_count), " +
+            "participant_rating_sum = VALUES(participant_rating_sum), satisfaction_count = VALUES(satisfaction_count), " +
+            "overall_rating_sum = VALUES(overall_rating_sum), content_rating_sum = VALUES(content_rating_sum), " +
+            "instructor_rating_sum = VALUES(instructor_rating_sum), facility_rating_sum = VALUES(facility_rating_sum), " +
+            "usefulness_rating_sum = VALUES(usefulness_rating_sum), recommend_count = VALUES(recommend_count), " +
+            "overall_rating_1_count = VALUES(overall_rating_1_count), " +
+            "overall_rating_2_count = VALUES(overall_rating_2_count), " +
+            "overall_rating_3_count = VALUES(overall_rating_3_count), " +
+            "overall_rating_4_count = VALUES(overall_rating_4_count), " +
+            "overall_rating_5_count = VALUES(overall_rating_5_count), " +
+            "refreshed_at = VALUES(refreshed_at), updated_at = VALUES(updated_at)";
+
+    /**
+     * 프로그램별 상세 조회 모델 재계산 (삭제된 프로그램은 행 제거)
+     *
+     * <p>해당 프로그램의 하위 행만 인덱스 범위로 집계하므로 비용은 변경된 프로그램 수에 비례합니다.
+     * 기존 행은 전체 DELETE 없이 PK 충돌 시 갱신하고, 원본이 사라진 행만 지웁니다.
+     * READ COMMITTED 트랜잭션에서 호출해야 원본 테이블에 공유 잠금(next-key)을 걸지 않아
+     * 좌석 점유 UPDATE 등 쓰기를 막지 않습니다.</p>
+     */
+    public void refreshDetailViews(Collection<Long> programIds, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("programIds", programIds)
+                .addValue("now", Timestamp.valueOf(now));
+        namedJdbcTemplate.update(REFRESH_DETAIL_VIEWS, params);
+        namedJdbcTemplate.update(
+                "DELETE v FROM program_detail_views v " +
+                "LEFT JOIN programs p ON p.id = v.program_id " +
+                "WHERE v.program_id IN (:programIds) AND p.id IS NULL",
+                params);
+    }
+
+    /**
+     * ID 오름차순으로 다음 프로그램 ID 조회 (전체 재계산용)
+     */
+    public List<Long> findProgramIdsAfter(long lastId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM programs WHERE id > ? ORDER BY id LIMIT ?", Long.class, lastId, limit);
+    }
+
+    // ========== 상태 자동 전이 ==========
+
+    /**
+     * 날짜 기준 목표 상태 (마지막으로 지난 경계의 상태)
+     */
+    private static final String LIFECYCLE_TARGET =
+            "(CASE WHEN end_date <= :now THEN 'COMPLETED' " +
+            "      WHEN start_date <= :now THEN 'IN_PROGRESS' " +
+            "      WHEN application_end <= :now THEN 'CLOSED' " +
+            "      WHEN application_start <= :now THEN 'OPEN' " +
+            "      ELSE status END)";
+
+    /**
+     * 전이 순서 (목록에 없는 CANCELLED는 FIELD()가 0이라 전이 대상이 아님)
+     */
+    private static final String LIFECYCLE_ORDER = "'DRAFT', 'OPEN', 'CLOSED', 'IN_PROGRESS', 'COMPLETED'";
+
+    /**
+     * 목표 상태가 현재 상태보다 뒤인 행만 (수동으로 앞당긴 상태를 되돌리지 않음)
+     */
+    private static final String LIFECYCLE_ADVANCES =
+            "FIELD(status, " + LIFECYCLE_ORDER + ") > 0 " +
+            "AND FIELD(" + LIFECYCLE_TARGET + ", " + LIFECYCLE_ORDER + ") > FIELD(status, " + LIFECYCLE_ORDER + ")";
+
+    /**
+     * 주어진 프로그램 중 상태를 전이해야 하는 프로그램 잠금 후 ID 조회
+     */
+    public List<Long> lockLifecycleDue(Collection<Long> programIds, LocalDateTime now) {
+        return namedJdbcTemplate.queryForList(
+                "SELECT id FROM programs WHERE id IN (:programIds) AND " + LIFECYCLE_ADVANCES + " FOR UPDATE",
+                new MapSqlParameterSource()
+                        .addValue("programIds", programIds)
+                        .addValue("now", Timestamp.valueOf(now)),
+                Long.class);
+    }
+
+    /**
+     * 날짜 기준 상태 일괄 전이 (UPDATE 1회)
+     *
+     * @return 전이된 프로그램 수
+     */
+    public int advanceLifecycle(Collection<Long> programIds, LocalDateTime now) {
+        return namedJdbcTemplate.update(
+                "UPDATE programs SET status = " + LIFECYCLE_TARGET + ", updated_at = :now " +
+                "WHERE id IN (:programIds) AND " + LIFECYCLE_ADVANCES,
+                new MapSqlParameterSource()
+                        .addValue("programIds", programIds)
+                        .addValue("now", Timestamp.valueOf(now)));
+    }
+
+    /**
+     * 이미 지난 경계가 있는데 상태가 전이되지 않은 프로그램 ID (ID 오름차순)
+     */
+    public List<Long> findLifecycleDueIds(LocalDateTime now, int limit) {
+        return namedJdbcTemplate.queryForList(
+                "SELECT id FROM programs " +
+                "WHERE status IN ('DRAFT', 'OPEN', 'CLOSED', 'IN_PROGRESS') AND " + LIFECYCLE_ADVANCES + " " +
+                "ORDER BY id LIMIT :limit",
+                new MapSqlParameterSource()
+                        .addValue("now", Timestamp.valueOf(now))
+                        .addValue("limit", limit),
+                Long.class);
+    }
+
+    /**
+     * (from, to] 구간에 도래하는 상태 전이 경계 (경계별 날짜 인덱스 범위 조회)
+     */
+    public List<LifecycleDeadline> findLifecycleDeadlines(LocalDateTime from, LocalDateTime to) {
+        StringBuilder sql = new StringBuilder();
+        for (String column : List.of("application_start", "application_end", "start_date", "end_date")) {
+            if (!sql.isEmpty()) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("SELECT id, ").append(column).append(" AS deadline FROM programs ")
+               .append("WHERE ").append(column).append(" > :from AND ").append(column).append(" <= :to ")
+               .append("AND status IN ('DRAFT', 'OPEN', 'CLOSED', 'IN_PROGRESS')");
+        }
+        return namedJdbcTemplate.query(
+                sql.toString(),
+                new MapSqlParameterSource()
+                        .addValue("from", Timestamp.valueOf(from))
+                        .addValue("to", Timestamp.valueOf(to)),
+                (rs, rowNum) -> new LifecycleDeadline(rs.getLong("id"), toLocalDateTime(rs.getTimestamp("deadline"))));
+    }
+
+    /**
+     * 검색 색인용 프로그램 문서 조회
+     */
+    public List<ProgramSearchDocument> findSearchDocuments(Collection<Long> programIds) {
+        return namedJdbcTemplate.query(
+                SEARCH_DOCUMENT_SELECT + "WHERE id IN (:programIds) ORDER BY id",
+                new MapSqlParameterSource("programIds", programIds),
+                (rs, rowNum) -> toSearchDocument(rs));
+    }
+
+    // ========== 만족도 누적 집계 ==========
+
+    private static final String SATISFACTION_AGGREGATE_COLUMNS =
+            "program_id, response_count, overall_sum, overall_square_sum, content_sum, content_square_sum, " +
+            "instructor_sum, instructor_square_sum, facility_sum, facility_square_sum, " +
+            "usefulness_sum, usefulness_square_sum, recommend_count";
+
+    private static final String SATISFACTION_RAW_TOTALS =
+            "SELECT program_id, COUNT(*), " +
+            "       COALESCE(SUM(overall_rating), 0), COALESCE(SUM(overall_rating * overall_rating), 0), " +
+            "       COALESCE(SUM(content_rating), 0), COALESCE(SUM(content_rating * content_rating), 0), " +
+            "       COALESCE(SUM(instructor_rating), 0), COALESCE(SUM(instructor_rating * instructor_rating), 0), " +
+            "       COALESCE(SUM(facility_rating), 0), COALESCE(SUM(facility_rating * facility_rating), 0), " +
+            "       COALESCE(SUM(usefulness_rating), 0), COALESCE(SUM(usefulness_rating * usefulness_rating), 0), " +
+            "       COALESCE(SUM(would_recommend), 0) ";
+
+    /**
+     * 프로그램 만족도 누적 집계에 증감분 반영 (행이 없으면 생성)
+     *
+     * <p>집계 행을 갱신하는 동안 같은 프로그램의 다른 반영은 커밋까지 대기합니다.</p>
+     */
+    public void applySatisfactionDelta(Long programId, RatingTotals delta, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(
+                "INSERT INTO program_satisfaction_aggregates (" + SATISFACTION_AGGREGATE_COLUMNS +
+                ", created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE response_count = response_count + VALUES(response_count), " +
+                "overall_sum = overall_sum + VALUES(overall_sum), " +
+                "overall_square_sum = overall_square_sum + VALUES(overall_square_sum), " +
+                "content_sum = content_sum + VALUES(content_sum), " +
+                "content_square_sum = content_square_sum + VALUES(content_square_sum), " +
+                "instructor_sum = instructor_sum + VALUES(instructor_sum), " +
+                "instructor_square_sum = instructor_square_sum + VALUES(instructor_square_sum), " +
+                "facility_sum = facility_sum + VALUES(facility_sum), " +
+                "facility_square_sum = facility_square_sum + VALUES(facility_square_sum), " +
+                "usefulness_sum = usefulness_sum + VALUES(usefulness_sum), " +
+                "usefulness_square_sum = usefulness_square_sum + VALUES(usefulness_square_sum), " +
+                "recommend_count = recommend_count + VALUES(recommend_count), " +
+                "updated_at = VALUES(updated_at)",
+                ps -> {
+                    ps.setLong(1, programId);
+                    ps.setLong(2, delta.count());
+                    for (int i = 0; i < delta.dimensions(); i++) {
+                        ps.setLong(3 + i * 2, delta.sum(i));
+                        ps.setLong(4 + i * 2, delta.squareSum(i));
+                    }
+                    ps.setLong(13, delta.recommends());
+                    ps.setTimestamp(14, timestamp);
+                    ps.setTimestamp(15, timestamp);
+                });
+    }
+
+    /**
+     * 원본 만족도 행에서 다시 계산한 프로그램별 합계
+     */
+    public Map<Long, RatingTotals> computeSatisfactionTotals() {
+        Map<Long, RatingTotals> totals = new HashMap<>();
+        jdbcTemplate.query(SATISFACTION_RAW_TOTALS + "FROM program_satisfactions GROUP BY program_id",
+                (ResultSet rs) -> {
+                    totals.put(rs.getLong(1), toRatingTotals(rs));
+                });
+        return totals;
+    }
+
+    /**
+     * 누적 집계 테이블의 프로그램별 합계
+     */
+    public Map<Long, RatingTotals> findSatisfactionAggregateTotals() {
+        Map<Long, RatingTotals> totals = new HashMap<>();
+        jdbcTemplate.query("SELECT " + SATISFACTION_AGGREGATE_COLUMNS + " FROM program_satisfaction_aggregates",
+                (ResultSet rs) -> {
+                    totals.put(rs.getLong(1), toRatingTotals(rs));
+                });
+        return totals;
+    }
+
+    /**
+     * 프로그램별 누적 집계를 원본 행 기준으로 다시 작성 (응답이 없으면 행 제거)
+     */
+    public void rebuildSatisfactionAggregates(Collection<Long> programIds, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("programIds", programIds)
+                .addValue("now", Timestamp.valueOf(now));
+        namedJdbcTemplate.update(
+                "DELETE FROM program_satisfaction_aggregates WHERE program_id IN (:programIds)", params);
+        namedJdbcTemplate.update(
+                "INSERT INTO program_satisfaction_aggregates (" + SATISFACTION_AGGREGATE_COLUMNS +
+                ", created_at, updated_at) " + SATISFACTION_RAW_TOTALS + ", :now, :now " +
+                "FROM program_satisfactions WHERE program_id IN (:programIds) GROUP BY program_id", params);
+    }
+
+    /**
+     * 1번 열이 ID, 2번 열부터 응답 수, (합계, 제곱합) x 5, 추천 수 순서인 행을 합계로 변환
+     */
+    private static RatingTotals toRatingTotals(ResultSet rs) throws SQLException {
+        long[] sums = new long[5];
+        long[] squareSums = new long[5];
+        for (int i = 0; i < 5; i++) {
+            sums[i] = rs.getLong(3 + i * 2);
+            squareSums[i] = rs.getLong(4 + i * 2);
+        }
+        return new RatingTotals(rs.getLong(2), sums, squareSums, rs.getLong(13));
+    }
+
+    private static ProgramSearchDocument toSearchDocument(ResultSet rs) throws SQLException {
+        return new ProgramSearchDocument(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                rs.getString("category"),
+                ProgramStatus.valueOf(rs.getString("status")),
+                rs.getString("location"),
+                rs.getInt("capacity"),
+                toLocalDateTime(rs.getTimestamp("start_date")),
+                toLocalDateTime(rs.getTimestamp("end_date")),
+                toLocalDateTime(rs.getTimestamp("application_start")),
+                toLocalDateTime(rs.getTimestamp("application_end")),
+                toLocalDateTime(rs.getTimestamp("created_at")));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    /**
+     * 잠금 시점의 좌석 현황
+     */
+    public record SeatState(
+            ProgramStatus status,
+            int capacity,
+            int currentParticipants,
+            LocalDateTime applicationStart,
+            LocalDateTime applicationEnd) {
+
+        public boolean isAcceptingApplications(LocalDateTime now) {
+            return status == ProgramStatus.OPEN
+                    && applicationStart != null
+                    && applicationEnd != null
+                    && !now.isBefore(applicationStart)
+                    && now.isBefore(applicationEnd);
+        }
+
+        public int remainingSeats() {
+            return Math.max(0, capacity - currentParticipants);
+        }
+    }
+
+    /**
+     * 상태 전이 경계 도래 시각
+     */
+    public record LifecycleDeadline(Long programId, LocalDateTime deadline) {
+    }
+
+    /**
+     * 일괄 등록할 신청 한 건
+     */
+    public record ApplicationRow(Long userId, ApplicationStatus status, LocalDateTime applicationDate, String motivation) {
+    }
+
+    /**
+     * 검토할 신청 한 건 (검토 시점 상태)
+     */
+    public record ReviewRow(Long applicationId, ApplicationStatus expectedStatus) {
+    }
+
+    /**
+     * 일괄 등록할 참여자 한 명
+     */
+    public record ParticipantRow(Long applicationId, Long userId) {
+    }
+
+    /**
+     * 저장된 신청의 ID, 상태, 신청 일시
+     */
+    public record StoredApplication(Long id, ApplicationStatus status, LocalDateTime applicationDate) {
+    }
+}
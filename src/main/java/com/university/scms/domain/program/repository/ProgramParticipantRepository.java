@@ -3,7 +3,10 @@ package com.university.scms.domain.program.repository;
 import com.university.scms.domain.program.entity.AttendanceStatus;
 import com.university.scms.domain.program.entity.Program;
 import com.university.scms.domain.program.entity.ProgramParticipant;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -67,21 +70,35 @@ public interface ProgramParticipantRepository extends JpaRepository<ProgramParti
     // ========== 사용자별 참여 조회 ==========
     
     /**
-     * 사용자의 모든 참여 이력 조회
+     * 사용자의 모든 참여 이력 조회 (프로그램 함께 조회)
      */
+    @EntityGraph(ProgramParticipant.WITH_PROGRAM)
     List<ProgramParticipant> findByUserId(Long userId);
     
     /**
-     * 사용자의 특정 출석 상태 참여 조회
+     * 사용자의 특정 출석 상태 참여 조회 (프로그램 함께 조회)
      */
+    @EntityGraph(ProgramParticipant.WITH_PROGRAM)
     List<ProgramParticipant> findByUserIdAndAttendanceStatus(Long userId, AttendanceStatus status);
     
     /**
-     * 사용자의 참여 목록을 생성일 기준 내림차순 정렬 조회
+     * 사용자의 참여 목록을 생성일 기준 내림차순 정렬 조회 (프로그램 함께 조회)
      */
+    @EntityGraph(ProgramParticipant.WITH_PROGRAM)
     @Query("SELECT pp FROM ProgramParticipant pp WHERE pp.userId = :userId ORDER BY pp.createdAt DESC")
     List<ProgramParticipant> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
 
+    /**
+     * 수료 이력 화면용 프로젝션 (출석 확인일 내림차순, 프로그램 JOIN 1회)
+     */
+    @Query("SELECT pp.id AS participantId, p.id AS programId, p.title AS programTitle, p.category AS category, " +
+           "p.startDate AS startDate, p.endDate AS endDate, p.mileagePoints AS mileagePoints, " +
+           "pp.attendanceConfirmedAt AS completedAt, pp.mileageAwarded AS mileageAwarded, pp.rating AS rating " +
+           "FROM ProgramParticipant pp JOIN pp.program p " +
+           "WHERE pp.userId = :userId AND pp.attendanceStatus = 'ATTENDED' " +
+           "ORDER BY pp.attendanceConfirmedAt DESC, pp.id DESC")
+    List<ProgramCompletionRow> findCompletionRowsByUserId(@Param("userId") Long userId);
+
     // ========== 출석 상태별 조회 ==========
     
     /**
@@ -127,6 +144,50 @@ public interface ProgramParticipantRepository extends JpaRepository<ProgramParti
     @Query("SELECT pp FROM ProgramParticipant pp WHERE pp.mileageAwarded = true")
     List<ProgramParticipant> findPaidMileageParticipants();
 
+    /**
+     * 마일리지 미지급 참여자 청크 조회 (ID 기준 키셋 페이징, 프로젝션)
+     */
+    @Query("SELECT pp.id AS participantId, pp.userId AS userId, p.id AS programId, " +
+           "p.title AS programTitle, p.mileagePoints AS mileagePoints " +
+           "FROM ProgramParticipant pp JOIN pp.program p " +
+           "WHERE pp.mileageAwarded = false AND pp.attendanceStatus = 'ATTENDED' " +
+           "AND pp.id > :lastId " +
+           "ORDER BY pp.id ASC")
+    List<UnpaidMileageRow> findUnpaidMileageRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 프로그램의 마일리지 미지급 참여자 청크 조회 (ID 기준 키셋 페이징, 프로젝션)
+     */
+    @Query("SELECT pp.id AS participantId, pp.userId AS userId, p.id AS programId, " +
+           "p.title AS programTitle, p.mileagePoints AS mileagePoints " +
+           "FROM ProgramParticipant pp JOIN pp.program p " +
+           "WHERE p.id = :programId " +
+           "AND pp.mileageAwarded = false AND pp.attendanceStatus = 'ATTENDED' " +
+           "AND pp.id > :lastId " +
+           "ORDER BY pp.id ASC")
+    List<UnpaidMileageRow> findUnpaidMileageRowsByProgramIdAfter(
+            @Param("programId") Long programId,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    /**
+     * 아직 지급되지 않은 참여자 잠금 (다른 지급 작업이 잡은 행은 건너뜀)
+     */
+    @Query(value = "SELECT id FROM program_participants " +
+                   "WHERE id IN (:ids) AND mileage_awarded = FALSE " +
+                   "ORDER BY id FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockUnawardedIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 마일리지 지급 완료 일괄 처리
+     * @return 실제로 지급 완료로 변경된 행 수 (이미 지급된 행은 제외)
+     */
+    @Modifying
+    @Query("UPDATE ProgramParticipant pp SET pp.mileageAwarded = true, pp.updatedAt = :now " +
+           "WHERE pp.id IN :ids AND pp.mileageAwarded = false")
+    int markMileageAwarded(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
     // ========== 후기 및 평가 관련 조회 ==========
     
     /**
@@ -261,6 +322,7 @@ public interface ProgramParticipantRepository extends JpaRepository<ProgramParti
     /**
      * 사용자의 특정 프로그램 목록에 대한 참여 조회
      */
+    @EntityGraph(ProgramParticipant.WITH_PROGRAM)
     @Query("SELECT pp FROM ProgramParticipant pp WHERE pp.userId = :userId AND pp.program.id IN :programIds")
     List<ProgramParticipant> findByUserIdAndProgramIdIn(@Param("userId") Long userId, @Param("programIds") List<Long> programIds);
     
@@ -5,6 +5,7 @@ import com.university.scms.domain.program.entity.ProgramStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -97,30 +98,25 @@ public interface ProgramRepository extends JpaRepository<Program, Long> {
 
     /**
      * 신청 기간 중인 프로그램 조회
+     *
+     * <p>신청 시작/마감 시각의 상태 전이는 상태 스케줄러가 반영하므로 상태 인덱스만 사용합니다.</p>
      */
-    @Query("SELECT p FROM Program p " +
-           "WHERE p.applicationStart <= :now " +
-           "AND p.applicationEnd >= :now")
-    List<Program> findApplicationOpenPrograms(@Param("now") LocalDateTime now);
+    @Query("SELECT p FROM Program p WHERE p.status = 'OPEN'")
+    List<Program> findApplicationOpenPrograms();
 
     // ========== 진행 상태 조회 ==========
 
     /**
      * 진행 중인 프로그램 조회
      */
-    @Query("SELECT p FROM Program p " +
-           "WHERE p.status = 'OPEN' " +
-           "AND p.startDate <= :now " +
-           "AND p.endDate >= :now")
-    List<Program> findInProgressPrograms(@Param("now") LocalDateTime now);
+    @Query("SELECT p FROM Program p WHERE p.status = 'IN_PROGRESS'")
+    List<Program> findInProgressPrograms();
 
     /**
      * 완료된 프로그램 조회
      */
-    @Query("SELECT p FROM Program p " +
-           "WHERE p.status = 'COMPLETED' " +
-           "OR p.endDate < :now")
-    List<Program> findCompletedPrograms(@Param("now") LocalDateTime now);
+    @Query("SELECT p FROM Program p WHERE p.status = 'COMPLETED'")
+    List<Program> findCompletedPrograms();
 
     // ========== 검색 ==========
 
@@ -136,6 +132,7 @@ public interface ProgramRepository extends JpaRepository<Program, Long> {
 
     /**
      * 제목 또는 설명으로 프로그램 검색
+     * (전체 스캔이므로 목록 화면 검색은 {@code ProgramSearchIndex}를 사용)
      */
     @Query("SELECT p FROM Program p " +
            "WHERE p.title LIKE %:keyword% " +
@@ -191,4 +188,67 @@ public interface ProgramRepository extends JpaRepository<Program, Long> {
      * 카테고리별 프로그램 개수
      */
     Long countByCategory(String category);
+
+    // ========== 좌석 점유 (조건부 UPDATE) ==========
+
+    /**
+     * 좌석 1개 점유 (모집 중이고 신청 기간 내이며 정원이 남았을 때만)
+     * @return 1이면 점유 성공, 0이면 정원 마감 또는 신청 불가
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Program p " +
+           "SET p.currentParticipants = p.currentParticipants + 1 " +
+           "WHERE p.id = :programId " +
+           "AND p.status = com.university.scms.domain.program.entity.ProgramStatus.OPEN " +
+           "AND p.applicationStart <= :now AND p.applicationEnd > :now " +
+           "AND p.currentParticipants < p.capacity")
+    int claimSeat(@Param("programId") Long programId, @Param("now") LocalDateTime now);
+
+    /**
+     * 좌석 1개 반환
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Program p " +
+           "SET p.currentParticipants = p.currentParticipants - 1 " +
+           "WHERE p.id = :programId AND p.currentParticipants > 0")
+    int releaseSeat(@Param("programId") Long programId);
+
+    /**
+     * 좌석 여러 개 반환 (0 미만으로 내려가지 않음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Program p " +
+           "SET p.currentParticipants = CASE WHEN p.currentParticipants > :seats " +
+           "                                 THEN p.currentParticipants - :seats ELSE 0 END " +
+           "WHERE p.id = :programId AND p.currentParticipants > 0")
+    int releaseSeats(@Param("programId") Long programId, @Param("seats") int seats);
+
+    // ========== 커서 기반 목록 (등록 일시, ID 내림차순) ==========
+
+    /**
+     * 커서 다음 페이지 조회 (OFFSET/COUNT 없이 인덱스 범위 탐색)
+     * 첫 페이지는 {@code ProgramCatalogCursor.FIRST}의 값으로 호출합니다.
+     * @param status 상태 (null이면 전체)
+     * @param category 카테고리 (null이면 전체)
+     */
+    @Query("SELECT p FROM Program p " +
+           "WHERE (p.createdAt < :cursorCreatedAt " +
+           "       OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+           "AND (:status IS NULL OR p.status = :status) " +
+           "AND (:category IS NULL OR p.category = :category) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Program> findCatalogPage(
+            @Param("status") ProgramStatus status,
+            @Param("category") String category,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 목록 조건 일치 건수 (캐시해서 예상 건수로 사용)
+     */
+    @Query("SELECT COUNT(p) FROM Program p " +
+           "WHERE (:status IS NULL OR p.status = :status) " +
+           "AND (:category IS NULL OR p.category = :category)")
+    long countCatalog(@Param("status") ProgramStatus status, @Param("category") String category);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,25 @@ import java.util.Optional;
 @Repository
 public interface ProgramSatisfactionRepository extends JpaRepository<ProgramSatisfaction, Long> {
 
+    /**
+     * 프로그램별 만족도 통계 SELECT 절 (평균 5종, 전체 평균, 추천 비율, 응답 수, 평점 분포)
+     */
+    String STATISTICS_SELECT =
+            "SELECT ps.program.id AS programId, COUNT(ps) AS responseCount, " +
+            "       AVG(ps.overallRating) AS averageOverallRating, " +
+            "       AVG(ps.contentRating) AS averageContentRating, " +
+            "       AVG(ps.instructorRating) AS averageInstructorRating, " +
+            "       AVG(ps.facilityRating) AS averageFacilityRating, " +
+            "       AVG(ps.usefulnessRating) AS averageUsefulnessRating, " +
+            "       AVG((ps.overallRating + ps.contentRating + ps.instructorRating + ps.facilityRating " +
+            "            + ps.usefulnessRating) / 5.0) AS totalAverageRating, " +
+            "       AVG(CASE WHEN ps.wouldRecommend = true THEN 1.0 ELSE 0.0 END) AS recommendationRate, " +
+            "       SUM(CASE WHEN ps.overallRating = 1 THEN 1 ELSE 0 END) AS overallRating1Count, " +
+            "       SUM(CASE WHEN ps.overallRating = 2 THEN 1 ELSE 0 END) AS overallRating2Count, " +
+            "       SUM(CASE WHEN ps.overallRating = 3 THEN 1 ELSE 0 END) AS overallRating3Count, " +
+            "       SUM(CASE WHEN ps.overallRating = 4 THEN 1 ELSE 0 END) AS overallRating4Count, " +
+            "       SUM(CASE WHEN ps.overallRating = 5 THEN 1 ELSE 0 END) AS overallRating5Count ";
+
     // ========== 기본 조회 메서드 ==========
     
     /**
@@ -188,8 +208,33 @@ public interface ProgramSatisfactionRepository extends JpaRepository<ProgramSati
      */
     long countByUserId(Long userId);
     
+    /**
+     * 프로그램별 만족도 통계 일괄 조회 (한 번의 GROUP BY 쿼리)
+     * 응답이 없는 프로그램은 결과에 포함되지 않습니다.
+     */
+    @Query(STATISTICS_SELECT +
+           "FROM ProgramSatisfaction ps WHERE ps.program.id IN :programIds GROUP BY ps.program.id")
+    List<ProgramSatisfactionStatistics> findStatisticsByProgramIds(@Param("programIds") Collection<Long> programIds);
+
+    /**
+     * 시작일이 기간 [from, to)에 속하는 프로그램들의 만족도 통계 조회 (학기 리포트용)
+     */
+    @Query(STATISTICS_SELECT +
+           "FROM ProgramSatisfaction ps JOIN ps.program p " +
+           "WHERE p.startDate >= :from AND p.startDate < :to GROUP BY ps.program.id")
+    List<ProgramSatisfactionStatistics> findStatisticsByProgramStartDateBetween(
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * 프로그램 만족도 통계 조회
+     */
+    default Optional<ProgramSatisfactionStatistics> findStatisticsByProgramId(Long programId) {
+        return findStatisticsByProgramIds(List.of(programId)).stream().findFirst();
+    }
+
     /**
      * 프로그램의 전반적 평균 평점 조회
+     * 여러 항목이 함께 필요하면 {@link #findStatisticsByProgramIds}를 사용하세요.
      */
     @Query("SELECT AVG(ps.overallRating) FROM ProgramSatisfaction ps WHERE ps.program.id = :programId")
     Double getAverageOverallRatingByProgramId(@Param("programId") Long programId);
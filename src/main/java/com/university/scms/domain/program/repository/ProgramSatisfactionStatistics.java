@@ -0,0 +1,40 @@
+package com.university.scms.domain.program.repository;
+
+/**
+ * 프로그램별 만족도 통계 프로젝션
+ *
+ * <p>평균은 응답이 없으면 null이고, 추천 비율은 0~1 사이 값입니다.
+ * 평점 분포는 전반적 만족도(overallRating) 기준입니다.</p>
+ *
+ * @since 2026-10-18
+ */
+public interface ProgramSatisfactionStatistics {
+
+    Long getProgramId();
+
+    Long getResponseCount();
+
+    Double getAverageOverallRating();
+
+    Double getAverageContentRating();
+
+    Double getAverageInstructorRating();
+
+    Double getAverageFacilityRating();
+
+    Double getAverageUsefulnessRating();
+
+    Double getTotalAverageRating();
+
+    Double getRecommendationRate();
+
+    Long getOverallRating1Count();
+
+    Long getOverallRating2Count();
+
+    Long getOverallRating3Count();
+
+    Long getOverallRating4Count();
+
+    Long getOverallRating5Count();
+}
@@ -0,0 +1,42 @@
+package com.university.scms.domain.program.repository;
+
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로그램 검색 색인용 문서
+ *
+ * <p>초기 적재는 JDBC로 한 번에 읽고, 이후에는 엔티티 변경 시점에 {@link #from(Program)}으로 만듭니다.</p>
+ */
+public record ProgramSearchDocument(
+        Long id,
+        String title,
+        String description,
+        String category,
+        ProgramStatus status,
+        String location,
+        Integer capacity,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        LocalDateTime applicationStart,
+        LocalDateTime applicationEnd,
+        LocalDateTime createdAt) {
+
+    public static ProgramSearchDocument from(Program program) {
+        return new ProgramSearchDocument(
+                program.getId(),
+                program.getTitle(),
+                program.getDescription(),
+                program.getCategory(),
+                program.getStatus(),
+                program.getLocation(),
+                program.getCapacity(),
+                program.getStartDate(),
+                program.getEndDate(),
+                program.getApplicationStart(),
+                program.getApplicationEnd(),
+                program.getCreatedAt());
+    }
+}
@@ -0,0 +1,19 @@
+package com.university.scms.domain.program.repository;
+
+/**
+ * 마일리지 미지급 참여자 조회용 프로젝션
+ *
+ * <p>대량 지급 시 참여자/프로그램 엔티티를 로딩하지 않고 필요한 컬럼만 읽습니다.</p>
+ */
+public interface UnpaidMileageRow {
+
+    Long getParticipantId();
+
+    Long getUserId();
+
+    Long getProgramId();
+
+    String getProgramTitle();
+
+    Integer getMileagePoints();
+}
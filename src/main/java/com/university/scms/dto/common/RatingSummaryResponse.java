@@ -0,0 +1,35 @@
+package com.university.scms.dto.common;
+
+import com.university.scms.util.RatingTotals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 누적 평점 요약 응답 (평균/분산/표준편차, 추천 비율)
+ *
+ * @param subjectId          집계 대상 ID (프로그램 ID, 상담사 ID 등)
+ * @param recommendationRate 추천 의향 비율 (0~1, 응답이 없으면 null)
+ */
+public record RatingSummaryResponse(
+        Long subjectId,
+        long responseCount,
+        List<Dimension> dimensions,
+        Double recommendationRate) {
+
+    /**
+     * 평점 항목별 통계 (응답이 없으면 null)
+     */
+    public record Dimension(String name, Double mean, Double variance, Double standardDeviation) {
+    }
+
+    public static RatingSummaryResponse of(Long subjectId, List<String> dimensionNames, RatingTotals totals) {
+        List<Dimension> dimensions = new ArrayList<>(dimensionNames.size());
+        for (int i = 0; i < dimensionNames.size(); i++) {
+            Double variance = totals.variance(i);
+            dimensions.add(new Dimension(dimensionNames.get(i), totals.mean(i), variance,
+                                         variance == null ? null : Math.sqrt(variance)));
+        }
+        return new RatingSummaryResponse(subjectId, totals.count(), dimensions, totals.recommendationRate());
+    }
+}
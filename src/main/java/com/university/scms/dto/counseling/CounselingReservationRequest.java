@@ -0,0 +1,25 @@
+package com.university.scms.dto.counseling;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상담 예약 요청
+ *
+ * @param studentId 학생 ID
+ * @param counselorId 상담사 ID
+ * @param reservationDate 예약 일시
+ * @param sessionDuration 상담 시간 (분)
+ * @param counselingType 상담 유형 (없으면 GENERAL)
+ * @param requestReason 신청 사유
+ */
+public record CounselingReservationRequest(
+        @NotNull Long studentId,
+        @NotNull Long counselorId,
+        @NotNull LocalDateTime reservationDate,
+        @NotNull Integer sessionDuration,
+        @Size(max = 50) String counselingType,
+        @Size(max = 2000) String requestReason) {
+}
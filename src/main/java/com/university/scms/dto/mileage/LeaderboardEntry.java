@@ -0,0 +1,11 @@
+package com.university.scms.dto.mileage;
+
+/**
+ * 마일리지 순위 항목
+ *
+ * @param rank 순위 (1부터 시작, 동점자는 같은 순위)
+ * @param userId 사용자 ID
+ * @param points 순위 기준 포인트
+ */
+public record LeaderboardEntry(long rank, Long userId, int points) {
+}
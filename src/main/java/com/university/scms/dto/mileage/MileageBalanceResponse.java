@@ -0,0 +1,12 @@
+package com.university.scms.dto.mileage;
+
+/**
+ * 마일리지 잔액 응답
+ *
+ * @param userId 사용자 ID
+ * @param availablePoints 사용 가능 마일리지 (READ_YOUR_WRITES면 반영 대기 포함)
+ * @param totalPoints 누적 마일리지 (READ_YOUR_WRITES면 반영 대기 포함)
+ * @param pendingPoints 아직 계정에 반영되지 않은 적립 포인트
+ */
+public record MileageBalanceResponse(Long userId, int availablePoints, int totalPoints, int pendingPoints) {
+}
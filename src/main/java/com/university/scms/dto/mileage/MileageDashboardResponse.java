@@ -0,0 +1,42 @@
+package com.university.scms.dto.mileage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마일리지 대시보드 응답
+ *
+ * @param summary 사용자 요약
+ * @param monthlyTrend 월별 적립/사용 추이 (오래된 월부터)
+ * @param recentTransactions 최근 거래 (최신순)
+ * @param global 전체 계정 통계
+ */
+public record MileageDashboardResponse(
+        Summary summary,
+        List<MonthlyTrend> monthlyTrend,
+        List<TransactionItem> recentTransactions,
+        GlobalStatistics global) {
+
+    /**
+     * @param rank 사용 가능 마일리지 순위 (계정이 없으면 null)
+     * @param expiringPoints 소멸 예정 포인트
+     */
+    public record Summary(Long userId, int currentPoints, int earnedPoints, int usedPoints,
+                          long expiringPoints, Long rank) {
+    }
+
+    /**
+     * @param month 연월 (yyyy-MM)
+     */
+    public record MonthlyTrend(String month, long earnedPoints, long usedPoints) {
+    }
+
+    public record TransactionItem(Long id, String type, int amount, String description,
+                                  LocalDateTime createdAt, int balance) {
+    }
+
+    public record GlobalStatistics(long accountCount, long totalAvailablePoints, long totalAccumulatedPoints,
+                                   long totalUsedPoints, double averageAvailablePoints,
+                                   double averageTotalPoints, double averageUsedPoints) {
+    }
+}
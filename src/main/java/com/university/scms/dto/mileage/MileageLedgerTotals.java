@@ -0,0 +1,75 @@
+package com.university.scms.dto.mileage;
+
+import com.university.scms.domain.mileage.entity.MileageBalanceSnapshot;
+import com.university.scms.domain.mileage.repository.TransactionTypeSum;
+
+import java.util.List;
+
+/**
+ * 마일리지 유형별 합계
+ *
+ * @param earnedPoints 적립 합계
+ * @param usedPoints 사용 합계 (절대값)
+ * @param expiredPoints 소멸 합계 (절대값)
+ * @param adjustedPoints 조정 합계 (부호 유지)
+ */
+public record MileageLedgerTotals(long earnedPoints, long usedPoints, long expiredPoints, long adjustedPoints) {
+
+    public static MileageLedgerTotals zero() {
+        return new MileageLedgerTotals(0L, 0L, 0L, 0L);
+    }
+
+    /**
+     * 스냅샷의 월말 누적값
+     */
+    public static MileageLedgerTotals cumulativeOf(MileageBalanceSnapshot snapshot) {
+        return new MileageLedgerTotals(
+                snapshot.getCumulativeEarned(),
+                snapshot.getCumulativeUsed(),
+                snapshot.getCumulativeExpired(),
+                snapshot.getCumulativeAdjusted());
+    }
+
+    /**
+     * 스냅샷의 해당 월 증감
+     */
+    public static MileageLedgerTotals periodOf(MileageBalanceSnapshot snapshot) {
+        return new MileageLedgerTotals(
+                snapshot.getEarnedPoints(),
+                snapshot.getUsedPoints(),
+                snapshot.getExpiredPoints(),
+                snapshot.getAdjustedPoints());
+    }
+
+    /**
+     * 원장 유형별 합계 (사용/소멸은 음수로 저장되어 있으므로 절대값 변환)
+     */
+    public static MileageLedgerTotals of(List<TransactionTypeSum> sums) {
+        long earned = 0L, used = 0L, expired = 0L, adjusted = 0L;
+        for (TransactionTypeSum sum : sums) {
+            long points = sum.getPoints() != null ? sum.getPoints() : 0L;
+            switch (sum.getTransactionType()) {
+                case EARN -> earned += points;
+                case USE -> used += Math.abs(points);
+                case EXPIRE -> expired += Math.abs(points);
+                case ADJUST -> adjusted += points;
+            }
+        }
+        return new MileageLedgerTotals(earned, used, expired, adjusted);
+    }
+
+    public MileageLedgerTotals plus(MileageLedgerTotals other) {
+        return new MileageLedgerTotals(
+                earnedPoints + other.earnedPoints,
+                usedPoints + other.usedPoints,
+                expiredPoints + other.expiredPoints,
+                adjustedPoints + other.adjustedPoints);
+    }
+
+    /**
+     * 잔액 (적립 - 사용 - 소멸 + 조정)
+     */
+    public long balance() {
+        return earnedPoints - usedPoints - expiredPoints + adjustedPoints;
+    }
+}
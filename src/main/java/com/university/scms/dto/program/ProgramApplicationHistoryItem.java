@@ -0,0 +1,30 @@
+package com.university.scms.dto.program;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+import com.university.scms.domain.program.repository.ProgramApplicationHistoryRow;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신청 이력/취소 화면 항목
+ */
+public record ProgramApplicationHistoryItem(
+        Long applicationId,
+        Long programId,
+        String programTitle,
+        String category,
+        String location,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Integer mileagePoints,
+        LocalDateTime applicationDate,
+        ApplicationStatus status,
+        String rejectionReason) {
+
+    public static ProgramApplicationHistoryItem from(ProgramApplicationHistoryRow row) {
+        return new ProgramApplicationHistoryItem(
+                row.getApplicationId(), row.getProgramId(), row.getProgramTitle(), row.getCategory(),
+                row.getLocation(), row.getStartDate(), row.getEndDate(), row.getMileagePoints(),
+                row.getApplicationDate(), row.getStatus(), row.getRejectionReason());
+    }
+}
@@ -0,0 +1,15 @@
+package com.university.scms.dto.program;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 프로그램 신청 요청
+ *
+ * @param userId 신청자 ID
+ * @param motivation 신청 동기
+ */
+public record ProgramApplyRequest(
+        @NotNull Long userId,
+        @Size(max = 2000) String motivation) {
+}
@@ -0,0 +1,34 @@
+package com.university.scms.dto.program;
+
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 프로그램 목록 응답 (커서 기반)
+ *
+ * @param programs 현재 페이지 (등록 일시 최신순)
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param estimatedTotal 조건 일치 건수 (짧게 캐시된 값이라 실제와 약간 다를 수 있음)
+ */
+public record ProgramCatalogResponse(List<Item> programs, String nextCursor, long estimatedTotal) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public record Item(Long id, String title, String description, String category, ProgramStatus status,
+                       String location, Integer capacity, Integer currentParticipants, Integer mileagePoints,
+                       LocalDateTime startDate, LocalDateTime endDate,
+                       LocalDateTime applicationStart, LocalDateTime applicationEnd) {
+
+        public static Item from(Program program) {
+            return new Item(program.getId(), program.getTitle(), program.getDescription(), program.getCategory(),
+                    program.getStatus(), program.getLocation(), program.getCapacity(),
+                    program.getCurrentParticipants(), program.getMileagePoints(), program.getStartDate(),
+                    program.getEndDate(), program.getApplicationStart(), program.getApplicationEnd());
+        }
+    }
+}
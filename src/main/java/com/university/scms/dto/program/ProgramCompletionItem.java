@@ -0,0 +1,30 @@
+package com.university.scms.dto.program;
+
+import com.university.scms.domain.program.repository.ProgramCompletionRow;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수료 이력 화면 항목
+ *
+ * @param completedAt 출석 확인 시각
+ */
+public record ProgramCompletionItem(
+        Long participantId,
+        Long programId,
+        String programTitle,
+        String category,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Integer mileagePoints,
+        LocalDateTime completedAt,
+        boolean mileageAwarded,
+        Integer rating) {
+
+    public static ProgramCompletionItem from(ProgramCompletionRow row) {
+        return new ProgramCompletionItem(
+                row.getParticipantId(), row.getProgramId(), row.getProgramTitle(), row.getCategory(),
+                row.getStartDate(), row.getEndDate(), row.getMileagePoints(), row.getCompletedAt(),
+                Boolean.TRUE.equals(row.getMileageAwarded()), row.getRating());
+    }
+}
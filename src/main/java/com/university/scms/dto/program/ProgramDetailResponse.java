@@ -0,0 +1,69 @@
+package com.university.scms.dto.program;
+
+import com.university.scms.domain.program.entity.ProgramDetailView;
+import com.university.scms.domain.program.entity.ProgramStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 프로그램 상세 응답
+ *
+ * @param refreshedAt 집계 기준 시각
+ */
+public record ProgramDetailResponse(
+        Long id,
+        String title,
+        String description,
+        String category,
+        ProgramStatus status,
+        Long organizerId,
+        String location,
+        Integer capacity,
+        Integer currentParticipants,
+        Integer mileagePoints,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        LocalDateTime applicationStart,
+        LocalDateTime applicationEnd,
+        List<Long> competencyIds,
+        Applications applications,
+        Attendance attendance,
+        Satisfaction satisfaction,
+        LocalDateTime refreshedAt) {
+
+    public record Applications(long pending, long approved, long waitlisted, long rejected, long cancelled) {
+    }
+
+    /**
+     * @param averageRating 참여 후기 평균 평점 (후기가 없으면 null)
+     */
+    public record Attendance(long registered, long attended, long absent, Double averageRating) {
+    }
+
+    /**
+     * 만족도 평균 (응답이 없으면 null)
+     *
+     * @param recommendationRate 추천 의향 비율 (0~1)
+     */
+    public record Satisfaction(long responses, Double overall, Double content, Double instructor, Double facility,
+                               Double usefulness, Double totalAverage, Double recommendationRate) {
+    }
+
+    public static ProgramDetailResponse from(ProgramDetailView view) {
+        return new ProgramDetailResponse(
+                view.getProgramId(), view.getTitle(), view.getDescription(), view.getCategory(), view.getStatus(),
+                view.getOrganizerId(), view.getLocation(), view.getCapacity(), view.getCurrentParticipants(),
+                view.getMileagePoints(), view.getStartDate(), view.getEndDate(), view.getApplicationStart(),
+                view.getApplicationEnd(), view.getCompetencyIdList(),
+                new Applications(view.getPendingCount(), view.getApprovedCount(), view.getWaitlistedCount(),
+                        view.getRejectedCount(), view.getCancelledCount()),
+                new Attendance(view.getRegisteredCount(), view.getAttendedCount(), view.getAbsentCount(),
+                        view.getAverageParticipantRating()),
+                new Satisfaction(view.getSatisfactionCount(), view.getAverageOverallRating(),
+                        view.getAverageContentRating(), view.getAverageInstructorRating(),
+                        view.getAverageFacilityRating(), view.getAverageUsefulnessRating(),
+                        view.getTotalAverageRating(), view.getRecommendationRate()),
+                view.getRefreshedAt());
+    }
+}
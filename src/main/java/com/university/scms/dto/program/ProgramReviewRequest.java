@@ -0,0 +1,23 @@
+package com.university.scms.dto.program;
+
+import com.university.scms.service.program.ProgramReviewDecision;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 프로그램 신청 일괄 검토 요청
+ *
+ * @param reviewerId 검토자 ID (교직원)
+ * @param decision 승인/거부
+ * @param applicationIds 검토할 신청 ID
+ * @param rejectionReason 거부 사유 (거부 시에만 저장)
+ */
+public record ProgramReviewRequest(
+        @NotNull Long reviewerId,
+        @NotNull ProgramReviewDecision decision,
+        @NotEmpty @Size(max = 1000) List<@NotNull Long> applicationIds,
+        @Size(max = 2000) String rejectionReason) {
+}
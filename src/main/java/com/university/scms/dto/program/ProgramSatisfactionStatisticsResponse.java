@@ -0,0 +1,62 @@
+package com.university.scms.dto.program;
+
+import com.university.scms.domain.program.entity.ProgramDetailView;
+import com.university.scms.domain.program.repository.ProgramSatisfactionStatistics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 프로그램 만족도 통계 응답
+ *
+ * @param recommendationRate    추천 의향 비율 (0~1, 응답이 없으면 null)
+ * @param overallRatingHistogram 전반적 만족도 평점별 응답 수 (1~5점)
+ */
+public record ProgramSatisfactionStatisticsResponse(
+        Long programId,
+        long responseCount,
+        Double averageOverallRating,
+        Double averageContentRating,
+        Double averageInstructorRating,
+        Double averageFacilityRating,
+        Double averageUsefulnessRating,
+        Double totalAverageRating,
+        Double recommendationRate,
+        Map<Integer, Long> overallRatingHistogram) {
+
+    public static ProgramSatisfactionStatisticsResponse from(ProgramSatisfactionStatistics stats) {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(1, stats.getOverallRating1Count());
+        histogram.put(2, stats.getOverallRating2Count());
+        histogram.put(3, stats.getOverallRating3Count());
+        histogram.put(4, stats.getOverallRating4Count());
+        histogram.put(5, stats.getOverallRating5Count());
+        return new ProgramSatisfactionStatisticsResponse(
+                stats.getProgramId(), stats.getResponseCount(),
+                stats.getAverageOverallRating(), stats.getAverageContentRating(),
+                stats.getAverageInstructorRating(), stats.getAverageFacilityRating(),
+                stats.getAverageUsefulnessRating(), stats.getTotalAverageRating(),
+                stats.getRecommendationRate(), histogram);
+    }
+
+    public static ProgramSatisfactionStatisticsResponse from(ProgramDetailView view) {
+        return new ProgramSatisfactionStatisticsResponse(
+                view.getProgramId(), view.getSatisfactionCount(),
+                view.getAverageOverallRating(), view.getAverageContentRating(),
+                view.getAverageInstructorRating(), view.getAverageFacilityRating(),
+                view.getAverageUsefulnessRating(), view.getTotalAverageRating(),
+                view.getRecommendationRate(), view.getOverallRatingHistogram());
+    }
+
+    /**
+     * 응답이 없는 프로그램의 통계
+     */
+    public static ProgramSatisfactionStatisticsResponse empty(Long programId) {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int rating = 1; rating <= 5; rating++) {
+            histogram.put(rating, 0L);
+        }
+        return new ProgramSatisfactionStatisticsResponse(
+                programId, 0, null, null, null, null, null, null, null, histogram);
+    }
+}
@@ -0,0 +1,42 @@
+package com.university.scms.dto.program;
+
+import com.university.scms.domain.program.entity.ProgramStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로그램 검색 응답
+ *
+ * @param totalCount 조건에 맞는 전체 프로그램 수
+ * @param programs 현재 페이지 (제목 일치 우선, 최신 등록순)
+ * @param facets 검색어 기준 분류별 건수
+ * @param tookMicros 색인 조회 시간 (마이크로초)
+ */
+public record ProgramSearchResponse(
+        long totalCount,
+        int page,
+        int size,
+        List<Item> programs,
+        Facets facets,
+        long tookMicros) {
+
+    /**
+     * @param description 설명 앞부분 (목록 표시용)
+     */
+    public record Item(Long id, String title, String description, String category, ProgramStatus status,
+                       String location, Integer capacity, LocalDateTime startDate, LocalDateTime endDate,
+                       LocalDateTime applicationStart, LocalDateTime applicationEnd) {
+    }
+
+    /**
+     * 분류별 건수 - 각 분류는 자기 자신을 제외한 나머지 필터만 적용해 집계합니다.
+     * (카테고리를 선택해도 다른 카테고리의 건수를 함께 보여줄 수 있음)
+     *
+     * @param startMonths 운영 시작 연월(yyyy-MM)별 건수
+     */
+    public record Facets(Map<String, Long> categories, Map<ProgramStatus, Long> statuses,
+                         Map<String, Long> startMonths) {
+    }
+}
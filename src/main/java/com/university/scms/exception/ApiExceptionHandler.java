@@ -0,0 +1,47 @@
+package com.university.scms.exception;
+
+import com.university.scms.controller.api.CounselingController;
+import com.university.scms.controller.api.MileageController;
+import com.university.scms.controller.api.ProgramApplicationController;
+import com.university.scms.controller.api.ProgramController;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * REST API 예외 처리 핸들러
+ * 서비스가 입력 검증/비즈니스 규칙 위반을 IllegalArgument/IllegalState 예외로 알리는 API 컨트롤러에만 적용합니다.
+ * 그 밖의 컨트롤러는 {@link GlobalExceptionHandler}가 처리합니다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice(assignableTypes = {
+        ProgramController.class,
+        ProgramApplicationController.class,
+        MileageController.class,
+        CounselingController.class
+})
+public class ApiExceptionHandler {
+
+    /**
+     * 잘못된 요청 (잘못된 입력)
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity
+            .status(HttpStatus.BAD_REQUEST)
+            .body(new ErrorResponse(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+    }
+
+    /**
+     * 비즈니스 규칙 위반 (중복 신청, 잔액 부족 등)
+     */
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalState(IllegalStateException e) {
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .body(new ErrorResponse(HttpStatus.CONFLICT.value(), e.getMessage()));
+    }
+}
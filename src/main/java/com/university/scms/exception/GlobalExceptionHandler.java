@@ -26,6 +26,16 @@ public class GlobalExceptionHandler {
             .body(errorResponse);
     }
 
+    /**
+     * 조회 대상 없음
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFound(ResourceNotFoundException e) {
+        return ResponseEntity
+            .status(HttpStatus.NOT_FOUND)
+            .body(new ErrorResponse(HttpStatus.NOT_FOUND.value(), e.getMessage()));
+    }
+
     /**
      * 커스텀 예외 처리는 여기에 추가
      * 예: @ExceptionHandler(CustomException.class)
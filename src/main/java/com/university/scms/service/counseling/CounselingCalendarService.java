@@ -0,0 +1,178 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.entity.CounselingStatus;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.CalendarReservationChange;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.CalendarSessionChange;
+import com.university.scms.service.counseling.CounselingCalendarSyncToken.Cursor;
+import com.university.scms.service.counseling.CounselingCalendarSyncToken.Delivered;
+import com.university.scms.util.ICalendarWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 상담 캘린더 서비스
+ *
+ * <p>상담사 캘린더 클라이언트가 기간 전체를 다시 읽지 않도록 동기화 토큰 이후 변경분만 돌려줍니다.
+ * 조회는 {@code (counselor_id, updated_at, id)} 인덱스 범위 스캔입니다. 예약은 삭제하지 않고 취소 상태로 남으므로
+ * 취소된 예약이 툼스톤 역할을 하고, 다른 상담사에게 넘어간 예약은 이전 상담사 앞으로 남긴 툼스톤 행으로 알립니다.</p>
+ *
+ * <p>수정 일시는 flush 시점에 정해지고 커밋은 그 뒤이므로, 매 조회는 토큰의 기준 시각보다
+ * {@code counseling.calendar.rescan-seconds}초 앞에서 다시 시작하고 이미 전달한 (ID, 수정 일시)는 걸러 냅니다.
+ * 커밋이 그 시간 안에 끝나면 늦게 커밋된 변경도 빠지지 않습니다. ({@link CounselingCalendarSyncToken.Cursor})</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CounselingCalendarService {
+
+    static final int DEFAULT_LIMIT = 200;
+    static final int MAX_LIMIT = 1000;
+    static final int EXPORT_PAGE_SIZE = 500;
+    public static final int MAX_EXPORT_DAYS = 366;
+
+    private final CounselingJdbcRepository counselingJdbcRepository;
+    private final Duration rescanWindow;
+
+    public CounselingCalendarService(CounselingJdbcRepository counselingJdbcRepository,
+                                     @Value("${counseling.calendar.rescan-seconds:60}") int rescanSeconds) {
+        this.counselingJdbcRepository = counselingJdbcRepository;
+        this.rescanWindow = Duration.ofSeconds(rescanSeconds);
+    }
+
+    // ========== 증분 동기화 ==========
+
+    /**
+     * 동기화 토큰 이후 변경된 예약/세션
+     *
+     * @param syncToken 이전 응답의 토큰 (비었으면 전체)
+     * @param limit 종류별 최대 건수
+     */
+    public CounselingCalendarSyncResult sync(Long counselorId, String syncToken, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 건수는 1~" + MAX_LIMIT + " 사이여야 합니다.");
+        }
+        CounselingCalendarSyncToken token = CounselingCalendarSyncToken.decode(syncToken);
+        Cursor reservationCursor = token.reservations();
+        Cursor sessionCursor = token.sessions();
+
+        // 다시 훑는 구간의 이미 전달한 행을 걸러도 limit건이 남도록 그만큼 더 읽음
+        List<CalendarReservationChange> reservations = undelivered(
+                counselingJdbcRepository.findReservationChanges(
+                        counselorId, reservationCursor.rescanFrom(rescanWindow),
+                        reservationCursor.floor().updatedAt(), reservationCursor.floor().id(),
+                        limit + reservationCursor.delivered().size()),
+                reservationCursor, CalendarReservationChange::id, CalendarReservationChange::updatedAt, limit);
+        List<CalendarSessionChange> sessions = undelivered(
+                counselingJdbcRepository.findSessionChanges(
+                        counselorId, sessionCursor.rescanFrom(rescanWindow),
+                        sessionCursor.floor().updatedAt(), sessionCursor.floor().id(),
+                        limit + sessionCursor.delivered().size()),
+                sessionCursor, CalendarSessionChange::id, CalendarSessionChange::updatedAt, limit);
+
+        CounselingCalendarSyncToken next = new CounselingCalendarSyncToken(
+                reservationCursor.advance(delivered(reservations, CalendarReservationChange::id,
+                                                    CalendarReservationChange::updatedAt), rescanWindow),
+                sessionCursor.advance(delivered(sessions, CalendarSessionChange::id,
+                                                CalendarSessionChange::updatedAt), rescanWindow));
+
+        return new CounselingCalendarSyncResult(reservations, sessions, next.encode(),
+                reservations.size() == limit || sessions.size() == limit);
+    }
+
+    private static <T> List<T> undelivered(List<T> rows, Cursor cursor, Function<T, Long> id,
+                                           Function<T, LocalDateTime> updatedAt, int limit) {
+        return rows.stream()
+                .filter(row -> !cursor.isDelivered(id.apply(row), updatedAt.apply(row)))
+                .limit(limit)
+                .toList();
+    }
+
+    private static <T> List<Delivered> delivered(List<T> rows, Function<T, Long> id,
+                                                 Function<T, LocalDateTime> updatedAt) {
+        return rows.stream()
+                .map(row -> new Delivered(id.apply(row), updatedAt.apply(row)))
+                .toList();
+    }
+
+    // ========== iCalendar 내보내기 ==========
+
+    /**
+     * 예약 일시가 [from, to)인 상담사 예약을 iCalendar로 내보내기 (취소된 예약 제외)
+     *
+     * <p>(reservationDate, id) 키셋 커서로 페이지를 읽어 바로 스트림에 쓰므로 메모리는 한 페이지 분량만 사용합니다.</p>
+     *
+     * @return 내보낸 일정 수
+     */
+    public long exportICalendar(Long counselorId, LocalDateTime from, LocalDateTime to, OutputStream out)
+            throws IOException {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작 일시는 종료 일시보다 앞서야 합니다.");
+        }
+        if (from.plusDays(MAX_EXPORT_DAYS).isBefore(to)) {
+            throw new IllegalArgumentException("내보내기 기간은 최대 " + MAX_EXPORT_DAYS + "일입니다.");
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ICalendarWriter calendar = new ICalendarWriter(writer)
+                .begin("VCALENDAR")
+                .raw("VERSION", "2.0")
+                .raw("PRODID", "-//SCMS//Counseling Calendar//KO")
+                .raw("CALSCALE", "GREGORIAN");
+
+        LocalDateTime cursorDate = from;
+        long cursorId = 0L;
+        long exported = 0;
+        while (true) {
+            List<CalendarReservationChange> rows = counselingJdbcRepository.findCalendarReservations(
+                    counselorId, from, to, cursorDate, cursorId, EXPORT_PAGE_SIZE);
+            for (CalendarReservationChange row : rows) {
+                if (!row.deleted()) {
+                    writeEvent(calendar, row);
+                    exported++;
+                }
+            }
+            writer.flush();
+
+            if (rows.size() < EXPORT_PAGE_SIZE) {
+                break;
+            }
+            CalendarReservationChange last = rows.get(rows.size() - 1);
+            cursorDate = last.reservationDate();
+            cursorId = last.id();
+        }
+        calendar.end("VCALENDAR");
+        writer.flush();
+
+        log.info("상담 캘린더 내보내기 완료: counselorId={}, from={}, to={}, events={}", counselorId, from, to, exported);
+        return exported;
+    }
+
+    private void writeEvent(ICalendarWriter calendar, CalendarReservationChange row) throws IOException {
+        calendar.begin("VEVENT")
+                .raw("UID", "counseling-reservation-" + row.id() + "@scms")
+                .utcDateTime("DTSTAMP", row.updatedAt().atZone(ZoneId.systemDefault()).toInstant())
+                .localDateTime("DTSTART", row.reservationDate())
+                .localDateTime("DTEND", row.reservationDate().plusMinutes(row.sessionDuration()))
+                .text("SUMMARY", "상담 (" + (row.counselingType() != null ? row.counselingType() : "GENERAL") + ")")
+                .raw("STATUS", row.status() == CounselingStatus.PENDING ? "TENTATIVE" : "CONFIRMED")
+                .end("VEVENT");
+    }
+}
@@ -0,0 +1,21 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.CalendarReservationChange;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.CalendarSessionChange;
+
+import java.util.List;
+
+/**
+ * 상담 캘린더 증분 동기화 결과
+ *
+ * @param reservations 변경된 예약 (취소된 예약은 deleted = true인 툼스톤)
+ * @param sessions 변경된 세션
+ * @param syncToken 다음 요청에 보낼 동기화 토큰
+ * @param hasMore 한 번에 다 보내지 못한 변경이 남았는지 여부 (true면 바로 이어서 요청)
+ */
+public record CounselingCalendarSyncResult(
+        List<CalendarReservationChange> reservations,
+        List<CalendarSessionChange> sessions,
+        String syncToken,
+        boolean hasMore) {
+}
@@ -0,0 +1,196 @@
+package com.university.scms.service.counseling;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상담 캘린더 동기화 토큰
+ *
+ * <p>예약과 세션 각각의 {@link Cursor}입니다. 클라이언트에는 불투명한 문자열(URL-safe Base64)로만 전달합니다.</p>
+ *
+ * @param reservations 예약 커서
+ * @param sessions 세션 커서
+ */
+public record CounselingCalendarSyncToken(Cursor reservations, Cursor sessions) {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /** 첫 동기화 (모든 변경) */
+    public static final CounselingCalendarSyncToken INITIAL =
+            new CounselingCalendarSyncToken(Cursor.INITIAL, Cursor.INITIAL);
+
+    /**
+     * 토큰 문자열 해석 (비었으면 첫 동기화)
+     *
+     * <p>전달 목록이 없던 이전 형식({@code 예약시각:예약ID:세션시각:세션ID})은 기준 시각만 살려 해석합니다.
+     * 다시 훑는 구간의 행이 한 번 더 전달될 수 있을 뿐 빠지는 변경은 없습니다.</p>
+     *
+     * @throws IllegalArgumentException 형식이 맞지 않을 때
+     */
+    public static CounselingCalendarSyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return INITIAL;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] kinds = value.split("\\|", -1);
+            if (kinds.length == 2) {
+                return new CounselingCalendarSyncToken(Cursor.decode(kinds[0]), Cursor.decode(kinds[1]));
+            }
+            String[] legacy = value.split(":");
+            if (legacy.length == 4) {
+                return new CounselingCalendarSyncToken(
+                        new Cursor(fromMicros(Long.parseLong(legacy[0])), Set.of()),
+                        new Cursor(fromMicros(Long.parseLong(legacy[2])), Set.of()));
+            }
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자 형식 오류 (NumberFormatException 포함)
+        }
+        throw new IllegalArgumentException("올바르지 않은 동기화 토큰입니다.");
+    }
+
+    public String encode() {
+        String value = reservations.encode() + "|" + sessions.encode();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(EPOCH, dateTime);
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    /**
+     * 종류별 동기화 커서
+     *
+     * <p>수정 일시는 flush 시점에 정해지고 커밋은 그 뒤이므로, 수정 일시 순으로 읽는 커서는 늦게 커밋된 행을 지나칠 수 있습니다.
+     * 그래서 다음 조회는 기준 시각({@code highWater}, 전달한 가장 늦은 수정 일시)보다 다시 훑는 구간만큼 앞에서 시작하고,
+     * 그 구간 안에서 이미 전달한 (ID, 수정 일시)는 {@code delivered}로 걸러 냅니다.</p>
+     *
+     * <p>구간 안의 변경이 {@value #MAX_DELIVERED}건을 넘으면 오래된 전달 기록부터 버리고, 버린 행 중 가장 늦은 위치를
+     * {@code floor}로 남겨 다음 조회는 (수정 일시, ID)가 그 뒤인 행부터 읽습니다. 버린 행을 다시 읽으며 제자리에 머무는 일은 없고,
+     * 대신 그 위치보다 앞으로 늦게 커밋된 행은 다시 훑지 못합니다.</p>
+     *
+     * @param highWater 전달한 가장 늦은 수정 일시
+     * @param delivered 다시 훑는 구간 안에서 이미 전달한 행
+     * @param floor 이 (ID, 수정 일시) 이하의 행은 다시 읽지 않음
+     */
+    public record Cursor(LocalDateTime highWater, Set<Delivered> delivered, Delivered floor) {
+
+        /** 전달 목록 최대 크기 (넘치면 오래된 것부터 버리고 {@code floor}를 올림) */
+        static final int MAX_DELIVERED = 500;
+
+        private static final Delivered NO_FLOOR = new Delivered(0L, EPOCH);
+
+        private static final Comparator<Delivered> POSITION =
+                Comparator.comparing(Delivered::updatedAt).thenComparingLong(Delivered::id);
+
+        static final Cursor INITIAL = new Cursor(EPOCH, Set.of());
+
+        public Cursor {
+            delivered = Set.copyOf(delivered);
+        }
+
+        public Cursor(LocalDateTime highWater, Set<Delivered> delivered) {
+            this(highWater, delivered, NO_FLOOR);
+        }
+
+        /**
+         * 다음 조회 시작 일시 (이 일시 이상으로 수정된 행)
+         */
+        public LocalDateTime rescanFrom(Duration window) {
+            return highWater.minus(window);
+        }
+
+        /**
+         * 이미 전달한 행인지 여부
+         */
+        public boolean isDelivered(long id, LocalDateTime updatedAt) {
+            return delivered.contains(new Delivered(id, updatedAt));
+        }
+
+        /**
+         * 이번에 전달한 행을 반영한 다음 커서 (다시 훑는 구간을 벗어난 전달 기록은 버림)
+         */
+        public Cursor advance(List<Delivered> rows, Duration window) {
+            LocalDateTime next = highWater;
+            for (Delivered row : rows) {
+                if (row.updatedAt().isAfter(next)) {
+                    next = row.updatedAt();
+                }
+            }
+            LocalDateTime keepFrom = next.minus(window);
+            List<Delivered> kept = new ArrayList<>(delivered.size() + rows.size());
+            kept.addAll(delivered);
+            kept.addAll(rows);
+            kept.removeIf(row -> row.updatedAt().isBefore(keepFrom));
+            kept.sort(POSITION.reversed());
+
+            Delivered nextFloor = floor;
+            if (kept.size() > MAX_DELIVERED && POSITION.compare(kept.get(MAX_DELIVERED), floor) > 0) {
+                nextFloor = kept.get(MAX_DELIVERED);
+            }
+            return new Cursor(next, new LinkedHashSet<>(kept.subList(0, Math.min(kept.size(), MAX_DELIVERED))),
+                              nextFloor);
+        }
+
+        /**
+         * {@code 기준시각[/ID.상대시각]:ID.상대시각:ID.상대시각...} (상대시각은 기준 시각과의 마이크로초 차이, 대괄호는 floor)
+         */
+        private String encode() {
+            long base = toMicros(highWater);
+            StringBuilder value = new StringBuilder().append(base);
+            if (!floor.equals(NO_FLOOR)) {
+                value.append('/').append(floor.id()).append('.').append(toMicros(floor.updatedAt()) - base);
+            }
+            delivered.stream()
+                    .sorted(POSITION)
+                    .forEach(row -> value.append(':').append(row.id()).append('.')
+                            .append(toMicros(row.updatedAt()) - base));
+            return value.toString();
+        }
+
+        private static Cursor decode(String value) {
+            String[] parts = value.split(":");
+            String[] head = parts[0].split("/", -1);
+            if (head.length > 2) {
+                throw new IllegalArgumentException();
+            }
+            long base = Long.parseLong(head[0]);
+            Delivered floor = head.length == 2 ? decodeRow(head[1], base) : NO_FLOOR;
+            Set<Delivered> delivered = new LinkedHashSet<>();
+            for (int i = 1; i < parts.length; i++) {
+                delivered.add(decodeRow(parts[i], base));
+            }
+            if (delivered.size() > MAX_DELIVERED) {
+                throw new IllegalArgumentException();
+            }
+            return new Cursor(fromMicros(base), delivered, floor);
+        }
+
+        private static Delivered decodeRow(String value, long base) {
+            int dot = value.indexOf('.');
+            if (dot < 0) {
+                throw new IllegalArgumentException();
+            }
+            return new Delivered(Long.parseLong(value.substring(0, dot)),
+                                 fromMicros(base + Long.parseLong(value.substring(dot + 1))));
+        }
+    }
+
+    /**
+     * 전달한 행 (ID, 수정 일시)
+     */
+    public record Delivered(long id, LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,375 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.config.SchedulingConfig;
+import com.university.scms.domain.counseling.entity.CounselingFollowUpChangedEvent;
+import com.university.scms.domain.counseling.entity.CounselingReservationChangedEvent;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.ReminderTarget;
+import com.university.scms.domain.notification.entity.Notification;
+import com.university.scms.domain.notification.repository.NotificationJdbcRepository;
+import com.university.scms.util.TimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상담 일정 알림 발송기
+ *
+ * <p>예약(대기/확정)과 후속 상담 일정마다 {@code counseling.reminder.offsets}(기본 24시간, 1시간) 전 시각을
+ * {@link TimingWheel}에 등록해 두고 {@code counseling.reminder.tick-ms}마다 도래한 알림을 모아
+ * {@link Notification}으로 일괄 저장합니다. 임박 일정을 날짜 범위로 반복 조회하지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>휠에는 앞으로 {@code counseling.reminder.horizon}(기본 48시간) 안에 발송할 알림만 올리고,
+ *       {@code counseling.reminder.reload-ms}마다 구간을 연장합니다. 재기동 시에도 이 구간만 다시 적재합니다.</li>
+ *   <li>예약 생성/변경/취소와 후속 상담 일정 변경은 커밋 이후 바로 반영합니다. 일정별 최신 시각만 유효하게 두고
+ *       휠에 남은 이전 항목은 발화할 때 버립니다.</li>
+ *   <li>발화 시 일정 상태를 한 번 더 조회해 그 사이 취소되거나 시각이 바뀐 일정은 보내지 않습니다.</li>
+ *   <li>휠은 메모리에만 있으므로 기동 시 서버가 내려가 있던 동안 발송 시각이 지난 알림을 복구합니다.
+ *       일정이 아직 남은 대상마다 가장 최근에 지난 간격 하나만, 그 발송 시각 이후 같은 일정의 알림이
+ *       저장된 적이 없을 때 바로 보냅니다. (저장된 {@link Notification}이 발송 표시 역할)</li>
+ *   <li>눈금과 구간 연장은 다른 주기 작업에 밀리지 않도록 전용 스케줄러
+ *       ({@link SchedulingConfig#COUNSELING_REMINDER_SCHEDULER})에서 실행합니다.</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class CounselingReminderDispatcher {
+
+    static final String NOTIFICATION_TYPE = "COUNSELING";
+    static final int MAX_WHEEL_SIZE = 1 << 12;
+    private static final DateTimeFormatter APPOINTMENT_FORMAT = DateTimeFormatter.ofPattern("M월 d일 HH:mm");
+
+    /**
+     * 알림 대상 일정 종류
+     */
+    enum Kind {
+        RESERVATION("CounselingReservation", "상담 예약 알림"),
+        FOLLOW_UP("CounselingSession", "후속 상담 알림");
+
+        private final String referenceType;
+        private final String title;
+
+        Kind(String referenceType, String title) {
+            this.referenceType = referenceType;
+            this.title = title;
+        }
+    }
+
+    /**
+     * 휠에 등록하는 알림 한 건
+     */
+    record Reminder(Kind kind, Long targetId, Duration offset, LocalDateTime appointment) {
+
+        LocalDateTime fireAt() {
+            return appointment.minus(offset);
+        }
+
+        Key key() {
+            return new Key(kind, targetId, offset);
+        }
+    }
+
+    private record Key(Kind kind, Long targetId, Duration offset) {
+    }
+
+    private final CounselingJdbcRepository counselingJdbcRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final List<Duration> offsets;
+    private final Duration horizon;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final TimingWheel<Reminder> wheel;
+    private final Map<Key, LocalDateTime> scheduled = new HashMap<>();  // 알림별 최신 일정 시각
+    private LocalDateTime loadedUntil;  // 휠에 올린 발송 시각의 상한 (기동 전에는 null)
+
+    public CounselingReminderDispatcher(CounselingJdbcRepository counselingJdbcRepository,
+                                        NotificationJdbcRepository notificationJdbcRepository,
+                                        @Value("${counseling.reminder.tick-ms:1000}") long tickMillis,
+                                        @Value("${counseling.reminder.horizon:48h}") Duration horizon,
+                                        @Value("${counseling.reminder.offsets:24h,1h}") List<Duration> offsets) {
+        if (offsets.isEmpty() || offsets.stream().anyMatch(offset -> offset.isNegative() || offset.isZero())) {
+            throw new IllegalArgumentException("알림 시점은 일정보다 앞선 양수 간격이어야 합니다.");
+        }
+        this.counselingJdbcRepository = counselingJdbcRepository;
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.offsets = offsets.stream().distinct().sorted(Comparator.reverseOrder()).toList();
+        this.horizon = horizon;
+        int wheelSize = (int) Math.min(MAX_WHEEL_SIZE, horizon.toMillis() / tickMillis + 1);
+        this.wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 기동 시 첫 구간 적재와 놓친 알림 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        LocalDateTime now = LocalDateTime.now();
+        reload(now);
+        recoverMissed(now);
+    }
+
+    /**
+     * 휠 구간 연장
+     */
+    @Scheduled(fixedDelayString = "${counseling.reminder.reload-ms:3600000}",
+               initialDelayString = "${counseling.reminder.reload-ms:3600000}",
+               scheduler = SchedulingConfig.COUNSELING_REMINDER_SCHEDULER)
+    public void reload() {
+        reload(LocalDateTime.now());
+    }
+
+    /**
+     * 도래한 알림 발송
+     *
+     * @return 저장한 알림 수
+     */
+    @Scheduled(fixedDelayString = "${counseling.reminder.tick-ms:1000}",
+               scheduler = SchedulingConfig.COUNSELING_REMINDER_SCHEDULER)
+    public int tick() {
+        return tick(LocalDateTime.now());
+    }
+
+    /**
+     * 예약 변경을 커밋 이후 반영 (취소/완료/삭제면 알림 제거)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(CounselingReservationChangedEvent event) {
+        reschedule(Kind.RESERVATION, event.reservationId(), event.occupiesSlot() ? event.start() : null);
+    }
+
+    /**
+     * 후속 상담 일정 변경을 커밋 이후 반영 (일정이 없어지면 알림 제거)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowUpChanged(CounselingFollowUpChangedEvent event) {
+        reschedule(Kind.FOLLOW_UP, event.sessionId(), event.nextSessionDate());
+    }
+
+    // ========== 내부 메서드 ==========
+
+    void reload(LocalDateTime now) {
+        LocalDateTime from;
+        LocalDateTime to = now.plus(horizon);
+        synchronized (wheel) {
+            // 구간을 먼저 넓혀 두어야 조회 도중 커밋된 변경 이벤트도 휠에 등록됨 (중복은 최신 시각으로 덮어씀)
+            from = loadedUntil != null ? loadedUntil : now;
+            loadedUntil = to;
+        }
+        // 발송 시각이 [from, to)인 알림의 일정은 [from + 가장 짧은 간격, to + 가장 긴 간격)
+        LocalDateTime appointmentFrom = from.plus(offsets.get(offsets.size() - 1));
+        LocalDateTime appointmentTo = to.plus(offsets.get(0));
+        List<ReminderTarget> reservations =
+                counselingJdbcRepository.findReservationReminderTargets(appointmentFrom, appointmentTo);
+        List<ReminderTarget> followUps =
+                counselingJdbcRepository.findFollowUpReminderTargets(appointmentFrom, appointmentTo);
+
+        int loaded = 0;
+        synchronized (wheel) {
+            for (ReminderTarget target : reservations) {
+                loaded += schedule(Kind.RESERVATION, target.id(), target.appointment(), from, to);
+            }
+            for (ReminderTarget target : followUps) {
+                loaded += schedule(Kind.FOLLOW_UP, target.id(), target.appointment(), from, to);
+            }
+        }
+        log.info("상담 알림 적재: reservations={}, followUps={}, reminders={}, until={}",
+                reservations.size(), followUps.size(), loaded, to);
+    }
+
+    /**
+     * 발송 시각이 now 이전인데 보내지 않은 알림을 바로 발송하도록 등록
+     *
+     * @return 등록한 알림 수
+     */
+    int recoverMissed(LocalDateTime now) {
+        Duration longest = offsets.get(0);
+        List<Reminder> missed = new ArrayList<>();
+        for (Kind kind : Kind.values()) {
+            // 발송 시각이 지났으면서 일정이 남은 대상은 일정이 (now, now + 가장 긴 간격) 안에 있음
+            List<ReminderTarget> targets = kind == Kind.RESERVATION
+                    ? counselingJdbcRepository.findReservationReminderTargets(now, now.plus(longest))
+                    : counselingJdbcRepository.findFollowUpReminderTargets(now, now.plus(longest));
+            Map<Long, LocalDateTime> notifiedAt = notificationJdbcRepository.findLastCreatedAtByReference(
+                    NOTIFICATION_TYPE, kind.referenceType,
+                    targets.stream().map(ReminderTarget::id).toList(), now.minus(longest));
+            for (ReminderTarget target : targets) {
+                Reminder reminder = latestPassed(kind, target, now);
+                LocalDateTime lastNotified = notifiedAt.get(target.id());
+                if (reminder != null && (lastNotified == null || lastNotified.isBefore(reminder.fireAt()))) {
+                    missed.add(reminder);
+                }
+            }
+        }
+
+        int recovered = 0;
+        synchronized (wheel) {
+            for (Reminder reminder : missed) {
+                if (scheduled.putIfAbsent(reminder.key(), reminder.appointment()) == null) {
+                    wheel.schedule(reminder, toEpochMillis(now));
+                    recovered++;
+                }
+            }
+        }
+        if (recovered > 0) {
+            log.info("놓친 상담 알림 복구: reminders={}", recovered);
+        }
+        return recovered;
+    }
+
+    int tick(LocalDateTime now) {
+        List<Reminder> due = new ArrayList<>();
+        synchronized (wheel) {
+            for (Reminder reminder : wheel.advance(toEpochMillis(now))) {
+                // 이후 변경/취소로 대체된 항목은 버림
+                if (reminder.appointment().equals(scheduled.get(reminder.key()))) {
+                    scheduled.remove(reminder.key());
+                    due.add(reminder);
+                }
+            }
+        }
+        if (due.isEmpty()) {
+            return 0;
+        }
+        try {
+            return dispatch(due, now);
+        } catch (RuntimeException e) {
+            // 다음 눈금에 다시 시도
+            synchronized (wheel) {
+                due.forEach(reminder -> {
+                    scheduled.putIfAbsent(reminder.key(), reminder.appointment());
+                    wheel.schedule(reminder, toEpochMillis(now));
+                });
+            }
+            throw e;
+        }
+    }
+
+    private void reschedule(Kind kind, Long targetId, LocalDateTime appointment) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (wheel) {
+            offsets.forEach(offset -> scheduled.remove(new Key(kind, targetId, offset)));
+            if (appointment != null && loadedUntil != null) {
+                schedule(kind, targetId, appointment, now, loadedUntil);
+            }
+        }
+    }
+
+    /**
+     * 발송 시각이 now 이전인 간격 중 가장 짧은 간격의 알림 (일정이 지났거나 지난 간격이 없으면 null)
+     */
+    private Reminder latestPassed(Kind kind, ReminderTarget target, LocalDateTime now) {
+        if (!target.appointment().isAfter(now)) {
+            return null;
+        }
+        for (int i = offsets.size() - 1; i >= 0; i--) {
+            Reminder reminder = new Reminder(kind, target.id(), offsets.get(i), target.appointment());
+            if (reminder.fireAt().isBefore(now)) {
+                return reminder;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 발송 시각이 [from, to)인 알림만 등록
+     *
+     * @return 등록한 알림 수
+     */
+    private int schedule(Kind kind, Long targetId, LocalDateTime appointment, LocalDateTime from, LocalDateTime to) {
+        int count = 0;
+        for (Duration offset : offsets) {
+            Reminder reminder = new Reminder(kind, targetId, offset, appointment);
+            LocalDateTime fireAt = reminder.fireAt();
+            if (!fireAt.isBefore(from) && fireAt.isBefore(to)) {
+                scheduled.put(reminder.key(), appointment);
+                wheel.schedule(reminder, toEpochMillis(fireAt));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 일정 상태를 다시 확인하고 알림 일괄 저장
+     */
+    private int dispatch(List<Reminder> due, LocalDateTime now) {
+        Map<Kind, List<Reminder>> byKind = due.stream().collect(Collectors.groupingBy(Reminder::kind));
+        Map<Long, ReminderTarget> reservations = index(counselingJdbcRepository.findReservationReminderTargets(
+                targetIds(byKind.get(Kind.RESERVATION))));
+        Map<Long, ReminderTarget> followUps = index(counselingJdbcRepository.findFollowUpReminderTargets(
+                targetIds(byKind.get(Kind.FOLLOW_UP))));
+
+        List<Notification> notifications = new ArrayList<>();
+        for (Reminder reminder : due) {
+            ReminderTarget target = (reminder.kind() == Kind.RESERVATION ? reservations : followUps)
+                    .get(reminder.targetId());
+            if (target == null || !sameMinute(target.appointment(), reminder.appointment())) {
+                continue;
+            }
+            notifications.add(notification(reminder, target.studentId()));
+            if (reminder.kind() == Kind.RESERVATION) {
+                notifications.add(notification(reminder, target.counselorId()));
+            }
+        }
+        if (!notifications.isEmpty()) {
+            notificationJdbcRepository.insertAll(notifications, now);
+            log.debug("상담 알림 발송: reminders={}, notifications={}", due.size(), notifications.size());
+        }
+        return notifications.size();
+    }
+
+    private static Notification notification(Reminder reminder, Long userId) {
+        return Notification.builder()
+                .userId(userId)
+                .type(NOTIFICATION_TYPE)
+                .title(reminder.kind().title)
+                .content(APPOINTMENT_FORMAT.format(reminder.appointment()) + " 상담이 "
+                         + describe(reminder.offset()) + " 후 시작됩니다.")
+                .referenceType(reminder.kind().referenceType)
+                .referenceId(reminder.targetId())
+                .build();
+    }
+
+    static String describe(Duration offset) {
+        if (offset.toMinutes() % 60 != 0) {
+            return offset.toMinutes() + "분";
+        }
+        return offset.toHours() + "시간";
+    }
+
+    private static List<Long> targetIds(List<Reminder> reminders) {
+        return reminders == null ? List.of() : reminders.stream().map(Reminder::targetId).distinct().toList();
+    }
+
+    private static Map<Long, ReminderTarget> index(List<ReminderTarget> targets) {
+        return targets.stream().collect(Collectors.toMap(ReminderTarget::id, Function.identity()));
+    }
+
+    private static boolean sameMinute(LocalDateTime a, LocalDateTime b) {
+        return a.truncatedTo(ChronoUnit.MINUTES).equals(b.truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,22 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.entity.CounselingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상담 예약 결과
+ *
+ * @param reservationId 예약 ID
+ * @param counselorId 상담사 ID
+ * @param start 시작 일시
+ * @param end 종료 일시
+ * @param status 예약 상태
+ */
+public record CounselingReservationResult(
+        Long reservationId,
+        Long counselorId,
+        LocalDateTime start,
+        LocalDateTime end,
+        CounselingStatus status) {
+}
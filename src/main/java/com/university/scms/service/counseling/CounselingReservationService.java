@@ -0,0 +1,219 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.entity.CounselingReservation;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository;
+import com.university.scms.domain.counseling.repository.CounselingReservationRepository;
+import com.university.scms.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상담 예약 서비스 (이중 예약 방지)
+ *
+ * <p>예약은 {@code counseling.reservation.slot-minutes}(기본 15분) 단위 칸으로 나눠 상담사/학생 양쪽의 칸을
+ * 유니크 제약 테이블({@code counseling_slot_claims})에 예약 INSERT와 같은 트랜잭션에서 점유합니다.
+ * 겹치는 예약은 시작 시각이 달라도 같은 칸을 공유하므로 INSERT가 실패하고 예약 전체가 롤백됩니다.</p>
+ *
+ * <p>{@link CounselingSlotEngine}으로 가용 시간 밖이거나 이미 예약된 시간은 DB 접근 없이 먼저 거절합니다.
+ * (엔진은 커밋 이후 갱신되므로 최종 판단은 칸 점유 INSERT가 합니다.)</p>
+ *
+ * <p>예약 일시/상담 시간 변경은 {@link #update}, 상담사 변경은 {@link #reassign}으로만 합니다.
+ * 같은 트랜잭션에서 기존 칸을 반환하고 새 칸을 점유합니다.
+ * 칸 점유 도입 이전 예약의 칸은 {@link CounselingSlotClaimBackfill}이 채웁니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class CounselingReservationService {
+
+    static final int MAX_DURATION_MINUTES = 8 * 60;
+    private static final int PURGE_BATCH_SIZE = 10_000;
+
+    private final CounselingReservationRepository reservationRepository;
+    private final CounselingJdbcRepository counselingJdbcRepository;
+    private final CounselingSlotEngine slotEngine;
+    private final int slotMinutes;
+
+    public CounselingReservationService(CounselingReservationRepository reservationRepository,
+                                        CounselingJdbcRepository counselingJdbcRepository,
+                                        CounselingSlotEngine slotEngine,
+                                        @Value("${counseling.reservation.slot-minutes:15}") int slotMinutes) {
+        this.reservationRepository = reservationRepository;
+        this.counselingJdbcRepository = counselingJdbcRepository;
+        this.slotEngine = slotEngine;
+        this.slotMinutes = slotMinutes;
+    }
+
+    /**
+     * 상담 예약 (상담사/학생의 다른 예약과 겹치면 실패)
+     */
+    @Transactional
+    public CounselingReservationResult reserve(Long studentId, Long counselorId, LocalDateTime start,
+                                               int durationMinutes, String counselingType, String requestReason) {
+        LocalDateTime now = LocalDateTime.now();
+        validate(start, durationMinutes, now);
+        if (!slotEngine.isFree(counselorId, start, durationMinutes)) {
+            throw new IllegalStateException("상담 가능한 시간이 아니거나 이미 예약된 시간입니다.");
+        }
+
+        CounselingReservation reservation = reservationRepository.saveAndFlush(CounselingReservation.builder()
+                .studentId(studentId)
+                .counselorId(counselorId)
+                .reservationDate(start)
+                .sessionDuration(durationMinutes)
+                .counselingType(counselingType != null ? counselingType : "GENERAL")
+                .requestReason(requestReason)
+                .build());
+        try {
+            counselingJdbcRepository.claimSlots(
+                    reservation.getId(), counselorId, studentId, slotStarts(start, durationMinutes, slotMinutes), now);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("상담사 또는 학생의 다른 예약과 시간이 겹칩니다.");
+        }
+
+        return new CounselingReservationResult(reservation.getId(), counselorId, start,
+                                               start.plusMinutes(durationMinutes), reservation.getStatus());
+    }
+
+    /**
+     * 예약 취소 (점유한 칸 반환)
+     */
+    @Transactional
+    public void cancel(Long reservationId, Long studentId, String reason) {
+        CounselingReservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new ResourceNotFoundException("예약을 찾을 수 없습니다."));
+        if (!reservation.getStudentId().equals(studentId)) {
+            throw new IllegalStateException("본인의 예약만 취소할 수 있습니다.");
+        }
+        if (!reservation.canCancel()) {
+            throw new IllegalStateException("상담 24시간 전까지만 취소할 수 있습니다.");
+        }
+        reservation.cancel(reason);
+        // 상태 변경을 먼저 flush해 예약 행을 잠그고, 변경 이벤트를 트랜잭션 안에서 발행
+        reservationRepository.flush();
+        counselingJdbcRepository.releaseSlots(reservationId);
+    }
+
+    /**
+     * 예약 변경 (점유한 칸을 새 시간으로 옮김, 상담사/학생의 다른 예약과 겹치면 실패)
+     */
+    @Transactional
+    public CounselingReservationResult update(Long reservationId, Long studentId, LocalDateTime start,
+                                              int durationMinutes, String counselingType, String requestReason) {
+        LocalDateTime now = LocalDateTime.now();
+        validate(start, durationMinutes, now);
+        CounselingReservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new ResourceNotFoundException("예약을 찾을 수 없습니다."));
+        if (!reservation.getStudentId().equals(studentId)) {
+            throw new IllegalStateException("본인의 예약만 변경할 수 있습니다.");
+        }
+        // 자기 예약과 겹치는 것은 허용해야 하므로 엔진으로는 가용 시간만 확인 (겹침은 칸 점유가 판단)
+        if (!slotEngine.isAvailable(reservation.getCounselorId(), start, durationMinutes)) {
+            throw new IllegalStateException("상담 가능한 시간이 아닙니다.");
+        }
+
+        reservation.update(start, durationMinutes,
+                           counselingType != null ? counselingType : reservation.getCounselingType(), requestReason);
+        reservationRepository.flush();
+        counselingJdbcRepository.releaseSlots(reservationId);
+        try {
+            counselingJdbcRepository.claimSlots(reservationId, reservation.getCounselorId(), studentId,
+                                                slotStarts(start, durationMinutes, slotMinutes), now);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("상담사 또는 학생의 다른 예약과 시간이 겹칩니다.");
+        }
+
+        return new CounselingReservationResult(reservationId, reservation.getCounselorId(), start,
+                                               start.plusMinutes(durationMinutes), reservation.getStatus());
+    }
+
+    /**
+     * 상담사 변경 (칸 점유를 새 상담사로 옮기고, 이전 상담사 캘린더에 툼스톤을 남김)
+     */
+    @Transactional
+    public CounselingReservationResult reassign(Long reservationId, Long counselorId) {
+        CounselingReservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new ResourceNotFoundException("예약을 찾을 수 없습니다."));
+        LocalDateTime start = reservation.getReservationDate();
+        int durationMinutes = reservation.getSessionDuration();
+        Long previousCounselorId = reservation.getCounselorId();
+        if (previousCounselorId.equals(counselorId)) {
+            return new CounselingReservationResult(reservationId, counselorId, start,
+                                                   start.plusMinutes(durationMinutes), reservation.getStatus());
+        }
+        if (!slotEngine.isFree(counselorId, start, durationMinutes)) {
+            throw new IllegalStateException("새 상담사가 상담 가능한 시간이 아니거나 이미 예약된 시간입니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        reservation.reassign(counselorId);
+        reservationRepository.flush();
+        counselingJdbcRepository.insertCalendarTombstone(previousCounselorId, reservationId, now);
+        counselingJdbcRepository.releaseSlots(reservationId);
+        try {
+            counselingJdbcRepository.claimSlots(reservationId, counselorId, reservation.getStudentId(),
+                                                slotStarts(start, durationMinutes, slotMinutes), now);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("새 상담사의 다른 예약과 시간이 겹칩니다.");
+        }
+
+        return new CounselingReservationResult(reservationId, counselorId, start,
+                                               start.plusMinutes(durationMinutes), reservation.getStatus());
+    }
+
+    /**
+     * 지난 칸 정리 (지난 시간은 예약할 수 없으므로 점유 행이 필요 없음)
+     */
+    @Scheduled(cron = "${counseling.reservation.claim-purge-cron:0 10 5 * * *}")
+    public int purgePastClaims() {
+        LocalDateTime before = LocalDateTime.now().minusDays(1);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = counselingJdbcRepository.deleteSlotClaimsBefore(before, PURGE_BATCH_SIZE);
+            purged += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        log.info("지난 상담 시간 칸 정리: claims={}", purged);
+        return purged;
+    }
+
+    // ========== 내부 메서드 ==========
+
+    private void validate(LocalDateTime start, int durationMinutes, LocalDateTime now) {
+        if (start == null || !start.isAfter(now)) {
+            throw new IllegalArgumentException("예약 일시는 현재 이후여야 합니다.");
+        }
+        if (durationMinutes <= 0 || durationMinutes > MAX_DURATION_MINUTES || durationMinutes % slotMinutes != 0) {
+            throw new IllegalArgumentException(
+                    "상담 시간은 " + slotMinutes + "분 단위로 " + MAX_DURATION_MINUTES + "분 이하여야 합니다.");
+        }
+        if (start.getSecond() != 0 || start.getNano() != 0 || start.getMinute() % slotMinutes != 0) {
+            throw new IllegalArgumentException("예약 일시는 " + slotMinutes + "분 단위여야 합니다.");
+        }
+    }
+
+    /**
+     * [start, start + duration)과 겹치는 칸의 시작 일시 (칸 단위로 맞지 않은 이전 예약은 걸치는 칸을 모두 포함)
+     */
+    static List<LocalDateTime> slotStarts(LocalDateTime start, int durationMinutes, int slotMinutes) {
+        LocalDateTime end = start.plusMinutes(durationMinutes);
+        LocalDateTime slot = start.truncatedTo(ChronoUnit.HOURS)
+                .plusMinutes((long) (start.getMinute() / slotMinutes) * slotMinutes);
+        List<LocalDateTime> slots = new ArrayList<>(durationMinutes / slotMinutes + 1);
+        for (; slot.isBefore(end); slot = slot.plusMinutes(slotMinutes)) {
+            slots.add(slot);
+        }
+        return slots;
+    }
+}
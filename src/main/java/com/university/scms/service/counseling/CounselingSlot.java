@@ -0,0 +1,13 @@
+package com.university.scms.service.counseling;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 가능한 상담 시간 한 칸
+ *
+ * @param counselorId 상담사 ID
+ * @param start 시작 일시
+ * @param end 종료 일시
+ */
+public record CounselingSlot(Long counselorId, LocalDateTime start, LocalDateTime end) {
+}
@@ -0,0 +1,93 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.UnclaimedReservation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상담 시간 칸 점유 채우기
+ *
+ * <p>칸 점유 도입 이전에 만들어진 대기/확정 예약은 {@code counseling_slot_claims} 행이 없어
+ * 새 예약이 같은 시간을 점유할 수 있습니다. 기동 시 아직 끝나지 않은 예약 중 행이 없는 예약의 칸을 채웁니다.
+ * 한 번 채우면 조회 대상에서 빠지므로 이후 기동에서는 조회 한 번으로 끝납니다.</p>
+ *
+ * <p>예약마다 별도 트랜잭션에서 예약 행을 잠그고 다시 확인한 뒤 점유하므로, 동시에 취소된 예약의 칸을 남기지 않습니다.
+ * 이전 예약끼리 이미 겹쳐 있으면 먼저 채운 예약만 칸을 갖고, 나머지는 경고 로그를 남기고 건너뜁니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class CounselingSlotClaimBackfill {
+
+    static final int BATCH_SIZE = 500;
+
+    private final CounselingJdbcRepository counselingJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int slotMinutes;
+
+    public CounselingSlotClaimBackfill(CounselingJdbcRepository counselingJdbcRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${counseling.reservation.slot-minutes:15}") int slotMinutes) {
+        this.counselingJdbcRepository = counselingJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.slotMinutes = slotMinutes;
+    }
+
+    /**
+     * 칸 점유 행이 없는 예약의 칸 채우기
+     *
+     * @return 칸을 채운 예약 수
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int backfill() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = now.minusMinutes(CounselingReservationService.MAX_DURATION_MINUTES);
+        int claimed = 0;
+        int conflicts = 0;
+        long afterId = 0L;
+        List<Long> reservationIds;
+        do {
+            reservationIds = counselingJdbcRepository.findUnclaimedReservationIds(from, afterId, BATCH_SIZE);
+            for (Long reservationId : reservationIds) {
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> claim(reservationId, now)))) {
+                        claimed++;
+                    }
+                } catch (DataIntegrityViolationException e) {
+                    conflicts++;
+                    log.warn("이전 예약이 다른 예약과 겹쳐 칸을 점유하지 못했습니다: reservationId={}", reservationId);
+                }
+                afterId = reservationId;
+            }
+        } while (reservationIds.size() == BATCH_SIZE);
+        if (claimed > 0 || conflicts > 0) {
+            log.info("상담 시간 칸 점유 채우기: reservations={}, conflicts={}", claimed, conflicts);
+        }
+        return claimed;
+    }
+
+    // ========== 내부 메서드 ==========
+
+    private boolean claim(Long reservationId, LocalDateTime now) {
+        UnclaimedReservation reservation = counselingJdbcRepository.lockUnclaimedReservation(reservationId).orElse(null);
+        if (reservation == null) {
+            return false;
+        }
+        counselingJdbcRepository.claimSlots(
+                reservationId, reservation.counselorId(), reservation.studentId(),
+                CounselingReservationService.slotStarts(reservation.start(), reservation.durationMinutes(), slotMinutes),
+                now);
+        return true;
+    }
+}
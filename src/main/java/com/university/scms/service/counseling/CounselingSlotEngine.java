@@ -0,0 +1,357 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.entity.CounselingReservationChangedEvent;
+import com.university.scms.domain.counseling.entity.CounselorAvailabilityChangedEvent;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.AvailabilityWindow;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.ReservationInterval;
+import com.university.scms.util.IntervalTree;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 상담 가능 시간 엔진
+ *
+ * <p>상담사별로 요일별 가용 시간(겹치는 구간은 병합)과 대기/확정 예약 구간({@link IntervalTree})을 메모리에 두고
+ * "유형 T, 길이 D인 가장 이른 빈 시간 N개"를 모든 상담사에 걸쳐 조회합니다.</p>
+ *
+ * <ul>
+ *   <li>상담사마다 가용 시간 안에서 {@code counseling.slots.step-minutes} 간격 후보를 시간 순으로 훑다가
+ *       예약과 겹치면 그 예약이 끝나는 시각으로 건너뛰고, 상담사별 커서를 우선순위 큐로 병합합니다.</li>
+ *   <li>예약 시간 겹침은 예약 일시 + {@code sessionDuration} 구간으로 판단합니다.</li>
+ *   <li>예약/가용 시간/상담사 변경은 커밋 이후 증분 반영하고, 지난 예약 정리를 겸해 매일 새벽 다시 적재합니다.</li>
+ * </ul>
+ *
+ * <p>유형이 비었거나 {@value #GENERAL_TYPE}이면 모든 상담사, 그 외에는 전문분야에 유형이 포함된 상담사만 대상입니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class CounselingSlotEngine {
+
+    static final String GENERAL_TYPE = "GENERAL";
+    static final int MAX_SLOTS = 100;
+    static final int MAX_DURATION_MINUTES = 8 * 60;
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final CounselingJdbcRepository counselingJdbcRepository;
+    private final int stepMinutes;
+    private final int horizonDays;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, CounselorSchedule> schedules = new HashMap<>();
+    private final Map<Long, Long> counselorByReservation = new HashMap<>();
+
+    public CounselingSlotEngine(CounselingJdbcRepository counselingJdbcRepository,
+                                @Value("${counseling.slots.step-minutes:30}") int stepMinutes,
+                                @Value("${counseling.slots.horizon-days:28}") int horizonDays) {
+        this.counselingJdbcRepository = counselingJdbcRepository;
+        this.stepMinutes = stepMinutes;
+        this.horizonDays = horizonDays;
+    }
+
+    /**
+     * 전체 적재 (지난 예약은 제외)
+     * 조회도 쓰기 잠금 안에서 하므로, 조회 이후 커밋된 변경 이벤트는 적재가 끝난 뒤에 반영됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${counseling.slots.rebuild-cron:0 50 4 * * *}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            List<AvailabilityWindow> windows = counselingJdbcRepository.findAvailabilityWindows();
+            List<ReservationInterval> reservations = counselingJdbcRepository.findActiveReservationIntervals(
+                    LocalDateTime.now().minusMinutes(MAX_DURATION_MINUTES));
+            schedules.clear();
+            counselorByReservation.clear();
+            windows.stream()
+                    .collect(Collectors.groupingBy(AvailabilityWindow::counselorId))
+                    .forEach((counselorId, rows) -> schedule(counselorId).replaceWindows(rows));
+            reservations.forEach(this::putReservation);
+            log.info("상담 가능 시간 엔진 적재: counselors={}, reservations={}, took={}ms",
+                    schedules.size(), reservations.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 예약 변경을 커밋 이후 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(CounselingReservationChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            removeReservation(event.reservationId());
+            if (event.occupiesSlot()) {
+                putReservation(new ReservationInterval(
+                        event.reservationId(), event.counselorId(), event.start(), event.durationMinutes()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상담사 가용 시간/활동 상태 변경을 커밋 이후 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(CounselorAvailabilityChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            schedule(event.counselorId()).replaceWindows(
+                    counselingJdbcRepository.findAvailabilityWindows(event.counselorId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * from 이후 가장 이른 빈 상담 시간 (시작 일시, 상담사 ID 순)
+     *
+     * @param type 상담 유형 (비었거나 GENERAL이면 모든 상담사)
+     * @param durationMinutes 상담 시간 (분)
+     * @param count 조회할 칸 수
+     * @param from 이 시각 이후 시작하는 칸만
+     */
+    public List<CounselingSlot> findNextSlots(String type, int durationMinutes, int count, LocalDateTime from) {
+        if (durationMinutes <= 0 || durationMinutes > MAX_DURATION_MINUTES) {
+            throw new IllegalArgumentException("상담 시간은 1분 이상 " + MAX_DURATION_MINUTES + "분 이하여야 합니다.");
+        }
+        if (count <= 0 || count > MAX_SLOTS) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_SLOTS + " 이하여야 합니다.");
+        }
+        long fromMinute = toEpochMinute(from);
+        long lastDay = Math.floorDiv(fromMinute, MINUTES_PER_DAY) + horizonDays;
+
+        lock.readLock().lock();
+        try {
+            PriorityQueue<SlotCursor> cursors = new PriorityQueue<>(
+                    Comparator.comparingLong(SlotCursor::slotStart).thenComparingLong(SlotCursor::counselorId));
+            for (CounselorSchedule schedule : schedules.values()) {
+                if (schedule.matches(type)) {
+                    SlotCursor cursor = new SlotCursor(schedule, durationMinutes, fromMinute, lastDay);
+                    if (cursor.advance()) {
+                        cursors.add(cursor);
+                    }
+                }
+            }
+
+            List<CounselingSlot> slots = new ArrayList<>(count);
+            while (slots.size() < count && !cursors.isEmpty()) {
+                SlotCursor cursor = cursors.poll();
+                slots.add(new CounselingSlot(cursor.counselorId(),
+                        toLocalDateTime(cursor.slotStart()),
+                        toLocalDateTime(cursor.slotStart() + durationMinutes)));
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+            }
+            return slots;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상담사의 [start, start + duration) 구간이 비어 있고 가용 시간 안인지 여부
+     */
+    public boolean isFree(Long counselorId, LocalDateTime start, int durationMinutes) {
+        long startMinute = toEpochMinute(start);
+        long endMinute = startMinute + durationMinutes;
+        lock.readLock().lock();
+        try {
+            CounselorSchedule schedule = schedules.get(counselorId);
+            return schedule != null
+                    && schedule.covers(startMinute, endMinute)
+                    && !schedule.busy.overlaps(startMinute, endMinute);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상담사의 [start, start + duration) 구간이 가용 시간 안인지 여부 (예약 겹침은 보지 않음)
+     */
+    public boolean isAvailable(Long counselorId, LocalDateTime start, int durationMinutes) {
+        long startMinute = toEpochMinute(start);
+        lock.readLock().lock();
+        try {
+            CounselorSchedule schedule = schedules.get(counselorId);
+            return schedule != null && schedule.covers(startMinute, startMinute + durationMinutes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== 내부 메서드 (쓰기 잠금 안에서 호출) ==========
+
+    private CounselorSchedule schedule(Long counselorId) {
+        return schedules.computeIfAbsent(counselorId, CounselorSchedule::new);
+    }
+
+    private void putReservation(ReservationInterval reservation) {
+        long start = toEpochMinute(reservation.start());
+        schedule(reservation.counselorId()).busy.put(
+                reservation.reservationId(), start, start + reservation.durationMinutes());
+        counselorByReservation.put(reservation.reservationId(), reservation.counselorId());
+    }
+
+    private void removeReservation(Long reservationId) {
+        Long counselorId = counselorByReservation.remove(reservationId);
+        if (counselorId != null && schedules.containsKey(counselorId)) {
+            schedules.get(counselorId).busy.remove(reservationId);
+        }
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    private long ceilToStep(long minute) {
+        return Math.floorDiv(minute + stepMinutes - 1, stepMinutes) * stepMinutes;
+    }
+
+    /**
+     * 상담사 한 명의 요일별 가용 시간(하루 중 분, 반열린 구간)과 예약 구간
+     */
+    private static final class CounselorSchedule {
+        private final Long counselorId;
+        private final IntervalTree busy = new IntervalTree();
+        @SuppressWarnings("unchecked")
+        private final List<long[]>[] windowsByDay = new List[7];
+        private String specialization;
+
+        private CounselorSchedule(Long counselorId) {
+            this.counselorId = counselorId;
+            for (int i = 0; i < 7; i++) {
+                windowsByDay[i] = List.of();
+            }
+        }
+
+        private void replaceWindows(List<AvailabilityWindow> rows) {
+            specialization = rows.isEmpty() ? null : rows.get(0).specialization();
+            for (DayOfWeek day : DayOfWeek.values()) {
+                List<long[]> windows = rows.stream()
+                        .filter(row -> row.dayOfWeek() == day && row.startTime().isBefore(row.endTime()))
+                        .map(row -> new long[]{row.startTime().toSecondOfDay() / 60,
+                                               row.endTime().toSecondOfDay() / 60})
+                        .sorted(Comparator.comparingLong(window -> window[0]))
+                        .toList();
+                windowsByDay[day.ordinal()] = merge(windows);
+            }
+        }
+
+        private static List<long[]> merge(List<long[]> sorted) {
+            List<long[]> merged = new ArrayList<>();
+            for (long[] window : sorted) {
+                long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+                if (last != null && window[0] <= last[1]) {
+                    last[1] = Math.max(last[1], window[1]);
+                } else {
+                    merged.add(window.clone());
+                }
+            }
+            return List.copyOf(merged);
+        }
+
+        private List<long[]> windowsOn(long epochDay) {
+            return windowsByDay[LocalDate.ofEpochDay(epochDay).getDayOfWeek().ordinal()];
+        }
+
+        private boolean covers(long startMinute, long endMinute) {
+            long day = Math.floorDiv(startMinute, MINUTES_PER_DAY);
+            long dayStart = day * MINUTES_PER_DAY;
+            return windowsOn(day).stream()
+                    .anyMatch(window -> dayStart + window[0] <= startMinute && endMinute <= dayStart + window[1]);
+        }
+
+        private boolean matches(String type) {
+            if (type == null || type.isBlank() || GENERAL_TYPE.equalsIgnoreCase(type)) {
+                return true;
+            }
+            return specialization != null
+                    && specialization.toLowerCase(Locale.ROOT).contains(type.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * 상담사 한 명의 빈 칸을 시간 순으로 훑는 커서
+     */
+    private final class SlotCursor {
+        private final CounselorSchedule schedule;
+        private final long duration;
+        private final long lastDay;
+        private long day;
+        private int windowIndex;
+        private long next;  // 다음 후보 시작 시각 (분)
+        private long slotStart;
+
+        private SlotCursor(CounselorSchedule schedule, long duration, long fromMinute, long lastDay) {
+            this.schedule = schedule;
+            this.duration = duration;
+            this.lastDay = lastDay;
+            this.day = Math.floorDiv(fromMinute, MINUTES_PER_DAY);
+            this.next = fromMinute;
+        }
+
+        private long slotStart() {
+            return slotStart;
+        }
+
+        private long counselorId() {
+            return schedule.counselorId;
+        }
+
+        /**
+         * 다음 빈 칸으로 이동 (없으면 false)
+         */
+        private boolean advance() {
+            for (; day <= lastDay; day++, windowIndex = 0) {
+                List<long[]> windows = schedule.windowsOn(day);
+                long dayStart = day * MINUTES_PER_DAY;
+                for (; windowIndex < windows.size(); windowIndex++) {
+                    long windowEnd = dayStart + windows.get(windowIndex)[1];
+                    long candidate = ceilToStep(Math.max(next, dayStart + windows.get(windowIndex)[0]));
+                    while (candidate + duration <= windowEnd) {
+                        long overlapEnd = schedule.busy.findOverlapEnd(candidate, candidate + duration);
+                        if (overlapEnd == IntervalTree.NONE) {
+                            slotStart = candidate;
+                            next = candidate + stepMinutes;
+                            return true;
+                        }
+                        candidate = ceilToStep(overlapEnd);
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.entity.CounselorAvailabilityChangedEvent;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.AvailabilityWindow;
+import com.university.scms.util.WeeklyBitmap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 상담사 주간 가용 시간 인덱스
+ *
+ * <p>활동 중인 상담사의 요일별 가용 시간을 15분 칸 주간 비트맵({@link WeeklyBitmap})으로 컴파일해 메모리에 둡니다.
+ * 칸마다 "그 칸에 가용한 상담사" 비트셋(상담사 순번 기준)을 함께 유지해
+ * "T 시각에 가용한 상담사 수"는 비트 수 세기, "구간 전체에 가용한 상담사"는 칸 비트셋 AND로 답합니다.</p>
+ *
+ * <ul>
+ *   <li>가용 시간 구간은 [시작, 종료)이며 구간에 완전히 포함된 15분 칸만 가용으로 봅니다.</li>
+ *   <li>가용 시간/상담사 변경은 커밋 이후 해당 상담사만 다시 컴파일하고, 매일 새벽 전체를 다시 적재합니다.</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class CounselorAvailabilityIndex {
+
+    private final CounselingJdbcRepository counselingJdbcRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, WeeklyBitmap> bitmaps = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Long> counselorIds = new ArrayList<>();
+    private final BitSet[] slots = new BitSet[WeeklyBitmap.SLOTS];
+
+    public CounselorAvailabilityIndex(CounselingJdbcRepository counselingJdbcRepository) {
+        this.counselingJdbcRepository = counselingJdbcRepository;
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new BitSet();
+        }
+    }
+
+    /**
+     * 전체 적재
+     * 조회도 쓰기 잠금 안에서 하므로, 조회 이후 커밋된 변경 이벤트는 적재가 끝난 뒤에 반영됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${counseling.availability.rebuild-cron:0 55 4 * * *}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            Map<Long, List<AvailabilityWindow>> windows = counselingJdbcRepository.findAvailabilityWindows().stream()
+                    .collect(Collectors.groupingBy(AvailabilityWindow::counselorId));
+            bitmaps.clear();
+            ordinals.clear();
+            counselorIds.clear();
+            for (BitSet slot : slots) {
+                slot.clear();
+            }
+            windows.forEach(this::replace);
+            log.info("상담사 가용 시간 인덱스 적재: counselors={}, took={}ms", bitmaps.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상담사 가용 시간/활동 상태 변경을 커밋 이후 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(CounselorAvailabilityChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            replace(event.counselorId(), counselingJdbcRepository.findAvailabilityWindows(event.counselorId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 상담사가 해당 요일/시각에 가용한지 여부
+     */
+    public boolean isAvailableAt(Long counselorId, DayOfWeek dayOfWeek, LocalTime time) {
+        int slot = WeeklyBitmap.slotOf(dayOfWeek, time);
+        lock.readLock().lock();
+        try {
+            WeeklyBitmap bitmap = bitmaps.get(counselorId);
+            return bitmap != null && bitmap.get(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 해당 요일/시각에 가용한 상담사 수
+     */
+    public int countAvailableAt(DayOfWeek dayOfWeek, LocalTime time) {
+        int slot = WeeklyBitmap.slotOf(dayOfWeek, time);
+        lock.readLock().lock();
+        try {
+            return slots[slot].cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 해당 요일 [start, end) 구간 전체에 가용한 상담사 ID (오름차순)
+     */
+    public List<Long> findAvailableForRange(DayOfWeek dayOfWeek, LocalTime start, LocalTime end) {
+        if (!end.equals(LocalTime.MIDNIGHT) && !start.isBefore(end)) {
+            throw new IllegalArgumentException("종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        // 구간이 걸치는 칸 모두 가용해야 함 (end는 배타적이므로 직전 시각의 칸까지)
+        int from = WeeklyBitmap.slotOf(dayOfWeek, start);
+        int to = WeeklyBitmap.slotOf(dayOfWeek, end.minusNanos(1)) + 1;
+        lock.readLock().lock();
+        try {
+            BitSet matched = (BitSet) slots[from].clone();
+            for (int slot = from + 1; slot < to && !matched.isEmpty(); slot++) {
+                matched.and(slots[slot]);
+            }
+            List<Long> result = new ArrayList<>(matched.cardinality());
+            for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                result.add(counselorIds.get(i));
+            }
+            result.sort(null);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== 내부 ==========
+
+    private void replace(Long counselorId, List<AvailabilityWindow> windows) {
+        Integer ordinal = ordinals.get(counselorId);
+        WeeklyBitmap previous = bitmaps.remove(counselorId);
+        if (previous != null) {
+            for (int slot = previous.nextSetSlot(0); slot >= 0; slot = previous.nextSetSlot(slot + 1)) {
+                slots[slot].clear(ordinal);
+            }
+        }
+
+        WeeklyBitmap bitmap = new WeeklyBitmap();
+        windows.forEach(w -> bitmap.set(w.dayOfWeek(), w.startTime(), w.endTime()));
+        if (bitmap.isEmpty()) {
+            return;
+        }
+        if (ordinal == null) {
+            ordinal = counselorIds.size();
+            ordinals.put(counselorId, ordinal);
+            counselorIds.add(counselorId);
+        }
+        bitmaps.put(counselorId, bitmap);
+        for (int slot = bitmap.nextSetSlot(0); slot >= 0; slot = bitmap.nextSetSlot(slot + 1)) {
+            slots[slot].set(ordinal);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.entity.CounselorSatisfactionAggregate;
+import com.university.scms.domain.counseling.entity.CounselingSatisfactionRatedEvent;
+import com.university.scms.domain.counseling.repository.CounselorSatisfactionAggregateRepository;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository;
+import com.university.scms.dto.common.RatingSummaryResponse;
+import com.university.scms.util.RatingTotals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상담사 만족도 누적 집계 서비스
+ *
+ * <p>만족도가 저장/수정/삭제될 때 엔티티 리스너가 발행한 증감분을 <b>같은 트랜잭션</b>에서
+ * {@code counselor_satisfaction_aggregates}에 더하므로 원본 행과 집계가 함께 커밋되거나 함께 롤백됩니다.
+ * 평균/분산/추천 비율 조회는 집계 행 PK 조회 1회입니다.</p>
+ *
+ * <p>엔티티를 거치지 않는 벌크 변경은 증감분이 반영되지 않으므로 매일 {@link #reconcile()}이
+ * 원본 행과 대조해 어긋난 상담사만 다시 계산합니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounselorSatisfactionAggregator {
+
+    static final int REBUILD_BATCH_SIZE = 500;
+
+    private static final RatingTotals NO_RESPONSES =
+            RatingTotals.empty(CounselorSatisfactionAggregate.DIMENSIONS.size());
+
+    private final CounselingJdbcRepository counselingJdbcRepository;
+    private final CounselorSatisfactionAggregateRepository aggregateRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener
+    public void onRated(CounselingSatisfactionRatedEvent event) {
+        counselingJdbcRepository.findCounselorIdBySessionId(event.sessionId())
+                .ifPresent(counselorId -> counselingJdbcRepository.applySatisfactionDelta(
+                        counselorId, event.delta(), LocalDateTime.now()));
+    }
+
+    /**
+     * 상담사별 평점 요약 (평균/분산/추천 비율)
+     */
+    @Transactional(readOnly = true)
+    public RatingSummaryResponse getSummary(Long counselorId) {
+        RatingTotals totals = aggregateRepository.findById(counselorId)
+                .map(CounselorSatisfactionAggregate::toRatingTotals)
+                .orElse(NO_RESPONSES);
+        return RatingSummaryResponse.of(counselorId, CounselorSatisfactionAggregate.DIMENSIONS, totals);
+    }
+
+    /**
+     * 누적 집계를 원본 행과 대조해 어긋난 상담사만 다시 계산
+     *
+     * <p>대조 도중 들어온 변경 때문에 어긋나 보인 상담사도 다시 계산될 뿐 결과는 같습니다.</p>
+     *
+     * @return 다시 계산한 상담사 수
+     */
+    @Scheduled(cron = "${counseling.satisfaction.reconcile-cron:0 40 4 * * *}")
+    public int reconcile() {
+        Map<Long, RatingTotals> expected = counselingJdbcRepository.computeSatisfactionTotals();
+        Map<Long, RatingTotals> actual = counselingJdbcRepository.findSatisfactionAggregateTotals();
+
+        Set<Long> ids = new HashSet<>(expected.keySet());
+        ids.addAll(actual.keySet());
+        List<Long> drifted = ids.stream()
+                .filter(id -> !expected.getOrDefault(id, NO_RESPONSES).equals(actual.getOrDefault(id, NO_RESPONSES)))
+                .sorted()
+                .toList();
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+
+        log.warn("상담 만족도 누적 집계 불일치 {}건 보정: {}", drifted.size(),
+                 drifted.subList(0, Math.min(drifted.size(), 20)));
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < drifted.size(); from += REBUILD_BATCH_SIZE) {
+            List<Long> batch = new ArrayList<>(
+                    drifted.subList(from, Math.min(from + REBUILD_BATCH_SIZE, drifted.size())));
+            transactionTemplate.executeWithoutResult(
+                    status -> counselingJdbcRepository.rebuildSatisfactionAggregates(batch, now));
+        }
+        return drifted.size();
+    }
+}
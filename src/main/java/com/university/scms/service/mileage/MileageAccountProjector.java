@@ -0,0 +1,89 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.repository.MileageJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마일리지 이벤트 로그 → 계정 잔액 프로젝터
+ *
+ * <p>반영 대기 이벤트를 ID 순으로 최대 {@value #BATCH_SIZE}건씩 잠그고({@code SKIP LOCKED}로 여러 인스턴스 병행 가능),
+ * 배치마다 하나의 트랜잭션에서 집합 SQL로 처리합니다.</p>
+ * <ol>
+ *   <li>계정이 없는 사용자 계정 생성 후 계정 행 잠금 (사용자 ID 오름차순)</li>
+ *   <li>이벤트에 계정 ID와 거래 후 잔액 기록 (반영 전 잔액 + 사용자별 누적 합계)</li>
+ *   <li>사용자별 합계를 계정에 반영 (계정당 UPDATE 1회)</li>
+ *   <li>적립 이벤트마다 적립 묶음 생성</li>
+ * </ol>
+ *
+ * <p>일괄 지급처럼 이벤트를 직접 추가한 쪽은 같은 트랜잭션에서 {@link #project}로 바로 반영하며,
+ * 그 행은 커밋 전까지 잠겨 있으므로 스케줄 반영과 겹치지 않습니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MileageAccountProjector {
+
+    static final int BATCH_SIZE = 500;
+
+    private final MileageJdbcRepository mileageJdbcRepository;
+    private final MileageLotLedger lotLedger;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 반영 대기 이벤트가 없어질 때까지 배치 반영
+     *
+     * @return 반영한 이벤트 수
+     */
+    @Scheduled(fixedDelayString = "${mileage.projector.delay-ms:200}")
+    public int projectPending() {
+        int projected = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> projectBatch());
+            projected += count;
+            if (count < BATCH_SIZE) {
+                break;
+            }
+        }
+        if (projected > 0) {
+            log.debug("마일리지 이벤트 반영: events={}", projected);
+        }
+        return projected;
+    }
+
+    private int projectBatch() {
+        List<Long> transactionIds = mileageJdbcRepository.lockPendingTransactionIds(BATCH_SIZE);
+        if (transactionIds.isEmpty()) {
+            return 0;
+        }
+        project(transactionIds, LocalDateTime.now());
+        return transactionIds.size();
+    }
+
+    /**
+     * 잠근 반영 대기 이벤트를 계정에 반영 (호출한 쪽 트랜잭션 안에서 실행)
+     */
+    void project(List<Long> transactionIds, LocalDateTime now) {
+        List<Long> userIds = mileageJdbcRepository.findUserIdsOfTransactions(transactionIds);
+        mileageJdbcRepository.insertAccountsIfAbsent(userIds, now);
+        mileageJdbcRepository.lockAccountsByUserIds(userIds);
+
+        mileageJdbcRepository.settlePendingTransactions(transactionIds, now);
+        mileageJdbcRepository.creditAccountsFromTransactions(transactionIds, now);
+        mileageJdbcRepository.insertLotsFromTransactions(transactionIds, lotLedger.getValidityMonths(), now);
+
+        mileageJdbcRepository.findBalancesByUserIds(userIds).values().forEach(balance ->
+                eventPublisher.publishEvent(new MileageBalanceChangedEvent(
+                        balance.userId(), balance.availablePoints(), balance.totalPoints(), balance.version())));
+    }
+}
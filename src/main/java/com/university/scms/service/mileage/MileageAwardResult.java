@@ -0,0 +1,24 @@
+package com.university.scms.service.mileage;
+
+/**
+ * 마일리지 일괄 지급 결과
+ *
+ * @param participants 지급 완료 처리된 참여자 수
+ * @param users 포인트가 반영된 사용자 수
+ * @param points 지급된 총 포인트
+ * @param chunks 처리한 청크 수
+ */
+public record MileageAwardResult(int participants, int users, long points, int chunks) {
+
+    public static MileageAwardResult empty() {
+        return new MileageAwardResult(0, 0, 0L, 0);
+    }
+
+    public MileageAwardResult plus(MileageAwardResult other) {
+        return new MileageAwardResult(
+                participants + other.participants,
+                users + other.users,
+                points + other.points,
+                chunks + other.chunks);
+    }
+}
@@ -0,0 +1,133 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.repository.MileageJdbcRepository.EarnRow;
+import com.university.scms.domain.mileage.repository.MileageJdbcRepository.UnsettledEarn;
+import com.university.scms.domain.program.repository.ProgramParticipantRepository;
+import com.university.scms.domain.program.repository.UnpaidMileageRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 프로그램 참여 마일리지 일괄 지급 서비스
+ *
+ * <p>출석 확인되었지만 마일리지가 지급되지 않은 참여자를 ID 키셋 페이징으로 청크 단위 조회하고,
+ * 청크마다 하나의 트랜잭션에서 다음을 수행합니다.</p>
+ * <ol>
+ *   <li>미지급 참여자 잠금 후 지급 플래그 일괄 UPDATE (다른 작업이 이미 처리한 참여자는 청크에서 제외)</li>
+ *   <li>{@link MileageEventLog}에 적립 이벤트 배치 추가 (같은 프로그램 적립이 이미 있는 참여자는 무시)</li>
+ *   <li>실제로 추가된 이벤트만 {@link MileageAccountProjector}로 반영 (사용자별 계정 UPDATE 1회, 적립 묶음 생성)</li>
+ * </ol>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MileageAwardService {
+
+    static final String SOURCE_TYPE_PROGRAM = "PROGRAM";
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final ProgramParticipantRepository participantRepository;
+    private final MileageEventLog eventLog;
+    private final MileageAccountProjector projector;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 전체 미지급 참여자에게 마일리지 지급
+     */
+    public MileageAwardResult awardAll() {
+        return awardInChunks(null, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 특정 프로그램의 미지급 참여자에게 마일리지 지급
+     */
+    public MileageAwardResult awardProgram(Long programId) {
+        return awardInChunks(programId, DEFAULT_CHUNK_SIZE);
+    }
+
+    MileageAwardResult awardInChunks(Long programId, int chunkSize) {
+        MileageAwardResult total = MileageAwardResult.empty();
+        long lastId = 0L;
+
+        while (true) {
+            PageRequest page = PageRequest.of(0, chunkSize);
+            List<UnpaidMileageRow> chunk = programId == null
+                    ? participantRepository.findUnpaidMileageRowsAfter(lastId, page)
+                    : participantRepository.findUnpaidMileageRowsByProgramIdAfter(programId, lastId, page);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            lastId = chunk.get(chunk.size() - 1).getParticipantId();
+
+            MileageAwardResult result = transactionTemplate.execute(status -> awardChunk(chunk));
+            total = total.plus(result);
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("마일리지 일괄 지급 완료: programId={}, participants={}, users={}, points={}, chunks={}",
+                programId, total.participants(), total.users(), total.points(), total.chunks());
+        return total;
+    }
+
+    private MileageAwardResult awardChunk(List<UnpaidMileageRow> chunk) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 다른 작업이 이미 지급했거나 처리 중인 참여자는 청크에서 빼고 계속 진행
+        List<Long> participantIds = participantRepository.lockUnawardedIds(
+                chunk.stream().map(UnpaidMileageRow::getParticipantId).toList());
+        if (participantIds.size() != chunk.size()) {
+            Set<Long> locked = new HashSet<>(participantIds);
+            log.info("다른 작업이 처리한 참여자 제외: skipped={}", chunk.size() - participantIds.size());
+            chunk = chunk.stream().filter(row -> locked.contains(row.getParticipantId())).toList();
+        }
+        if (chunk.isEmpty()) {
+            return new MileageAwardResult(0, 0, 0L, 1);
+        }
+        int marked = participantRepository.markMileageAwarded(participantIds, now);
+
+        // 포인트 0인 프로그램은 플래그만 변경
+        List<EarnRow> earns = new ArrayList<>(chunk.size());
+        for (UnpaidMileageRow row : chunk) {
+            if (row.getMileagePoints() != null && row.getMileagePoints() > 0) {
+                earns.add(new EarnRow(row.getUserId(), row.getMileagePoints(), SOURCE_TYPE_PROGRAM,
+                                      row.getProgramId(), row.getProgramTitle() + " 참여"));
+            }
+        }
+        if (earns.isEmpty()) {
+            return new MileageAwardResult(marked, 0, 0L, 1);
+        }
+
+        // 이미 같은 적립이 있는 참여자는 INSERT가 무시되고 지급 플래그만 바뀜
+        List<UnsettledEarn> appended = eventLog.appendEarns(earns, now);
+        if (appended.size() != earns.size()) {
+            log.info("이미 적립된 참여자 제외: duplicates={}", earns.size() - appended.size());
+        }
+        if (appended.isEmpty()) {
+            return new MileageAwardResult(marked, 0, 0L, 1);
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        long awardedPoints = 0L;
+        for (UnsettledEarn earn : appended) {
+            userIds.add(earn.userId());
+            awardedPoints += earn.points();
+        }
+        projector.project(appended.stream().map(UnsettledEarn::id).toList(), now);
+
+        return new MileageAwardResult(marked, userIds.size(), awardedPoints, 1);
+    }
+}
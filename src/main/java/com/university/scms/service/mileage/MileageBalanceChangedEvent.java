@@ -0,0 +1,15 @@
+package com.university.scms.service.mileage;
+
+/**
+ * 마일리지 잔액 변경 이벤트
+ *
+ * <p>트랜잭션 커밋 후 리더보드 등 메모리 인덱스를 갱신하는 데 사용합니다.
+ * 커밋 순서와 이벤트 전달 순서가 다를 수 있으므로 수신 측은 {@code version}으로 오래된 이벤트를 걸러야 합니다.</p>
+ *
+ * @param userId 사용자 ID
+ * @param availablePoints 변경 후 사용 가능 포인트
+ * @param totalPoints 변경 후 누적 포인트
+ * @param version 변경 후 계정 버전
+ */
+public record MileageBalanceChangedEvent(Long userId, int availablePoints, int totalPoints, long version) {
+}
@@ -0,0 +1,44 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.repository.MileageAccountRepository;
+import com.university.scms.domain.mileage.repository.MileageJdbcRepository;
+import com.university.scms.domain.mileage.repository.MileageJdbcRepository.PendingBalance;
+import com.university.scms.dto.mileage.MileageBalanceResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 마일리지 잔액 조회 서비스
+ *
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MileageBalanceService {
+
+    private final MileageAccountRepository accountRepository;
+    private final MileageJdbcRepository mileageJdbcRepository;
+
+    /**
+     * 사용자 잔액 조회 (계정이 없으면 0)
+     *
+     * <p>READ_YOUR_WRITES는 계정 잔액과 반영 대기 이벤트 합계를 한 문장으로 읽으므로
+     * 프로젝터가 그 사이에 반영해도 이중 집계되지 않습니다.</p>
+     */
+    public MileageBalanceResponse getBalance(Long userId, MileageReadConsistency consistency) {
+        if (consistency == MileageReadConsistency.READ_YOUR_WRITES) {
+            PendingBalance balance = mileageJdbcRepository.findBalanceWithPending(userId);
+            return new MileageBalanceResponse(
+                    userId,
+                    balance.availablePoints() + balance.pendingPoints(),
+                    balance.totalPoints() + balance.pendingPoints(),
+                    balance.pendingPoints());
+        }
+        return accountRepository.findBalanceByUserId(userId)
+                .map(balance -> new MileageBalanceResponse(
+                        userId, balance.getAvailablePoints(), balance.getTotalPoints(), 0))
+                .orElseGet(() -> new MileageBalanceResponse(userId, 0, 0, 0));
+    }
+}
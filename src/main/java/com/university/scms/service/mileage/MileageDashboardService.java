@@ -0,0 +1,139 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.repository.MileageAccountRepository;
+import com.university.scms.domain.mileage.repository.MileageAccountStatistics;
+import com.university.scms.domain.mileage.repository.MileageDashboardRepository;
+import com.university.scms.domain.mileage.repository.MileageDashboardRepository.AccountSummary;
+import com.university.scms.domain.mileage.repository.MileageDashboardRepository.MonthlyAmount;
+import com.university.scms.domain.mileage.repository.MileageDashboardRepository.UserDashboard;
+import com.university.scms.dto.mileage.LeaderboardEntry;
+import com.university.scms.dto.mileage.MileageDashboardResponse;
+import com.university.scms.dto.mileage.MileageDashboardResponse.GlobalStatistics;
+import com.university.scms.dto.mileage.MileageDashboardResponse.MonthlyTrend;
+import com.university.scms.dto.mileage.MileageDashboardResponse.Summary;
+import com.university.scms.dto.mileage.MileageDashboardResponse.TransactionItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 마일리지 대시보드 서비스
+ *
+ * <p>대시보드 한 번에 SQL은 최대 2회입니다.</p>
+ * <ul>
+ *   <li>전체 통계: 집계 쿼리 1회, 짧게 캐시 ({@code mileage.dashboard.statistics-ttl}, 기본 30초)</li>
+ *   <li>사용자 데이터: 잔액/소멸 예정/최근 거래/월별 추이를 UNION ALL 쿼리 1회</li>
+ *   <li>순위: {@link MileageLeaderboard} 메모리 조회 (SQL 없음)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Service
+@Transactional(readOnly = true)
+public class MileageDashboardService {
+
+    static final int RECENT_TRANSACTIONS = 20;
+    static final int TREND_MONTHS = 6;
+    static final int EXPIRING_WITHIN_DAYS = 30;
+
+    private final MileageAccountRepository accountRepository;
+    private final MileageDashboardRepository dashboardRepository;
+    private final MileageLeaderboard leaderboard;
+    private final long statisticsTtlNanos;
+
+    private final AtomicReference<CachedStatistics> cachedStatistics = new AtomicReference<>();
+
+    public MileageDashboardService(MileageAccountRepository accountRepository,
+                                   MileageDashboardRepository dashboardRepository,
+                                   MileageLeaderboard leaderboard,
+                                   @Value("${mileage.dashboard.statistics-ttl:30s}") Duration statisticsTtl) {
+        this.accountRepository = accountRepository;
+        this.dashboardRepository = dashboardRepository;
+        this.leaderboard = leaderboard;
+        this.statisticsTtlNanos = statisticsTtl.toNanos();
+    }
+
+    /**
+     * 사용자 대시보드 조회
+     */
+    public MileageDashboardResponse getDashboard(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        YearMonth firstMonth = YearMonth.from(now).minusMonths(TREND_MONTHS - 1);
+
+        UserDashboard dashboard = dashboardRepository.findUserDashboard(
+                userId, RECENT_TRANSACTIONS, firstMonth.atDay(1).atStartOfDay(),
+                now, now.plusDays(EXPIRING_WITHIN_DAYS));
+
+        AccountSummary account = dashboard.account();
+        Long rank = leaderboard.findRank(MileageRankBasis.AVAILABLE, userId)
+                .map(LeaderboardEntry::rank)
+                .orElse(null);
+        Summary summary = account == null
+                ? new Summary(userId, 0, 0, 0, 0L, null)
+                : new Summary(userId, account.availablePoints(), account.totalPoints(), account.usedPoints(),
+                              account.expiringPoints(), rank);
+
+        List<TransactionItem> transactions = dashboard.recentTransactions().stream()
+                .map(tx -> new TransactionItem(tx.id(), tx.transactionType(), tx.points(), tx.description(),
+                                               tx.createdAt(), tx.balanceAfter()))
+                .toList();
+
+        return new MileageDashboardResponse(
+                summary, toTrend(dashboard.monthlyAmounts(), firstMonth), transactions, getGlobalStatistics());
+    }
+
+    /**
+     * 전체 계정 통계 (TTL 동안 캐시)
+     */
+    public GlobalStatistics getGlobalStatistics() {
+        CachedStatistics cached = cachedStatistics.get();
+        long nowNanos = System.nanoTime();
+        if (cached != null && nowNanos - cached.loadedAtNanos() < statisticsTtlNanos) {
+            return cached.statistics();
+        }
+
+        MileageAccountStatistics stats = accountRepository.getStatistics();
+        GlobalStatistics statistics = new GlobalStatistics(
+                stats.getAccountCount(),
+                stats.getTotalAvailablePoints(),
+                stats.getTotalAccumulatedPoints(),
+                stats.getTotalUsedPoints(),
+                stats.getAverageAvailablePoints(),
+                stats.getAverageTotalPoints(),
+                stats.getAverageUsedPoints());
+        cachedStatistics.set(new CachedStatistics(statistics, nowNanos));
+        return statistics;
+    }
+
+    // ========== 내부 메서드 ==========
+
+    /**
+     * 거래가 없는 월도 0으로 채워 오래된 월부터 정렬
+     */
+    private List<MonthlyTrend> toTrend(List<MonthlyAmount> amounts, YearMonth firstMonth) {
+        Map<YearMonth, MonthlyAmount> byMonth = new HashMap<>();
+        amounts.forEach(amount -> byMonth.put(amount.month(), amount));
+
+        List<MonthlyTrend> trend = new ArrayList<>(TREND_MONTHS);
+        for (int i = 0; i < TREND_MONTHS; i++) {
+            YearMonth month = firstMonth.plusMonths(i);
+            MonthlyAmount amount = byMonth.get(month);
+            trend.add(new MonthlyTrend(month.toString(),
+                    amount == null ? 0L : amount.earnedPoints(),
+                    amount == null ? 0L : amount.usedPoints()));
+        }
+        return trend;
+    }
+
+    private record CachedStatistics(GlobalStatistics statistics, long loadedAtNanos) {
+    }
+}
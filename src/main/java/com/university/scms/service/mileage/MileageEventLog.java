@@ -0,0 +1,60 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.repository.MileageJdbcRepository;
+import com.university.scms.domain.mileage.repository.MileageJdbcRepository.EarnRow;
+import com.university.scms.domain.mileage.repository.MileageJdbcRepository.UnsettledEarn;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 마일리지 적립 이벤트 로그 (쓰기 지연)
+ *
+ * <p>적립을 {@code mileage_transactions}에 반영 대기 이벤트로 추가만 하고 계정 행은 건드리지 않습니다.
+ * 학기말 일괄 적립처럼 같은 계정에 쓰기가 몰릴 때 계정 행 잠금 대기가 사라지며,
+ * 잔액 반영은 {@link MileageAccountProjector}가 마이크로 배치로 수행합니다.</p>
+ *
+ * <p>사용/소멸은 잔액 검증이 필요하므로 {@link MileagePostingService}로 즉시 처리합니다.
+ * 반영 직후 잔액이 필요하면 {@link MileageBalanceService}에 {@link MileageReadConsistency#READ_YOUR_WRITES}로 조회합니다.</p>
+ *
+ * <p>프로그램 참여 일괄 지급({@link MileageAwardService})은 {@link #appendEarns}로 이 로그에 적립을 추가하고
+ * 같은 트랜잭션에서 프로젝터로 바로 반영합니다. 반영 전 이벤트(계정 ID 0)는 거래 내역 보내기와 대시보드 집계에서 제외됩니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class MileageEventLog {
+
+    private final MileageJdbcRepository mileageJdbcRepository;
+
+    /**
+     * 적립 이벤트 추가 (같은 출처로 이미 기록되었으면 무시)
+     *
+     * @return 기록된 거래 ID (중복이면 empty)
+     */
+    @Transactional
+    public Optional<Long> appendEarn(Long userId, int points, String sourceType, Long sourceId, String description) {
+        if (points <= 0) {
+            throw new IllegalArgumentException("적립 포인트는 0보다 커야 합니다.");
+        }
+        return mileageJdbcRepository.appendPendingEarn(
+                userId, points, sourceType, sourceId, description, LocalDateTime.now());
+    }
+
+    /**
+     * 적립 이벤트 일괄 추가 후 이번에 추가된 이벤트 잠금 (호출한 쪽 트랜잭션 안에서 실행)
+     *
+     * <p>같은 출처/사용자 적립이 이미 반영되었으면 결과에서 빠집니다.</p>
+     *
+     * @return 반영 대기 중인 추가 이벤트 (ID 오름차순)
+     */
+    List<UnsettledEarn> appendEarns(List<EarnRow> rows, LocalDateTime now) {
+        mileageJdbcRepository.batchAppendEarns(rows, Boolean.TRUE, now);
+        return mileageJdbcRepository.lockUnsettledEarns(rows);
+    }
+}
@@ -0,0 +1,24 @@
+package com.university.scms.service.mileage;
+
+/**
+ * 마일리지 유효기간 만료 소멸 결과
+ *
+ * @param accounts 소멸이 반영된 계정 수
+ * @param lots 소멸 처리된 적립 묶음 수
+ * @param points 소멸된 총 포인트
+ * @param chunks 처리한 청크 수
+ */
+public record MileageExpirationResult(int accounts, int lots, long points, int chunks) {
+
+    public static MileageExpirationResult empty() {
+        return new MileageExpirationResult(0, 0, 0L, 0);
+    }
+
+    public MileageExpirationResult plus(MileageExpirationResult other) {
+        return new MileageExpirationResult(
+                accounts + other.accounts,
+                lots + other.lots,
+                points + other.points,
+                chunks + other.chunks);
+    }
+}
@@ -0,0 +1,89 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.repository.MileageJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마일리지 유효기간 만료 소멸 서비스
+ *
+ * <p>소멸 예정 시각이 지난 적립 묶음을 계정 ID 키셋 청크로 나누어, 청크마다 하나의 트랜잭션에서
+ * 집합 SQL로 처리합니다. 계정별 루프나 엔티티 로딩이 없으므로 메모리는 청크의 계정 ID 목록만 사용합니다.</p>
+ * <ol>
+ *   <li>계정 행 잠금 (ID 오름차순, 사용 경로와 같은 계정 → 묶음 순서)</li>
+ *   <li>계정별 소멸 합계만큼 잔액 차감 (UPDATE ... JOIN)</li>
+ *   <li>계정별 소멸 거래 내역 기록 (INSERT ... SELECT)</li>
+ *   <li>소멸 대상 묶음 마감 (UPDATE)</li>
+ * </ol>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MileageExpirationService {
+
+    static final String SOURCE_TYPE_EXPIRATION = "EXPIRATION";
+    private static final String EXPIRE_DESCRIPTION = "유효기간 만료 소멸";
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final MileageJdbcRepository mileageJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 소멸 예정 시각이 지난 묶음 소멸 (매일 02:30)
+     */
+    @Scheduled(cron = "${mileage.expiration.cron:0 30 2 * * *}")
+    public MileageExpirationResult expireDueLots() {
+        return expireDueLots(LocalDateTime.now(), DEFAULT_CHUNK_SIZE);
+    }
+
+    MileageExpirationResult expireDueLots(LocalDateTime cutoff, int chunkSize) {
+        MileageExpirationResult total = MileageExpirationResult.empty();
+        long lastAccountId = 0L;
+
+        while (true) {
+            List<Long> accountIds = mileageJdbcRepository.findAccountIdsWithDueLots(cutoff, lastAccountId, chunkSize);
+            if (accountIds.isEmpty()) {
+                break;
+            }
+            lastAccountId = accountIds.get(accountIds.size() - 1);
+
+            MileageExpirationResult result = transactionTemplate.execute(status -> expireChunk(accountIds, cutoff));
+            total = total.plus(result);
+
+            if (accountIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("마일리지 유효기간 만료 소멸 완료: cutoff={}, accounts={}, lots={}, points={}, chunks={}",
+                cutoff, total.accounts(), total.lots(), total.points(), total.chunks());
+        return total;
+    }
+
+    private MileageExpirationResult expireChunk(List<Long> accountIds, LocalDateTime cutoff) {
+        LocalDateTime now = LocalDateTime.now();
+
+        mileageJdbcRepository.lockAccounts(accountIds);
+        long points = mileageJdbcRepository.sumDuePoints(accountIds, cutoff);
+        int accounts = mileageJdbcRepository.debitDuePoints(accountIds, cutoff, now);
+        mileageJdbcRepository.insertExpireTransactions(
+                accountIds, cutoff, now, SOURCE_TYPE_EXPIRATION, EXPIRE_DESCRIPTION);
+        int lots = mileageJdbcRepository.closeDueLots(accountIds, cutoff, now);
+
+        mileageJdbcRepository.findBalancesByAccountIds(accountIds).forEach(balance ->
+                eventPublisher.publishEvent(new MileageBalanceChangedEvent(
+                        balance.userId(), balance.availablePoints(), balance.totalPoints(), balance.version())));
+
+        return new MileageExpirationResult(accounts, lots, points, 1);
+    }
+}
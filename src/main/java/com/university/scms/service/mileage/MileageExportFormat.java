@@ -0,0 +1,28 @@
+package com.university.scms.service.mileage;
+
+/**
+ * 마일리지 거래 내역 내보내기 형식
+ *
+ * CSV: 쉼표 구분 (UTF-8 BOM 포함, 엑셀 호환)
+ * NDJSON: 한 줄에 JSON 객체 하나
+ */
+public enum MileageExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    MileageExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,137 @@
+package com.university.scms.service.mileage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.scms.domain.mileage.entity.TransactionType;
+import com.university.scms.domain.mileage.repository.MileageTransactionExportRow;
+import com.university.scms.domain.mileage.repository.MileageTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마일리지 거래 내역 내보내기 서비스
+ *
+ * <p>(createdAt, id) 키셋 커서로 페이지를 읽어 바로 스트림에 씁니다.
+ * 페이지마다 짧은 읽기 전용 조회로 끝나고 행은 엔티티가 아닌 record로 받으므로,
+ * 전체 건수와 관계없이 메모리는 한 페이지 분량만 사용하고 긴 트랜잭션도 열지 않습니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class MileageExportService {
+
+    static final int PAGE_SIZE = 1000;
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private static final String CSV_HEADER =
+            "id,accountId,userId,transactionType,points,sourceType,sourceId,description,balanceAfter,createdAt";
+
+    private final MileageTransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 기간 내 거래 내역을 생성 순서대로 내보내기 [from, to)
+     *
+     * @param transactionType 거래 유형 (null이면 전체)
+     * @return 내보낸 행 수
+     */
+    public long export(MileageExportFormat format, LocalDateTime from, LocalDateTime to,
+                       TransactionType transactionType, OutputStream out) throws IOException {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작 일시는 종료 일시보다 앞서야 합니다.");
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == MileageExportFormat.CSV) {
+            out.write(UTF8_BOM);
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        Pageable page = PageRequest.of(0, PAGE_SIZE);
+        LocalDateTime cursorCreatedAt = from;
+        long cursorId = 0L;
+        long exported = 0;
+
+        while (true) {
+            List<MileageTransactionExportRow> rows = transactionRepository.findExportRowsAfter(
+                    cursorCreatedAt, cursorId, to, transactionType, page);
+            for (MileageTransactionExportRow row : rows) {
+                if (format == MileageExportFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+            }
+            writer.flush();
+            exported += rows.size();
+
+            if (rows.size() < PAGE_SIZE) {
+                break;
+            }
+            MileageTransactionExportRow last = rows.get(rows.size() - 1);
+            cursorCreatedAt = last.createdAt();
+            cursorId = last.id();
+        }
+
+        log.info("마일리지 거래 내역 내보내기 완료: format={}, from={}, to={}, rows={}", format, from, to, exported);
+        return exported;
+    }
+
+    // ========== CSV ==========
+
+    private void writeCsv(Writer writer, MileageTransactionExportRow row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writer.write(String.valueOf(row.accountId()));
+        writer.write(',');
+        writer.write(String.valueOf(row.userId()));
+        writer.write(',');
+        writer.write(row.transactionType().name());
+        writer.write(',');
+        writer.write(String.valueOf(row.points()));
+        writer.write(',');
+        writer.write(csvField(row.sourceType()));
+        writer.write(',');
+        writer.write(row.sourceId() == null ? "" : String.valueOf(row.sourceId()));
+        writer.write(',');
+        writer.write(csvField(row.description()));
+        writer.write(',');
+        writer.write(String.valueOf(row.balanceAfter()));
+        writer.write(',');
+        writer.write(row.createdAt().toString());
+        writer.write('\n');
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 씁니다.
+     */
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
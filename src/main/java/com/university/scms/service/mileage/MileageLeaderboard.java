@@ -0,0 +1,208 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.entity.MileageAccount;
+import com.university.scms.domain.mileage.repository.MileageAccountRepository;
+import com.university.scms.dto.mileage.LeaderboardEntry;
+import com.university.scms.util.OrderStatisticTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 마일리지 순위 메모리 인덱스
+ *
+ * <p>포인트 내림차순(동점 시 사용자 ID 오름차순)으로 정렬된 {@link OrderStatisticTree}를 기준별로 유지하여
+ * 순위 / 상위 N명 / 내 주변 순위를 DB 조회 없이 O(log n)에 응답합니다.
+ * 시작 시 {@code findAllByOrderByAvailablePointsDesc}로 재구성하고,
+ * 이후에는 커밋된 {@link MileageBalanceChangedEvent}로 증분 갱신합니다.</p>
+ *
+ * <p>순위는 {@code getRankByAvailablePoints}와 같은 의미입니다. (나보다 포인트가 많은 계정 수 + 1)</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MileageLeaderboard {
+
+    private static final Comparator<Key> ORDER = Comparator
+            .comparingInt(Key::points).reversed()
+            .thenComparingLong(Key::userId);
+
+    private final MileageAccountRepository accountRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<MileageRankBasis, Board> boards = createBoards();
+    private final Map<Long, Long> versions = new HashMap<>();
+
+    // ========== 재구성 / 갱신 ==========
+
+    /**
+     * 전체 계정으로 인덱스 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<MileageAccount> accounts;
+        lock.writeLock().lock();
+        try {
+            // 조회도 잠금 안에서 수행: 조회와 교체 사이에 커밋된 변경 이벤트가 교체로 지워지지 않고 뒤이어 반영됨
+            accounts = accountRepository.findAllByOrderByAvailablePointsDesc();
+            boards.values().forEach(Board::clear);
+            versions.clear();
+            for (MileageAccount account : accounts) {
+                apply(account.getUserId(), account.getAvailablePoints(), account.getTotalPoints());
+                versions.put(account.getUserId(), account.getVersion());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("마일리지 리더보드 재구성 완료: accounts={}", accounts.size());
+    }
+
+    /**
+     * 커밋된 잔액 변경 반영 (이전 버전 이벤트는 무시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBalanceChanged(MileageBalanceChangedEvent event) {
+        update(event.userId(), event.availablePoints(), event.totalPoints(), event.version());
+    }
+
+    void update(Long userId, int availablePoints, int totalPoints, long version) {
+        lock.writeLock().lock();
+        try {
+            Long current = versions.get(userId);
+            if (current != null && current >= version) {
+                return;
+            }
+            versions.put(userId, version);
+            apply(userId, availablePoints, totalPoints);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 사용자 순위 조회
+     */
+    public Optional<LeaderboardEntry> findRank(MileageRankBasis basis, Long userId) {
+        lock.readLock().lock();
+        try {
+            Board board = boards.get(basis);
+            Key key = board.keys.get(userId);
+            return key == null ? Optional.empty() : Optional.of(board.entryOf(key));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 N명 조회
+     */
+    public List<LeaderboardEntry> findTop(MileageRankBasis basis, int size) {
+        lock.readLock().lock();
+        try {
+            Board board = boards.get(basis);
+            return board.entriesOf(board.tree.range(0, size));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 주변 순위 조회 (앞뒤 radius명)
+     */
+    public List<LeaderboardEntry> findAround(MileageRankBasis basis, Long userId, int radius) {
+        lock.readLock().lock();
+        try {
+            Board board = boards.get(basis);
+            Key key = board.keys.get(userId);
+            if (key == null) {
+                return List.of();
+            }
+            int position = board.tree.countLessThan(key);
+            return board.entriesOf(board.tree.range(position - radius, position + radius + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스에 등록된 계정 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return boards.get(MileageRankBasis.AVAILABLE).tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<MileageRankBasis, Board> createBoards() {
+        Map<MileageRankBasis, Board> boards = new EnumMap<>(MileageRankBasis.class);
+        for (MileageRankBasis basis : MileageRankBasis.values()) {
+            boards.put(basis, new Board());
+        }
+        return boards;
+    }
+
+    private void apply(Long userId, int availablePoints, int totalPoints) {
+        boards.get(MileageRankBasis.AVAILABLE).put(userId, availablePoints);
+        boards.get(MileageRankBasis.TOTAL).put(userId, totalPoints);
+    }
+
+    // ========== 내부 구조 ==========
+
+    private record Key(long userId, int points) {
+    }
+
+    private static final class Board {
+        private final Map<Long, Key> keys = new HashMap<>();
+        private final OrderStatisticTree<Key> tree = new OrderStatisticTree<>(ORDER);
+
+        private void put(Long userId, int points) {
+            Key key = new Key(userId, points);
+            Key previous = keys.put(userId, key);
+            if (previous != null) {
+                tree.remove(previous);
+            }
+            tree.add(key);
+        }
+
+        private void clear() {
+            keys.clear();
+            tree.clear();
+        }
+
+        /**
+         * 동점자는 같은 순위 (포인트가 더 많은 계정 수 + 1)
+         */
+        private LeaderboardEntry entryOf(Key key) {
+            long rank = tree.countLessThan(new Key(Long.MIN_VALUE, key.points())) + 1L;
+            return new LeaderboardEntry(rank, key.userId(), key.points());
+        }
+
+        private List<LeaderboardEntry> entriesOf(List<Key> keys) {
+            List<LeaderboardEntry> entries = new ArrayList<>(keys.size());
+            for (Key key : keys) {
+                entries.add(entryOf(key));
+            }
+            return entries;
+        }
+    }
+}
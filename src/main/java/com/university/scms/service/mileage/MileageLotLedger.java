@@ -0,0 +1,62 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.entity.MileageAccount;
+import com.university.scms.domain.mileage.entity.MileageLot;
+import com.university.scms.domain.mileage.repository.MileageLotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마일리지 적립 묶음 관리
+ *
+ * <p>적립 시 묶음을 만들고, 사용/차감 시 오래된 묶음부터 잔여 포인트를 줄입니다.
+ * 모든 메서드는 호출자가 계정 행을 조건부 UPDATE로 잠근 트랜잭션 안에서 호출해야 합니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class MileageLotLedger {
+
+    private final MileageLotRepository lotRepository;
+    private final int validityMonths;
+
+    public MileageLotLedger(MileageLotRepository lotRepository,
+                            @Value("${mileage.expiration.validity-months:24}") int validityMonths) {
+        this.lotRepository = lotRepository;
+        this.validityMonths = validityMonths;
+    }
+
+    /**
+     * 적립 묶음 유효기간 (개월)
+     */
+    public int getValidityMonths() {
+        return validityMonths;
+    }
+
+    /**
+     * 적립 시각 기준 소멸 예정 시각
+     */
+    public LocalDateTime expiresAt(LocalDateTime earnedAt) {
+        return earnedAt.plusMonths(validityMonths);
+    }
+
+    /**
+     * 적립 묶음 생성
+     */
+    public MileageLot open(MileageAccount account, Long userId, String sourceType, Long sourceId,
+                           int points, LocalDateTime now) {
+        return lotRepository.save(MileageLot.create(
+                account, userId, sourceType, sourceId, points, now, expiresAt(now)));
+    }
+
+    /**
+     * 오래된 묶음부터 포인트 차감
+     *
+     * <p>묶음 도입 이전 잔액처럼 묶음이 부족하면 있는 만큼만 차감합니다.</p>
+     */
+    public void consume(Long userId, int points, LocalDateTime now) {
+        lotRepository.consumeFifo(userId, points, now);
+    }
+}
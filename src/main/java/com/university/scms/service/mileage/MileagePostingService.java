@@ -0,0 +1,177 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.entity.MileageTransaction;
+import com.university.scms.domain.mileage.entity.TransactionType;
+import com.university.scms.domain.mileage.repository.MileageAccountRepository;
+import com.university.scms.domain.mileage.repository.MileageBalance;
+import com.university.scms.domain.mileage.repository.MileageJdbcRepository;
+import com.university.scms.domain.mileage.repository.MileageTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 마일리지 적립/사용 처리 서비스
+ *
+ * <p>잔액 변경은 엔티티를 읽어 자바에서 계산하지 않고, 조건부 UPDATE 한 번으로 DB에서 처리합니다.
+ * UPDATE가 잡은 행 잠금은 같은 트랜잭션의 잔액 조회와 거래 내역 기록까지만 유지되므로
+ * 학기말처럼 한 계정에 동시 적립이 몰려도 갱신 유실 없이 짧게 직렬화됩니다.</p>
+ *
+ * <p>출처(sourceType/sourceId)가 있는 거래는 {@code (source_type, source_id, user_id, transaction_type)}
+ * 유니크 키로 멱등 처리됩니다. 재시도된 이벤트가 다시 들어와도 선점 INSERT가 무시될 뿐
+ * 계정 행을 잠그거나 사전 SELECT를 하지 않습니다.</p>
+ *
+ * <p><b>처리 순서 (트랜잭션 1개):</b></p>
+ * <ol>
+ *   <li>거래 내역 선점 INSERT (유니크 키 충돌이면 여기서 종료)</li>
+ *   <li>조건부 UPDATE (사용/소멸은 {@code available_points >= :points} 조건, 실패 시 롤백)</li>
+ *   <li>선점한 거래에 계정 ID와 거래 후 잔액 기록</li>
+ *   <li>적립 묶음 생성 또는 오래된 묶음부터 차감 ({@link MileageLotLedger})</li>
+ * </ol>
+ *
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MileagePostingService {
+
+    private final MileageAccountRepository accountRepository;
+    private final MileageTransactionRepository transactionRepository;
+    private final MileageJdbcRepository mileageJdbcRepository;
+    private final MileageLotLedger lotLedger;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 마일리지 적립 (계정이 없으면 생성 후 적립)
+     *
+     * @return 기록된 거래 (같은 출처로 이미 적립되었으면 empty)
+     */
+    @Transactional
+    public Optional<MileageTransaction> earn(Long userId, int points, String sourceType, Long sourceId,
+                                             String description) {
+        if (points <= 0) {
+            throw new IllegalArgumentException("적립 포인트는 0보다 커야 합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Optional<Long> claimed = mileageJdbcRepository.claimTransaction(
+                userId, TransactionType.EARN, points, sourceType, sourceId, description, now);
+        if (claimed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (accountRepository.earnPoints(userId, points, now) == 0) {
+            accountRepository.insertIfAbsent(userId, now);
+            accountRepository.earnPoints(userId, points, now);
+        }
+        MileageTransaction transaction = settle(claimed.get(), userId);
+        lotLedger.open(transaction.getAccount(), userId, sourceType, sourceId, points, now);
+        return Optional.of(transaction);
+    }
+
+    /**
+     * 마일리지 사용
+     *
+     * @return 기록된 거래 (같은 출처로 이미 사용되었으면 empty)
+     */
+    @Transactional
+    public Optional<MileageTransaction> use(Long userId, int points, String sourceType, Long sourceId,
+                                            String description) {
+        if (points <= 0) {
+            throw new IllegalArgumentException("사용 포인트는 0보다 커야 합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Optional<Long> claimed = mileageJdbcRepository.claimTransaction(
+                userId, TransactionType.USE, -points, sourceType, sourceId, description, now);
+        if (claimed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (accountRepository.usePoints(userId, points, now) == 0) {
+            throw rejected(userId, "사용 가능한 마일리지가 부족합니다.");
+        }
+        lotLedger.consume(userId, points, now);
+        return Optional.of(settle(claimed.get(), userId));
+    }
+
+    /**
+     * 마일리지 소멸
+     */
+    @Transactional
+    public MileageTransaction expire(Long userId, int points, String description) {
+        if (points <= 0) {
+            throw new IllegalArgumentException("소멸 포인트는 0보다 커야 합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Long transactionId = claimUnsourced(userId, TransactionType.EXPIRE, -points, description, now);
+
+        if (accountRepository.expirePoints(userId, points, now) == 0) {
+            throw rejected(userId, "소멸할 마일리지가 부족합니다.");
+        }
+        lotLedger.consume(userId, points, now);
+        return settle(transactionId, userId);
+    }
+
+    /**
+     * 마일리지 조정 (관리자, 음수면 차감)
+     */
+    @Transactional
+    public MileageTransaction adjust(Long userId, int points, String description) {
+        if (points == 0) {
+            throw new IllegalArgumentException("조정 포인트는 0일 수 없습니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Long transactionId = claimUnsourced(userId, TransactionType.ADJUST, points, description, now);
+
+        if (accountRepository.adjustPoints(userId, points, now) == 0) {
+            throw rejected(userId, "차감할 마일리지가 부족합니다.");
+        }
+        if (points < 0) {
+            lotLedger.consume(userId, -points, now);
+        }
+        MileageTransaction transaction = settle(transactionId, userId);
+        if (points > 0) {
+            lotLedger.open(transaction.getAccount(), userId, null, null, points, now);
+        }
+        return transaction;
+    }
+
+    // ========== 내부 메서드 ==========
+
+    /**
+     * 출처 없는 거래 선점 (유니크 키의 출처 컬럼이 NULL이므로 항상 기록됨)
+     */
+    private Long claimUnsourced(Long userId, TransactionType type, int signedPoints, String description,
+                                LocalDateTime now) {
+        return mileageJdbcRepository.claimTransaction(userId, type, signedPoints, null, null, description, now)
+                .orElseThrow(() -> new IllegalStateException("거래 내역을 기록하지 못했습니다."));
+    }
+
+    /**
+     * UPDATE로 잠긴 계정의 잔액을 선점한 거래에 기록하고 잔액 변경 이벤트 발행
+     */
+    private MileageTransaction settle(Long transactionId, Long userId) {
+        mileageJdbcRepository.settleTransaction(transactionId);
+        MileageBalance balance = accountRepository.findBalanceByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("마일리지 계정이 존재하지 않습니다."));
+
+        eventPublisher.publishEvent(new MileageBalanceChangedEvent(
+                userId, balance.getAvailablePoints(), balance.getTotalPoints(), balance.getVersion()));
+        return transactionRepository.findById(transactionId)
+                .orElseThrow(() -> new IllegalStateException("거래 내역을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 조건부 UPDATE가 0건일 때 원인(계정 없음 / 잔액 부족)을 구분
+     */
+    private RuntimeException rejected(Long userId, String insufficientMessage) {
+        if (!accountRepository.existsByUserId(userId)) {
+            return new IllegalArgumentException("마일리지 계정이 존재하지 않습니다.");
+        }
+        return new IllegalStateException(insufficientMessage);
+    }
+}
@@ -0,0 +1,22 @@
+package com.university.scms.service.mileage;
+
+/**
+ * 마일리지 순위 기준
+ *
+ * AVAILABLE: 사용 가능 포인트
+ * TOTAL: 누적 포인트
+ */
+public enum MileageRankBasis {
+    AVAILABLE("사용 가능 포인트"),
+    TOTAL("누적 포인트");
+
+    private final String description;
+
+    MileageRankBasis(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,12 @@
+package com.university.scms.service.mileage;
+
+/**
+ * 마일리지 잔액 조회 일관성 수준
+ *
+ * EVENTUAL: 계정에 반영된 잔액만 조회 (이벤트 로그 반영 지연만큼 늦을 수 있음)
+ * READ_YOUR_WRITES: 반영 대기 중인 적립 이벤트까지 더한 잔액
+ */
+public enum MileageReadConsistency {
+    EVENTUAL,
+    READ_YOUR_WRITES
+}
@@ -0,0 +1,150 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.entity.MileageBalanceSnapshot;
+import com.university.scms.domain.mileage.repository.MileageBalanceSnapshotRepository;
+import com.university.scms.domain.mileage.repository.MileageTransactionRepository;
+import com.university.scms.dto.mileage.MileageLedgerTotals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 마일리지 월별 스냅샷 서비스
+ *
+ * <p>마감된 월마다 사용자별/전체 스냅샷을 INSERT ... SELECT로 생성하고,
+ * 통계 조회 시 스냅샷에 그 이후 거래만 더해 원장 전체 SUM을 피합니다.
+ * 학기 보고서처럼 여러 달에 걸친 조회도 스냅샷 행 수(월 수)만큼만 읽습니다.</p>
+ *
+ * <p>스냅샷의 누적값은 직전 월에 의존하므로 월 순서대로만 추가하며, 이미 만든 월은 다시 만들지 않습니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MileageSnapshotService {
+
+    private final MileageBalanceSnapshotRepository snapshotRepository;
+    private final MileageTransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // ========== 스냅샷 생성 ==========
+
+    /**
+     * 아직 스냅샷이 없는 마감 월을 순서대로 생성 (매일 03:00, 월마다 별도 트랜잭션)
+     *
+     * @return 생성한 월 수
+     */
+    @Scheduled(cron = "${mileage.snapshot.cron:0 0 3 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int snapshotClosedMonths() {
+        YearMonth lastClosed = YearMonth.now().minusMonths(1);
+        YearMonth next = nextMonthToSnapshot();
+        if (next == null) {
+            return 0;
+        }
+
+        int created = 0;
+        for (YearMonth month = next; !month.isAfter(lastClosed); month = month.plusMonths(1)) {
+            YearMonth target = month;
+            int users = transactionTemplate.execute(status -> snapshotMonth(target));
+            log.info("마일리지 스냅샷 생성: period={}, users={}", target, users);
+            created++;
+        }
+        return created;
+    }
+
+    private YearMonth nextMonthToSnapshot() {
+        LocalDate latest = snapshotRepository.findLatestPeriodStart();
+        if (latest != null) {
+            return YearMonth.from(latest).plusMonths(1);
+        }
+        LocalDateTime first = transactionRepository.findFirstCreatedAt();
+        return first != null ? YearMonth.from(first) : null;
+    }
+
+    private int snapshotMonth(YearMonth month) {
+        LocalDate periodStart = month.atDay(1);
+        if (snapshotRepository.existsByUserIdAndPeriodStart(MileageBalanceSnapshot.ALL_USERS, periodStart)) {
+            return 0;
+        }
+        LocalDateTime start = periodStart.atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        LocalDateTime now = LocalDateTime.now();
+
+        int users = snapshotRepository.insertUserSnapshots(periodStart, start, end, now);
+        snapshotRepository.insertGlobalSnapshot(periodStart, start, end, now);
+        return users;
+    }
+
+    // ========== 통계 조회 ==========
+
+    /**
+     * 사용자의 전체 기간 유형별 합계
+     * (최근 스냅샷 누적값 + 스냅샷 이후 거래)
+     */
+    public MileageLedgerTotals getUserTotals(Long userId) {
+        return snapshotRepository.findTopByUserIdOrderByPeriodStartDesc(userId)
+                .map(snapshot -> MileageLedgerTotals.cumulativeOf(snapshot).plus(MileageLedgerTotals.of(
+                        transactionRepository.sumByTypeForUserSince(
+                                userId, snapshot.getNextPeriodStart().atStartOfDay()))))
+                .orElseGet(() -> MileageLedgerTotals.of(transactionRepository.sumByTypeForUser(userId)));
+    }
+
+    /**
+     * 사용자의 월 범위 유형별 합계 [from, to]
+     */
+    public MileageLedgerTotals getUserTotals(Long userId, YearMonth from, YearMonth to) {
+        return sumPeriod(userId, from, to);
+    }
+
+    /**
+     * 전체 사용자의 월 범위 유형별 합계 [from, to]
+     */
+    public MileageLedgerTotals getTotals(YearMonth from, YearMonth to) {
+        return sumPeriod(MileageBalanceSnapshot.ALL_USERS, from, to);
+    }
+
+    /**
+     * 스냅샷이 있는 월은 스냅샷 증감을, 그 이후 월은 원장을 집계
+     * (사용자 스냅샷이 없는 마감 월은 거래가 없었던 달)
+     */
+    private MileageLedgerTotals sumPeriod(Long userId, YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 월은 종료 월보다 이후일 수 없습니다.");
+        }
+        LocalDate latest = snapshotRepository.findLatestPeriodStart();
+        YearMonth watermark = latest != null ? YearMonth.from(latest) : null;
+
+        MileageLedgerTotals totals = MileageLedgerTotals.zero();
+        if (watermark != null && !from.isAfter(watermark)) {
+            YearMonth snapshotTo = to.isBefore(watermark) ? to : watermark;
+            List<MileageBalanceSnapshot> snapshots = snapshotRepository
+                    .findByUserIdAndPeriodStartBetweenOrderByPeriodStartAsc(
+                            userId, from.atDay(1), snapshotTo.atDay(1));
+            for (MileageBalanceSnapshot snapshot : snapshots) {
+                totals = totals.plus(MileageLedgerTotals.periodOf(snapshot));
+            }
+        }
+
+        YearMonth rawFrom = watermark != null && !from.isAfter(watermark) ? watermark.plusMonths(1) : from;
+        if (!rawFrom.isAfter(to)) {
+            LocalDateTime start = rawFrom.atDay(1).atStartOfDay();
+            LocalDateTime end = to.plusMonths(1).atDay(1).atStartOfDay();
+            totals = totals.plus(MileageLedgerTotals.of(MileageBalanceSnapshot.ALL_USERS.equals(userId)
+                    ? transactionRepository.sumByTypeBetween(start, end)
+                    : transactionRepository.sumByTypeForUserBetween(userId, start, end)));
+        }
+        return totals;
+    }
+}
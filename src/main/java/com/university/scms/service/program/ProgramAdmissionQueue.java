@@ -0,0 +1,313 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+import com.university.scms.domain.program.entity.ProgramActivityChangedEvent;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository.ApplicationRow;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository.SeatState;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository.StoredApplication;
+import com.university.scms.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로그램 신청 대기열 (인기 프로그램 오픈 시 신청 폭주 흡수)
+ *
+ * <p>신청은 대기표 번호만 받고 즉시 반환되며, DB에는 접근하지 않습니다.
+ * 번호 발급과 대기열 추가는 프로그램별 잠금 안에서 함께 일어나므로 대기열은 항상 대기표 순서입니다.
+ * 단일 소비자가 {@code program.admission.drain-delay-ms}마다 프로그램별로 최대 {@value #BATCH_SIZE}건씩 꺼내
+ * 한 트랜잭션에서 처리하므로 DB에는 폭주 대신 일정한 배치 쓰기만 도달합니다.</p>
+ * <ol>
+ *   <li>프로그램 행 잠금 후 신청 기간과 남은 좌석 확인</li>
+ *   <li>이미 신청한 사용자와 배치 내 중복 신청 거부 (IN 조회 1회)</li>
+ *   <li>새 신청을 WAITLISTED로 일괄 INSERT (다른 경로로 먼저 등록된 사용자는 유니크 키 충돌로 무시)</li>
+ *   <li>실제로 등록된 행만 접수 순서대로 남은 좌석만큼 PENDING 전환 후 참여자 수 증가</li>
+ * </ol>
+ *
+ * <p>결과는 대기표 번호로 조회하거나 {@link #await}로 완료를 기다릴 수 있고,
+ * 처리된 대기표는 {@code program.admission.result-retention} 동안 보관합니다.</p>
+ *
+ * <p><b>대기열은 메모리에만 있습니다.</b> 정상 종료 시에는 남은 신청을 모두 처리한 뒤 내려가지만,
+ * 비정상 종료 시 아직 처리되지 않은 대기표와 처리 결과는 사라집니다. 대기표 조회가 404를 반환하면
+ * 클라이언트는 신청 이력({@code GET /api/programs/applications})을 확인하고, 없으면 직접 신청 경로
+ * ({@code POST /api/programs/{programId}/applications})로 다시 신청합니다. (중복 신청은 유니크 키로 거부됩니다.)</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class ProgramAdmissionQueue {
+
+    static final int BATCH_SIZE = 500;
+    private static final Duration SHUTDOWN_DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ProgramJdbcRepository programJdbcRepository;
+    private final ProgramSeatGate seatGate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int capacity;
+    private final Duration resultRetention;
+
+    private final AtomicLong ticketSequence = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final ConcurrentHashMap<Long, ConcurrentLinkedQueue<Admission>> queuesByProgram = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Admission> admissionsByTicket = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Admission> completed = new ConcurrentLinkedQueue<>();
+
+    public ProgramAdmissionQueue(
+            ProgramJdbcRepository programJdbcRepository,
+            ProgramSeatGate seatGate,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${program.admission.capacity:100000}") int capacity,
+            @Value("${program.admission.result-retention:10m}") Duration resultRetention) {
+        this.programJdbcRepository = programJdbcRepository;
+        this.seatGate = seatGate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.capacity = capacity;
+        this.resultRetention = resultRetention;
+    }
+
+    /**
+     * 신청 접수 (대기표 발급 후 즉시 반환)
+     */
+    public ProgramAdmissionTicket enqueue(Long programId, Long userId, String motivation) {
+        if (queuedCount.incrementAndGet() > capacity) {
+            queuedCount.decrementAndGet();
+            throw new IllegalStateException("신청 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        ConcurrentLinkedQueue<Admission> queue =
+                queuesByProgram.computeIfAbsent(programId, id -> new ConcurrentLinkedQueue<>());
+        // 대기표 번호 발급과 추가를 프로그램 단위로 묶어 대기열 순서 = 대기표 순서 = 신청 일시 순서를 보장
+        synchronized (queue) {
+            long ticketNumber = ticketSequence.incrementAndGet();
+            // 등록 후 신청 일시로 본인 행을 식별하므로 DB 정밀도(마이크로초)에 맞춤
+            Admission admission = new Admission(ProgramAdmissionTicket.queued(ticketNumber, programId, userId),
+                    motivation, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            admissionsByTicket.put(ticketNumber, admission);
+            queue.add(admission);
+            return admission.ticket;
+        }
+    }
+
+    /**
+     * 대기표 조회
+     */
+    public Optional<ProgramAdmissionTicket> find(long ticketNumber) {
+        Admission admission = admissionsByTicket.get(ticketNumber);
+        if (admission == null) {
+            return Optional.empty();
+        }
+        return Optional.of(admission.result.getNow(admission.ticket));
+    }
+
+    /**
+     * 대기표 처리 완료를 최대 timeout까지 기다림 (시간이 지나면 현재 상태 반환)
+     */
+    public CompletableFuture<ProgramAdmissionTicket> await(long ticketNumber, Duration timeout) {
+        Admission admission = admissionsByTicket.get(ticketNumber);
+        if (admission == null) {
+            return CompletableFuture.failedFuture(new ResourceNotFoundException("대기표를 찾을 수 없습니다. 신청 이력을 확인하고 없으면 다시 신청해주세요."));
+        }
+        return admission.result.copy()
+                .completeOnTimeout(admission.ticket, timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 처리 대기 중인 신청 수
+     */
+    public int size() {
+        return queuedCount.get();
+    }
+
+    /**
+     * 프로그램마다 한 배치씩 처리 (이미 처리 중이면 건너뜀 - 단일 소비자)
+     *
+     * @return 처리한 신청 수
+     */
+    @Scheduled(fixedDelayString = "${program.admission.drain-delay-ms:100}")
+    public int drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            return drainOnce();
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    /**
+     * 정상 종료 시 남은 신청을 모두 처리 (스케줄러가 처리 중인 배치도 기다림)
+     */
+    @PreDestroy
+    public void drainOnShutdown() {
+        long deadline = System.nanoTime() + SHUTDOWN_DRAIN_TIMEOUT.toNanos();
+        while ((queuedCount.get() > 0 || draining.get()) && System.nanoTime() - deadline < 0) {
+            if (drain() == 0) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        if (queuedCount.get() > 0) {
+            log.warn("종료 전에 처리하지 못한 프로그램 신청 대기표: {}건", queuedCount.get());
+        }
+    }
+
+    // ========== 내부 메서드 ==========
+
+    private int drainOnce() {
+        int processed = 0;
+        for (Map.Entry<Long, ConcurrentLinkedQueue<Admission>> entry : queuesByProgram.entrySet()) {
+            List<Admission> batch = new ArrayList<>(Math.min(BATCH_SIZE, entry.getValue().size()));
+            Admission admission;
+            while (batch.size() < BATCH_SIZE && (admission = entry.getValue().poll()) != null) {
+                batch.add(admission);
+            }
+            if (!batch.isEmpty()) {
+                queuedCount.addAndGet(-batch.size());
+                processBatch(entry.getKey(), batch);
+                processed += batch.size();
+            }
+        }
+        evictExpiredResults();
+        return processed;
+    }
+
+    private void processBatch(Long programId, List<Admission> batch) {
+        List<ProgramAdmissionTicket> results;
+        try {
+            results = transactionTemplate.execute(status -> admit(programId, batch));
+        } catch (RuntimeException e) {
+            log.error("프로그램 신청 배치 처리 실패: programId={}, size={}", programId, batch.size(), e);
+            results = batch.stream().map(a -> a.ticket.rejected("신청 처리 중 오류가 발생했습니다.")).toList();
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            Admission admission = batch.get(i);
+            admission.completedAtNanos = System.nanoTime();
+            admission.result.complete(results.get(i));
+            completed.add(admission);
+        }
+    }
+
+    private List<ProgramAdmissionTicket> admit(Long programId, List<Admission> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        long observedAtNanos = System.nanoTime();
+        Optional<SeatState> locked = programJdbcRepository.lockSeatState(programId);
+        if (locked.isEmpty()) {
+            return batch.stream().map(a -> a.ticket.rejected("프로그램을 찾을 수 없습니다.")).toList();
+        }
+        SeatState seatState = locked.get();
+        if (!seatState.isAcceptingApplications(now)) {
+            return batch.stream().map(a -> a.ticket.rejected("신청 기간이 아니거나 모집 중인 프로그램이 아닙니다.")).toList();
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        batch.forEach(a -> userIds.add(a.ticket.userId()));
+        Set<Long> taken = programJdbcRepository.findApplicantUserIds(programId, userIds);
+
+        // 새 신청은 모두 대기 상태로 등록 (이미 신청했거나 배치 안에서 중복된 사용자는 제외)
+        List<ApplicationRow> rows = new ArrayList<>(batch.size());
+        boolean[] submitted = new boolean[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            Admission admission = batch.get(i);
+            if (taken.add(admission.ticket.userId())) {
+                submitted[i] = true;
+                rows.add(new ApplicationRow(admission.ticket.userId(), ApplicationStatus.WAITLISTED,
+                        admission.requestedAt, admission.motivation));
+            }
+        }
+
+        long waitlistBase = programJdbcRepository.countWaitlisted(programId);
+        if (!rows.isEmpty()) {
+            programJdbcRepository.batchInsertApplications(programId, rows, now);
+            eventPublisher.publishEvent(new ProgramActivityChangedEvent(programId));
+        }
+        Map<Long, StoredApplication> stored = programJdbcRepository.findApplicationsByUserIds(programId, userIds);
+
+        // 실제로 등록된 행만 접수 순서대로 남은 좌석에 배정
+        // (다른 경로로 먼저 등록되어 INSERT가 무시된 신청은 신청 일시가 달라 좌석을 세지 않음)
+        int remainingSeats = seatState.remainingSeats();
+        List<Long> seatedIds = new ArrayList<>(Math.min(remainingSeats, batch.size()));
+        long waitlisted = 0;
+        List<ProgramAdmissionTicket> results = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Admission admission = batch.get(i);
+            StoredApplication application = stored.get(admission.ticket.userId());
+            if (!submitted[i] || application == null
+                    || application.status() != ApplicationStatus.WAITLISTED
+                    || !admission.requestedAt.equals(application.applicationDate())) {
+                results.add(admission.ticket.rejected("이미 신청한 프로그램입니다."));
+            } else if (seatedIds.size() < remainingSeats) {
+                seatedIds.add(application.id());
+                results.add(admission.ticket.seated(application.id()));
+            } else {
+                results.add(admission.ticket.waitlisted(application.id(), waitlistBase + ++waitlisted));
+            }
+        }
+
+        if (!seatedIds.isEmpty()) {
+            int seated = programJdbcRepository.promoteWaitlisted(seatedIds, now);
+            programJdbcRepository.addParticipants(programId, seated, now);
+        }
+        if (remainingSeats - seatedIds.size() <= 0) {
+            seatGate.markSoldOut(programId, observedAtNanos);
+        }
+        return results;
+    }
+
+    private void evictExpiredResults() {
+        long cutoff = System.nanoTime() - resultRetention.toNanos();
+        Admission head;
+        while ((head = completed.peek()) != null && head.completedAtNanos - cutoff < 0) {
+            completed.poll();
+            admissionsByTicket.remove(head.ticket.ticketNumber());
+        }
+    }
+
+    /**
+     * 접수된 신청 한 건과 처리 결과
+     */
+    private static final class Admission {
+
+        private final ProgramAdmissionTicket ticket;
+        private final String motivation;
+        private final LocalDateTime requestedAt;
+        private final CompletableFuture<ProgramAdmissionTicket> result = new CompletableFuture<>();
+        private volatile long completedAtNanos;
+
+        private Admission(ProgramAdmissionTicket ticket, String motivation, LocalDateTime requestedAt) {
+            this.ticket = ticket;
+            this.motivation = motivation;
+            this.requestedAt = requestedAt;
+        }
+    }
+}
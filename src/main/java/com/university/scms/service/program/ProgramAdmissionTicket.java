@@ -0,0 +1,52 @@
+package com.university.scms.service.program;
+
+/**
+ * 프로그램 신청 대기표
+ *
+ * @param ticketNumber 대기표 번호 (접수 순서)
+ * @param programId 프로그램 ID
+ * @param userId 신청자 ID
+ * @param status 처리 상태
+ * @param applicationId 등록된 신청 ID (처리 전이거나 거부되면 null)
+ * @param waitlistPosition 대기 순번 (대기자 명단 등록 시에만 의미 있음)
+ * @param message 거부 사유
+ */
+public record ProgramAdmissionTicket(
+        long ticketNumber,
+        Long programId,
+        Long userId,
+        Status status,
+        Long applicationId,
+        long waitlistPosition,
+        String message) {
+
+    /**
+     * 대기표 처리 상태
+     */
+    public enum Status {
+        QUEUED,      // 대기열에서 처리 대기 중
+        SEATED,      // 좌석 확보 (신청 PENDING)
+        WAITLISTED,  // 대기자 명단 등록
+        REJECTED     // 중복 신청, 신청 기간 아님 등으로 거부
+    }
+
+    static ProgramAdmissionTicket queued(long ticketNumber, Long programId, Long userId) {
+        return new ProgramAdmissionTicket(ticketNumber, programId, userId, Status.QUEUED, null, 0L, null);
+    }
+
+    ProgramAdmissionTicket seated(Long applicationId) {
+        return new ProgramAdmissionTicket(ticketNumber, programId, userId, Status.SEATED, applicationId, 0L, null);
+    }
+
+    ProgramAdmissionTicket waitlisted(Long applicationId, long position) {
+        return new ProgramAdmissionTicket(ticketNumber, programId, userId, Status.WAITLISTED, applicationId, position, null);
+    }
+
+    ProgramAdmissionTicket rejected(String reason) {
+        return new ProgramAdmissionTicket(ticketNumber, programId, userId, Status.REJECTED, null, 0L, reason);
+    }
+
+    public boolean isDone() {
+        return status != Status.QUEUED;
+    }
+}
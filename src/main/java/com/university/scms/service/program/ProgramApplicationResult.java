@@ -0,0 +1,17 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+
+/**
+ * 프로그램 신청 결과
+ *
+ * @param applicationId 신청 ID
+ * @param status PENDING(좌석 확보) 또는 WAITLISTED(대기자 명단)
+ * @param waitlistPosition 대기 순번 (좌석을 확보했으면 0)
+ */
+public record ProgramApplicationResult(Long applicationId, ApplicationStatus status, long waitlistPosition) {
+
+    public boolean isSeated() {
+        return status == ApplicationStatus.PENDING;
+    }
+}
@@ -0,0 +1,113 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+import com.university.scms.domain.program.entity.ProgramActivityChangedEvent;
+import com.university.scms.domain.program.entity.ProgramApplication;
+import com.university.scms.domain.program.repository.ProgramApplicationRepository;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository.ParticipantRow;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository.ReviewRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 프로그램 신청 일괄 검토 서비스
+ *
+ * <p>신청 목록을 한 번에 조회하고 한 트랜잭션에서 다음 순서로 반영합니다.</p>
+ * <ul>
+ *   <li>신청 상태: 검토 시점 상태를 조건으로 한 JDBC 배치 UPDATE (그 사이 취소된 신청은 건너뜀)</li>
+ *   <li>승인: 참여자 JDBC 배치 INSERT (좌석은 신청 시 이미 점유했으므로 참여자 수는 그대로)</li>
+ *   <li>거부: 반환된 좌석 수만큼 대기자를 한 번에 승격하고 남는 좌석은 UPDATE 한 번으로 반환</li>
+ * </ul>
+ *
+ * <p>JDBC/일괄 UPDATE는 엔티티 리스너를 거치지 않으므로 {@link ProgramActivityChangedEvent}를 직접 발행합니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProgramApplicationReviewService {
+
+    static final int MAX_APPLICATIONS = 1000;
+
+    private final ProgramApplicationRepository applicationRepository;
+    private final ProgramJdbcRepository programJdbcRepository;
+    private final ProgramApplicationService applicationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 신청 일괄 승인/거부
+     */
+    @Transactional
+    public ProgramReviewResult review(Long programId, List<Long> applicationIds, ProgramReviewDecision decision,
+                                      Long reviewerId, String rejectionReason) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(applicationIds));
+        if (ids.isEmpty() || ids.size() > MAX_APPLICATIONS) {
+            throw new IllegalArgumentException("신청은 1건 이상 " + MAX_APPLICATIONS + "건 이하로 검토할 수 있습니다.");
+        }
+
+        Map<Long, ProgramApplication> applications = applicationRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProgramApplication::getId, Function.identity()));
+
+        List<ProgramApplication> reviewable = new ArrayList<>();
+        List<Long> skippedIds = new ArrayList<>();
+        for (Long id : ids) {
+            ProgramApplication application = applications.get(id);
+            if (application != null
+                    && application.getProgram().getId().equals(programId)
+                    && decision.canReview(application.getStatus())) {
+                reviewable.add(application);
+            } else {
+                skippedIds.add(id);
+            }
+        }
+        if (reviewable.isEmpty()) {
+            return new ProgramReviewResult(decision, List.of(), skippedIds, List.of());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean[] applied = programJdbcRepository.batchReviewApplications(
+                reviewable.stream().map(a -> new ReviewRow(a.getId(), a.getStatus())).toList(),
+                decision.getResultStatus(),
+                reviewerId,
+                decision == ProgramReviewDecision.REJECT ? rejectionReason : null,
+                now);
+
+        List<ProgramApplication> reviewed = new ArrayList<>();
+        for (int i = 0; i < applied.length; i++) {
+            if (applied[i]) {
+                reviewed.add(reviewable.get(i));
+            } else {
+                skippedIds.add(reviewable.get(i).getId());
+            }
+        }
+
+        List<Long> promotedIds = List.of();
+        if (decision == ProgramReviewDecision.APPROVE) {
+            programJdbcRepository.batchInsertParticipants(programId,
+                    reviewed.stream().map(a -> new ParticipantRow(a.getId(), a.getUserId())).toList(), now);
+        } else {
+            int releasedSeats = (int) reviewed.stream()
+                    .filter(a -> a.getStatus() == ApplicationStatus.PENDING)
+                    .count();
+            promotedIds = applicationService.handOverSeats(programId, releasedSeats);
+        }
+
+        if (!reviewed.isEmpty()) {
+            eventPublisher.publishEvent(new ProgramActivityChangedEvent(programId));
+        }
+        return new ProgramReviewResult(
+                decision, reviewed.stream().map(ProgramApplication::getId).toList(), skippedIds, promotedIds);
+    }
+}
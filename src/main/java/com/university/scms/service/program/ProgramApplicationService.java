@@ -0,0 +1,181 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramActivityChangedEvent;
+import com.university.scms.domain.program.entity.ProgramApplication;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramApplicationRepository;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository.SeatState;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import com.university.scms.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 프로그램 신청 서비스 (좌석 점유 + 대기자 명단)
+ *
+ * <p>좌석은 {@code current_participants < capacity} 조건부 UPDATE 한 번으로 점유하므로
+ * 신청이 동시에 몰려도 정원을 초과하지 않습니다. 점유에 실패하면 대기자 명단(WAITLISTED)에 등록하고,
+ * 좌석을 점유한 신청이 취소되면 가장 먼저 대기한 신청에게 좌석을 넘깁니다.</p>
+ *
+ * <p>정원이 찬 뒤의 신청은 {@link ProgramSeatGate}로 프로그램 행 잠금 없이 대기자 명단으로 보냅니다.</p>
+ *
+ * <p>좌석을 넘길 때는 프로그램 행을 먼저 잠근 뒤 대기자를 찾습니다. 좌석 점유 UPDATE에 실패한 신청은
+ * 커밋까지 같은 행 잠금을 쥐고 있으므로, 취소가 아직 커밋되지 않은 대기 신청을 건너뛰고 좌석을 반환하는 일이 없습니다.
+ * 마감 캐시 때문에 행 잠금 없이 대기자가 된 신청은 {@link ProgramWaitlistSweeper}가 빈 좌석으로 승급시킵니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProgramApplicationService {
+
+    private final ProgramRepository programRepository;
+    private final ProgramApplicationRepository applicationRepository;
+    private final ProgramJdbcRepository programJdbcRepository;
+    private final ProgramSeatGate seatGate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 프로그램 신청 (좌석이 없으면 대기자 명단 등록)
+     */
+    @Transactional
+    public ProgramApplicationResult apply(Long programId, Long userId, String motivation) {
+        LocalDateTime now = LocalDateTime.now();
+        long observedAtNanos = System.nanoTime();
+
+        boolean seated = seatGate.mayHaveSeat(programId) && programRepository.claimSeat(programId, now) == 1;
+        if (!seated) {
+            Program program = programRepository.findById(programId)
+                    .orElseThrow(() -> new ResourceNotFoundException("프로그램을 찾을 수 없습니다."));
+            if (!isAcceptingApplications(program, now)) {
+                throw new IllegalStateException("신청 기간이 아니거나 모집 중인 프로그램이 아닙니다.");
+            }
+            seatGate.markSoldOut(programId, observedAtNanos);
+        }
+
+        ProgramApplication application = ProgramApplication.builder()
+                .program(programRepository.getReferenceById(programId))
+                .userId(userId)
+                .motivation(motivation)
+                .status(seated ? ApplicationStatus.PENDING : ApplicationStatus.WAITLISTED)
+                .applicationDate(now)
+                .build();
+        try {
+            applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 신청한 프로그램입니다.");
+        }
+
+        long waitlistPosition = seated
+                ? 0L
+                : applicationRepository.findWaitlistPosition(programId, now, application.getId());
+        return new ProgramApplicationResult(application.getId(), application.getStatus(), waitlistPosition);
+    }
+
+    /**
+     * 신청 취소 (좌석을 점유했으면 대기자에게 넘기거나 반환)
+     */
+    @Transactional
+    public void cancel(Long applicationId, Long userId) {
+        ProgramApplication application = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new ResourceNotFoundException("신청 내역을 찾을 수 없습니다."));
+        if (!application.getUserId().equals(userId)) {
+            throw new IllegalStateException("본인의 신청만 취소할 수 있습니다.");
+        }
+        if (application.isCancelled()) {
+            throw new IllegalStateException("이미 취소된 신청입니다.");
+        }
+
+        boolean heldSeat = application.holdsSeat();
+        Long programId = application.getProgram().getId();
+        application.cancel();
+
+        if (heldSeat) {
+            handOverSeat(programId);
+        }
+    }
+
+    /**
+     * 반환된 좌석을 가장 먼저 대기한 신청에게 넘기고, 대기자가 없으면 정원으로 되돌림
+     *
+     * @return 좌석을 넘겨받은 신청 ID
+     */
+    @Transactional
+    public Optional<Long> handOverSeat(Long programId) {
+        // 대기자를 찾기 전에 프로그램 행부터 잠가, 좌석 점유에 실패하고 대기자로 등록 중인 신청의 커밋을 기다림
+        programJdbcRepository.lockSeatState(programId);
+        Optional<Long> next = applicationRepository.lockNextWaitlisted(programId);
+        if (next.isPresent()) {
+            applicationRepository.promoteWaitlisted(next.get());
+            return next;
+        }
+        programRepository.releaseSeat(programId);
+        seatGate.reopen(programId);
+        return Optional.empty();
+    }
+
+    /**
+     * 반환된 좌석 여러 개를 대기 순서대로 넘기고, 남는 좌석은 한 번에 정원으로 되돌림
+     *
+     * @return 좌석을 넘겨받은 신청 ID (대기 순서)
+     */
+    @Transactional
+    public List<Long> handOverSeats(Long programId, int seats) {
+        if (seats <= 0) {
+            return List.of();
+        }
+        programJdbcRepository.lockSeatState(programId);
+        List<Long> next = applicationRepository.lockNextWaitlisted(programId, seats);
+        if (!next.isEmpty()) {
+            applicationRepository.promoteWaitlisted(next);
+        }
+        if (next.size() < seats) {
+            programRepository.releaseSeats(programId, seats - next.size());
+            seatGate.reopen(programId);
+        }
+        return next;
+    }
+
+    /**
+     * 남은 좌석이 있는데 대기 중인 신청이 있으면 대기 순서대로 좌석을 점유시킴
+     *
+     * @return 좌석을 점유한 신청 ID (대기 순서)
+     */
+    @Transactional
+    public List<Long> fillFreeSeats(Long programId) {
+        Optional<SeatState> seatState = programJdbcRepository.lockSeatState(programId);
+        if (seatState.isEmpty() || seatState.get().remainingSeats() == 0) {
+            return List.of();
+        }
+        List<Long> next = applicationRepository.lockNextWaitlisted(programId, seatState.get().remainingSeats());
+        if (next.isEmpty()) {
+            return next;
+        }
+        int promoted = applicationRepository.promoteWaitlisted(next);
+        programJdbcRepository.addParticipants(programId, promoted, LocalDateTime.now());
+        // 일괄 UPDATE는 엔티티 리스너를 거치지 않으므로 직접 발행
+        eventPublisher.publishEvent(new ProgramActivityChangedEvent(programId));
+        return next;
+    }
+
+    // ========== 내부 메서드 ==========
+
+    private boolean isAcceptingApplications(Program program, LocalDateTime now) {
+        return program.getStatus() == ProgramStatus.OPEN
+                && program.getApplicationStart() != null
+                && program.getApplicationEnd() != null
+                && !now.isBefore(program.getApplicationStart())
+                && now.isBefore(program.getApplicationEnd());
+    }
+}
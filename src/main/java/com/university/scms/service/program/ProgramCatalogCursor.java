@@ -0,0 +1,45 @@
+package com.university.scms.service.program;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 프로그램 목록 커서 (등록 일시, ID 내림차순 기준 마지막 항목)
+ *
+ * <p>클라이언트에는 Base64 URL 문자열로만 노출하므로 정렬 키가 바뀌어도 API 형식은 유지됩니다.</p>
+ *
+ * @param createdAt 마지막 항목의 등록 일시
+ * @param id 마지막 항목의 ID
+ */
+public record ProgramCatalogCursor(LocalDateTime createdAt, long id) {
+
+    /**
+     * 첫 페이지 (모든 항목보다 뒤)
+     */
+    public static final ProgramCatalogCursor FIRST = new ProgramCatalogCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석 (비어 있으면 첫 페이지)
+     */
+    public static ProgramCatalogCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new ProgramCatalogCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
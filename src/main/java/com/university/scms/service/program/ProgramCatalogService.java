@@ -0,0 +1,128 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import com.university.scms.dto.program.ProgramCatalogResponse;
+import com.university.scms.dto.program.ProgramCatalogResponse.Item;
+import com.university.scms.service.program.ProgramSearchIndex.KeysetPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로그램 목록 서비스 (커서 기반 페이지)
+ *
+ * <p>OFFSET 페이지 대신 (등록 일시, ID) 커서로 다음 페이지를 조회하므로 몇 번째 페이지든 비용이 같습니다.</p>
+ * <ul>
+ *   <li>검색어 없음: 커서 이후 인덱스 범위 탐색 1회 + 조건별 건수는 캐시 ({@code program.catalog.count-ttl}, 기본 60초,
+ *       카테고리가 요청 값이므로 최대 {@value #MAX_CACHED_COUNTS}개 조건까지만)</li>
+ *   <li>검색어 있음: {@link ProgramSearchIndex}에서 커서 다음 ID와 건수를 구한 뒤 PK IN 조회 1회</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProgramCatalogService {
+
+    static final int MAX_SIZE = 100;
+    static final int MAX_CACHED_COUNTS = 256;
+
+    private final ProgramRepository programRepository;
+    private final ProgramSearchIndex searchIndex;
+    private final long countTtlNanos;
+
+    private final Map<CountKey, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+
+    public ProgramCatalogService(ProgramRepository programRepository,
+                                 ProgramSearchIndex searchIndex,
+                                 @Value("${program.catalog.count-ttl:60s}") Duration countTtl) {
+        this.programRepository = programRepository;
+        this.searchIndex = searchIndex;
+        this.countTtlNanos = countTtl.toNanos();
+    }
+
+    /**
+     * 프로그램 목록 조회
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public ProgramCatalogResponse getCatalog(String keyword, ProgramStatus status, String category,
+                                             String cursor, int size) {
+        ProgramCatalogCursor after = ProgramCatalogCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_SIZE);
+        String categoryFilter = category == null || category.isBlank() ? null : category;
+
+        List<Program> programs;
+        long estimatedTotal;
+        if (keyword == null || keyword.isBlank()) {
+            programs = programRepository.findCatalogPage(
+                    status, categoryFilter, after.createdAt(), after.id(), PageRequest.of(0, pageSize + 1));
+            estimatedTotal = estimateCount(status, categoryFilter);
+        } else {
+            KeysetPage page = searchIndex.findIdsAfter(keyword, status, categoryFilter, after, pageSize + 1);
+            programs = findAllInOrder(page.programIds());
+            estimatedTotal = page.totalCount();
+        }
+
+        boolean hasNext = programs.size() > pageSize;
+        List<Program> content = hasNext ? programs.subList(0, pageSize) : programs;
+        String nextCursor = null;
+        if (hasNext) {
+            Program last = content.get(content.size() - 1);
+            nextCursor = new ProgramCatalogCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new ProgramCatalogResponse(content.stream().map(Item::from).toList(), nextCursor, estimatedTotal);
+    }
+
+    // ========== 내부 메서드 ==========
+
+    /**
+     * 조건별 건수 (TTL 동안 캐시)
+     */
+    private long estimateCount(ProgramStatus status, String category) {
+        CountKey key = new CountKey(status, category);
+        long nowNanos = System.nanoTime();
+        CachedCount cached = cachedCounts.get(key);
+        if (cached != null && nowNanos - cached.loadedAtNanos() < countTtlNanos) {
+            return cached.count();
+        }
+        long count = programRepository.countCatalog(status, category);
+        if (cached == null && cachedCounts.size() >= MAX_CACHED_COUNTS) {
+            // 만료된 조건부터 비우고, 그래도 가득 차 있으면 캐시하지 않음
+            cachedCounts.values().removeIf(c -> nowNanos - c.loadedAtNanos() >= countTtlNanos);
+            if (cachedCounts.size() >= MAX_CACHED_COUNTS) {
+                return count;
+            }
+        }
+        cachedCounts.put(key, new CachedCount(count, nowNanos));
+        return count;
+    }
+
+    /**
+     * PK IN 조회 후 색인 순서대로 정렬 (색인 반영 직후 삭제된 프로그램은 제외)
+     */
+    private List<Program> findAllInOrder(List<Long> programIds) {
+        if (programIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Program> byId = new HashMap<>();
+        programRepository.findAllById(programIds).forEach(program -> byId.put(program.getId(), program));
+        return programIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private record CountKey(ProgramStatus status, String category) {
+    }
+
+    private record CachedCount(long count, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.repository.ProgramDetailViewRepository;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import com.university.scms.dto.program.ProgramDetailResponse;
+import com.university.scms.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로그램 상세 조회 서비스
+ *
+ * <p>{@code program_detail_views} PK 조회 1회로 응답하며, 결과는 {@code program.detail-view.cache-ttl}(기본 30초)
+ * 동안 캐시합니다. 재계산되면 해당 프로그램의 캐시를 바로 비웁니다.
+ * 아직 조회 모델 행이 없는 프로그램은 존재를 확인한 뒤 그 자리에서 한 번 재계산합니다.
+ * (없는 ID 조회는 쓰기 트랜잭션을 열지 않고, 재계산이 잠금 충돌로 실패하면 다음 주기 재계산에 맡깁니다.)</p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class ProgramDetailService {
+
+    static final int MAX_CACHED = 10_000;
+
+    private final ProgramDetailViewRepository detailViewRepository;
+    private final ProgramRepository programRepository;
+    private final ProgramDetailViewProjector projector;
+    private final long cacheTtlNanos;
+
+    private final Map<Long, CachedDetail> cache = new ConcurrentHashMap<>();
+
+    public ProgramDetailService(ProgramDetailViewRepository detailViewRepository,
+                                ProgramRepository programRepository,
+                                ProgramDetailViewProjector projector,
+                                @Value("${program.detail-view.cache-ttl:30s}") Duration cacheTtl) {
+        this.detailViewRepository = detailViewRepository;
+        this.programRepository = programRepository;
+        this.projector = projector;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+    }
+
+    /**
+     * 프로그램 상세 조회
+     */
+    public ProgramDetailResponse getDetail(Long programId) {
+        long nowNanos = System.nanoTime();
+        CachedDetail cached = cache.get(programId);
+        if (cached != null && nowNanos - cached.loadedAtNanos() < cacheTtlNanos) {
+            return cached.detail();
+        }
+
+        ProgramDetailResponse detail = load(programId)
+                .or(() -> refreshAndLoad(programId))
+                .orElseThrow(() -> new ResourceNotFoundException("프로그램을 찾을 수 없습니다."));
+        if (cache.size() >= MAX_CACHED) {
+            cache.clear();
+        }
+        cache.put(programId, new CachedDetail(detail, nowNanos));
+        return detail;
+    }
+
+    @EventListener
+    public void onRefreshed(ProgramDetailViewRefreshedEvent event) {
+        event.programIds().forEach(cache::remove);
+    }
+
+    // ========== 내부 메서드 ==========
+
+    private Optional<ProgramDetailResponse> refreshAndLoad(Long programId) {
+        if (!programRepository.existsById(programId)) {
+            return Optional.empty();
+        }
+        try {
+            projector.refresh(List.of(programId));
+        } catch (ConcurrencyFailureException e) {
+            projector.markDirty(programId);
+            throw new IllegalStateException("프로그램 상세 정보를 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        return load(programId);
+    }
+
+    private Optional<ProgramDetailResponse> load(Long programId) {
+        return detailViewRepository.findById(programId).map(ProgramDetailResponse::from);
+    }
+
+    private record CachedDetail(ProgramDetailResponse detail, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ProgramActivityChangedEvent;
+import com.university.scms.domain.program.entity.ProgramChangedEvent;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로그램 상세 조회 모델 프로젝터
+ *
+ * <p>프로그램과 신청/참여/만족도/역량 연결 변경을 커밋 이후 받아 변경된 프로그램 ID만 모아 두고,
+ * {@code program.detail-view.refresh-delay-ms}마다 최대 {@value #BATCH_SIZE}개씩 집합 SQL 한 번으로 재계산합니다.
+ * 같은 프로그램의 변경이 몰려도 주기마다 한 번만 재계산됩니다.</p>
+ *
+ * <p>모아 둔 ID는 메모리에만 있으므로 재시작 직전 변경분은 매일 새벽 전체 재계산
+ * ({@code program.detail-view.reconcile-cron})과 조회 시 행이 없을 때의 즉시 재계산으로 보정합니다.</p>
+ *
+ * <p>재계산 트랜잭션은 READ COMMITTED로 실행합니다. REPEATABLE READ의 INSERT ... SELECT는 읽은 신청/참여 행과
+ * 프로그램 행에 공유 잠금을 걸어 그동안 좌석 점유 UPDATE를 막기 때문입니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class ProgramDetailViewProjector {
+
+    static final int BATCH_SIZE = 500;
+
+    private final ProgramJdbcRepository programJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Set<Long> dirtyProgramIds = ConcurrentHashMap.newKeySet();
+
+    public ProgramDetailViewProjector(ProgramJdbcRepository programJdbcRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      ApplicationEventPublisher eventPublisher) {
+        this.programJdbcRepository = programJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.eventPublisher = eventPublisher;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgramChanged(ProgramChangedEvent event) {
+        dirtyProgramIds.add(event.programId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivityChanged(ProgramActivityChangedEvent event) {
+        dirtyProgramIds.add(event.programId());
+    }
+
+    /**
+     * 변경된 프로그램 재계산
+     *
+     * @return 재계산한 프로그램 수
+     */
+    @Scheduled(fixedDelayString = "${program.detail-view.refresh-delay-ms:500}")
+    public int refreshDirty() {
+        int refreshed = 0;
+        while (!dirtyProgramIds.isEmpty()) {
+            List<Long> batch = new ArrayList<>(BATCH_SIZE);
+            Iterator<Long> iterator = dirtyProgramIds.iterator();
+            while (iterator.hasNext() && batch.size() < BATCH_SIZE) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+            try {
+                refresh(batch);
+            } catch (RuntimeException e) {
+                dirtyProgramIds.addAll(batch);
+                throw e;
+            }
+            refreshed += batch.size();
+        }
+        return refreshed;
+    }
+
+    /**
+     * 전체 프로그램 재계산 (ID 순 배치)
+     */
+    @Scheduled(cron = "${program.detail-view.reconcile-cron:0 0 4 * * *}")
+    public int reconcileAll() {
+        int refreshed = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> batch = programJdbcRepository.findProgramIdsAfter(lastId, BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            refresh(batch);
+            refreshed += batch.size();
+            lastId = batch.get(batch.size() - 1);
+        }
+        log.info("프로그램 상세 조회 모델 전체 재계산: programs={}", refreshed);
+        return refreshed;
+    }
+
+    /**
+     * 다음 주기에 재계산하도록 등록
+     */
+    public void markDirty(Long programId) {
+        dirtyProgramIds.add(programId);
+    }
+
+    /**
+     * 지정한 프로그램 즉시 재계산
+     */
+    public void refresh(List<Long> programIds) {
+        if (programIds.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                programJdbcRepository.refreshDetailViews(programIds, LocalDateTime.now()));
+        eventPublisher.publishEvent(new ProgramDetailViewRefreshedEvent(programIds));
+    }
+}
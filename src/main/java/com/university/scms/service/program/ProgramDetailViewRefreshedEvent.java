@@ -0,0 +1,11 @@
+package com.university.scms.service.program;
+
+import java.util.Collection;
+
+/**
+ * 프로그램 상세 조회 모델 재계산 완료 이벤트 (캐시 무효화용)
+ *
+ * @param programIds 재계산한 프로그램 ID
+ */
+public record ProgramDetailViewRefreshedEvent(Collection<Long> programIds) {
+}
@@ -0,0 +1,65 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+import com.university.scms.domain.program.repository.ProgramApplicationRepository;
+import com.university.scms.domain.program.repository.ProgramParticipantRepository;
+import com.university.scms.dto.program.ProgramApplicationHistoryItem;
+import com.university.scms.dto.program.ProgramCompletionItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자 프로그램 이력 서비스 (신청 이력/취소/수료 화면)
+ *
+ * <p>각 목록은 프로젝션 쿼리 1회로 읽으며 행 수와 관계없이 추가 쿼리가 없습니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProgramHistoryService {
+
+    /**
+     * 취소할 수 있는 신청 상태
+     */
+    static final Set<ApplicationStatus> CANCELLABLE_STATUSES =
+            EnumSet.of(ApplicationStatus.PENDING, ApplicationStatus.APPROVED, ApplicationStatus.WAITLISTED);
+
+    private final ProgramApplicationRepository applicationRepository;
+    private final ProgramParticipantRepository participantRepository;
+
+    /**
+     * 신청 이력 (신청일 내림차순)
+     */
+    public List<ProgramApplicationHistoryItem> getApplicationHistory(Long userId) {
+        return applicationRepository.findHistoryRowsByUserId(userId).stream()
+                .map(ProgramApplicationHistoryItem::from)
+                .toList();
+    }
+
+    /**
+     * 취소 가능한 신청 (시작 전 프로그램의 진행 중 신청)
+     */
+    public List<ProgramApplicationHistoryItem> getCancellableApplications(Long userId) {
+        return applicationRepository.findCancellableRowsByUserId(userId, CANCELLABLE_STATUSES, LocalDateTime.now())
+                .stream()
+                .map(ProgramApplicationHistoryItem::from)
+                .toList();
+    }
+
+    /**
+     * 수료 이력 (출석 확인일 내림차순)
+     */
+    public List<ProgramCompletionItem> getCompletions(Long userId) {
+        return participantRepository.findCompletionRowsByUserId(userId).stream()
+                .map(ProgramCompletionItem::from)
+                .toList();
+    }
+}
@@ -0,0 +1,32 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+
+import java.util.Set;
+
+/**
+ * 신청 일괄 검토 결정
+ *
+ * APPROVE: 대기중(PENDING) 신청 승인, 참여자로 등록
+ * REJECT: 대기중(PENDING) 또는 대기자 명단(WAITLISTED) 신청 거부, 반환된 좌석은 대기자에게 넘김
+ */
+public enum ProgramReviewDecision {
+    APPROVE(ApplicationStatus.APPROVED, Set.of(ApplicationStatus.PENDING)),
+    REJECT(ApplicationStatus.REJECTED, Set.of(ApplicationStatus.PENDING, ApplicationStatus.WAITLISTED));
+
+    private final ApplicationStatus resultStatus;
+    private final Set<ApplicationStatus> reviewableStatuses;
+
+    ProgramReviewDecision(ApplicationStatus resultStatus, Set<ApplicationStatus> reviewableStatuses) {
+        this.resultStatus = resultStatus;
+        this.reviewableStatuses = reviewableStatuses;
+    }
+
+    public ApplicationStatus getResultStatus() {
+        return resultStatus;
+    }
+
+    public boolean canReview(ApplicationStatus status) {
+        return reviewableStatuses.contains(status);
+    }
+}
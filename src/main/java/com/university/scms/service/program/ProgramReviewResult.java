@@ -0,0 +1,18 @@
+package com.university.scms.service.program;
+
+import java.util.List;
+
+/**
+ * 신청 일괄 검토 결과
+ *
+ * @param decision 검토 결정
+ * @param reviewedIds 결정이 반영된 신청 ID
+ * @param skippedIds 없는 신청, 다른 프로그램의 신청, 검토할 수 없는 상태의 신청 ID
+ * @param promotedIds 거부로 반환된 좌석을 넘겨받은 대기 신청 ID (대기 순서)
+ */
+public record ProgramReviewResult(
+        ProgramReviewDecision decision,
+        List<Long> reviewedIds,
+        List<Long> skippedIds,
+        List<Long> promotedIds) {
+}
@@ -0,0 +1,95 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ProgramDetailView;
+import com.university.scms.domain.program.repository.ProgramDetailViewRepository;
+import com.university.scms.domain.program.repository.ProgramSatisfactionRepository;
+import com.university.scms.domain.program.repository.ProgramSatisfactionStatistics;
+import com.university.scms.dto.program.ProgramSatisfactionStatisticsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 프로그램 만족도 통계 서비스
+ *
+ * <p>평균 5종, 전체 평균, 추천 비율, 평점 분포, 응답 수를 프로그램 수와 관계없이 쿼리 1회로 조회합니다.</p>
+ * <ul>
+ *   <li>실시간: {@code program_satisfactions} GROUP BY 집계</li>
+ *   <li>사전 집계({@code precomputed}): {@code program_detail_views}에 증분 유지되는 합계/분포를 읽음
+ *       (반영 지연은 {@link ProgramDetailViewProjector} 주기만큼)</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProgramSatisfactionStatisticsService {
+
+    static final int MAX_PROGRAM_IDS = 1_000;
+
+    private final ProgramSatisfactionRepository satisfactionRepository;
+    private final ProgramDetailViewRepository detailViewRepository;
+
+    /**
+     * 프로그램 만족도 통계 조회
+     */
+    public ProgramSatisfactionStatisticsResponse getStatistics(Long programId) {
+        return satisfactionRepository.findStatisticsByProgramId(programId)
+                .map(ProgramSatisfactionStatisticsResponse::from)
+                .orElseGet(() -> ProgramSatisfactionStatisticsResponse.empty(programId));
+    }
+
+    /**
+     * 여러 프로그램의 만족도 통계 일괄 조회 (요청 순서 유지, 응답이 없는 프로그램은 빈 통계)
+     */
+    public List<ProgramSatisfactionStatisticsResponse> getStatistics(Collection<Long> programIds, boolean precomputed) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(programIds));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > MAX_PROGRAM_IDS) {
+            throw new IllegalArgumentException("프로그램은 한 번에 " + MAX_PROGRAM_IDS + "개까지 조회할 수 있습니다.");
+        }
+
+        Map<Long, ProgramSatisfactionStatisticsResponse> byProgram = precomputed
+                ? detailViewRepository.findAllById(ids).stream()
+                        .map(ProgramSatisfactionStatisticsResponse::from)
+                        .collect(Collectors.toMap(ProgramSatisfactionStatisticsResponse::programId, Function.identity()))
+                : satisfactionRepository.findStatisticsByProgramIds(ids).stream()
+                        .collect(Collectors.toMap(ProgramSatisfactionStatistics::getProgramId,
+                                                  ProgramSatisfactionStatisticsResponse::from));
+
+        return ids.stream()
+                .map(id -> byProgram.getOrDefault(id, ProgramSatisfactionStatisticsResponse.empty(id)))
+                .toList();
+    }
+
+    /**
+     * 기간 리포트: 시작일이 [from, to)인 프로그램 중 응답이 있는 프로그램의 통계
+     */
+    public List<ProgramSatisfactionStatisticsResponse> getReport(LocalDateTime from, LocalDateTime to,
+                                                                 boolean precomputed) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        if (precomputed) {
+            return detailViewRepository.findByStartDateGreaterThanEqualAndStartDateLessThanOrderByStartDate(from, to)
+                    .stream()
+                    .filter(view -> view.getSatisfactionCount() > 0)
+                    .map(ProgramSatisfactionStatisticsResponse::from)
+                    .toList();
+        }
+        return satisfactionRepository.findStatisticsByProgramStartDateBetween(from, to).stream()
+                .map(ProgramSatisfactionStatisticsResponse::from)
+                .toList();
+    }
+}
@@ -0,0 +1,47 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ProgramStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 프로그램 검색 조건
+ *
+ * @param keyword 검색어 (제목/설명/카테고리/장소, 비어 있으면 전체)
+ * @param category 카테고리 (null이면 전체)
+ * @param status 상태 (null이면 전체)
+ * @param from 운영 기간이 이 날짜 이후까지 이어지는 프로그램
+ * @param to 운영 기간이 이 날짜 이전에 시작하는 프로그램
+ * @param page 페이지 번호 (0부터)
+ * @param size 페이지 크기 (최대 {@value #MAX_SIZE})
+ */
+public record ProgramSearchCondition(
+        String keyword,
+        String category,
+        ProgramStatus status,
+        LocalDate from,
+        LocalDate to,
+        int page,
+        int size) {
+
+    public static final int MAX_SIZE = 100;
+
+    public ProgramSearchCondition {
+        if (category != null && category.isBlank()) {
+            category = null;
+        }
+        page = Math.max(page, 0);
+        size = Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    public static ProgramSearchCondition keyword(String keyword) {
+        return new ProgramSearchCondition(keyword, null, null, null, null, 0, 20);
+    }
+
+    /**
+     * 건너뛸 건수 (큰 페이지 번호에서도 넘치지 않도록 long)
+     */
+    public long offset() {
+        return (long) page * size;
+    }
+}
@@ -0,0 +1,346 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ProgramChangedEvent;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository;
+import com.university.scms.domain.program.repository.ProgramSearchDocument;
+import com.university.scms.dto.program.ProgramSearchResponse;
+import com.university.scms.util.InvertedIndex;
+import com.university.scms.util.NgramAnalyzer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로그램 검색 색인 (메모리 역색인)
+ *
+ * <p>{@code LIKE '%keyword%'} 전체 스캔 대신 {@link NgramAnalyzer}의 2-gram 역색인으로 후보를 좁힙니다.
+ * 제목은 1-gram도 색인해 한 글자 입력부터 검색되고, 설명/카테고리/장소는 2-gram만 색인합니다.</p>
+ * <ul>
+ *   <li>초기 적재: 애플리케이션 기동 완료 시 전체 프로그램을 JDBC로 스트리밍</li>
+ *   <li>증분 반영: {@link ProgramChangedEvent}를 커밋 이후 반영 (같은 문서 번호를 재사용)</li>
+ *   <li>조회: 검색어 색인어 교집합 → 카테고리/상태/운영 기간 필터와 분류별 건수를 한 번에 계산</li>
+ * </ul>
+ *
+ * <p>조회는 읽기 잠금, 반영은 쓰기 잠금으로 보호합니다. 설명은 목록 표시용 앞부분만 보관합니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProgramSearchIndex {
+
+    static final int SNIPPET_LENGTH = 200;
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    /**
+     * 목록 정렬 키 (등록 일시, ID) 오름차순
+     */
+    private static final Comparator<ProgramSearchDocument> CATALOG_ORDER = Comparator
+            .comparing(ProgramSearchDocument::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ProgramSearchDocument::id);
+
+    private final ProgramJdbcRepository programJdbcRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final InvertedIndex index = new InvertedIndex();
+    private final Map<Long, Entry> entriesByProgramId = new HashMap<>();
+    private Entry[] entriesByOrdinal = new Entry[1024];
+    private int nextOrdinal;
+
+    /**
+     * 전체 재색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            entriesByProgramId.clear();
+            entriesByOrdinal = new Entry[1024];
+            nextOrdinal = 0;
+            programJdbcRepository.forEachSearchDocument(this::put);
+            log.info("프로그램 검색 색인 적재: programs={}, terms={}, took={}ms",
+                    entriesByProgramId.size(), index.termCount(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 프로그램 저장/삭제를 커밋 이후 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgramChanged(ProgramChangedEvent event) {
+        if (event.isRemoved()) {
+            remove(event.programId());
+        } else {
+            index(event.document());
+        }
+    }
+
+    /**
+     * 문서 추가 또는 갱신
+     */
+    public void index(ProgramSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            put(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 제거
+     */
+    public void remove(Long programId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entriesByProgramId.remove(programId);
+            if (entry != null) {
+                index.remove(entry.ordinal, Arrays.asList(entry.terms));
+                entriesByOrdinal[entry.ordinal] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 프로그램 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entriesByProgramId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (제목에 검색어가 모두 포함된 프로그램 우선, 그다음 최근 색인순)
+     */
+    public ProgramSearchResponse search(ProgramSearchCondition condition) {
+        long started = System.nanoTime();
+        List<String> tokens = NgramAnalyzer.queryTokens(condition.keyword());
+        Set<String> terms = NgramAnalyzer.queryTerms(condition.keyword());
+        LocalDateTime rangeStart = condition.from() != null ? condition.from().atStartOfDay() : null;
+        LocalDateTime rangeEnd = condition.to() != null ? condition.to().plusDays(1).atStartOfDay() : null;
+        // 결과 목록은 int 범위이므로 그 이상의 끝 위치는 "전체"와 같음 (offset이 total 이상이면 빈 페이지)
+        long offset = condition.offset();
+        int limit = (int) Math.min(offset + condition.size(), Integer.MAX_VALUE);
+
+        Map<String, Long> categoryFacets = new TreeMap<>();
+        Map<ProgramStatus, Long> statusFacets = new EnumMap<>(ProgramStatus.class);
+        Map<String, Long> monthFacets = new TreeMap<>();
+        List<Entry> titleHits = new ArrayList<>();
+        List<Entry> otherHits = new ArrayList<>();
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = terms.isEmpty() ? null : index.intersect(terms);
+            int count = candidates != null ? candidates.length : nextOrdinal;
+            for (int i = count - 1; i >= 0; i--) {
+                Entry entry = entriesByOrdinal[candidates != null ? candidates[i] : i];
+                if (entry == null) {
+                    continue;
+                }
+                ProgramSearchDocument doc = entry.document;
+                boolean categoryMatch = condition.category() == null || condition.category().equals(doc.category());
+                boolean statusMatch = condition.status() == null || condition.status() == doc.status();
+                boolean dateMatch = overlaps(doc, rangeStart, rangeEnd);
+
+                if (statusMatch && dateMatch && doc.category() != null) {
+                    categoryFacets.merge(doc.category(), 1L, Long::sum);
+                }
+                if (categoryMatch && dateMatch) {
+                    statusFacets.merge(doc.status(), 1L, Long::sum);
+                }
+                if (categoryMatch && statusMatch && doc.startDate() != null) {
+                    monthFacets.merge(doc.startDate().format(MONTH_FORMAT), 1L, Long::sum);
+                }
+                if (!(categoryMatch && statusMatch && dateMatch)) {
+                    continue;
+                }
+                total++;
+                // 최종 순서는 제목 일치 → 나머지이므로 각 목록에서 limit건까지만 모으면 충분
+                if (entry.titleContainsAll(tokens)) {
+                    if (titleHits.size() < limit) {
+                        titleHits.add(entry);
+                    }
+                } else if (otherHits.size() < limit) {
+                    otherHits.add(entry);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ProgramSearchResponse.Item> page = new ArrayList<>(condition.size());
+        int hits = titleHits.size() + otherHits.size();
+        for (int i = (int) Math.min(offset, hits); i < limit && i < hits; i++) {
+            Entry entry = i < titleHits.size() ? titleHits.get(i) : otherHits.get(i - titleHits.size());
+            page.add(toItem(entry.document));
+        }
+        return new ProgramSearchResponse(
+                total, condition.page(), condition.size(), page,
+                new ProgramSearchResponse.Facets(categoryFacets, statusFacets, monthFacets),
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started));
+    }
+
+    /**
+     * 검색어에 맞는 프로그램 ID를 커서 다음부터 (등록 일시, ID) 내림차순으로 최대 limit건 조회
+     *
+     * <p>후보 전체를 정렬하지 않고 크기 limit의 힙으로 커서 바로 다음 항목만 남기므로
+     * 몇 번째 페이지든 후보 수에 비례하는 같은 비용으로 조회합니다.</p>
+     */
+    public KeysetPage findIdsAfter(String keyword, ProgramStatus status, String category,
+                                   ProgramCatalogCursor cursor, int limit) {
+        Set<String> terms = NgramAnalyzer.queryTerms(keyword);
+        ProgramSearchDocument cursorKey = new ProgramSearchDocument(
+                cursor.id(), null, null, null, null, null, null, null, null, null, null, cursor.createdAt());
+        PriorityQueue<ProgramSearchDocument> nearest = new PriorityQueue<>(limit + 1, CATALOG_ORDER);
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = terms.isEmpty() ? null : index.intersect(terms);
+            int count = candidates != null ? candidates.length : nextOrdinal;
+            for (int i = 0; i < count; i++) {
+                Entry entry = entriesByOrdinal[candidates != null ? candidates[i] : i];
+                if (entry == null) {
+                    continue;
+                }
+                ProgramSearchDocument doc = entry.document;
+                if ((status != null && status != doc.status())
+                        || (category != null && !category.equals(doc.category()))) {
+                    continue;
+                }
+                total++;
+                if (CATALOG_ORDER.compare(doc, cursorKey) >= 0) {
+                    continue;
+                }
+                if (nearest.size() < limit) {
+                    nearest.add(doc);
+                } else if (CATALOG_ORDER.compare(doc, nearest.peek()) > 0) {
+                    nearest.poll();
+                    nearest.add(doc);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> programIds = new ArrayList<>(nearest.size());
+        while (!nearest.isEmpty()) {
+            programIds.add(nearest.poll().id());
+        }
+        Collections.reverse(programIds);
+        return new KeysetPage(programIds, total);
+    }
+
+    // ========== 내부 메서드 ==========
+
+    /**
+     * 쓰기 잠금을 잡은 상태에서 호출
+     */
+    private void put(ProgramSearchDocument document) {
+        Entry previous = entriesByProgramId.get(document.id());
+        int ordinal;
+        if (previous != null) {
+            ordinal = previous.ordinal;
+            index.remove(ordinal, Arrays.asList(previous.terms));
+        } else {
+            ordinal = nextOrdinal++;
+            if (ordinal == entriesByOrdinal.length) {
+                entriesByOrdinal = Arrays.copyOf(entriesByOrdinal, ordinal * 2);
+            }
+        }
+
+        Set<String> terms = new LinkedHashSet<>(NgramAnalyzer.indexTerms(document.title(), true));
+        terms.addAll(NgramAnalyzer.indexTerms(document.description(), false));
+        terms.addAll(NgramAnalyzer.indexTerms(document.category(), false));
+        terms.addAll(NgramAnalyzer.indexTerms(document.location(), false));
+
+        Entry entry = new Entry(ordinal, snippet(document), NgramAnalyzer.normalize(document.title()),
+                terms.toArray(String[]::new));
+        index.add(ordinal, terms);
+        entriesByProgramId.put(document.id(), entry);
+        entriesByOrdinal[ordinal] = entry;
+    }
+
+    private static ProgramSearchDocument snippet(ProgramSearchDocument document) {
+        String description = document.description();
+        if (description == null || description.length() <= SNIPPET_LENGTH) {
+            return document;
+        }
+        return new ProgramSearchDocument(
+                document.id(), document.title(), description.substring(0, SNIPPET_LENGTH), document.category(),
+                document.status(), document.location(), document.capacity(), document.startDate(),
+                document.endDate(), document.applicationStart(), document.applicationEnd(), document.createdAt());
+    }
+
+    private static boolean overlaps(ProgramSearchDocument doc, LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        if (rangeStart != null && (doc.endDate() == null || doc.endDate().isBefore(rangeStart))) {
+            return false;
+        }
+        return rangeEnd == null || (doc.startDate() != null && doc.startDate().isBefore(rangeEnd));
+    }
+
+    private static ProgramSearchResponse.Item toItem(ProgramSearchDocument doc) {
+        return new ProgramSearchResponse.Item(
+                doc.id(), doc.title(), doc.description(), doc.category(), doc.status(), doc.location(),
+                doc.capacity(), doc.startDate(), doc.endDate(), doc.applicationStart(), doc.applicationEnd());
+    }
+
+    /**
+     * 커서 조회 결과
+     *
+     * @param programIds (등록 일시, ID) 내림차순 프로그램 ID
+     * @param totalCount 커서와 무관한 조건 일치 건수
+     */
+    public record KeysetPage(List<Long> programIds, long totalCount) {
+    }
+
+    /**
+     * 색인된 프로그램 한 건
+     */
+    private record Entry(int ordinal, ProgramSearchDocument document, String normalizedTitle, String[] terms) {
+
+        boolean titleContainsAll(List<String> tokens) {
+            for (String token : tokens) {
+                if (!normalizedTitle.contains(token)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
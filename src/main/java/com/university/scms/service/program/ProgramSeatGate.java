@@ -0,0 +1,68 @@
+package com.university.scms.service.program;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로그램 정원 마감 캐시
+ *
+ * <p>좌석 점유 UPDATE가 실패한 프로그램을 잠시 마감으로 기억해, 신청이 몰릴 때 남은 신청들이
+ * 프로그램 행 잠금을 기다리지 않고 바로 대기자 명단으로 가게 합니다.
+ * 권위 있는 판단은 항상 DB의 조건부 UPDATE이며, 이 캐시는 최대 {@link #SOLD_OUT_TTL} 동안만 유효합니다.
+ * (마감 중 반환된 좌석은 대기자에게 먼저 넘어가므로 순서는 보장됩니다.)</p>
+ *
+ * <p>마감 기록은 좌석을 확인한 시각을 함께 받아, 그 뒤에 좌석이 반환({@link #reopen})되었으면 무시합니다.
+ * 늦게 끝난 신청이 방금 열린 좌석을 다시 마감으로 덮어쓰지 않게 하기 위함입니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class ProgramSeatGate {
+
+    static final Duration SOLD_OUT_TTL = Duration.ofSeconds(2);
+
+    private final ConcurrentHashMap<Long, GateState> states = new ConcurrentHashMap<>();
+
+    /**
+     * 좌석 점유를 시도할 가치가 있는지 (마감으로 기억되지 않았거나 기억이 만료됨)
+     */
+    public boolean mayHaveSeat(Long programId) {
+        GateState state = states.get(programId);
+        return state == null || !state.isSoldOut(System.nanoTime());
+    }
+
+    /**
+     * 정원 마감으로 기억 (observedAtNanos 이후 좌석이 반환되었으면 무시)
+     *
+     * @param observedAtNanos 좌석이 없음을 확인하기 시작한 시각 ({@link System#nanoTime()})
+     */
+    public void markSoldOut(Long programId, long observedAtNanos) {
+        long now = System.nanoTime();
+        states.compute(programId, (id, state) -> {
+            if (state != null && state.reopenedAtNanos - observedAtNanos >= 0) {
+                return state;
+            }
+            return new GateState(now, true, state != null ? state.reopenedAtNanos : observedAtNanos - 1);
+        });
+    }
+
+    /**
+     * 좌석이 반환되어 다시 점유 가능
+     */
+    public void reopen(Long programId) {
+        long now = System.nanoTime();
+        states.put(programId, new GateState(0L, false, now));
+    }
+
+    /**
+     * 프로그램별 마감 기록과 마지막 좌석 반환 시각
+     */
+    private record GateState(long soldOutAtNanos, boolean soldOut, long reopenedAtNanos) {
+
+        boolean isSoldOut(long nowNanos) {
+            return soldOut && nowNanos - soldOutAtNanos <= SOLD_OUT_TTL.toNanos();
+        }
+    }
+}
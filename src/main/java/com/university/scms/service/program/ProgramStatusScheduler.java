@@ -0,0 +1,238 @@
+package com.university.scms.service.program;
+
+import com.university.scms.config.SchedulingConfig;
+import com.university.scms.domain.program.entity.ProgramChangedEvent;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository.LifecycleDeadline;
+import com.university.scms.domain.program.repository.ProgramSearchDocument;
+import com.university.scms.util.TimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 프로그램 상태 스케줄러
+ *
+ * <p>신청 시작(OPEN), 신청 마감(CLOSED), 운영 시작(IN_PROGRESS), 운영 종료(COMPLETED) 시각을
+ * {@link TimingWheel}에 등록해 두고 {@code program.status.tick-ms}마다 도래한 프로그램을 모아
+ * UPDATE 한 번으로 전이합니다. 목록 조회는 날짜 범위 없이 상태 인덱스만으로 필터링할 수 있습니다.</p>
+ *
+ * <ul>
+ *   <li>휠에는 앞으로 {@code program.status.horizon}(기본 2시간) 안의 경계만 올리고,
+ *       {@code program.status.reload-ms}마다 구간을 연장합니다.</li>
+ *   <li>프로그램 저장 시 구간 안의 경계를 바로 등록합니다. (날짜가 바뀌어 남은 이전 경계는 발화해도
+ *       SQL이 현재 날짜로 목표 상태를 다시 계산하므로 변경 없이 끝납니다.)</li>
+ *   <li>상태는 앞으로만 전이하고 CANCELLED는 건드리지 않습니다.</li>
+ *   <li>휠은 메모리에만 있으므로 기동 시와 구간 연장 시 이미 지난 경계를 일괄 보정합니다.</li>
+ *   <li>눈금과 구간 연장은 야간 배치에 밀리지 않도록 전용 스케줄러({@link SchedulingConfig#PROGRAM_STATUS_SCHEDULER})에서 실행합니다.</li>
+ * </ul>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class ProgramStatusScheduler {
+
+    static final int BATCH_SIZE = 500;
+    static final int MAX_WHEEL_SIZE = 1 << 16;
+
+    /**
+     * 전이 순서 (CANCELLED는 포함하지 않음)
+     */
+    private static final List<ProgramStatus> LIFECYCLE = List.of(
+            ProgramStatus.DRAFT, ProgramStatus.OPEN, ProgramStatus.CLOSED,
+            ProgramStatus.IN_PROGRESS, ProgramStatus.COMPLETED);
+
+    private final ProgramJdbcRepository programJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration horizon;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final TimingWheel<Long> wheel;
+    private LocalDateTime loadedUntil;  // 휠에 올린 경계의 상한 (기동 전에는 null)
+
+    public ProgramStatusScheduler(ProgramJdbcRepository programJdbcRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${program.status.tick-ms:1000}") long tickMillis,
+                                  @Value("${program.status.horizon:2h}") Duration horizon) {
+        this.programJdbcRepository = programJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.horizon = horizon;
+        int wheelSize = (int) Math.min(MAX_WHEEL_SIZE, horizon.toMillis() / tickMillis + 1);
+        this.wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 기동 시 지난 경계 보정 후 첫 구간 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+    }
+
+    /**
+     * 지난 경계 보정 후 휠 구간 연장
+     */
+    @Scheduled(fixedDelayString = "${program.status.reload-ms:600000}",
+               initialDelayString = "${program.status.reload-ms:600000}",
+               scheduler = SchedulingConfig.PROGRAM_STATUS_SCHEDULER)
+    public void reload() {
+        int caughtUp = catchUp();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from;
+        LocalDateTime to = now.plus(horizon);
+        synchronized (wheel) {
+            // 구간을 먼저 넓혀 두어야 조회 도중 커밋된 저장 이벤트도 휠에 등록됨 (중복은 발화 시 제거)
+            from = loadedUntil != null ? loadedUntil : now;
+            loadedUntil = to;
+        }
+        List<LifecycleDeadline> deadlines = programJdbcRepository.findLifecycleDeadlines(from, to);
+        synchronized (wheel) {
+            deadlines.forEach(deadline -> wheel.schedule(deadline.programId(), toEpochMillis(deadline.deadline())));
+        }
+        log.info("프로그램 상태 전이 경계 적재: caughtUp={}, deadlines={}, until={}", caughtUp, deadlines.size(), to);
+    }
+
+    /**
+     * 도래한 경계의 프로그램 상태 전이
+     *
+     * @return 전이된 프로그램 수
+     */
+    @Scheduled(fixedDelayString = "${program.status.tick-ms:1000}", scheduler = SchedulingConfig.PROGRAM_STATUS_SCHEDULER)
+    public int tick() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> due;
+        synchronized (wheel) {
+            due = new LinkedHashSet<>(wheel.advance(toEpochMillis(now)));
+        }
+        if (due.isEmpty()) {
+            return 0;
+        }
+        int transitioned = 0;
+        List<Long> ids = new ArrayList<>(due);
+        for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+            List<Long> batch = ids.subList(i, Math.min(i + BATCH_SIZE, ids.size()));
+            try {
+                transitioned += transition(batch, now);
+            } catch (RuntimeException e) {
+                // 남은 ID는 다음 눈금에 다시 시도
+                synchronized (wheel) {
+                    ids.subList(i, ids.size()).forEach(id -> wheel.schedule(id, toEpochMillis(now)));
+                }
+                throw e;
+            }
+        }
+        return transitioned;
+    }
+
+    /**
+     * 저장된 프로그램의 경계를 커밋 이후 휠에 등록
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgramChanged(ProgramChangedEvent event) {
+        if (event.isRemoved()) {
+            return;
+        }
+        ProgramSearchDocument document = event.document();
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (wheel) {
+            if (loadedUntil == null) {
+                return;  // 기동 시 적재에서 반영
+            }
+            Stream.of(document.applicationStart(), document.applicationEnd(), document.startDate(), document.endDate())
+                    .filter(at -> at != null && at.isAfter(now) && !at.isAfter(loadedUntil))
+                    .forEach(at -> wheel.schedule(document.id(), toEpochMillis(at)));
+            // 이미 지난 경계로 날짜를 바꿨다면 다음 눈금에 바로 전이
+            if (targetStatus(document, now) != null) {
+                wheel.schedule(document.id(), toEpochMillis(now));
+            }
+        }
+    }
+
+    /**
+     * 이미 지난 경계가 있는데 전이되지 않은 프로그램 일괄 보정
+     *
+     * @return 전이된 프로그램 수
+     */
+    public int catchUp() {
+        LocalDateTime now = LocalDateTime.now();
+        int transitioned = 0;
+        while (true) {
+            List<Long> due = programJdbcRepository.findLifecycleDueIds(now, BATCH_SIZE);
+            int count = due.isEmpty() ? 0 : transition(due, now);
+            if (count == 0) {
+                break;
+            }
+            transitioned += count;
+        }
+        return transitioned;
+    }
+
+    /**
+     * 날짜 기준으로 전이해야 할 상태 (전이할 필요가 없으면 null)
+     *
+     * <p>{@link ProgramJdbcRepository#advanceLifecycle}의 SQL과 같은 규칙입니다.</p>
+     */
+    static ProgramStatus targetStatus(ProgramSearchDocument document, LocalDateTime now) {
+        int current = LIFECYCLE.indexOf(document.status());
+        if (current < 0) {
+            return null;
+        }
+        ProgramStatus target = reached(document.endDate(), now) ? ProgramStatus.COMPLETED
+                : reached(document.startDate(), now) ? ProgramStatus.IN_PROGRESS
+                : reached(document.applicationEnd(), now) ? ProgramStatus.CLOSED
+                : reached(document.applicationStart(), now) ? ProgramStatus.OPEN
+                : document.status();
+        return LIFECYCLE.indexOf(target) > current ? target : null;
+    }
+
+    // ========== 내부 메서드 ==========
+
+    /**
+     * 한 트랜잭션에서 잠금 → UPDATE 1회 → 변경 문서 발행 (검색 색인/상세 조회 모델은 커밋 이후 반영)
+     */
+    private int transition(Collection<Long> programIds, LocalDateTime now) {
+        Integer transitioned = transactionTemplate.execute(status -> {
+            List<Long> due = programJdbcRepository.lockLifecycleDue(programIds, now);
+            if (due.isEmpty()) {
+                return 0;
+            }
+            programJdbcRepository.advanceLifecycle(due, now);
+            programJdbcRepository.findSearchDocuments(due).forEach(document ->
+                    eventPublisher.publishEvent(new ProgramChangedEvent(document.id(), document)));
+            return due.size();
+        });
+        if (transitioned != null && transitioned > 0) {
+            log.debug("프로그램 상태 전이: programs={}", transitioned);
+        }
+        return transitioned != null ? transitioned : 0;
+    }
+
+    private static boolean reached(LocalDateTime at, LocalDateTime now) {
+        return at != null && !at.isAfter(now);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+}
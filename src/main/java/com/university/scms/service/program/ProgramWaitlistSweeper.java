@@ -0,0 +1,46 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.repository.ProgramJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 대기자 명단 승급 스윕
+ *
+ * <p>좌석 반환은 취소 시점에 바로 대기자에게 넘어가지만, 마감 캐시({@link ProgramSeatGate})로 행 잠금 없이
+ * 대기자가 된 신청은 좌석 반환과 엇갈려 빈 좌석을 두고 대기할 수 있습니다.
+ * {@code program.waitlist.sweep-delay-ms}마다 남은 좌석과 대기 신청이 함께 있는 프로그램을 찾아
+ * {@link ProgramApplicationService#fillFreeSeats}로 대기 순서대로 승급시킵니다.</p>
+ *
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProgramWaitlistSweeper {
+
+    private final ProgramJdbcRepository programJdbcRepository;
+    private final ProgramApplicationService applicationService;
+
+    /**
+     * 빈 좌석이 있는 프로그램의 대기 신청 승급
+     *
+     * @return 승급한 신청 수
+     */
+    @Scheduled(fixedDelayString = "${program.waitlist.sweep-delay-ms:5000}")
+    public int sweep() {
+        int promoted = 0;
+        for (Long programId : programJdbcRepository.findProgramIdsWithWaitlistAndFreeSeats()) {
+            List<Long> seated = applicationService.fillFreeSeats(programId);
+            if (!seated.isEmpty()) {
+                log.info("대기 신청 승급: programId={}, applications={}", programId, seated);
+                promoted += seated.size();
+            }
+        }
+        return promoted;
+    }
+}
@@ -0,0 +1,103 @@
+package com.university.scms.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * iCalendar(RFC 5545) 스트리밍 작성기
+ *
+ * <p>속성을 한 줄씩 바로 Writer에 씁니다. 줄 끝은 CRLF, 텍스트 값은 이스케이프하고
+ * 75옥텟을 넘는 줄은 접습니다(UTF-8 문자 중간에서는 자르지 않음). 버퍼링/flush는 호출 측 Writer가 담당합니다.</p>
+ */
+public final class ICalendarWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter LOCAL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final Writer writer;
+
+    public ICalendarWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public ICalendarWriter begin(String component) throws IOException {
+        return line("BEGIN:" + component);
+    }
+
+    public ICalendarWriter end(String component) throws IOException {
+        return line("END:" + component);
+    }
+
+    /**
+     * 이스케이프 없이 그대로 쓰는 속성 (PRODID, STATUS 등)
+     */
+    public ICalendarWriter raw(String name, String value) throws IOException {
+        return line(name + ":" + value);
+    }
+
+    /**
+     * TEXT 값 속성 (백슬래시, 세미콜론, 쉼표, 줄바꿈 이스케이프)
+     */
+    public ICalendarWriter text(String name, String value) throws IOException {
+        return line(name + ":" + escape(value));
+    }
+
+    /**
+     * 시간대 없는 지역 일시 (floating time)
+     */
+    public ICalendarWriter localDateTime(String name, LocalDateTime value) throws IOException {
+        return line(name + ":" + LOCAL_FORMAT.format(value));
+    }
+
+    /**
+     * UTC 일시
+     */
+    public ICalendarWriter utcDateTime(String name, Instant value) throws IOException {
+        return line(name + ":" + UTC_FORMAT.format(value.atOffset(ZoneOffset.UTC)));
+    }
+
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                    // CRLF는 \n 하나로
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private ICalendarWriter line(String content) throws IOException {
+        int octets = 0;
+        int limit = MAX_LINE_OCTETS;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int width = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + width > limit) {
+                // 이어지는 줄은 공백 한 칸으로 시작하므로 74옥텟까지
+                writer.write("\r\n ");
+                octets = 0;
+                limit = MAX_LINE_OCTETS - 1;
+            }
+            writer.write(Character.toChars(codePoint));
+            octets += width;
+            i += Character.charCount(codePoint);
+        }
+        writer.write("\r\n");
+        return this;
+    }
+}
@@ -0,0 +1,177 @@
+package com.university.scms.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 반열린 구간 [start, end) 트리 (Interval Treap)
+ *
+ * <p>시작값 순으로 정렬하고 각 노드가 서브트리의 최대 끝값을 유지하므로
+ * 삽입/삭제/겹침 조회가 모두 기대 O(log n)입니다. 구간은 ID로 식별하며 같은 ID로 다시 넣으면 교체합니다.
+ * 동기화하지 않으므로 호출 측에서 잠금을 관리해야 합니다.</p>
+ */
+public class IntervalTree {
+
+    /**
+     * 겹치는 구간이 없을 때 {@link #findOverlapEnd}의 반환값
+     */
+    public static final long NONE = Long.MIN_VALUE;
+
+    private final Map<Long, Node> nodesById = new HashMap<>();
+    private Node root;
+
+    /**
+     * 구간 수
+     */
+    public int size() {
+        return nodesById.size();
+    }
+
+    /**
+     * 전체 삭제
+     */
+    public void clear() {
+        nodesById.clear();
+        root = null;
+    }
+
+    /**
+     * 구간 추가 (같은 ID가 있으면 교체, 빈 구간이면 삭제만)
+     */
+    public void put(long id, long start, long end) {
+        remove(id);
+        if (start >= end) {
+            return;
+        }
+        Node node = new Node(id, start, end, ThreadLocalRandom.current().nextInt());
+        Node[] parts = split(root, start, id);
+        root = merge(merge(parts[0], node), parts[1]);
+        nodesById.put(id, node);
+    }
+
+    /**
+     * 구간 삭제 (없으면 false)
+     */
+    public boolean remove(long id) {
+        Node node = nodesById.remove(id);
+        if (node == null) {
+            return false;
+        }
+        root = remove(root, node.start, id);
+        return true;
+    }
+
+    /**
+     * [start, end)와 겹치는 구간이 있는지 여부
+     */
+    public boolean overlaps(long start, long end) {
+        return findOverlapEnd(start, end) != NONE;
+    }
+
+    /**
+     * [start, end)와 겹치는 구간 중 하나의 끝값 (없으면 {@link #NONE})
+     *
+     * <p>왼쪽 서브트리의 최대 끝값이 start 이하이면 왼쪽에는 겹치는 구간이 없고,
+     * 초과인데 왼쪽에서 못 찾았다면 오른쪽 구간은 모두 시작값이 더 크므로 역시 겹치지 않습니다.</p>
+     */
+    public long findOverlapEnd(long start, long end) {
+        Node node = root;
+        while (node != null) {
+            if (node.start < end && node.end > start) {
+                return node.end;
+            }
+            node = node.left != null && node.left.maxEnd > start ? node.left : node.right;
+        }
+        return NONE;
+    }
+
+    // ========== 내부 메서드 ==========
+
+    private static int compare(long start, long id, Node node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    /**
+     * (start, id)보다 작은 노드와 크거나 같은 노드로 분할
+     */
+    private static Node[] split(Node node, long start, long id) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(start, id, node) > 0) {
+            Node[] parts = split(node.right, start, id);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, start, id);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static Node remove(Node node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else {
+            node.right = remove(node.right, start, id);
+        }
+        update(node);
+        return node;
+    }
+
+    private static void update(Node node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static final class Node {
+        private final long id;
+        private final long start;
+        private final long end;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(long id, long start, long end, int priority) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.university.scms.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 정수 문서 ID 역색인
+ *
+ * <p>색인어마다 오름차순 정렬된 문서 ID 배열을 유지합니다. 문서 ID를 증가 순으로 추가하면
+ * 배열 끝에 붙기만 하므로 대량 적재가 빠르고, 중간 삽입/삭제는 해당 색인어 배열만 이동합니다.
+ * 동기화하지 않으므로 호출 측에서 잠금을 관리해야 합니다.</p>
+ */
+public class InvertedIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+
+    /**
+     * 문서의 색인어 추가
+     */
+    public void add(int docId, Collection<String> terms) {
+        for (String term : terms) {
+            postingsByTerm.computeIfAbsent(term, t -> new Postings()).add(docId);
+        }
+    }
+
+    /**
+     * 문서의 색인어 제거 (추가할 때와 같은 색인어 목록을 전달)
+     */
+    public void remove(int docId, Collection<String> terms) {
+        for (String term : terms) {
+            Postings postings = postingsByTerm.get(term);
+            if (postings != null && postings.remove(docId) && postings.size == 0) {
+                postingsByTerm.remove(term);
+            }
+        }
+    }
+
+    /**
+     * 모든 색인어를 포함하는 문서 ID (오름차순)
+     *
+     * <p>가장 짧은 목록부터 교집합을 구하며, 다음 목록에서는 이진 탐색 시작 위치를 앞으로만 옮깁니다.</p>
+     */
+    public int[] intersect(Collection<String> terms) {
+        if (terms.isEmpty()) {
+            return EMPTY;
+        }
+        Postings[] lists = new Postings[terms.size()];
+        int n = 0;
+        for (String term : terms) {
+            Postings postings = postingsByTerm.get(term);
+            if (postings == null) {
+                return EMPTY;
+            }
+            lists[n++] = postings;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        int[] result = Arrays.copyOf(lists[0].ids, lists[0].size);
+        int size = result.length;
+        for (int l = 1; l < lists.length && size > 0; l++) {
+            Postings other = lists[l];
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < size; i++) {
+                int pos = Arrays.binarySearch(other.ids, from, other.size, result[i]);
+                if (pos >= 0) {
+                    result[kept++] = result[i];
+                    from = pos + 1;
+                } else {
+                    from = -pos - 1;
+                }
+                if (from >= other.size) {
+                    break;
+                }
+            }
+            size = kept;
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 색인어 수
+     */
+    public int termCount() {
+        return postingsByTerm.size();
+    }
+
+    /**
+     * 전체 삭제
+     */
+    public void clear() {
+        postingsByTerm.clear();
+    }
+
+    /**
+     * 한 색인어의 정렬된 문서 ID 목록
+     */
+    private static final class Postings {
+
+        private int[] ids = new int[2];
+        private int size;
+
+        private void add(int docId) {
+            if (size > 0 && ids[size - 1] >= docId) {
+                int pos = Arrays.binarySearch(ids, 0, size, docId);
+                if (pos >= 0) {
+                    return;
+                }
+                insertAt(-pos - 1, docId);
+                return;
+            }
+            insertAt(size, docId);
+        }
+
+        private void insertAt(int index, int docId) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = docId;
+            size++;
+        }
+
+        private boolean remove(int docId) {
+            int pos = Arrays.binarySearch(ids, 0, size, docId);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+    }
+}
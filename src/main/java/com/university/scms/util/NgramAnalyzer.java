@@ -0,0 +1,118 @@
+package com.university.scms.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한국어 검색용 n-gram 분석기
+ *
+ * <p>형태소 분석 없이 글자 단위 2-gram으로 색인하므로 조사가 붙은 어절("특강을")이나
+ * 띄어쓰기가 다른 복합어("취업 특강"/"취업특강")의 부분 일치도 찾을 수 있습니다.</p>
+ * <ul>
+ *   <li>정규화: NFKC(전각/반각, 호환 문자 통일) 후 소문자 변환</li>
+ *   <li>토큰: 글자/숫자 연속 구간 (그 외 문자는 구분자)</li>
+ *   <li>색인어: 토큰의 2-gram, 1글자 토큰은 그대로 (선택적으로 모든 1-gram 포함)</li>
+ *   <li>검색어: 입력 중인 마지막 자모(예: "특가ㅇ"의 "ㅇ")는 제외</li>
+ * </ul>
+ */
+public final class NgramAnalyzer {
+
+    private NgramAnalyzer() {
+    }
+
+    /**
+     * 검색/색인 공통 정규화
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인어 추출
+     *
+     * @param withUnigrams true면 2글자 이상 토큰의 1-gram도 포함 (1글자 검색 대상 필드용)
+     */
+    public static Set<String> indexTerms(String text, boolean withUnigrams) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : tokenize(normalize(text))) {
+            addGrams(token, withUnigrams, terms);
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어 추출 (모든 검색어를 포함하는 문서가 일치)
+     */
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : queryTokens(query)) {
+            addGrams(token, false, terms);
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어 토큰 (정규화 + 입력 중인 자모 제거)
+     */
+    public static List<String> queryTokens(String query) {
+        return tokenize(stripComposingJamo(normalize(query)));
+    }
+
+    /**
+     * 정규화된 문자열을 글자/숫자 연속 구간으로 분리
+     */
+    public static List<String> tokenize(String normalized) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(normalized.substring(start));
+        }
+        return tokens;
+    }
+
+    // ========== 내부 메서드 ==========
+
+    private static void addGrams(String token, boolean withUnigrams, Set<String> terms) {
+        if (token.length() == 1) {
+            terms.add(token);
+            return;
+        }
+        for (int i = 0; i + 1 < token.length(); i++) {
+            terms.add(token.substring(i, i + 2));
+        }
+        if (withUnigrams) {
+            for (int i = 0; i < token.length(); i++) {
+                terms.add(token.substring(i, i + 1));
+            }
+        }
+    }
+
+    private static String stripComposingJamo(String query) {
+        int end = query.length();
+        while (end > 0 && isJamo(query.charAt(end - 1))) {
+            end--;
+        }
+        return query.substring(0, end);
+    }
+
+    private static boolean isJamo(char c) {
+        return (c >= 'ᄀ' && c <= 'ᇿ') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+}
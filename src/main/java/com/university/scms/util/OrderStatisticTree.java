@@ -0,0 +1,218 @@
+package com.university.scms.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회가 가능한 정렬 트리 (Order-Statistic Treap)
+ *
+ * <p>각 노드가 서브트리 크기를 유지하므로 삽입/삭제/순위/k번째 원소 조회가 모두 기대 O(log n)입니다.
+ * 동기화하지 않으므로 호출 측에서 잠금을 관리해야 합니다.</p>
+ *
+ * @param <K> 원소 타입 (comparator 기준으로 중복 없음)
+ */
+public class OrderStatisticTree<K> {
+
+    private final Comparator<? super K> comparator;
+    private Node<K> root;
+
+    public OrderStatisticTree(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * 원소 수
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * 전체 삭제
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * 원소 삽입 (이미 있으면 false)
+     */
+    public boolean add(K key) {
+        if (contains(key)) {
+            return false;
+        }
+        Node<K>[] parts = split(root, key);
+        Node<K> node = new Node<>(key, ThreadLocalRandom.current().nextInt());
+        root = merge(merge(parts[0], node), parts[1]);
+        return true;
+    }
+
+    /**
+     * 원소 삭제 (없으면 false)
+     */
+    public boolean remove(K key) {
+        if (!contains(key)) {
+            return false;
+        }
+        root = remove(root, key);
+        return true;
+    }
+
+    /**
+     * 원소 포함 여부
+     */
+    public boolean contains(K key) {
+        Node<K> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * key보다 작은 원소 수 (0부터 시작하는 순위)
+     * key가 트리에 없어도 동작하므로 탐색용 경계값으로 사용할 수 있습니다.
+     */
+    public int countLessThan(K key) {
+        int count = 0;
+        Node<K> node = root;
+        while (node != null) {
+            if (comparator.compare(key, node.key) <= 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * index번째 원소 (0부터 시작)
+     */
+    public K get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new NoSuchElementException("index: " + index + ", size: " + size());
+        }
+        Node<K> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.key;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * [fromIndex, toIndex) 범위 원소를 순서대로 반환
+     */
+    public List<K> range(int fromIndex, int toIndex) {
+        int from = Math.max(0, fromIndex);
+        int to = Math.min(size(), toIndex);
+        List<K> result = new ArrayList<>(Math.max(0, to - from));
+        collect(root, from, to, 0, result);
+        return result;
+    }
+
+    // ========== 내부 구현 ==========
+
+    private void collect(Node<K> node, int from, int to, int offset, List<K> result) {
+        if (node == null || from >= to) {
+            return;
+        }
+        int index = offset + size(node.left);
+        if (from < index) {
+            collect(node.left, from, to, offset, result);
+        }
+        if (index >= from && index < to) {
+            result.add(node.key);
+        }
+        if (to > index + 1) {
+            collect(node.right, from, to, index + 1, result);
+        }
+    }
+
+    private Node<K> remove(Node<K> node, K key) {
+        int cmp = comparator.compare(key, node.key);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, key);
+        } else {
+            node.right = remove(node.right, key);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * key 미만 / key 이상으로 분리
+     */
+    @SuppressWarnings("unchecked")
+    private Node<K>[] split(Node<K> node, K key) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (comparator.compare(node.key, key) < 0) {
+            Node<K>[] parts = split(node.right, key);
+            node.right = parts[0];
+            node.update();
+            return new Node[]{node, parts[1]};
+        }
+        Node<K>[] parts = split(node.left, key);
+        node.left = parts[1];
+        node.update();
+        return new Node[]{parts[0], node};
+    }
+
+    private Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private final int priority;
+        private Node<K> left;
+        private Node<K> right;
+        private int size = 1;
+
+        private Node(K key, int priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+
+        private void update() {
+            this.size = 1 + OrderStatisticTree.size(left) + OrderStatisticTree.size(right);
+        }
+    }
+}
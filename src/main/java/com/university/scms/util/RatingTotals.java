@@ -0,0 +1,156 @@
+package com.university.scms.util;
+
+import java.util.Arrays;
+
+/**
+ * 평점 누적 합계 (응답 수, 항목별 합계/제곱합, 추천 수)
+ *
+ * <p>평균과 분산을 원본 행 없이 O(1)로 계산하기 위한 값 객체입니다.
+ * 응답 1건도 같은 형태({@link #of})로 표현하므로 추가/수정/삭제 시 반영할 증감분은
+ * {@link #minus}/{@link #negate}로 구합니다. 증감분은 각 값이 음수일 수 있습니다.</p>
+ */
+public final class RatingTotals {
+
+    private final long count;
+    private final long[] sums;
+    private final long[] squareSums;
+    private final long recommends;
+
+    public RatingTotals(long count, long[] sums, long[] squareSums, long recommends) {
+        if (sums.length != squareSums.length) {
+            throw new IllegalArgumentException("합계와 제곱합의 항목 수가 다릅니다.");
+        }
+        this.count = count;
+        this.sums = sums.clone();
+        this.squareSums = squareSums.clone();
+        this.recommends = recommends;
+    }
+
+    /**
+     * 응답 1건 (평점이 null이면 0점으로 취급)
+     */
+    public static RatingTotals of(boolean recommend, Integer... ratings) {
+        long[] sums = new long[ratings.length];
+        long[] squareSums = new long[ratings.length];
+        for (int i = 0; i < ratings.length; i++) {
+            long rating = ratings[i] != null ? ratings[i] : 0;
+            sums[i] = rating;
+            squareSums[i] = rating * rating;
+        }
+        return new RatingTotals(1, sums, squareSums, recommend ? 1 : 0);
+    }
+
+    /**
+     * 응답이 없는 합계
+     */
+    public static RatingTotals empty(int dimensions) {
+        return new RatingTotals(0, new long[dimensions], new long[dimensions], 0);
+    }
+
+    // ========== 연산 ==========
+
+    public RatingTotals plus(RatingTotals other) {
+        return combine(other, 1);
+    }
+
+    public RatingTotals minus(RatingTotals other) {
+        return combine(other, -1);
+    }
+
+    public RatingTotals negate() {
+        return empty(sums.length).minus(this);
+    }
+
+    public boolean isZero() {
+        return equals(empty(sums.length));
+    }
+
+    // ========== 조회 ==========
+
+    public long count() {
+        return count;
+    }
+
+    public int dimensions() {
+        return sums.length;
+    }
+
+    public long sum(int dimension) {
+        return sums[dimension];
+    }
+
+    public long squareSum(int dimension) {
+        return squareSums[dimension];
+    }
+
+    public long recommends() {
+        return recommends;
+    }
+
+    /**
+     * 항목 평균 (응답이 없으면 null)
+     */
+    public Double mean(int dimension) {
+        return count <= 0 ? null : (double) sums[dimension] / count;
+    }
+
+    /**
+     * 항목 모분산 E[x²] - E[x]² (응답이 없으면 null)
+     */
+    public Double variance(int dimension) {
+        if (count <= 0) {
+            return null;
+        }
+        double mean = (double) sums[dimension] / count;
+        return Math.max(0.0, (double) squareSums[dimension] / count - mean * mean);
+    }
+
+    /**
+     * 추천 비율 0~1 (응답이 없으면 null)
+     */
+    public Double recommendationRate() {
+        return count <= 0 ? null : (double) recommends / count;
+    }
+
+    // ========== 내부 메서드 ==========
+
+    private RatingTotals combine(RatingTotals other, int sign) {
+        if (other.sums.length != sums.length) {
+            throw new IllegalArgumentException("평점 항목 수가 다릅니다.");
+        }
+        long[] newSums = new long[sums.length];
+        long[] newSquareSums = new long[sums.length];
+        for (int i = 0; i < sums.length; i++) {
+            newSums[i] = sums[i] + sign * other.sums[i];
+            newSquareSums[i] = squareSums[i] + sign * other.squareSums[i];
+        }
+        return new RatingTotals(count + sign * other.count, newSums, newSquareSums,
+                                recommends + sign * other.recommends);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof RatingTotals other
+                && count == other.count
+                && recommends == other.recommends
+                && Arrays.equals(sums, other.sums)
+                && Arrays.equals(squareSums, other.squareSums);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(count);
+        result = 31 * result + Long.hashCode(recommends);
+        result = 31 * result + Arrays.hashCode(sums);
+        return 31 * result + Arrays.hashCode(squareSums);
+    }
+
+    @Override
+    public String toString() {
+        return "RatingTotals{count=" + count + ", sums=" + Arrays.toString(sums)
+                + ", squareSums=" + Arrays.toString(squareSums) + ", recommends=" + recommends + "}";
+    }
+}
@@ -0,0 +1,94 @@
+package com.university.scms.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 해시 타이밍 휠
+ *
+ * <p>시각을 {@code tickMillis} 단위 눈금으로 나누고 눈금 번호를 슬롯 수로 나눈 나머지 슬롯에 항목을 둡니다.
+ * 등록은 O(1), 눈금마다 해당 슬롯 하나만 확인하므로 만료 확인 비용이 전체 항목 수와 무관합니다.
+ * 한 바퀴보다 먼 항목은 같은 슬롯에 남아 있다가 자기 눈금이 되었을 때 만료됩니다.
+ * 동기화하지 않으므로 호출 측에서 잠금을 관리해야 합니다.</p>
+ *
+ * @param <T> 항목 타입
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final List<Entry<T>>[] slots;
+    private final int mask;
+
+    private long nextTick;  // 아직 처리하지 않은 첫 눈금
+    private int size;
+
+    /**
+     * @param tickMillis 눈금 간격 (밀리초)
+     * @param wheelSize  슬롯 수 (2의 거듭제곱으로 올림)
+     * @param startMillis 시작 시각 (이 시각 이전 마감은 첫 {@link #advance}에서 바로 만료)
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("눈금 간격과 슬롯 수는 양수여야 합니다.");
+        }
+        int capacity = Integer.highestOneBit(wheelSize);
+        if (capacity < wheelSize) {
+            capacity <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new List[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.mask = capacity - 1;
+        this.nextTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * 항목 등록 (이미 지난 마감은 다음 {@link #advance}에서 만료)
+     */
+    public void schedule(T item, long deadlineMillis) {
+        long tick = Math.max(Math.floorDiv(deadlineMillis, tickMillis), nextTick);
+        slots[(int) (tick & mask)].add(new Entry<>(item, tick));
+        size++;
+    }
+
+    /**
+     * {@code nowMillis}까지의 눈금을 처리하고 만료된 항목을 마감 순으로 반환
+     */
+    public List<T> advance(long nowMillis) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        if (nowTick < nextTick) {
+            return List.of();
+        }
+        List<T> expired = new ArrayList<>();
+        // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인하면 충분
+        long fromTick = Math.max(nextTick, nowTick - mask);
+        for (long tick = fromTick; tick <= nowTick; tick++) {
+            Iterator<Entry<T>> iterator = slots[(int) (tick & mask)].iterator();
+            while (iterator.hasNext()) {
+                Entry<T> entry = iterator.next();
+                if (entry.tick() <= nowTick) {
+                    expired.add(entry.item());
+                    iterator.remove();
+                    size--;
+                }
+            }
+        }
+        nextTick = nowTick + 1;
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long tickMillis() {
+        return tickMillis;
+    }
+
+    private record Entry<T>(T item, long tick) {
+    }
+}
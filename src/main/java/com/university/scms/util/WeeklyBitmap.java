@@ -0,0 +1,124 @@
+package com.university.scms.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * 주간 15분 칸 비트맵 (7 x 96 = 672비트, long 11개)
+ *
+ * <p>칸 번호는 (요일 - 월요일) x 96 + 하루 중 15분 칸이며, 칸 i는 [i x 15분, (i + 1) x 15분) 구간입니다.
+ * 시간 구간을 칸으로 바꿀 때는 구간에 완전히 포함된 칸만 켭니다.
+ * 동기화하지 않으므로 호출 측에서 잠금을 관리해야 합니다.</p>
+ */
+public final class WeeklyBitmap {
+
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int SLOTS = 7 * SLOTS_PER_DAY;
+
+    private final long[] words = new long[(SLOTS + 63) / 64];
+
+    /**
+     * 해당 시각이 속한 칸 번호
+     */
+    public static int slotOf(DayOfWeek dayOfWeek, LocalTime time) {
+        return dayOffset(dayOfWeek) + time.toSecondOfDay() / 60 / SLOT_MINUTES;
+    }
+
+    /**
+     * [start, end) 구간에 완전히 포함된 첫 칸과 마지막 칸 다음 번호 (포함된 칸이 없으면 두 값이 같음)
+     *
+     * <p>end가 자정(00:00)이면 하루 끝으로 봅니다.</p>
+     */
+    public static int[] slotRange(DayOfWeek dayOfWeek, LocalTime start, LocalTime end) {
+        int startMinute = start.toSecondOfDay() / 60;
+        int endMinute = end.equals(LocalTime.MIDNIGHT) ? 24 * 60 : end.toSecondOfDay() / 60;
+        int from = (startMinute + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        int to = Math.max(from, endMinute / SLOT_MINUTES);
+        return new int[]{dayOffset(dayOfWeek) + from, dayOffset(dayOfWeek) + to};
+    }
+
+    /**
+     * [start, end) 구간 칸 켜기
+     */
+    public void set(DayOfWeek dayOfWeek, LocalTime start, LocalTime end) {
+        int[] range = slotRange(dayOfWeek, start, end);
+        for (int slot = range[0]; slot < range[1]; slot++) {
+            words[slot >>> 6] |= 1L << slot;
+        }
+    }
+
+    public boolean get(int slot) {
+        return (words[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * [from, to) 칸이 모두 켜져 있는지 여부 (빈 범위면 false)
+     */
+    public boolean containsAll(int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        for (int slot = from; slot < to; slot++) {
+            if (!get(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 켜진 칸 수
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 켜진 다음 칸 번호 (없으면 -1)
+     */
+    public int nextSetSlot(int from) {
+        int index = from >>> 6;
+        if (index >= words.length) {
+            return -1;
+        }
+        long word = words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return index * 64 + Long.numberOfTrailingZeros(word);
+            }
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    private static int dayOffset(DayOfWeek dayOfWeek) {
+        return (dayOfWeek.getValue() - 1) * SLOTS_PER_DAY;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof WeeklyBitmap other && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
@@ -181,6 +181,48 @@ const MileageData = {
     ]
 };
 
+// Load Dashboard from API (userId: ?userId= 쿼리 또는 body[data-user-id], 없으면 Mock Data 유지)
+async function loadDashboardFromApi() {
+    const userId = new URLSearchParams(window.location.search).get('userId')
+        || document.body.dataset.userId;
+
+    if (!userId) return false;
+
+    try {
+        const response = await fetch(`/api/mileage/users/${encodeURIComponent(userId)}/dashboard`);
+        if (!response.ok) {
+            throw new Error(`HTTP ${response.status}`);
+        }
+        const dashboard = await response.json();
+
+        MileageData.summary = {
+            current: dashboard.summary.currentPoints,
+            earned: dashboard.summary.earnedPoints,
+            used: dashboard.summary.usedPoints,
+            expiring: dashboard.summary.expiringPoints
+        };
+        MileageData.monthlyTrend = dashboard.monthlyTrend.map(m => ({
+            month: `${m.month.substring(5)}월`,
+            earned: m.earnedPoints,
+            used: m.usedPoints
+        }));
+        MileageData.transactions = dashboard.recentTransactions.map(t => ({
+            id: t.id,
+            type: t.type,
+            amount: t.amount,
+            description: t.description,
+            date: t.createdAt.substring(0, 10).replaceAll('-', '.'),
+            balance: t.balance
+        }));
+
+        console.log('✅ Dashboard loaded from API:', userId);
+        return true;
+    } catch (error) {
+        console.warn('⚠️ Dashboard API failed, using mock data:', error);
+        return false;
+    }
+}
+
 // Current filter state
 let currentFilter = 'ALL';
 let displayLimit = 10;
@@ -203,8 +245,9 @@ function loadMonthlyChart() {
     
     if (!chartBars) return;
     
-    // Find max value for scaling
+    // Find max value for scaling (거래가 없는 달만 있으면 0으로 나누지 않도록 1 이상)
     const maxValue = Math.max(
+        1,
         ...MileageData.monthlyTrend.map(m => Math.max(m.earned, m.used))
     );
     
@@ -326,9 +369,11 @@ function initLoadMore() {
 }
 
 // Initialize on DOM Ready
-document.addEventListener('DOMContentLoaded', function() {
+document.addEventListener('DOMContentLoaded', async function() {
     console.log('🎨 Mileage Page loaded');
     
+    await loadDashboardFromApi();
+    
     loadSummary();
     loadMonthlyChart();
     loadTransactions();
@@ -107,7 +107,7 @@ const MockProgramData = {
 
 // 진행률 계산
 function calculateProgress(current, max) {
-    if (max === 0) return 0;
+    if (!max || current == null) return 0;
     return Math.round((current / max) * 100);
 }
 
@@ -117,7 +117,10 @@ function getStatusText(status) {
         'RECRUITING': '모집중',
         'IN_PROGRESS': '진행중',
         'COMPLETED': '완료',
-        'CANCELLED': '취소됨'
+        'CANCELLED': '취소됨',
+        'OPEN': '모집중',
+        'CLOSED': '모집마감',
+        'DRAFT': '임시저장'
     };
     return statusMap[status] || status;
 }
@@ -139,7 +142,7 @@ function renderProgramCard(program) {
                         ${program.badge}
                     </span>
                     <span class="program-participants">
-                        <i class="fas fa-users"></i> ${program.currentParticipants}/${program.maxParticipants}
+                        <i class="fas fa-users"></i> ${program.currentParticipants ?? '-'}/${program.maxParticipants ?? '-'}
                     </span>
                 </div>
                 <h3 class="program-title">${program.title}</h3>
@@ -162,7 +165,7 @@ function renderProgramCard(program) {
                 </div>
                 <div class="program-footer">
                     <span class="program-hits">
-                        <i class="fas fa-eye"></i> HITS ${program.hits}
+                        <i class="fas fa-eye"></i> HITS ${program.hits ?? 0}
                     </span>
                     <a href="/programs/${program.id}" class="btn btn-primary btn-sm">
                         상세보기 <i class="fas fa-arrow-right"></i>
@@ -192,16 +195,148 @@ function loadPrograms() {
     console.log('✅ Programs loaded:', MockProgramData.programs.length);
 }
 
+// 검색 API 상태 파라미터 (화면 필터 값 → ProgramStatus)
+const STATUS_PARAM = {
+    'RECRUITING': 'OPEN',
+    'IN_PROGRESS': 'IN_PROGRESS',
+    'COMPLETED': 'COMPLETED'
+};
+
+const STATUS_BADGE_COLOR = {
+    'OPEN': '#27ae60',
+    'CLOSED': '#95a5a6',
+    'IN_PROGRESS': '#e67e22',
+    'COMPLETED': '#3498db',
+    'CANCELLED': '#7f8c8d'
+};
+
+// yyyy-MM-ddTHH:mm:ss → yyyy.MM.dd
+function formatApiDate(value) {
+    return value ? value.substring(0, 10).replaceAll('-', '.') : '-';
+}
+
+// 목록 API 결과를 카드 데이터로 변환
+function toProgramCard(item) {
+    return {
+        id: item.id,
+        title: item.title,
+        description: item.description || '',
+        category: item.category,
+        startDate: formatApiDate(item.applicationStart),
+        endDate: formatApiDate(item.applicationEnd),
+        eventDate: `${formatApiDate(item.startDate)} ~ ${formatApiDate(item.endDate)}`,
+        currentParticipants: item.currentParticipants,
+        maxParticipants: item.capacity,
+        badge: getStatusText(item.status),
+        badgeColor: STATUS_BADGE_COLOR[item.status] || '#3498db',
+        status: item.status
+    };
+}
+
+// 커서 기반 목록 상태 (필터가 바뀌면 처음부터 다시 조회)
+const CatalogState = {
+    cursor: null,
+    hasNext: true,
+    loading: false,
+    controller: null
+};
+
+// 현재 필터로 목록 API 파라미터 생성
+function buildCatalogParams() {
+    const params = new URLSearchParams();
+    const keyword = document.getElementById('keywordInput')?.value.trim();
+    const categorySelect = document.getElementById('categoryFilter');
+    const status = document.getElementById('statusFilter')?.value;
+
+    if (keyword) params.set('keyword', keyword);
+    if (categorySelect && categorySelect.value) {
+        params.set('category', categorySelect.options[categorySelect.selectedIndex].text);
+    }
+    if (status) params.set('status', STATUS_PARAM[status] || status);
+    return params;
+}
+
+// 목록 API로 한 페이지 로드 (reset이면 첫 페이지부터, 진행 중인 이전 요청은 취소)
+async function loadCatalogPage(reset) {
+    const programGrid = document.getElementById('programGrid');
+    if (reset) {
+        if (CatalogState.controller) CatalogState.controller.abort();
+        CatalogState.cursor = null;
+        CatalogState.hasNext = true;
+        CatalogState.loading = false;
+    }
+    if (CatalogState.loading || !CatalogState.hasNext) return true;
+
+    const params = buildCatalogParams();
+    if (CatalogState.cursor) params.set('cursor', CatalogState.cursor);
+    CatalogState.loading = true;
+    CatalogState.controller = new AbortController();
+
+    try {
+        const response = await fetch(`/api/programs?${params}`, { signal: CatalogState.controller.signal });
+        if (!response.ok) {
+            throw new Error(`HTTP ${response.status}`);
+        }
+        const result = await response.json();
+        const html = result.programs.map(item => renderProgramCard(toProgramCard(item))).join('');
+        if (reset) {
+            programGrid.innerHTML = html || '<p class="text-center text-muted">검색 결과가 없습니다.</p>';
+        } else {
+            programGrid.insertAdjacentHTML('beforeend', html);
+        }
+        CatalogState.cursor = result.nextCursor;
+        CatalogState.hasNext = result.nextCursor !== null;
+        CatalogState.loading = false;
+        return true;
+    } catch (error) {
+        if (error.name === 'AbortError') return true;
+        CatalogState.loading = false;
+        console.warn('프로그램 목록 API 호출 실패, Mock 데이터 사용:', error);
+        return false;
+    }
+}
+
+// 목록 끝이 보이면 다음 페이지 로드
+function initInfiniteScroll() {
+    const programGrid = document.getElementById('programGrid');
+    if (!programGrid || !('IntersectionObserver' in window)) return;
+
+    const sentinel = document.createElement('div');
+    sentinel.id = 'programGridSentinel';
+    programGrid.after(sentinel);
+    new IntersectionObserver(entries => {
+        if (entries.some(entry => entry.isIntersecting)) {
+            loadCatalogPage(false);
+        }
+    }, { rootMargin: '400px' }).observe(sentinel);
+}
+
+// 입력이 잠시 멈추면 실행
+function debounce(fn, delay) {
+    let timer = null;
+    return function(...args) {
+        clearTimeout(timer);
+        timer = setTimeout(() => fn.apply(this, args), delay);
+    };
+}
+
 // 페이지 로드 시 실행
-document.addEventListener('DOMContentLoaded', function() {
+document.addEventListener('DOMContentLoaded', async function() {
     console.log('🎨 Program List Page - Fragment 적용 테스트');
-    loadPrograms();
-    
+    if (!(await loadCatalogPage(true))) {
+        loadPrograms();
+    } else {
+        initInfiniteScroll();
+    }
+
+    const search = debounce(() => loadCatalogPage(true), 150);
+    document.getElementById('keywordInput')?.addEventListener('input', search);
+    document.getElementById('categoryFilter')?.addEventListener('change', search);
+    document.getElementById('statusFilter')?.addEventListener('change', search);
+
     // 검색 버튼 이벤트
     const searchBtn = document.getElementById('searchBtn');
     if (searchBtn) {
-        searchBtn.addEventListener('click', function() {
-            alert('검색 기능은 Phase 5에서 구현됩니다.');
-        });
+        searchBtn.addEventListener('click', () => loadCatalogPage(true));
     }
 });
@@ -9,8 +9,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -187,13 +189,14 @@ class MileageAccountRepositoryTest {
         accountRepository.saveAll(List.of(account1, account2, account3));
 
         // when
-        List<MileageAccount> result = accountRepository.findAccountsOrderByUsageRate();
+        List<MileageAccount> result = accountRepository.findAccountsOrderByUsageRate(PageRequest.of(0, 10));
 
         // then
         assertThat(result).hasSize(3);
         assertThat(result.get(0).getUserId()).isEqualTo(1002L); // 80%
         assertThat(result.get(1).getUserId()).isEqualTo(1001L); // 50%
         assertThat(result.get(2).getUserId()).isEqualTo(1003L); // 20%
+        assertThat(result.get(0).getUsageRate()).isEqualTo(0.8);
     }
 
     @Test
@@ -402,6 +405,33 @@ class MileageAccountRepositoryTest {
         assertThat(average).isEqualTo(2000.0);
     }
 
+    @Test
+    @DisplayName("전체 계정 통계 단일 쿼리 조회 테스트")
+    void getStatistics() {
+        // given
+        MileageAccount account1 = MileageAccount.create(1001L);
+        account1.earn(1000);
+        account1.use(300);
+
+        MileageAccount account2 = MileageAccount.create(1002L);
+        account2.earn(2000);
+        account2.use(600);
+
+        accountRepository.saveAll(List.of(account1, account2));
+
+        // when
+        MileageAccountStatistics statistics = accountRepository.getStatistics();
+
+        // then
+        assertThat(statistics.getAccountCount()).isEqualTo(2L);
+        assertThat(statistics.getTotalAvailablePoints()).isEqualTo(2100L);
+        assertThat(statistics.getTotalAccumulatedPoints()).isEqualTo(3000L);
+        assertThat(statistics.getTotalUsedPoints()).isEqualTo(900L);
+        assertThat(statistics.getAverageAvailablePoints()).isEqualTo(1050.0);
+        assertThat(statistics.getAverageTotalPoints()).isEqualTo(1500.0);
+        assertThat(statistics.getAverageUsedPoints()).isEqualTo(450.0);
+    }
+
     @Test
     @DisplayName("사용 포인트 평균 계산 테스트")
     void getAverageUsedPoints() {
@@ -494,11 +524,34 @@ class MileageAccountRepositoryTest {
         accountRepository.saveAll(List.of(account1, account2, account3));
 
         // when
-        List<MileageAccount> result = accountRepository.findByUsageRateGreaterThanEqual(0.5);
+        List<MileageAccount> result = accountRepository.findByUsageRateGreaterThanEqual(0.5, PageRequest.of(0, 10));
 
         // then
         assertThat(result).hasSize(2);
         assertThat(result).extracting(MileageAccount::getUserId)
                 .containsExactlyInAnyOrder(1001L, 1003L);
     }
+
+    @Test
+    @DisplayName("사용률 페이지 조회 테스트 - 생성 컬럼이 조건부 UPDATE에도 갱신됨")
+    void findAccountsOrderByUsageRatePaged() {
+        // given
+        for (long userId = 1001L; userId <= 1005L; userId++) {
+            MileageAccount account = MileageAccount.create(userId);
+            account.earn(1000);
+            accountRepository.save(account);
+        }
+        accountRepository.flush();
+        accountRepository.usePoints(1003L, 900, LocalDateTime.now());
+        accountRepository.usePoints(1005L, 500, LocalDateTime.now());
+        accountRepository.usePoints(1001L, 100, LocalDateTime.now());
+
+        // when
+        List<MileageAccount> firstPage = accountRepository.findAccountsOrderByUsageRate(PageRequest.of(0, 2));
+        List<MileageAccount> secondPage = accountRepository.findAccountsOrderByUsageRate(PageRequest.of(1, 2));
+
+        // then
+        assertThat(firstPage).extracting(MileageAccount::getUserId).containsExactly(1003L, 1005L);
+        assertThat(secondPage).extracting(MileageAccount::getUserId).first().isEqualTo(1001L);
+    }
 }
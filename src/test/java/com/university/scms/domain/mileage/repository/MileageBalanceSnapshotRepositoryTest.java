@@ -0,0 +1,101 @@
+package com.university.scms.domain.mileage.repository;
+
+import com.university.scms.config.JpaConfig;
+import com.university.scms.domain.mileage.entity.MileageAccount;
+import com.university.scms.domain.mileage.entity.MileageBalanceSnapshot;
+import com.university.scms.domain.mileage.entity.MileageTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MileageBalanceSnapshotRepository 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class MileageBalanceSnapshotRepositoryTest {
+
+    @Autowired
+    private MileageBalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private MileageTransactionRepository transactionRepository;
+
+    @Autowired
+    private MileageAccountRepository accountRepository;
+
+    private final YearMonth month = YearMonth.now();
+    private final Long userId = 1000L;
+
+    @BeforeEach
+    void setUp() {
+        snapshotRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+
+        MileageAccount account = accountRepository.save(MileageAccount.create(userId));
+        transactionRepository.saveAll(List.of(
+                MileageTransaction.createEarn(account, userId, 1000, "PROGRAM", 1L, "프로그램 참여"),
+                MileageTransaction.createUse(account, userId, 300, "SHOP", 1L, "마일리지 사용"),
+                MileageTransaction.createExpire(account, userId, 100, "기간 만료")));
+    }
+
+    @Test
+    @DisplayName("월별 사용자/전체 스냅샷 일괄 생성 테스트")
+    void insertSnapshots() {
+        // given
+        LocalDate periodStart = month.atDay(1);
+        LocalDateTime start = periodStart.atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        // when
+        int users = snapshotRepository.insertUserSnapshots(periodStart, start, end, LocalDateTime.now());
+        snapshotRepository.insertGlobalSnapshot(periodStart, start, end, LocalDateTime.now());
+
+        // then
+        assertThat(users).isEqualTo(1);
+        Optional<MileageBalanceSnapshot> snapshot = snapshotRepository.findTopByUserIdOrderByPeriodStartDesc(userId);
+        assertThat(snapshot).isPresent();
+        assertThat(snapshot.get().getEarnedPoints()).isEqualTo(1000L);
+        assertThat(snapshot.get().getUsedPoints()).isEqualTo(300L);
+        assertThat(snapshot.get().getExpiredPoints()).isEqualTo(100L);
+        assertThat(snapshot.get().getBalance()).isEqualTo(600L);
+        assertThat(snapshotRepository.findLatestPeriodStart()).isEqualTo(periodStart);
+        assertThat(snapshotRepository.existsByUserIdAndPeriodStart(MileageBalanceSnapshot.ALL_USERS, periodStart)).isTrue();
+    }
+
+    @Test
+    @DisplayName("누적값은 직전 스냅샷에 이어서 계산")
+    void cumulativeContinuesFromPrevious() {
+        // given
+        LocalDate previousPeriod = month.minusMonths(1).atDay(1);
+        snapshotRepository.save(MileageBalanceSnapshot.create(userId, previousPeriod, 500L, 0L, 0L, 0L, null));
+        LocalDate periodStart = month.atDay(1);
+
+        // when
+        snapshotRepository.insertUserSnapshots(periodStart, periodStart.atStartOfDay(),
+                month.plusMonths(1).atDay(1).atStartOfDay(), LocalDateTime.now());
+
+        // then
+        List<MileageBalanceSnapshot> snapshots = snapshotRepository
+                .findByUserIdAndPeriodStartBetweenOrderByPeriodStartAsc(userId, previousPeriod, periodStart);
+        assertThat(snapshots).hasSize(2);
+        assertThat(snapshots.get(1).getCumulativeEarned()).isEqualTo(1500L);
+        assertThat(snapshots.get(1).getBalance()).isEqualTo(1100L);
+    }
+}
@@ -0,0 +1,135 @@
+package com.university.scms.domain.mileage.repository;
+
+import com.university.scms.config.JpaConfig;
+import com.university.scms.domain.mileage.entity.MileageAccount;
+import com.university.scms.domain.mileage.entity.MileageTransaction;
+import com.university.scms.domain.mileage.repository.MileageDashboardRepository.MonthlyAmount;
+import com.university.scms.domain.mileage.repository.MileageDashboardRepository.RecentTransaction;
+import com.university.scms.domain.mileage.repository.MileageDashboardRepository.UserDashboard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MileageDashboardRepository 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, MileageDashboardRepository.class})
+class MileageDashboardRepositoryTest {
+
+    @Autowired
+    private MileageDashboardRepository dashboardRepository;
+
+    @Autowired
+    private MileageTransactionRepository transactionRepository;
+
+    @Autowired
+    private MileageAccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Long userId = 1000L;
+    private final LocalDateTime now = LocalDateTime.now();
+    private MileageAccount account;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM mileage_lots");
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+        account = accountRepository.save(MileageAccount.create(userId));
+    }
+
+    @Test
+    @DisplayName("계정과 거래가 없는 사용자는 계정 없이 빈 목록")
+    void userWithoutAccountOrTransactions() {
+        // when
+        UserDashboard dashboard = dashboardRepository.findUserDashboard(
+                2000L, 20, now.minusMonths(6), now, now.plusDays(30));
+
+        // then
+        assertThat(dashboard.account()).isNull();
+        assertThat(dashboard.recentTransactions()).isEmpty();
+        assertThat(dashboard.monthlyAmounts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("소멸 예정 포인트는 기간 안에 만료될 묶음만 합산하고 이미 만료되었거나 기간 밖인 묶음은 제외")
+    void expiringPointsExcludeAlreadyExpiredLots() {
+        // given
+        insertLot(1L, 100, now.minusDays(1));
+        insertLot(2L, 200, now.plusDays(10));
+        insertLot(3L, 400, now.plusDays(60));
+        insertLot(4L, 0, now.plusDays(5));
+
+        // when
+        UserDashboard dashboard = dashboardRepository.findUserDashboard(
+                userId, 20, now.minusMonths(6), now, now.plusDays(30));
+
+        // then
+        assertThat(dashboard.account()).isNotNull();
+        assertThat(dashboard.account().expiringPoints()).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("최근 거래는 최신순으로 제한되고 월별 합계는 거래가 있는 월만, 반영 대기 이벤트는 제외")
+    void recentTransactionsAndMonthlyAmounts() {
+        // given: 이번 달 적립 1000/사용 300, 두 달 전 적립 500, 범위 밖 일곱 달 전 적립 700
+        List<MileageTransaction> saved = transactionRepository.saveAllAndFlush(List.of(
+                MileageTransaction.createEarn(account, userId, 700, "PROGRAM", 1L, "오래된 적립"),
+                MileageTransaction.createEarn(account, userId, 500, "PROGRAM", 2L, "두 달 전 적립"),
+                MileageTransaction.createEarn(account, userId, 1000, "PROGRAM", 3L, "이번 달 적립"),
+                MileageTransaction.createUse(account, userId, 300, "SHOP", 1L, "이번 달 사용")));
+        setCreatedAt(saved.get(0).getId(), now.minusMonths(7));
+        setCreatedAt(saved.get(1).getId(), now.minusMonths(2));
+        jdbcTemplate.update(
+                "INSERT INTO mileage_transactions " +
+                "(account_id, user_id, transaction_type, points, source_type, source_id, description, " +
+                " balance_after, projection_pending, created_at, updated_at) " +
+                "VALUES (0, ?, 'EARN', 50, 'PROGRAM', 9, '반영 대기', 0, TRUE, NOW(), NOW())",
+                userId);
+        YearMonth firstMonth = YearMonth.from(now).minusMonths(5);
+
+        // when
+        UserDashboard dashboard = dashboardRepository.findUserDashboard(
+                userId, 3, firstMonth.atDay(1).atStartOfDay(), now, now.plusDays(30));
+
+        // then
+        assertThat(dashboard.recentTransactions()).extracting(RecentTransaction::description)
+                .containsExactly("이번 달 사용", "이번 달 적립", "두 달 전 적립");
+        assertThat(dashboard.monthlyAmounts()).containsExactlyInAnyOrder(
+                new MonthlyAmount(YearMonth.from(now), 1000L, 300L),
+                new MonthlyAmount(YearMonth.from(now.minusMonths(2)), 500L, 0L));
+    }
+
+    private void insertLot(Long sourceId, int remainingPoints, LocalDateTime expiresAt) {
+        jdbcTemplate.update(
+                "INSERT INTO mileage_lots " +
+                "(account_id, user_id, source_type, source_id, earned_points, remaining_points, expired_points, " +
+                " earned_at, expires_at, created_at, updated_at) " +
+                "VALUES (?, ?, 'PROGRAM', ?, 500, ?, 0, ?, ?, NOW(), NOW())",
+                account.getId(), userId, sourceId, remainingPoints,
+                Timestamp.valueOf(now.minusMonths(11)), Timestamp.valueOf(expiresAt));
+    }
+
+    private void setCreatedAt(Long transactionId, LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE mileage_transactions SET created_at = ? WHERE id = ?",
+                            Timestamp.valueOf(createdAt), transactionId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.university.scms.domain.mileage.repository;
+
+import com.university.scms.config.JpaConfig;
+import com.university.scms.domain.mileage.entity.MileageAccount;
+import com.university.scms.domain.mileage.entity.MileageLot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MileageLotRepository 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class MileageLotRepositoryTest {
+
+    @Autowired
+    private MileageLotRepository lotRepository;
+
+    @Autowired
+    private MileageAccountRepository accountRepository;
+
+    private MileageAccount testAccount;
+    private Long testUserId;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        lotRepository.deleteAll();
+        accountRepository.deleteAll();
+
+        testUserId = 1000L;
+        testAccount = accountRepository.save(MileageAccount.create(testUserId));
+        base = LocalDateTime.of(2025, 3, 1, 9, 0);
+    }
+
+    private MileageLot lot(long sourceId, int points, LocalDateTime earnedAt) {
+        return MileageLot.create(testAccount, testUserId, "PROGRAM", sourceId, points, earnedAt, earnedAt.plusYears(2));
+    }
+
+    @Test
+    @DisplayName("FIFO 차감 테스트 - 오래된 묶음부터 차감하고 걸친 묶음은 일부만 차감")
+    void consumeFifo() {
+        // given
+        lotRepository.saveAll(List.of(
+                lot(3L, 300, base.plusDays(2)),
+                lot(1L, 100, base),
+                lot(2L, 200, base.plusDays(1))));
+
+        // when
+        int updated = lotRepository.consumeFifo(testUserId, 150, LocalDateTime.now());
+
+        // then
+        List<MileageLot> open = lotRepository.findOpenLotsByUserId(testUserId);
+        assertThat(updated).isEqualTo(2);
+        assertThat(open).extracting(MileageLot::getSourceId).containsExactly(2L, 3L);
+        assertThat(open).extracting(MileageLot::getRemainingPoints).containsExactly(150, 300);
+        assertThat(lotRepository.sumRemainingPointsByUserId(testUserId)).isEqualTo(450);
+    }
+
+    @Test
+    @DisplayName("FIFO 차감 테스트 - 묶음이 부족하면 있는 만큼만 차감")
+    void consumeFifoBeyondLots() {
+        // given
+        lotRepository.saveAll(List.of(lot(1L, 100, base), lot(2L, 200, base.plusDays(1))));
+
+        // when
+        lotRepository.consumeFifo(testUserId, 1000, LocalDateTime.now());
+
+        // then
+        assertThat(lotRepository.findOpenLotsByUserId(testUserId)).isEmpty();
+        assertThat(lotRepository.sumRemainingPointsByUserId(testUserId)).isZero();
+    }
+
+    @Test
+    @DisplayName("소멸 예정 포인트 합계 테스트")
+    void sumExpiringPointsByUserId() {
+        // given
+        lotRepository.saveAll(List.of(lot(1L, 100, base), lot(2L, 200, base.plusMonths(6))));
+
+        // when
+        long expiring = lotRepository.sumExpiringPointsByUserId(testUserId, base.plusYears(2).plusMonths(1));
+
+        // then
+        assertThat(expiring).isEqualTo(100);
+    }
+}
@@ -11,9 +11,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +36,9 @@ class MileageTransactionRepositoryTest {
     @Autowired
     private MileageAccountRepository accountRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private MileageAccount testAccount;
     private Long testUserId;
 
@@ -593,4 +599,61 @@ class MileageTransactionRepositoryTest {
         assertThat(programCount).isEqualTo(2);
         assertThat(certCount).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("내보내기 키셋 페이징 테스트 - 누락/중복 없이 생성 순서대로 조회")
+    void findExportRowsAfter() {
+        // given
+        List<MileageTransaction> saved = transactionRepository.saveAll(List.of(
+                MileageTransaction.createEarn(testAccount, testUserId, 100, "PROGRAM", 1L, "프로그램1"),
+                MileageTransaction.createEarn(testAccount, testUserId, 200, "PROGRAM", 2L, "프로그램, \"특강\""),
+                MileageTransaction.createUse(testAccount, testUserId, 50, "SHOP", 1L, "사용"),
+                MileageTransaction.createEarn(testAccount, testUserId, 300, "PROGRAM", 3L, "프로그램3"),
+                MileageTransaction.createEarn(testAccount, testUserId, 400, "PROGRAM", 4L, "프로그램4")));
+        LocalDateTime from = LocalDateTime.now().minusDays(1);
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+
+        // when
+        List<Long> exportedIds = new ArrayList<>();
+        LocalDateTime cursorAt = from;
+        long cursorId = 0L;
+        List<MileageTransactionExportRow> page;
+        do {
+            page = transactionRepository.findExportRowsAfter(cursorAt, cursorId, to, null, PageRequest.of(0, 2));
+            page.forEach(row -> exportedIds.add(row.id()));
+            if (!page.isEmpty()) {
+                cursorAt = page.get(page.size() - 1).createdAt();
+                cursorId = page.get(page.size() - 1).id();
+            }
+        } while (page.size() == 2);
+
+        List<MileageTransactionExportRow> earnOnly = transactionRepository.findExportRowsAfter(
+                from, 0L, to, TransactionType.EARN, PageRequest.of(0, 10));
+
+        // then
+        assertThat(exportedIds).containsExactlyElementsOf(saved.stream().map(MileageTransaction::getId).toList());
+        assertThat(earnOnly).hasSize(4)
+                .allMatch(row -> row.transactionType() == TransactionType.EARN);
+    }
+
+    @Test
+    @DisplayName("내보내기는 계정에 반영되지 않은 이벤트 로그 행을 제외")
+    void findExportRowsAfterSkipsPendingEvents() {
+        // given
+        MileageTransaction settled = transactionRepository.saveAndFlush(
+                MileageTransaction.createEarn(testAccount, testUserId, 100, "PROGRAM", 1L, "프로그램1"));
+        jdbcTemplate.update(
+                "INSERT INTO mileage_transactions " +
+                "(account_id, user_id, transaction_type, points, source_type, source_id, description, " +
+                " balance_after, projection_pending, created_at, updated_at) " +
+                "VALUES (0, ?, 'EARN', 200, 'PROGRAM', 2, '프로그램2', 0, TRUE, NOW(), NOW())",
+                testUserId);
+
+        // when
+        List<MileageTransactionExportRow> rows = transactionRepository.findExportRowsAfter(
+                LocalDateTime.now().minusDays(1), 0L, LocalDateTime.now().plusDays(1), null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(rows).extracting(MileageTransactionExportRow::id).containsExactly(settled.getId());
+    }
 }
@@ -0,0 +1,115 @@
+package com.university.scms.domain.mileage.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용률 조회 벤치마크
+ *
+ * <p>계정을 대량 적재한 뒤 사용률 정렬/범위 조회의 지연 시간(p50/p99)과 실행 계획의 사용 인덱스를 출력합니다.
+ * {@code gradle benchmark -Dbenchmark.accounts=500000}으로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class MileageUsageRateBenchmarkTest {
+
+    private static final int ACCOUNTS = Integer.getInteger("benchmark.accounts", 500_000);
+    private static final int SEED_BATCH = 5_000;
+    private static final int ITERATIONS = 200;
+    private static final long USER_ID_OFFSET = 30_000_000L;
+
+    @Autowired
+    private MileageAccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM mileage_lots");
+        jdbcTemplate.update("DELETE FROM mileage_transactions");
+        jdbcTemplate.update("DELETE FROM mileage_accounts");
+
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < ACCOUNTS; from += SEED_BATCH) {
+            List<Object[]> rows = new ArrayList<>(SEED_BATCH);
+            for (int i = from; i < Math.min(ACCOUNTS, from + SEED_BATCH); i++) {
+                int total = 100 + random.nextInt(10_000);
+                int used = random.nextInt(total + 1);
+                rows.add(new Object[]{USER_ID_OFFSET + i, total, total - used, used, now, now});
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO mileage_accounts " +
+                    "(user_id, total_points, available_points, used_points, version, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, 0, ?, ?)",
+                    rows);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE mileage_accounts");
+    }
+
+    @Test
+    @DisplayName("사용률 정렬/범위 조회 - 인덱스 스캔 지연 시간")
+    void usageRateQueryLatency() {
+        // when
+        long[] topPage = measure(() -> accountRepository.findAccountsOrderByUsageRate(PageRequest.of(0, 20)));
+        long[] tenthPage = measure(() -> accountRepository.findAccountsOrderByUsageRate(PageRequest.of(10, 20)));
+        long[] range = measure(() -> accountRepository.findByUsageRateGreaterThanEqual(0.95, PageRequest.of(0, 50)));
+
+        // then
+        System.out.printf("[benchmark] accounts=%d iterations=%d%n", ACCOUNTS, ITERATIONS);
+        print("order by usage rate, page 0 ", topPage);
+        print("order by usage rate, page 10", tenthPage);
+        print("usage rate >= 0.95, page 0  ", range);
+
+        assertThat(explainKey("SELECT id FROM mileage_accounts WHERE usage_rate IS NOT NULL " +
+                              "ORDER BY usage_rate DESC, id DESC LIMIT 20"))
+                .isEqualTo("idx_usage_rate");
+        assertThat(explainKey("SELECT id FROM mileage_accounts WHERE usage_rate >= 0.95 " +
+                              "ORDER BY usage_rate DESC, id DESC LIMIT 50"))
+                .isEqualTo("idx_usage_rate");
+    }
+
+    private long[] measure(Runnable query) {
+        for (int i = 0; i < 20; i++) {
+            query.run();
+        }
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private void print(String label, long[] sortedNanos) {
+        System.out.printf("[benchmark] %s: p50=%.2fms p99=%.2fms%n", label,
+                sortedNanos[sortedNanos.length / 2] / 1_000_000.0,
+                sortedNanos[(int) (sortedNanos.length * 0.99)] / 1_000_000.0);
+    }
+
+    private String explainKey(String sql) {
+        Map<String, Object> plan = jdbcTemplate.queryForList("EXPLAIN " + sql).get(0);
+        return (String) plan.get("key");
+    }
+}
@@ -0,0 +1,138 @@
+package com.university.scms.domain.program.repository;
+
+import com.university.scms.config.JpaConfig;
+import com.university.scms.domain.program.entity.ApplicationStatus;
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramApplication;
+import com.university.scms.domain.program.entity.ProgramParticipant;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로그램 목록 조회 fetch plan 테스트
+ * 이력/취소/수료 목록이 행 수와 관계없이 정해진 SQL 수 안에서 끝나는지 Hibernate 통계로 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+class ProgramFetchPlanTest {
+
+    private static final Long USER_ID = 9001L;
+    private static final int PROGRAMS = 12;
+    private static final long MAX_STATEMENTS = 1;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProgramApplicationRepository applicationRepository;
+
+    @Autowired
+    private ProgramParticipantRepository participantRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < PROGRAMS; i++) {
+            boolean finished = i % 2 == 0;
+            Program program = entityManager.persist(Program.builder()
+                    .title("이력 프로그램 " + i)
+                    .category("교육")
+                    .organizerId(1L)
+                    .capacity(30)
+                    .startDate(finished ? now.minusDays(10 + i) : now.plusDays(10 + i))
+                    .endDate(finished ? now.minusDays(9 + i) : now.plusDays(11 + i))
+                    .status(finished ? ProgramStatus.COMPLETED : ProgramStatus.OPEN)
+                    .build());
+            ProgramApplication application = entityManager.persist(ProgramApplication.builder()
+                    .program(program)
+                    .userId(USER_ID)
+                    .applicationDate(now.minusDays(20 - i))
+                    .build());
+            if (finished) {
+                application.approve(1L);
+                ProgramParticipant participant = ProgramParticipant.builder()
+                        .program(program)
+                        .application(application)
+                        .userId(USER_ID)
+                        .build();
+                participant.confirmAttendance(1L);
+                entityManager.persist(participant);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("참여 이력에서 프로그램 제목을 읽어도 SQL은 1회")
+    void participantHistoryLoadsProgramsInOneStatement() {
+        // when
+        List<String> titles = participantRepository.findByUserIdOrderByCreatedAtDesc(USER_ID).stream()
+                .map(participant -> participant.getProgram().getTitle())
+                .toList();
+
+        // then
+        assertThat(titles).hasSize(PROGRAMS / 2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("신청 이력에서 프로그램 제목을 읽어도 SQL은 1회")
+    void applicationHistoryLoadsProgramsInOneStatement() {
+        // when
+        List<String> titles = applicationRepository.findByUserIdOrderByApplicationDateDesc(USER_ID).stream()
+                .map(application -> application.getProgram().getTitle())
+                .toList();
+
+        // then
+        assertThat(titles).hasSize(PROGRAMS).allMatch(title -> title.startsWith("이력 프로그램"));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("신청 이력/취소/수료 화면 프로젝션은 각각 SQL 1회")
+    void screenProjectionsUseOneStatementEach() {
+        // when
+        List<ProgramApplicationHistoryRow> history = applicationRepository.findHistoryRowsByUserId(USER_ID);
+        List<ProgramApplicationHistoryRow> cancellable = applicationRepository.findCancellableRowsByUserId(
+                USER_ID, EnumSet.of(ApplicationStatus.PENDING, ApplicationStatus.APPROVED), LocalDateTime.now());
+        List<ProgramCompletionRow> completions = participantRepository.findCompletionRowsByUserId(USER_ID);
+
+        // then
+        assertThat(history).hasSize(PROGRAMS);
+        assertThat(history.get(0).getProgramTitle()).isEqualTo("이력 프로그램 " + (PROGRAMS - 1));
+        assertThat(cancellable).hasSize(PROGRAMS / 2)
+                .allMatch(row -> row.getStartDate().isAfter(LocalDateTime.now()));
+        assertThat(completions).hasSize(PROGRAMS / 2)
+                .allMatch(row -> row.getProgramTitle() != null && row.getCompletedAt() != null);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3 * MAX_STATEMENTS);
+    }
+}
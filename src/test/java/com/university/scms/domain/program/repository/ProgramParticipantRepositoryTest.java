@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -436,6 +437,45 @@ class ProgramParticipantRepositoryTest {
         assertThat(paid.get(0).getMileageAwarded()).isTrue();
     }
 
+    @Test
+    @Order(40)
+    @DisplayName("마일리지 미지급 참여자 키셋 청크 조회")
+    void testFindUnpaidMileageRowsAfter() {
+        // given
+        ProgramParticipant saved = participantRepository.save(attendedParticipant);
+        participantRepository.save(absentParticipant);
+
+        // when
+        List<UnpaidMileageRow> firstChunk =
+                participantRepository.findUnpaidMileageRowsAfter(0L, PageRequest.of(0, 10));
+        List<UnpaidMileageRow> nextChunk =
+                participantRepository.findUnpaidMileageRowsAfter(saved.getId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(firstChunk).hasSize(1);
+        assertThat(firstChunk.get(0).getParticipantId()).isEqualTo(saved.getId());
+        assertThat(firstChunk.get(0).getProgramId()).isEqualTo(testProgram.getId());
+        assertThat(firstChunk.get(0).getMileagePoints()).isEqualTo(40);
+        assertThat(nextChunk).isEmpty();
+    }
+
+    @Test
+    @Order(41)
+    @DisplayName("마일리지 지급 완료 일괄 처리")
+    void testMarkMileageAwarded() {
+        // given
+        ProgramParticipant saved = participantRepository.save(attendedParticipant);
+
+        // when
+        int first = participantRepository.markMileageAwarded(List.of(saved.getId()), LocalDateTime.now());
+        int second = participantRepository.markMileageAwarded(List.of(saved.getId()), LocalDateTime.now());
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(participantRepository.countUnpaidMileageParticipants()).isZero();
+    }
+
     // ========== 후기 및 평가 관련 조회 테스트 ==========
 
     @Test
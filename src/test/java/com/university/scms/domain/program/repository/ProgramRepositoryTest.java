@@ -297,7 +297,7 @@ class ProgramRepositoryTest {
         programRepository.save(testProgram3);
 
         // when
-        List<Program> programs = programRepository.findApplicationOpenPrograms(LocalDateTime.now());
+        List<Program> programs = programRepository.findApplicationOpenPrograms();
 
         // then
         assertThat(programs).hasSize(2);
@@ -319,15 +319,16 @@ class ProgramRepositoryTest {
                 .currentParticipants(15)
                 .startDate(LocalDateTime.now().minusHours(1))
                 .endDate(LocalDateTime.now().plusHours(1))
-                .status(ProgramStatus.OPEN)
+                .status(ProgramStatus.IN_PROGRESS)
                 .build();
         programRepository.save(inProgress);
+        programRepository.save(testProgram1);
 
         // when
-        List<Program> programs = programRepository.findInProgressPrograms(LocalDateTime.now());
+        List<Program> programs = programRepository.findInProgressPrograms();
 
         // then
-        assertThat(programs).hasSize(1);
+        assertThat(programs).extracting(Program::getTitle).containsExactly("진행 중 프로그램");
     }
 
     @Test
@@ -339,7 +340,7 @@ class ProgramRepositoryTest {
         programRepository.save(testProgram3);
 
         // when
-        List<Program> completed = programRepository.findCompletedPrograms(LocalDateTime.now());
+        List<Program> completed = programRepository.findCompletedPrograms();
 
         // then
         assertThat(completed).hasSize(1);
@@ -499,4 +500,46 @@ class ProgramRepositoryTest {
         assertThat(educationCount).isEqualTo(1);
         assertThat(careerCount).isEqualTo(1);
     }
+
+    // ========== 커서 기반 목록 테스트 ==========
+
+    @Test
+    @Order(24)
+    @DisplayName("커서 기반 목록 - 등록 최신순으로 커서 다음 페이지 조회")
+    void findCatalogPage() {
+        // given
+        Program first = programRepository.save(testProgram1);
+        Program second = programRepository.save(testProgram2);
+        Program third = programRepository.save(testProgram3);
+
+        // when
+        List<Program> page1 = programRepository.findCatalogPage(
+                null, null, LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE, PageRequest.of(0, 2));
+        Program last = page1.get(page1.size() - 1);
+        List<Program> page2 = programRepository.findCatalogPage(
+                null, null, last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(page1).extracting(Program::getId).containsExactly(third.getId(), second.getId());
+        assertThat(page2).extracting(Program::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    @Order(25)
+    @DisplayName("커서 기반 목록 - 상태/카테고리 필터와 건수")
+    void findCatalogPageWithFilters() {
+        // given
+        programRepository.save(testProgram1);
+        Program career = programRepository.save(testProgram2);
+        programRepository.save(testProgram3);
+
+        // when
+        List<Program> programs = programRepository.findCatalogPage(
+                ProgramStatus.OPEN, "진로", LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE, PageRequest.of(0, 10));
+
+        // then
+        assertThat(programs).extracting(Program::getId).containsExactly(career.getId());
+        assertThat(programRepository.countCatalog(ProgramStatus.OPEN, null)).isEqualTo(2);
+        assertThat(programRepository.countCatalog(null, null)).isEqualTo(3);
+    }
 }
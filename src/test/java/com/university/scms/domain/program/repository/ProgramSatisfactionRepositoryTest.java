@@ -749,4 +749,64 @@ class ProgramSatisfactionRepositoryTest {
         assertThat(lowSatisfaction.isLowSatisfaction()).isTrue();
         assertThat(highSatisfaction.isLowSatisfaction()).isFalse();
     }
+
+    @Test
+    @Order(42)
+    @DisplayName("프로그램별 만족도 통계 일괄 조회 (평균, 추천 비율, 평점 분포)")
+    void testFindStatisticsByProgramIds() {
+        // given
+        satisfactionRepository.save(highSatisfaction);
+        satisfactionRepository.save(lowSatisfaction);
+        satisfactionRepository.save(mediumSatisfaction);
+        Program emptyProgram = programRepository.save(Program.builder()
+                .title("응답 없는 프로그램")
+                .category("인공지능")
+                .organizerId(100L)
+                .capacity(10)
+                .status(ProgramStatus.COMPLETED)
+                .build());
+
+        // when
+        List<ProgramSatisfactionStatistics> stats = satisfactionRepository.findStatisticsByProgramIds(
+                List.of(testProgram.getId(), emptyProgram.getId()));
+
+        // then
+        assertThat(stats).hasSize(1);
+        ProgramSatisfactionStatistics stat = stats.get(0);
+        Long programId = testProgram.getId();
+        assertThat(stat.getProgramId()).isEqualTo(programId);
+        assertThat(stat.getResponseCount()).isEqualTo(3);
+        assertThat(stat.getAverageOverallRating())
+                .isEqualTo(satisfactionRepository.getAverageOverallRatingByProgramId(programId));
+        assertThat(stat.getAverageContentRating())
+                .isEqualTo(satisfactionRepository.getAverageContentRatingByProgramId(programId));
+        assertThat(stat.getTotalAverageRating())
+                .isCloseTo(satisfactionRepository.getTotalAverageRatingByProgramId(programId), within(1e-9));
+        assertThat(stat.getRecommendationRate()).isCloseTo(2.0 / 3.0, within(1e-9));
+        assertThat(stat.getOverallRating1Count()).isZero();
+        assertThat(stat.getOverallRating2Count()).isEqualTo(1);
+        assertThat(stat.getOverallRating3Count()).isEqualTo(1);
+        assertThat(stat.getOverallRating4Count()).isZero();
+        assertThat(stat.getOverallRating5Count()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(43)
+    @DisplayName("시작일 기간으로 프로그램별 만족도 통계 조회")
+    void testFindStatisticsByProgramStartDateBetween() {
+        // given
+        satisfactionRepository.save(highSatisfaction);
+        satisfactionRepository.save(lowSatisfaction);
+        LocalDateTime start = testProgram.getStartDate();
+
+        // when
+        List<ProgramSatisfactionStatistics> inRange = satisfactionRepository
+                .findStatisticsByProgramStartDateBetween(start.minusDays(1), start.plusDays(1));
+        List<ProgramSatisfactionStatistics> outOfRange = satisfactionRepository
+                .findStatisticsByProgramStartDateBetween(start.plusDays(1), start.plusDays(30));
+
+        // then
+        assertThat(inRange).extracting(ProgramSatisfactionStatistics::getResponseCount).containsExactly(2L);
+        assertThat(outOfRange).isEmpty();
+    }
 }
@@ -0,0 +1,210 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.entity.CounselingStatus;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.CalendarReservationChange;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.CalendarSessionChange;
+import com.university.scms.service.counseling.CounselingCalendarSyncToken.Cursor;
+import com.university.scms.service.counseling.CounselingCalendarSyncToken.Delivered;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * CounselingCalendarService 테스트
+ */
+class CounselingCalendarServiceTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 10, 18, 10, 0, 0, 123_456_000);
+    private static final LocalDateTime MONDAY_9AM = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    private CounselingJdbcRepository repository;
+    private CounselingCalendarService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CounselingJdbcRepository.class);
+        service = new CounselingCalendarService(repository, 60);
+    }
+
+    @Test
+    @DisplayName("토큰은 종류별 기준 시각과 전달한 행을 담고 다음 요청에서 그대로 해석됨")
+    void tokenCarriesHighWaterAndDeliveredRows() {
+        // given
+        when(repository.findReservationChanges(eq(1L), any(), any(), anyLong(), eq(2))).thenReturn(List.of(
+                reservation(10L, CounselingStatus.CONFIRMED, UPDATED),
+                reservation(11L, CounselingStatus.CANCELLED, UPDATED.plusSeconds(1))));
+        when(repository.findSessionChanges(eq(1L), any(), any(), anyLong(), eq(2))).thenReturn(List.of(
+                session(7L, UPDATED)));
+
+        // when
+        CounselingCalendarSyncResult result = service.sync(1L, null, 2);
+
+        // then
+        assertThat(result.hasMore()).isTrue();
+        assertThat(result.reservations()).extracting(CalendarReservationChange::deleted).containsExactly(false, true);
+        CounselingCalendarSyncToken token = CounselingCalendarSyncToken.decode(result.syncToken());
+        assertThat(token.reservations().highWater()).isEqualTo(UPDATED.plusSeconds(1));
+        assertThat(token.reservations().delivered()).containsExactlyInAnyOrder(
+                new Delivered(10L, UPDATED), new Delivered(11L, UPDATED.plusSeconds(1)));
+        assertThat(token.sessions().highWater()).isEqualTo(UPDATED);
+        assertThat(token.sessions().delivered()).containsExactly(new Delivered(7L, UPDATED));
+    }
+
+    @Test
+    @DisplayName("기준 시각 앞 구간을 다시 훑어 늦게 커밋된 변경은 전달하고 이미 전달한 행은 거름")
+    void rescansWindowAndSkipsDeliveredRows() {
+        // given: 10번을 전달한 뒤, 그보다 이른 수정 일시로 늦게 커밋된 12번이 보임
+        String token = new CounselingCalendarSyncToken(
+                new Cursor(UPDATED, Set.of(new Delivered(10L, UPDATED))), Cursor.INITIAL).encode();
+        when(repository.findReservationChanges(eq(1L), eq(UPDATED.minusSeconds(60)), any(), anyLong(), eq(101))).thenReturn(List.of(
+                reservation(12L, CounselingStatus.PENDING, UPDATED.minusSeconds(3)),
+                reservation(10L, CounselingStatus.CONFIRMED, UPDATED)));
+        when(repository.findSessionChanges(eq(1L), any(), any(), anyLong(), anyInt())).thenReturn(List.of());
+
+        // when
+        CounselingCalendarSyncResult result = service.sync(1L, token, 100);
+
+        // then
+        assertThat(result.reservations()).extracting(CalendarReservationChange::id).containsExactly(12L);
+        assertThat(result.hasMore()).isFalse();
+        Cursor next = CounselingCalendarSyncToken.decode(result.syncToken()).reservations();
+        assertThat(next.highWater()).isEqualTo(UPDATED);
+        assertThat(next.delivered()).containsExactlyInAnyOrder(
+                new Delivered(10L, UPDATED), new Delivered(12L, UPDATED.minusSeconds(3)));
+    }
+
+    @Test
+    @DisplayName("다시 수정된 행은 수정 일시가 달라 다시 전달되고 구간을 벗어난 전달 기록은 버림")
+    void redeliversUpdatedRowsAndDropsOldRecords() {
+        // given
+        Cursor cursor = new Cursor(UPDATED, Set.of(new Delivered(10L, UPDATED.minusSeconds(30))));
+
+        // when
+        Cursor next = cursor.advance(List.of(new Delivered(10L, UPDATED.plusSeconds(45))), Duration.ofSeconds(60));
+
+        // then
+        assertThat(cursor.isDelivered(10L, UPDATED.plusSeconds(45))).isFalse();
+        assertThat(next.highWater()).isEqualTo(UPDATED.plusSeconds(45));
+        assertThat(next.delivered()).containsExactly(new Delivered(10L, UPDATED.plusSeconds(45)));
+    }
+
+    @Test
+    @DisplayName("같은 수정 일시의 변경이 전달 목록 크기를 넘어도 매 요청 앞으로 나아가 모두 한 번씩 전달")
+    void advancesPastRowsSharingOneUpdatedAt() {
+        // given: 1,200건이 같은 수정 일시 (일괄 상태 변경)
+        int total = Cursor.MAX_DELIVERED * 2 + 200;
+        List<CalendarReservationChange> rows = new ArrayList<>(total);
+        for (long id = 1; id <= total; id++) {
+            rows.add(reservation(id, CounselingStatus.CONFIRMED, UPDATED));
+        }
+        when(repository.findReservationChanges(eq(1L), any(), any(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            LocalDateTime from = invocation.getArgument(1);
+            LocalDateTime afterUpdatedAt = invocation.getArgument(2);
+            long afterId = invocation.getArgument(3);
+            int limit = invocation.getArgument(4);
+            return rows.stream()
+                    .filter(row -> !row.updatedAt().isBefore(from))
+                    .filter(row -> row.updatedAt().isAfter(afterUpdatedAt)
+                            || (row.updatedAt().equals(afterUpdatedAt) && row.id() > afterId))
+                    .limit(limit)
+                    .toList();
+        });
+        when(repository.findSessionChanges(eq(1L), any(), any(), anyLong(), anyInt())).thenReturn(List.of());
+
+        // when
+        List<Long> deliveredIds = new ArrayList<>();
+        String token = null;
+        int requests = 0;
+        CounselingCalendarSyncResult result;
+        do {
+            result = service.sync(1L, token, 100);
+            result.reservations().forEach(row -> deliveredIds.add(row.id()));
+            token = result.syncToken();
+        } while (result.hasMore() && ++requests < 100);
+
+        // then
+        assertThat(result.hasMore()).isFalse();
+        assertThat(deliveredIds).hasSize(total).doesNotHaveDuplicates();
+        Cursor last = CounselingCalendarSyncToken.decode(token).reservations();
+        assertThat(last.delivered()).hasSize(Cursor.MAX_DELIVERED);
+        assertThat(last.floor()).isEqualTo(new Delivered(total - Cursor.MAX_DELIVERED, UPDATED));
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 이전 토큰을 유지하고, 이전 형식 토큰은 기준 시각만 살리며, 잘못된 토큰은 예외")
+    void keepsCursorWhenNothingChanged() {
+        // given
+        String token = new CounselingCalendarSyncToken(
+                new Cursor(UPDATED, Set.of(new Delivered(10L, UPDATED))), new Cursor(UPDATED, Set.of())).encode();
+        when(repository.findReservationChanges(eq(1L), any(), any(), anyLong(), anyInt())).thenReturn(List.of());
+        when(repository.findSessionChanges(eq(1L), any(), any(), anyLong(), anyInt())).thenReturn(List.of());
+        String legacy = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "1000000:10:2000000:3".getBytes(StandardCharsets.US_ASCII));
+
+        // when
+        CounselingCalendarSyncResult result = service.sync(1L, token, 100);
+
+        // then
+        assertThat(result.hasMore()).isFalse();
+        assertThat(result.syncToken()).isEqualTo(token);
+        assertThat(CounselingCalendarSyncToken.decode(legacy)).isEqualTo(new CounselingCalendarSyncToken(
+                new Cursor(LocalDateTime.of(1970, 1, 1, 0, 0, 1), Set.of()),
+                new Cursor(LocalDateTime.of(1970, 1, 1, 0, 0, 2), Set.of())));
+        assertThatThrownBy(() -> service.sync(1L, "not-a-token", 100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.sync(1L, null, CounselingCalendarService.MAX_LIMIT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("iCalendar 내보내기는 취소된 예약을 빼고 일정마다 VEVENT를 씀")
+    void exportsICalendarWithoutCancelledReservations() throws IOException {
+        // given
+        when(repository.findCalendarReservations(eq(1L), any(), any(), any(), anyLong(), anyInt())).thenReturn(List.of(
+                reservation(10L, CounselingStatus.PENDING, UPDATED),
+                reservation(11L, CounselingStatus.CANCELLED, UPDATED)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long exported = service.exportICalendar(1L, MONDAY_9AM.minusDays(1), MONDAY_9AM.plusDays(1), out);
+
+        // then
+        String calendar = out.toString(StandardCharsets.UTF_8);
+        assertThat(exported).isEqualTo(1);
+        assertThat(calendar).startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(calendar).contains(
+                "UID:counseling-reservation-10@scms\r\n",
+                "DTSTART:20261019T090000\r\n",
+                "DTEND:20261019T100000\r\n",
+                "STATUS:TENTATIVE\r\n");
+        assertThat(calendar).doesNotContain("counseling-reservation-11");
+    }
+
+    private static CalendarReservationChange reservation(Long id, CounselingStatus status, LocalDateTime updatedAt) {
+        return new CalendarReservationChange(id, 100L, MONDAY_9AM, 60, "진로", status,
+                                             status == CounselingStatus.CANCELLED, updatedAt);
+    }
+
+    private static CalendarSessionChange session(Long id, LocalDateTime updatedAt) {
+        return new CalendarSessionChange(id, 10L, MONDAY_9AM, MONDAY_9AM.plusHours(1), null, updatedAt);
+    }
+}
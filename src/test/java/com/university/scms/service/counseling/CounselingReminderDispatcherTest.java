@@ -0,0 +1,144 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.entity.CounselingFollowUpChangedEvent;
+import com.university.scms.domain.counseling.entity.CounselingReservationChangedEvent;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.ReminderTarget;
+import com.university.scms.domain.notification.entity.Notification;
+import com.university.scms.domain.notification.repository.NotificationJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CounselingReminderDispatcher 테스트
+ */
+class CounselingReminderDispatcherTest {
+
+    private CounselingJdbcRepository counselingRepository;
+    private NotificationJdbcRepository notificationRepository;
+    private CounselingReminderDispatcher dispatcher;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        counselingRepository = mock(CounselingJdbcRepository.class);
+        notificationRepository = mock(NotificationJdbcRepository.class);
+        dispatcher = new CounselingReminderDispatcher(counselingRepository, notificationRepository, 1000,
+                Duration.ofHours(48), List.of(Duration.ofHours(1), Duration.ofHours(24)));
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+    }
+
+    @Test
+    @DisplayName("적재한 예약의 알림이 정확한 간격에 학생과 상담사에게 발송되고 이미 지난 간격은 건너뜀")
+    void firesLoadedReservationReminderAtOffset() {
+        // given: 2시간 뒤 예약 → 24시간 전 알림은 이미 지남, 1시간 전 알림만 등록
+        ReminderTarget target = new ReminderTarget(10L, 100L, 200L, now.plusHours(2));
+        when(counselingRepository.findReservationReminderTargets(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(target));
+        when(counselingRepository.findReservationReminderTargets(anyCollection())).thenReturn(List.of(target));
+        dispatcher.reload(now);
+
+        // when & then
+        assertThat(dispatcher.tick(now.plusMinutes(59))).isZero();
+        assertThat(dispatcher.tick(now.plusHours(1).plusSeconds(1))).isEqualTo(2);
+        assertThat(dispatcher.tick(now.plusHours(1).plusSeconds(2))).isZero();
+
+        ArgumentCaptor<List<Notification>> captor = captor();
+        verify(notificationRepository).insertAll(captor.capture(), any());
+        assertThat(captor.getValue()).extracting(Notification::getUserId).containsExactly(100L, 200L);
+        assertThat(captor.getValue().get(0).getContent()).endsWith("1시간 후 시작됩니다.");
+        assertThat(captor.getValue().get(0).getReferenceId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("예약 시각 변경 시 이전 알림은 버리고 취소되면 알림 제거")
+    void rescheduleReplacesAndCancelRemoves() {
+        // given
+        dispatcher.reload(now);
+        LocalDateTime moved = now.plusHours(3);
+        ReminderTarget target = new ReminderTarget(10L, 100L, 200L, moved);
+        when(counselingRepository.findReservationReminderTargets(anyCollection())).thenReturn(List.of(target));
+
+        // when
+        dispatcher.onReservationChanged(new CounselingReservationChangedEvent(10L, 200L, now.plusHours(2), 60, true));
+        dispatcher.onReservationChanged(new CounselingReservationChangedEvent(10L, 200L, moved, 60, true));
+        dispatcher.onReservationChanged(new CounselingReservationChangedEvent(11L, 200L, moved, 60, true));
+        dispatcher.onReservationChanged(new CounselingReservationChangedEvent(11L, 200L, moved, 60, false));
+
+        // then
+        assertThat(dispatcher.tick(now.plusHours(1).plusSeconds(1))).isZero();
+        assertThat(dispatcher.tick(now.plusHours(2).plusSeconds(1))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("후속 상담 알림은 학생에게만 발송되고 발화 시 일정이 바뀌었으면 보내지 않음")
+    void followUpReminderGoesToStudentOnly() {
+        // given
+        dispatcher.reload(now);
+        LocalDateTime followUp = now.plusHours(30);
+        when(counselingRepository.findFollowUpReminderTargets(anyCollection())).thenReturn(
+                List.of(new ReminderTarget(5L, 100L, 200L, followUp)));
+
+        // when
+        dispatcher.onFollowUpChanged(new CounselingFollowUpChangedEvent(5L, followUp));
+
+        // then
+        assertThat(dispatcher.tick(now.plusHours(6).plusSeconds(1))).isEqualTo(1);
+        when(counselingRepository.findFollowUpReminderTargets(anyCollection())).thenReturn(
+                List.of(new ReminderTarget(5L, 100L, 200L, followUp.plusDays(1))));
+        assertThat(dispatcher.tick(now.plusHours(29).plusSeconds(1))).isZero();
+    }
+
+    @Test
+    @DisplayName("기동 전에 발송 시각이 지난 알림은 가장 최근 간격 하나만 바로 발송하고 이미 보낸 일정은 건너뜀")
+    void recoversRemindersMissedWhileDown() {
+        // given: 30분 뒤 예약 두 건 → 24시간/1시간 전 알림 모두 지남, 11번은 1시간 전 알림을 이미 보냄
+        ReminderTarget missed = new ReminderTarget(10L, 100L, 200L, now.plusMinutes(30));
+        ReminderTarget notified = new ReminderTarget(11L, 101L, 200L, now.plusMinutes(30));
+        when(counselingRepository.findReservationReminderTargets(now, now.plusHours(24)))
+                .thenReturn(List.of(missed, notified));
+        when(counselingRepository.findReservationReminderTargets(anyCollection())).thenReturn(List.of(missed));
+        when(notificationRepository.findLastCreatedAtByReference(any(), eq("CounselingReservation"), anyCollection(),
+                                                                 any()))
+                .thenReturn(Map.of(11L, now.minusMinutes(25)));
+
+        // when
+        int recovered = dispatcher.recoverMissed(now);
+
+        // then
+        assertThat(recovered).isEqualTo(1);
+        assertThat(dispatcher.tick(now.plusSeconds(1))).isEqualTo(2);
+        ArgumentCaptor<List<Notification>> captor = captor();
+        verify(notificationRepository).insertAll(captor.capture(), any());
+        assertThat(captor.getValue()).extracting(Notification::getReferenceId).containsOnly(10L);
+        assertThat(captor.getValue().get(0).getContent()).endsWith("1시간 후 시작됩니다.");
+    }
+
+    @Test
+    @DisplayName("알림 간격 표기")
+    void describesOffsets() {
+        assertThat(CounselingReminderDispatcher.describe(Duration.ofHours(24))).isEqualTo("24시간");
+        assertThat(CounselingReminderDispatcher.describe(Duration.ofMinutes(90))).isEqualTo("90분");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Notification>> captor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
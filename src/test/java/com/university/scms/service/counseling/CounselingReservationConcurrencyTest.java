@@ -0,0 +1,227 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.entity.CounselingReservation;
+import com.university.scms.domain.counseling.entity.CounselorAvailability;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.CalendarReservationChange;
+import com.university.scms.domain.counseling.repository.CounselingReservationRepository;
+import com.university.scms.domain.counseling.repository.CounselorAvailabilityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 상담 예약 동시성 테스트
+ * 여러 학생이 같은 상담사의 겹치는 시간을 동시에 예약해도 이중 예약이 생기지 않는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CounselingReservationConcurrencyTest {
+
+    private static final Long COUNSELOR_ID = 9_001L;
+    private static final int ATTEMPTS = 1_000;
+    private static final int THREADS = 64;
+    private static final int DURATION = 60;
+
+    @Autowired
+    private CounselingReservationService reservationService;
+
+    @Autowired
+    private CounselingSlotEngine slotEngine;
+
+    @Autowired
+    private CounselingSlotClaimBackfill claimBackfill;
+
+    @Autowired
+    private CounselingCalendarService calendarService;
+
+    @Autowired
+    private CounselingReservationRepository reservationRepository;
+
+    @Autowired
+    private CounselorAvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDateTime day;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM counseling_slot_claims");
+        jdbcTemplate.update("DELETE FROM counseling_calendar_tombstones");
+        reservationRepository.deleteAll();
+        availabilityRepository.deleteAll();
+
+        day = LocalDateTime.now().plusDays(7).toLocalDate().atStartOfDay();
+        availabilityRepository.save(CounselorAvailability.builder()
+                .counselorId(COUNSELOR_ID)
+                .dayOfWeek(day.getDayOfWeek())
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .build());
+        slotEngine.rebuild();
+    }
+
+    @Test
+    @DisplayName("겹치는 시간에 동시에 예약해도 상담사 예약끼리 시간이 겹치지 않음")
+    void concurrentOverlappingReservationsNeverDoubleBook() throws InterruptedException {
+        // given: 09:00~17:00 사이 15분 단위 시작 시각에 60분 예약을 무작위로 시도
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(ATTEMPTS);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        Random random = new Random(11);
+
+        // when
+        for (int i = 0; i < ATTEMPTS; i++) {
+            long studentId = 50_000L + i;
+            LocalDateTime reservationDate = day.withHour(9).plusMinutes(15L * random.nextInt(32));
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    reservationService.reserve(studentId, COUNSELOR_ID, reservationDate, DURATION, null, null);
+                    reserved.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IllegalStateException e) {
+                    conflicts.incrementAndGet();
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+        executor.shutdown();
+
+        // then
+        List<CounselingReservation> reservations = reservationRepository.findAll().stream()
+                .filter(r -> r.getCounselorId().equals(COUNSELOR_ID))
+                .sorted(Comparator.comparing(CounselingReservation::getReservationDate))
+                .toList();
+        assertThat(failures.get()).isZero();
+        assertThat(reserved.get() + conflicts.get()).isEqualTo(ATTEMPTS);
+        assertThat(reservations).hasSize(reserved.get());
+        for (int i = 1; i < reservations.size(); i++) {
+            CounselingReservation previous = reservations.get(i - 1);
+            assertThat(reservations.get(i).getReservationDate())
+                    .isAfterOrEqualTo(previous.getReservationDate().plusMinutes(previous.getSessionDuration()));
+        }
+        Integer claims = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM counseling_slot_claims", Integer.class);
+        assertThat(claims).isEqualTo(reserved.get() * (DURATION / 15) * 2);
+    }
+
+    @Test
+    @DisplayName("시작 시각이 달라도 겹치면 거절되고 취소하면 같은 시간을 다시 예약할 수 있음")
+    void overlapRejectedAndCancelReleasesSlots() {
+        // given
+        LocalDateTime tenAm = day.withHour(10);
+        CounselingReservationResult first = reservationService.reserve(1L, COUNSELOR_ID, tenAm, DURATION, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.reserve(2L, COUNSELOR_ID, tenAm.plusMinutes(45), 30, null, null))
+                .isInstanceOf(IllegalStateException.class);
+        reservationService.cancel(first.reservationId(), 1L, "일정 변경");
+        assertThat(reservationService.reserve(2L, COUNSELOR_ID, tenAm.plusMinutes(45), 30, null, null).end())
+                .isEqualTo(tenAm.plusMinutes(75));
+    }
+
+    @Test
+    @DisplayName("예약 변경은 칸을 새 시간으로 옮기고 다른 예약과 겹치면 거절")
+    void updateMovesClaims() {
+        // given
+        LocalDateTime tenAm = day.withHour(10);
+        CounselingReservationResult first = reservationService.reserve(1L, COUNSELOR_ID, tenAm, DURATION, null, null);
+        reservationService.reserve(2L, COUNSELOR_ID, day.withHour(14), DURATION, null, null);
+
+        // when
+        reservationService.update(first.reservationId(), 1L, day.withHour(13), DURATION, null, null);
+
+        // then: 옛 시간은 비고, 다른 예약과 겹치는 변경은 거절
+        assertThat(reservationService.reserve(3L, COUNSELOR_ID, tenAm, DURATION, null, null).start()).isEqualTo(tenAm);
+        assertThatThrownBy(() -> reservationService.update(
+                first.reservationId(), 1L, day.withHour(13).plusMinutes(30), DURATION, null, null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT slot_start FROM counseling_slot_claims WHERE reservation_id = ? AND owner_type = 'COUNSELOR' " +
+                "ORDER BY slot_start", LocalDateTime.class, first.reservationId()))
+                .containsExactly(day.withHour(13), day.withHour(13).plusMinutes(15),
+                                 day.withHour(13).plusMinutes(30), day.withHour(13).plusMinutes(45));
+    }
+
+    @Test
+    @DisplayName("상담사를 바꾸면 칸이 새 상담사로 옮겨지고 이전 상담사 캘린더에는 툼스톤이 전달됨")
+    void reassignLeavesTombstoneForPreviousCounselor() {
+        // given
+        Long otherCounselorId = COUNSELOR_ID + 1;
+        availabilityRepository.save(CounselorAvailability.builder()
+                .counselorId(otherCounselorId)
+                .dayOfWeek(day.getDayOfWeek())
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(18, 0))
+                .build());
+        slotEngine.rebuild();
+        LocalDateTime tenAm = day.withHour(10);
+        CounselingReservationResult reserved = reservationService.reserve(1L, COUNSELOR_ID, tenAm, DURATION, null, null);
+        String token = calendarService.sync(COUNSELOR_ID, null, 100).syncToken();
+
+        // when
+        reservationService.reassign(reserved.reservationId(), otherCounselorId);
+
+        // then
+        CounselingCalendarSyncResult previous = calendarService.sync(COUNSELOR_ID, token, 100);
+        assertThat(previous.reservations())
+                .extracting(CalendarReservationChange::id, CalendarReservationChange::deleted)
+                .containsExactly(tuple(reserved.reservationId(), true));
+        assertThat(calendarService.sync(otherCounselorId, null, 100).reservations())
+                .extracting(CalendarReservationChange::id, CalendarReservationChange::deleted)
+                .containsExactly(tuple(reserved.reservationId(), false));
+        assertThat(reservationService.reserve(2L, COUNSELOR_ID, tenAm, DURATION, null, null).start()).isEqualTo(tenAm);
+    }
+
+    @Test
+    @DisplayName("칸 점유 행이 없는 이전 예약은 채우기 후 걸치는 칸을 모두 점유")
+    void backfillClaimsLegacyReservations() {
+        // given: 칸 단위에 맞지 않는 이전 예약 (10:10~11:00)
+        CounselingReservation legacy = reservationRepository.save(CounselingReservation.builder()
+                .studentId(1L)
+                .counselorId(COUNSELOR_ID)
+                .reservationDate(day.withHour(10).withMinute(10))
+                .sessionDuration(50)
+                .build());
+
+        // when
+        int first = claimBackfill.backfill();
+        int second = claimBackfill.backfill();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM counseling_slot_claims WHERE reservation_id = ?", Integer.class, legacy.getId()))
+                .isEqualTo(4 * 2);
+    }
+}
@@ -0,0 +1,105 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.entity.CounselingReservationChangedEvent;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.AvailabilityWindow;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.ReservationInterval;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * CounselingSlotEngine 테스트
+ */
+class CounselingSlotEngineTest {
+
+    private static final LocalDateTime MONDAY_9AM = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    private CounselingSlotEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        CounselingJdbcRepository repository = mock(CounselingJdbcRepository.class);
+        when(repository.findAvailabilityWindows()).thenReturn(List.of(
+                window(1L, "09:00", "12:00", "진로"),
+                window(2L, "10:00", "12:00", "심리")));
+        when(repository.findActiveReservationIntervals(any())).thenReturn(List.of(
+                new ReservationInterval(100L, 1L, MONDAY_9AM, 60),
+                new ReservationInterval(101L, 1L, MONDAY_9AM.plusMinutes(90), 60)));
+
+        engine = new CounselingSlotEngine(repository, 30, 28);
+        engine.rebuild();
+    }
+
+    @Test
+    @DisplayName("예약 시간과 겹치지 않는 가장 이른 칸을 모든 상담사에 걸쳐 시간 순으로 반환")
+    void findsEarliestSlotsAcrossCounselors() {
+        // when
+        List<CounselingSlot> slots = engine.findNextSlots("GENERAL", 60, 3, MONDAY_9AM);
+
+        // then: 상담사 1은 09:00~10:00, 10:30~11:30 예약 → 10:00 칸은 10:30 예약과 겹침
+        assertThat(slots).containsExactly(
+                new CounselingSlot(2L, at(10, 0), at(11, 0)),
+                new CounselingSlot(2L, at(10, 30), at(11, 30)),
+                new CounselingSlot(2L, at(11, 0), at(12, 0)));
+    }
+
+    @Test
+    @DisplayName("유형이 전문분야와 맞는 상담사만 조회하고 당일 칸이 없으면 다음 주로 넘어감")
+    void filtersByTypeAndRollsOverToNextWeek() {
+        // when
+        List<CounselingSlot> slots = engine.findNextSlots("진로", 30, 2, MONDAY_9AM);
+
+        // then
+        assertThat(slots).containsExactly(
+                new CounselingSlot(1L, at(10, 0), at(10, 30)),
+                new CounselingSlot(1L, at(11, 30), at(12, 0)));
+        assertThat(engine.findNextSlots("진로", 60, 1, MONDAY_9AM))
+                .containsExactly(new CounselingSlot(1L, at(9, 0).plusWeeks(1), at(10, 0).plusWeeks(1)));
+    }
+
+    @Test
+    @DisplayName("예약 변경 이벤트로 빈 칸이 증분 갱신")
+    void reservationChangesAreAppliedIncrementally() {
+        // when
+        engine.onReservationChanged(new CounselingReservationChangedEvent(100L, 1L, MONDAY_9AM, 60, false));
+        engine.onReservationChanged(new CounselingReservationChangedEvent(200L, 2L, at(10, 0), 60, true));
+
+        // then
+        assertThat(engine.isFree(1L, MONDAY_9AM, 60)).isTrue();
+        assertThat(engine.isFree(2L, at(10, 30), 30)).isFalse();
+        assertThat(engine.findNextSlots(null, 60, 3, MONDAY_9AM)).containsExactly(
+                new CounselingSlot(1L, at(9, 0), at(10, 0)),
+                new CounselingSlot(1L, at(9, 30), at(10, 30)),
+                new CounselingSlot(2L, at(11, 0), at(12, 0)));
+    }
+
+    @Test
+    @DisplayName("상담 시간과 조회 개수 범위를 벗어나면 예외")
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> engine.findNextSlots(null, 0, 1, MONDAY_9AM))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.findNextSlots(null, 60, CounselingSlotEngine.MAX_SLOTS + 1, MONDAY_9AM))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return MONDAY_9AM.withHour(hour).withMinute(minute);
+    }
+
+    private static AvailabilityWindow window(Long counselorId, String start, String end, String specialization) {
+        return new AvailabilityWindow(counselorId, DayOfWeek.MONDAY, LocalTime.parse(start), LocalTime.parse(end),
+                                      specialization);
+    }
+}
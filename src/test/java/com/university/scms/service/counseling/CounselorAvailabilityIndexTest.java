@@ -0,0 +1,88 @@
+package com.university.scms.service.counseling;
+
+import com.university.scms.domain.counseling.entity.CounselorAvailabilityChangedEvent;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository;
+import com.university.scms.domain.counseling.repository.CounselingJdbcRepository.AvailabilityWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * CounselorAvailabilityIndex 테스트
+ */
+class CounselorAvailabilityIndexTest {
+
+    private CounselingJdbcRepository repository;
+    private CounselorAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CounselingJdbcRepository.class);
+        when(repository.findAvailabilityWindows()).thenReturn(List.of(
+                window(1L, DayOfWeek.MONDAY, "09:00", "12:00"),
+                window(1L, DayOfWeek.MONDAY, "13:00", "18:00"),
+                window(2L, DayOfWeek.MONDAY, "10:00", "16:00"),
+                window(3L, DayOfWeek.TUESDAY, "09:00", "18:00")));
+
+        index = new CounselorAvailabilityIndex(repository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("시각별 가용 상담사 수와 상담사별 가용 여부")
+    void countsAvailableCounselorsAt() {
+        assertThat(index.countAvailableAt(DayOfWeek.MONDAY, LocalTime.of(11, 0))).isEqualTo(2);
+        assertThat(index.countAvailableAt(DayOfWeek.MONDAY, LocalTime.of(12, 30))).isEqualTo(1);
+        assertThat(index.countAvailableAt(DayOfWeek.MONDAY, LocalTime.of(18, 0))).isZero();
+        assertThat(index.isAvailableAt(1L, DayOfWeek.MONDAY, LocalTime.of(12, 30))).isFalse();
+        assertThat(index.isAvailableAt(3L, DayOfWeek.TUESDAY, LocalTime.of(17, 59))).isTrue();
+        assertThat(index.isAvailableAt(99L, DayOfWeek.TUESDAY, LocalTime.of(10, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("구간 전체에 가용한 상담사만 반환하고 구간 중간에 빈 시간이 있으면 제외")
+    void findsCounselorsAvailableForWholeRange() {
+        assertThat(index.findAvailableForRange(DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(12, 0)))
+                .containsExactly(1L, 2L);
+        assertThat(index.findAvailableForRange(DayOfWeek.MONDAY, LocalTime.of(11, 0), LocalTime.of(14, 0)))
+                .containsExactly(2L);
+        assertThat(index.findAvailableForRange(DayOfWeek.MONDAY, LocalTime.of(15, 50), LocalTime.of(16, 10)))
+                .containsExactly(1L);
+        assertThat(index.findAvailableForRange(DayOfWeek.MONDAY, LocalTime.of(11, 50), LocalTime.of(13, 10)))
+                .containsExactly(2L);
+        assertThatThrownBy(() -> index.findAvailableForRange(
+                DayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(12, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("가용 시간 변경 이벤트로 해당 상담사만 다시 컴파일")
+    void availabilityChangesReplaceCounselorBitmap() {
+        // given
+        when(repository.findAvailabilityWindows(1L)).thenReturn(List.of(
+                window(1L, DayOfWeek.TUESDAY, "09:00", "10:00")));
+        when(repository.findAvailabilityWindows(2L)).thenReturn(List.of());
+
+        // when
+        index.onAvailabilityChanged(new CounselorAvailabilityChangedEvent(1L));
+        index.onAvailabilityChanged(new CounselorAvailabilityChangedEvent(2L));
+
+        // then
+        assertThat(index.countAvailableAt(DayOfWeek.MONDAY, LocalTime.of(11, 0))).isZero();
+        assertThat(index.findAvailableForRange(DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(10, 0)))
+                .containsExactly(1L, 3L);
+    }
+
+    private static AvailabilityWindow window(Long counselorId, DayOfWeek dayOfWeek, String start, String end) {
+        return new AvailabilityWindow(counselorId, dayOfWeek, LocalTime.parse(start), LocalTime.parse(end), null);
+    }
+}
@@ -0,0 +1,110 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.entity.MileageAccount;
+import com.university.scms.domain.mileage.entity.MileageTransaction;
+import com.university.scms.domain.mileage.repository.MileageAccountRepository;
+import com.university.scms.domain.mileage.repository.MileageLotRepository;
+import com.university.scms.domain.mileage.repository.MileageTransactionRepository;
+import com.university.scms.dto.mileage.MileageBalanceResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MileageEventLog / MileageAccountProjector 테스트
+ * 스케줄 실행과 겹치지 않도록 반영 주기를 길게 두고 직접 호출합니다.
+ */
+@SpringBootTest(properties = "mileage.projector.delay-ms=3600000")
+@ActiveProfiles("test")
+class MileageAccountProjectorTest {
+
+    private static final Long USER_ID = 7101L;
+
+    @Autowired
+    private MileageEventLog eventLog;
+
+    @Autowired
+    private MileageAccountProjector projector;
+
+    @Autowired
+    private MileageBalanceService balanceService;
+
+    @Autowired
+    private MileagePostingService postingService;
+
+    @Autowired
+    private MileageAccountRepository accountRepository;
+
+    @Autowired
+    private MileageTransactionRepository transactionRepository;
+
+    @Autowired
+    private MileageLotRepository lotRepository;
+
+    @BeforeEach
+    void setUp() {
+        lotRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("반영 전에는 READ_YOUR_WRITES 조회에만 적립이 보이고, 반영 후 계정과 원장이 일치")
+    void projectPendingEarns() {
+        // given
+        postingService.earn(USER_ID, 100, "PROGRAM", 1L, "즉시 적립");
+        eventLog.appendEarn(USER_ID, 200, "PROGRAM", 2L, "이벤트 적립1");
+        eventLog.appendEarn(USER_ID, 300, "PROGRAM", 3L, "이벤트 적립2");
+
+        MileageBalanceResponse eventual = balanceService.getBalance(USER_ID, MileageReadConsistency.EVENTUAL);
+        MileageBalanceResponse readYourWrites =
+                balanceService.getBalance(USER_ID, MileageReadConsistency.READ_YOUR_WRITES);
+
+        // when
+        int projected = projector.projectPending();
+
+        // then
+        assertThat(eventual.availablePoints()).isEqualTo(100);
+        assertThat(readYourWrites.availablePoints()).isEqualTo(600);
+        assertThat(readYourWrites.pendingPoints()).isEqualTo(500);
+        assertThat(projected).isEqualTo(2);
+
+        MileageAccount account = accountRepository.findByUserId(USER_ID).orElseThrow();
+        assertThat(account.getAvailablePoints()).isEqualTo(600);
+        assertThat(account.getTotalPoints()).isEqualTo(600);
+        assertThat(balanceService.getBalance(USER_ID, MileageReadConsistency.READ_YOUR_WRITES).pendingPoints())
+                .isZero();
+
+        List<MileageTransaction> ledger = transactionRepository.findByUserIdOrderByCreatedAtDesc(USER_ID).stream()
+                .sorted(Comparator.comparing(MileageTransaction::getId))
+                .toList();
+        assertThat(ledger).allMatch(MileageTransaction::isProjected);
+        assertThat(ledger).extracting(MileageTransaction::getBalanceAfter).containsExactly(100, 300, 600);
+        assertThat(lotRepository.sumRemainingPointsByUserId(USER_ID)).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("계정이 없는 사용자의 이벤트는 반영 시 계정을 생성하고, 중복 이벤트는 무시")
+    void projectCreatesAccountAndIgnoresDuplicates() {
+        // given
+        boolean first = eventLog.appendEarn(USER_ID, 500, "CERTIFICATION", 10L, "자격증 취득").isPresent();
+        boolean duplicate = eventLog.appendEarn(USER_ID, 500, "CERTIFICATION", 10L, "자격증 취득").isPresent();
+
+        // when
+        projector.projectPending();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(duplicate).isFalse();
+        assertThat(accountRepository.findByUserId(USER_ID).orElseThrow().getAvailablePoints()).isEqualTo(500);
+        assertThat(transactionRepository.countByUserId(USER_ID)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,106 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.program.entity.AttendanceStatus;
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramParticipant;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramApplicationRepository;
+import com.university.scms.domain.program.repository.ProgramParticipantRepository;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MileageAwardService 벤치마크
+ *
+ * <p>한 프로그램의 참여자 전원을 일괄 지급하고 처리 시간과 잔액 합계를 확인합니다.
+ * 기본 실행에서는 제외되며 {@code gradle benchmark}로 실행합니다.
+ * (규모 조정: {@code -Dbenchmark.participants=20000})</p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class MileageAwardBenchmarkTest {
+
+    private static final int PARTICIPANTS = Integer.getInteger("benchmark.participants", 2_000);
+    private static final long USER_ID_OFFSET = 70_000L;
+    private static final long MAX_MILLIS = 10_000;
+
+    @Autowired
+    private MileageAwardService awardService;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private ProgramApplicationRepository applicationRepository;
+
+    @Autowired
+    private ProgramParticipantRepository participantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM mileage_lots");
+        jdbcTemplate.update("DELETE FROM mileage_transactions");
+        jdbcTemplate.update("DELETE FROM mileage_accounts");
+        participantRepository.deleteAll();
+        applicationRepository.deleteAll();
+        programRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("참여자 일괄 지급이 수 초 안에 끝남")
+    void awardsParticipantsInSeconds() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Program program = programRepository.save(Program.builder()
+                .title("대형 설명회")
+                .category("교육")
+                .organizerId(1L)
+                .capacity(PARTICIPANTS)
+                .mileagePoints(30)
+                .startDate(now.minusDays(2))
+                .endDate(now.minusDays(1))
+                .applicationStart(now.minusDays(10))
+                .applicationEnd(now.minusDays(3))
+                .status(ProgramStatus.COMPLETED)
+                .build());
+        List<ProgramParticipant> participants = new ArrayList<>(PARTICIPANTS);
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            participants.add(ProgramParticipant.builder()
+                    .program(program)
+                    .userId(USER_ID_OFFSET + i)
+                    .attendanceStatus(AttendanceStatus.ATTENDED)
+                    .build());
+        }
+        participantRepository.saveAll(participants);
+
+        // when
+        long startNanos = System.nanoTime();
+        MileageAwardResult result = awardService.awardProgram(program.getId());
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        // then
+        System.out.printf("[benchmark] participants=%d chunks=%d elapsed=%dms%n",
+                result.participants(), result.chunks(), elapsedMillis);
+        assertThat(result.participants()).isEqualTo(PARTICIPANTS);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(available_points) FROM mileage_accounts", Long.class))
+                .isEqualTo(PARTICIPANTS * 30L);
+        assertThat(elapsedMillis).isLessThan(MAX_MILLIS);
+    }
+}
@@ -0,0 +1,207 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.repository.MileageAccountRepository;
+import com.university.scms.domain.program.entity.AttendanceStatus;
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramParticipant;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramApplicationRepository;
+import com.university.scms.domain.program.repository.ProgramParticipantRepository;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MileageAwardService 테스트
+ * 여러 프로그램에 중복 참여한 사용자의 일괄 지급이 잔액, 거래 내역, 지급 플래그에 정확히 한 번 반영되는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MileageAwardServiceTest {
+
+    private static final long USER_ID_OFFSET = 70_000L;
+    private static final int CONCURRENT_PARTICIPANTS = 500;
+
+    @Autowired
+    private MileageAwardService awardService;
+
+    @Autowired
+    private MileageAccountRepository accountRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private ProgramApplicationRepository applicationRepository;
+
+    @Autowired
+    private ProgramParticipantRepository participantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM mileage_lots");
+        jdbcTemplate.update("DELETE FROM mileage_transactions");
+        jdbcTemplate.update("DELETE FROM mileage_accounts");
+        participantRepository.deleteAll();
+        applicationRepository.deleteAll();
+        programRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("중복 참여 사용자는 프로그램별 거래가 잔액 순서대로 기록되고 두 번째 실행은 아무것도 지급하지 않음")
+    void awardsDuplicateUsersOnceAcrossChunks() {
+        // given: 사용자 0~9는 A(100점), 5~14는 B(50점) 참여 → 5~9는 중복
+        Program programA = program("리더십 캠프", 100);
+        Program programB = program("진로 특강", 50);
+        attend(programA, 0, 10);
+        attend(programB, 5, 15);
+
+        // when: 청크를 작게 잡아 같은 사용자가 다른 청크에 나뉘도록 함
+        MileageAwardResult first = awardService.awardInChunks(null, 4);
+        MileageAwardResult second = awardService.awardInChunks(null, 4);
+
+        // then
+        assertThat(first.participants()).isEqualTo(20);
+        assertThat(first.points()).isEqualTo(10 * 100 + 10 * 50);
+        assertThat(first.chunks()).isEqualTo(5);
+        assertThat(second.participants()).isZero();
+        assertThat(second.points()).isZero();
+
+        for (int i = 0; i < 15; i++) {
+            int expected = (i < 10 ? 100 : 0) + (i >= 5 ? 50 : 0);
+            assertThat(accountRepository.findByUserId(USER_ID_OFFSET + i).orElseThrow().getAvailablePoints())
+                    .as("user %d", i)
+                    .isEqualTo(expected);
+        }
+        List<Integer> duplicateLedger = jdbcTemplate.queryForList(
+                "SELECT balance_after FROM mileage_transactions WHERE user_id = ? ORDER BY id",
+                Integer.class, USER_ID_OFFSET + 7);
+        assertThat(duplicateLedger).containsExactly(100, 150);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM mileage_transactions WHERE transaction_type = 'EARN'", Integer.class))
+                .isEqualTo(20);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mileage_lots", Integer.class)).isEqualTo(20);
+        assertThat(participantRepository.findAll()).allMatch(ProgramParticipant::getMileageAwarded);
+    }
+
+    @Test
+    @DisplayName("프로그램 단위 지급은 해당 프로그램 참여자만 지급")
+    void awardProgramOnlyTouchesThatProgram() {
+        // given
+        Program programA = program("리더십 캠프", 100);
+        Program programB = program("진로 특강", 50);
+        attend(programA, 0, 3);
+        attend(programB, 0, 3);
+
+        // when
+        MileageAwardResult result = awardService.awardProgram(programA.getId());
+
+        // then
+        assertThat(result.participants()).isEqualTo(3);
+        assertThat(accountRepository.findByUserId(USER_ID_OFFSET).orElseThrow().getAvailablePoints()).isEqualTo(100);
+        assertThat(participantRepository.findUnpaidMileageParticipantsByProgramId(programB.getId())).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("이미 같은 프로그램 적립이 있는 참여자는 다시 적립하지 않고 지급 처리만 하며 나머지는 계속 지급")
+    void skipsParticipantsWhoAlreadyHaveTheEarn() {
+        // given: 사용자 1은 지급 플래그만 빠진 채 A 적립(100점)이 이미 반영됨
+        Program programA = program("리더십 캠프", 100);
+        attend(programA, 0, 3);
+        Long userId = USER_ID_OFFSET + 1;
+        jdbcTemplate.update(
+                "INSERT INTO mileage_accounts " +
+                "(user_id, total_points, available_points, used_points, version, created_at, updated_at) " +
+                "VALUES (?, 100, 100, 0, 1, NOW(), NOW())", userId);
+        jdbcTemplate.update(
+                "INSERT INTO mileage_transactions " +
+                "(account_id, user_id, transaction_type, points, source_type, source_id, description, " +
+                " balance_after, created_at, updated_at) " +
+                "SELECT id, user_id, 'EARN', 100, 'PROGRAM', ?, '리더십 캠프 참여', 100, NOW(), NOW() " +
+                "FROM mileage_accounts WHERE user_id = ?",
+                programA.getId(), userId);
+
+        // when: 청크 크기 1로 중복 참여자 뒤의 청크도 진행되는지 확인
+        MileageAwardResult result = awardService.awardInChunks(programA.getId(), 1);
+
+        // then
+        assertThat(result.participants()).isEqualTo(3);
+        assertThat(result.users()).isEqualTo(2);
+        assertThat(result.points()).isEqualTo(200);
+        assertThat(accountRepository.findByUserId(userId).orElseThrow().getAvailablePoints()).isEqualTo(100);
+        assertThat(accountRepository.findByUserId(USER_ID_OFFSET + 2).orElseThrow().getAvailablePoints())
+                .isEqualTo(100);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM mileage_transactions WHERE user_id = ?", Integer.class, userId))
+                .isEqualTo(1);
+        assertThat(participantRepository.findUnpaidMileageParticipantsByProgramId(programA.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("두 지급 작업이 동시에 실행되어도 중단 없이 참여자마다 한 번씩만 지급")
+    void concurrentRunsSkipParticipantsMarkedByOtherRun() throws Exception {
+        // given
+        Program program = program("대형 설명회", 30);
+        attend(program, 0, CONCURRENT_PARTICIPANTS);
+
+        // when: 작은 청크로 두 작업이 같은 참여자를 번갈아 만나게 함
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<MileageAwardResult> first = executor.submit(() -> awardService.awardInChunks(program.getId(), 50));
+            Future<MileageAwardResult> second = executor.submit(() -> awardService.awardInChunks(program.getId(), 50));
+
+            // then
+            assertThat(first.get().participants() + second.get().participants()).isEqualTo(CONCURRENT_PARTICIPANTS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(available_points) FROM mileage_accounts", Long.class))
+                .isEqualTo(CONCURRENT_PARTICIPANTS * 30L);
+        assertThat(participantRepository.findUnpaidMileageParticipantsByProgramId(program.getId())).isEmpty();
+    }
+
+    private Program program(String title, int mileagePoints) {
+        LocalDateTime now = LocalDateTime.now();
+        return programRepository.save(Program.builder()
+                .title(title)
+                .category("교육")
+                .organizerId(1L)
+                .capacity(CONCURRENT_PARTICIPANTS)
+                .mileagePoints(mileagePoints)
+                .startDate(now.minusDays(2))
+                .endDate(now.minusDays(1))
+                .applicationStart(now.minusDays(10))
+                .applicationEnd(now.minusDays(3))
+                .status(ProgramStatus.COMPLETED)
+                .build());
+    }
+
+    private void attend(Program program, int fromUser, int toUser) {
+        List<ProgramParticipant> participants = new ArrayList<>(toUser - fromUser);
+        for (int i = fromUser; i < toUser; i++) {
+            participants.add(ProgramParticipant.builder()
+                    .program(program)
+                    .userId(USER_ID_OFFSET + i)
+                    .attendanceStatus(AttendanceStatus.ATTENDED)
+                    .build());
+        }
+        participantRepository.saveAll(participants);
+    }
+}
@@ -0,0 +1,119 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.repository.MileageAccountRepository;
+import com.university.scms.domain.mileage.repository.MileageAccountStatistics;
+import com.university.scms.domain.mileage.repository.MileageDashboardRepository;
+import com.university.scms.domain.mileage.repository.MileageDashboardRepository.AccountSummary;
+import com.university.scms.domain.mileage.repository.MileageDashboardRepository.MonthlyAmount;
+import com.university.scms.domain.mileage.repository.MileageDashboardRepository.UserDashboard;
+import com.university.scms.dto.mileage.LeaderboardEntry;
+import com.university.scms.dto.mileage.MileageDashboardResponse;
+import com.university.scms.dto.mileage.MileageDashboardResponse.MonthlyTrend;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MileageDashboardService 테스트
+ */
+class MileageDashboardServiceTest {
+
+    private MileageDashboardRepository dashboardRepository;
+    private MileageLeaderboard leaderboard;
+    private MileageDashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        MileageAccountRepository accountRepository = mock(MileageAccountRepository.class);
+        MileageAccountStatistics statistics = mock(MileageAccountStatistics.class);
+        when(statistics.getAccountCount()).thenReturn(0L);
+        when(statistics.getTotalAvailablePoints()).thenReturn(0L);
+        when(statistics.getTotalAccumulatedPoints()).thenReturn(0L);
+        when(statistics.getTotalUsedPoints()).thenReturn(0L);
+        when(statistics.getAverageAvailablePoints()).thenReturn(0.0);
+        when(statistics.getAverageTotalPoints()).thenReturn(0.0);
+        when(statistics.getAverageUsedPoints()).thenReturn(0.0);
+        when(accountRepository.getStatistics()).thenReturn(statistics);
+
+        dashboardRepository = mock(MileageDashboardRepository.class);
+        leaderboard = mock(MileageLeaderboard.class);
+        service = new MileageDashboardService(accountRepository, dashboardRepository, leaderboard,
+                                              Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("계정과 거래가 없는 사용자는 0 요약과 0으로 채운 월별 추이를 받음")
+    void userWithoutAccount() {
+        // given
+        when(dashboardRepository.findUserDashboard(eq(2000L), anyInt(), any(), any(), any()))
+                .thenReturn(new UserDashboard(null, List.of(), List.of()));
+        when(leaderboard.findRank(MileageRankBasis.AVAILABLE, 2000L)).thenReturn(Optional.empty());
+
+        // when
+        MileageDashboardResponse response = service.getDashboard(2000L);
+
+        // then
+        assertThat(response.summary().currentPoints()).isZero();
+        assertThat(response.summary().expiringPoints()).isZero();
+        assertThat(response.summary().rank()).isNull();
+        assertThat(response.recentTransactions()).isEmpty();
+        assertThat(response.monthlyTrend()).hasSize(MileageDashboardService.TREND_MONTHS)
+                .allMatch(trend -> trend.earnedPoints() == 0 && trend.usedPoints() == 0);
+    }
+
+    @Test
+    @DisplayName("거래가 없는 월은 0으로 채우고 오래된 월부터 정렬하며 소멸 예정은 현재 시각 이후만 조회")
+    void fillsMissingMonthsAndQueriesExpiringFromNow() {
+        // given
+        YearMonth current = YearMonth.now();
+        when(dashboardRepository.findUserDashboard(eq(1000L), anyInt(), any(), any(), any()))
+                .thenReturn(new UserDashboard(
+                        new AccountSummary(700, 1500, 800, 200L),
+                        List.of(),
+                        List.of(new MonthlyAmount(current, 1000L, 300L),
+                                new MonthlyAmount(current.minusMonths(2), 500L, 0L))));
+        when(leaderboard.findRank(MileageRankBasis.AVAILABLE, 1000L))
+                .thenReturn(Optional.of(new LeaderboardEntry(3L, 1000L, 700)));
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        MileageDashboardResponse response = service.getDashboard(1000L);
+
+        // then
+        assertThat(response.summary().expiringPoints()).isEqualTo(200L);
+        assertThat(response.summary().rank()).isEqualTo(3L);
+        assertThat(response.monthlyTrend()).extracting(MonthlyTrend::month).containsExactly(
+                current.minusMonths(5).toString(), current.minusMonths(4).toString(),
+                current.minusMonths(3).toString(), current.minusMonths(2).toString(),
+                current.minusMonths(1).toString(), current.toString());
+        assertThat(response.monthlyTrend()).extracting(MonthlyTrend::earnedPoints)
+                .containsExactly(0L, 0L, 0L, 500L, 0L, 1000L);
+        assertThat(response.monthlyTrend()).extracting(MonthlyTrend::usedPoints)
+                .containsExactly(0L, 0L, 0L, 0L, 0L, 300L);
+
+        ArgumentCaptor<LocalDateTime> trendFrom = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> expiringAfter = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> expiringUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(dashboardRepository).findUserDashboard(eq(1000L), eq(MileageDashboardService.RECENT_TRANSACTIONS),
+                trendFrom.capture(), expiringAfter.capture(), expiringUntil.capture());
+        assertThat(trendFrom.getValue()).isEqualTo(current.minusMonths(5).atDay(1).atStartOfDay());
+        assertThat(expiringAfter.getValue()).isAfterOrEqualTo(before);
+        assertThat(expiringUntil.getValue())
+                .isEqualTo(expiringAfter.getValue().plusDays(MileageDashboardService.EXPIRING_WITHIN_DAYS));
+    }
+}
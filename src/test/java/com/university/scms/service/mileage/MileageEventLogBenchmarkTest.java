@@ -0,0 +1,122 @@
+package com.university.scms.service.mileage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적립 처리량 벤치마크: 즉시 반영({@code earn()}) vs 이벤트 로그 + 프로젝터
+ *
+ * <p>소수 계정에 여러 스레드가 동시에 적립하는 학기말 상황을 재현합니다.
+ * 이벤트 로그 경로는 추가 처리량과 프로젝터 반영까지 포함한 종단 처리량을 함께 출력합니다.
+ * {@code gradle benchmark -Dbenchmark.events=20000}으로 실행합니다.</p>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "mileage.projector.delay-ms=3600000")
+@ActiveProfiles("test")
+class MileageEventLogBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 20_000) / THREADS * THREADS;
+    private static final int HOT_USERS = 8;
+    private static final long USER_ID_OFFSET = 20_000_000L;
+    private static final int POINTS = 10;
+
+    @Autowired
+    private MileagePostingService postingService;
+
+    @Autowired
+    private MileageEventLog eventLog;
+
+    @Autowired
+    private MileageAccountProjector projector;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM mileage_lots");
+        jdbcTemplate.update("DELETE FROM mileage_transactions");
+        jdbcTemplate.update("DELETE FROM mileage_accounts");
+    }
+
+    @Test
+    @DisplayName("핫 계정 동시 적립 처리량 비교")
+    void compareAwardThroughput() throws InterruptedException {
+        // when
+        long earnMillis = run((userId, sourceId) ->
+                postingService.earn(userId, POINTS, "BENCH_EARN", sourceId, "즉시 적립"));
+
+        long appendMillis = run((userId, sourceId) ->
+                eventLog.appendEarn(userId, POINTS, "BENCH_LOG", sourceId, "이벤트 적립"));
+        long projectStart = System.nanoTime();
+        int projected = projector.projectPending();
+        long projectMillis = (System.nanoTime() - projectStart) / 1_000_000;
+
+        // then
+        System.out.printf("[benchmark] events=%d threads=%d hotUsers=%d%n", EVENTS, THREADS, HOT_USERS);
+        System.out.printf("[benchmark] earn()            : %6dms %,10.0f events/s%n", earnMillis, rate(earnMillis));
+        System.out.printf("[benchmark] appendEarn()      : %6dms %,10.0f events/s%n", appendMillis, rate(appendMillis));
+        System.out.printf("[benchmark] append + project  : %6dms %,10.0f events/s%n",
+                appendMillis + projectMillis, rate(appendMillis + projectMillis));
+
+        assertThat(projected).isEqualTo(EVENTS);
+        Long available = jdbcTemplate.queryForObject("SELECT SUM(available_points) FROM mileage_accounts", Long.class);
+        Long pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM mileage_transactions WHERE projection_pending = TRUE", Long.class);
+        assertThat(available).isEqualTo(2L * EVENTS * POINTS);
+        assertThat(pending).isZero();
+    }
+
+    private long run(Award award) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        int perThread = EVENTS / THREADS;
+
+        for (int t = 0; t < THREADS; t++) {
+            long sourceBase = (long) t * perThread;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        long sourceId = sourceBase + i;
+                        award.apply(USER_ID_OFFSET + sourceId % HOT_USERS, sourceId);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.MINUTES)).isTrue();
+        executor.shutdown();
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static double rate(long millis) {
+        return EVENTS * 1000.0 / Math.max(1, millis);
+    }
+
+    @FunctionalInterface
+    private interface Award {
+        void apply(Long userId, Long sourceId);
+    }
+}
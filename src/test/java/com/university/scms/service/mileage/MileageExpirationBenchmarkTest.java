@@ -0,0 +1,150 @@
+package com.university.scms.service.mileage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MileageExpirationService 벤치마크
+ *
+ * <p>계정마다 만료된 묶음 1개와 유효한 묶음 1개를 만든 뒤 소멸 배치를 실행하고
+ * 처리 시간, 힙 사용량 증가, 원장 불변식을 확인합니다.
+ * 기본 실행에서는 제외되며 {@code gradle benchmark}로 요구 규모(100만 계정)를 실행합니다.
+ * 빠르게 확인할 때는 {@code -Dbenchmark.accounts=100000}처럼 줄여 실행합니다.</p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class MileageExpirationBenchmarkTest {
+
+    private static final int ACCOUNTS = Integer.getInteger("benchmark.accounts", 1_000_000);
+    private static final int SEED_BATCH = 5_000;
+    private static final long USER_ID_OFFSET = 10_000_000L;
+    private static final int EXPIRED_POINTS = 70;
+    private static final int LIVE_POINTS = 30;
+    private static final long MAX_HEAP_GROWTH_BYTES = 128L * 1024 * 1024;
+
+    @Autowired
+    private MileageExpirationService expirationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM mileage_lots");
+        jdbcTemplate.update("DELETE FROM mileage_transactions");
+        jdbcTemplate.update("DELETE FROM mileage_accounts");
+        seed(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("대량 계정 소멸 배치 - 고정 메모리로 만료 묶음만 소멸")
+    void expireDueLotsInBoundedMemory() throws InterruptedException {
+        // given
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        AtomicLong peakHeap = new AtomicLong(heapBefore);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+
+        // when
+        long startNanos = System.nanoTime();
+        MileageExpirationResult result = expirationService.expireDueLots();
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        running.set(false);
+        sampler.join();
+
+        // then
+        long heapGrowth = peakHeap.get() - heapBefore;
+        System.out.printf("[benchmark] accounts=%d chunks=%d elapsed=%dms (%.0f accounts/s) heapGrowth=%dMB%n",
+                result.accounts(), result.chunks(), elapsedMillis,
+                result.accounts() * 1000.0 / Math.max(1, elapsedMillis), heapGrowth / (1024 * 1024));
+
+        assertThat(result.accounts()).isEqualTo(ACCOUNTS);
+        assertThat(result.lots()).isEqualTo(ACCOUNTS);
+        assertThat(result.points()).isEqualTo((long) ACCOUNTS * EXPIRED_POINTS);
+        assertThat(heapGrowth).isLessThan(MAX_HEAP_GROWTH_BYTES);
+
+        Long available = jdbcTemplate.queryForObject("SELECT SUM(available_points) FROM mileage_accounts", Long.class);
+        Long remaining = jdbcTemplate.queryForObject("SELECT SUM(remaining_points) FROM mileage_lots", Long.class);
+        Long expireTransactions = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM mileage_transactions WHERE transaction_type = 'EXPIRE' AND balance_after = ?",
+                Long.class, LIVE_POINTS);
+        assertThat(available).isEqualTo((long) ACCOUNTS * LIVE_POINTS);
+        assertThat(remaining).isEqualTo(available);
+        assertThat(expireTransactions).isEqualTo(ACCOUNTS);
+
+        // 두 번째 실행은 처리할 묶음이 없어야 한다
+        assertThat(expirationService.expireDueLots().accounts()).isZero();
+    }
+
+    /**
+     * 계정과 묶음을 JDBC 배치로 적재 (계정 ID는 사용자 ID 순서대로 조회해 연결)
+     */
+    private void seed(LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        Timestamp expiredAt = Timestamp.valueOf(now.minusDays(1));
+        Timestamp liveAt = Timestamp.valueOf(now.plusYears(1));
+
+        for (int from = 0; from < ACCOUNTS; from += SEED_BATCH) {
+            int to = Math.min(ACCOUNTS, from + SEED_BATCH);
+            List<Object[]> accounts = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                accounts.add(new Object[]{USER_ID_OFFSET + i, EXPIRED_POINTS + LIVE_POINTS,
+                        EXPIRED_POINTS + LIVE_POINTS, timestamp, timestamp});
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO mileage_accounts " +
+                    "(user_id, total_points, available_points, used_points, version, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, 0, 0, ?, ?)",
+                    accounts);
+
+            List<Object[]> lots = new ArrayList<>((to - from) * 2);
+            jdbcTemplate.query(
+                    "SELECT id, user_id FROM mileage_accounts WHERE user_id >= ? AND user_id < ?",
+                    rs -> {
+                        long accountId = rs.getLong("id");
+                        long userId = rs.getLong("user_id");
+                        lots.add(new Object[]{accountId, userId, EXPIRED_POINTS, EXPIRED_POINTS, expiredAt, expiredAt,
+                                timestamp, timestamp});
+                        lots.add(new Object[]{accountId, userId, LIVE_POINTS, LIVE_POINTS, timestamp, liveAt,
+                                timestamp, timestamp});
+                    },
+                    USER_ID_OFFSET + from, USER_ID_OFFSET + to);
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO mileage_lots " +
+                    "(account_id, user_id, source_type, source_id, earned_points, remaining_points, expired_points, " +
+                    " earned_at, expires_at, created_at, updated_at) " +
+                    "VALUES (?, ?, 'PROGRAM', NULL, ?, ?, 0, ?, ?, ?, ?)",
+                    lots);
+        }
+    }
+}
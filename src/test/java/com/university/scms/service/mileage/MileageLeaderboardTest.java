@@ -0,0 +1,78 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.entity.MileageAccount;
+import com.university.scms.domain.mileage.repository.MileageAccountRepository;
+import com.university.scms.dto.mileage.LeaderboardEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * MileageLeaderboard 테스트
+ */
+class MileageLeaderboardTest {
+
+    private MileageLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        MileageAccountRepository accountRepository = mock(MileageAccountRepository.class);
+        List<MileageAccount> accounts = List.of(
+                account(1001L, 500),
+                account(1002L, 300),
+                account(1003L, 300),
+                account(1004L, 100));
+        when(accountRepository.findAllByOrderByAvailablePointsDesc()).thenReturn(accounts);
+
+        leaderboard = new MileageLeaderboard(accountRepository);
+        leaderboard.rebuild();
+    }
+
+    @Test
+    @DisplayName("동점자는 같은 순위를 가짐")
+    void tiesShareRank() {
+        // when
+        List<LeaderboardEntry> top = leaderboard.findTop(MileageRankBasis.AVAILABLE, 10);
+
+        // then
+        assertThat(top).extracting(LeaderboardEntry::rank).containsExactly(1L, 2L, 2L, 4L);
+        assertThat(top).extracting(LeaderboardEntry::userId).containsExactly(1001L, 1002L, 1003L, 1004L);
+    }
+
+    @Test
+    @DisplayName("잔액 변경 이벤트로 순위가 갱신되고 이전 버전 이벤트는 무시")
+    void updateReordersAndIgnoresStaleVersion() {
+        // when
+        leaderboard.onBalanceChanged(new MileageBalanceChangedEvent(1004L, 900, 900, 5L));
+        leaderboard.onBalanceChanged(new MileageBalanceChangedEvent(1004L, 50, 900, 4L));
+
+        // then
+        assertThat(leaderboard.findRank(MileageRankBasis.AVAILABLE, 1004L))
+                .get().extracting(LeaderboardEntry::rank).isEqualTo(1L);
+        assertThat(leaderboard.findRank(MileageRankBasis.AVAILABLE, 1001L))
+                .get().extracting(LeaderboardEntry::rank).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("내 주변 순위 조회")
+    void findAround() {
+        // when
+        List<LeaderboardEntry> around = leaderboard.findAround(MileageRankBasis.AVAILABLE, 1003L, 1);
+
+        // then
+        assertThat(around).extracting(LeaderboardEntry::userId).containsExactly(1002L, 1003L, 1004L);
+        assertThat(leaderboard.findAround(MileageRankBasis.AVAILABLE, 9999L, 1)).isEmpty();
+    }
+
+    private MileageAccount account(Long userId, int points) {
+        MileageAccount account = MileageAccount.create(userId);
+        account.earn(points);
+        return account;
+    }
+}
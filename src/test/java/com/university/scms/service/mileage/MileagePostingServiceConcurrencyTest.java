@@ -0,0 +1,205 @@
+package com.university.scms.service.mileage;
+
+import com.university.scms.domain.mileage.entity.MileageAccount;
+import com.university.scms.domain.mileage.entity.MileageTransaction;
+import com.university.scms.domain.mileage.entity.TransactionType;
+import com.university.scms.domain.mileage.repository.MileageAccountRepository;
+import com.university.scms.domain.mileage.repository.MileageLotRepository;
+import com.university.scms.domain.mileage.repository.MileageTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * MileagePostingService 동시성 테스트
+ * 하나의 계정에 여러 스레드가 동시에 적립/사용할 때 원장 불변식을 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MileagePostingServiceConcurrencyTest {
+
+    private static final Long USER_ID = 7001L;
+    private static final int THREADS = 32;
+    private static final int OPERATIONS_PER_THREAD = 50;
+    private static final int EARN_POINTS = 10;
+    private static final int USE_POINTS = 15;
+
+    @Autowired
+    private MileagePostingService postingService;
+
+    @Autowired
+    private MileageAccountRepository accountRepository;
+
+    @Autowired
+    private MileageTransactionRepository transactionRepository;
+
+    @Autowired
+    private MileageLotRepository lotRepository;
+
+    @BeforeEach
+    void setUp() {
+        lotRepository.deleteAll();
+        transactionRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 적립/사용 시 잔액과 거래 내역 합계가 일치")
+    void concurrentEarnAndUseKeepsLedgerInvariant() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicInteger rejectedUses = new AtomicInteger();
+
+        // when
+        for (int t = 0; t < THREADS; t++) {
+            long sourceBase = (long) t * OPERATIONS_PER_THREAD;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        if (i % 2 == 0) {
+                            postingService.earn(USER_ID, EARN_POINTS, "PROGRAM", sourceBase + i, "동시성 적립");
+                        } else {
+                            try {
+                                postingService.use(USER_ID, USE_POINTS, "SHOP", sourceBase + i, "동시성 사용");
+                            } catch (IllegalStateException e) {
+                                rejectedUses.incrementAndGet();
+                            }
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        executor.shutdown();
+
+        // then
+        MileageAccount account = accountRepository.findByUserId(USER_ID).orElseThrow();
+        List<MileageTransaction> ledger = transactionRepository.findByUserIdOrderByCreatedAtDesc(USER_ID).stream()
+                .sorted(Comparator.comparing(MileageTransaction::getId))
+                .toList();
+
+        int earnCount = THREADS * OPERATIONS_PER_THREAD / 2;
+        long earned = ledger.stream().filter(MileageTransaction::isEarn).mapToLong(MileageTransaction::getPoints).sum();
+        long used = ledger.stream().filter(MileageTransaction::isUse).mapToLong(tx -> -tx.getPoints()).sum();
+        long successfulUses = ledger.stream().filter(MileageTransaction::isUse).count();
+
+        assertThat(ledger.stream().filter(MileageTransaction::isEarn)).hasSize(earnCount);
+        assertThat(successfulUses + rejectedUses.get()).isEqualTo(earnCount);
+        assertThat(account.getTotalPoints()).isEqualTo((int) earned);
+        assertThat(account.getUsedPoints()).isEqualTo((int) used);
+        assertThat(account.getAvailablePoints()).isEqualTo((int) (earned - used));
+        assertThat(account.getAvailablePoints()).isGreaterThanOrEqualTo(0);
+        assertThat(account.getVersion()).isEqualTo(earnCount + successfulUses);
+        assertThat(lotRepository.sumRemainingPointsByUserId(USER_ID)).isEqualTo(account.getAvailablePoints());
+
+        // 거래 ID는 잠금 전에 발급되므로 ID 순서가 아니라 잔액 사슬로 검증한다:
+        // 각 거래의 직전 잔액(balanceAfter - points)은 0 또는 다른 거래의 잔액이고, 사슬은 한 번씩만 이어져
+        // 최종 잔액 하나만 남아야 한다
+        Map<Integer, Integer> unlinked = new HashMap<>();
+        unlinked.put(0, 1);
+        for (MileageTransaction tx : ledger) {
+            assertThat(tx.getTransactionType()).isIn(TransactionType.EARN, TransactionType.USE);
+            unlinked.merge(tx.getBalanceAfter(), 1, Integer::sum);
+        }
+        for (MileageTransaction tx : ledger) {
+            int before = tx.getBalanceAfter() - tx.getPoints();
+            assertThat(unlinked.getOrDefault(before, 0)).as("tx %d 직전 잔액 %d", tx.getId(), before).isPositive();
+            unlinked.merge(before, -1, Integer::sum);
+        }
+        unlinked.values().removeIf(count -> count == 0);
+        assertThat(unlinked).containsExactly(Map.entry(account.getAvailablePoints(), 1));
+    }
+
+    @Test
+    @DisplayName("잔액 부족 시 사용이 거부되고 거래 내역이 남지 않음")
+    void useRejectedWhenInsufficient() {
+        // given
+        postingService.earn(USER_ID, 100, "PROGRAM", 1L, "적립");
+
+        // when
+        Throwable thrown = catchThrowable(
+                () -> postingService.use(USER_ID, 150, "SHOP", 1L, "사용"));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        assertThat(transactionRepository.countByUserId(USER_ID)).isEqualTo(1);
+        assertThat(accountRepository.findByUserId(USER_ID).orElseThrow().getAvailablePoints()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("같은 출처의 중복 적립이 동시에 들어와도 한 번만 반영")
+    void duplicateEarnIsIdempotent() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicInteger applied = new AtomicInteger();
+
+        // when
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (postingService.earn(USER_ID, 100, "PROGRAM", 42L, "중복 이벤트").isPresent()) {
+                        applied.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(1, TimeUnit.MINUTES)).isTrue();
+        executor.shutdown();
+
+        // then
+        MileageAccount account = accountRepository.findByUserId(USER_ID).orElseThrow();
+        assertThat(applied.get()).isEqualTo(1);
+        assertThat(transactionRepository.countByUserId(USER_ID)).isEqualTo(1);
+        assertThat(account.getAvailablePoints()).isEqualTo(100);
+        assertThat(account.getVersion()).isEqualTo(1);
+        assertThat(lotRepository.sumRemainingPointsByUserId(USER_ID)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("잔액 부족으로 거부된 사용은 같은 출처로 다시 시도할 수 있음")
+    void rejectedUseDoesNotConsumeSourceKey() {
+        // given
+        postingService.earn(USER_ID, 100, "PROGRAM", 1L, "적립");
+        catchThrowable(() -> postingService.use(USER_ID, 150, "SHOP", 9L, "사용"));
+        postingService.earn(USER_ID, 100, "PROGRAM", 2L, "추가 적립");
+
+        // when
+        boolean used = postingService.use(USER_ID, 150, "SHOP", 9L, "사용").isPresent();
+
+        // then
+        assertThat(used).isTrue();
+        assertThat(accountRepository.findByUserId(USER_ID).orElseThrow().getAvailablePoints()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,147 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramApplicationRepository;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import com.university.scms.service.program.ProgramAdmissionTicket.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProgramAdmissionQueue 테스트
+ * 대기열로 접수한 신청이 접수 순서대로 좌석/대기자 명단에 배정되는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProgramAdmissionQueueTest {
+
+    private static final int CAPACITY = 50;
+    private static final int APPLICANTS = 2_000;
+
+    @Autowired
+    private ProgramAdmissionQueue admissionQueue;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private ProgramApplicationRepository applicationRepository;
+
+    private Long programId;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository.deleteAll();
+        programRepository.deleteAll();
+
+        LocalDateTime now = LocalDateTime.now();
+        programId = programRepository.save(Program.builder()
+                .title("인기 특강")
+                .category("교육")
+                .organizerId(1L)
+                .capacity(CAPACITY)
+                .startDate(now.plusDays(7))
+                .endDate(now.plusDays(8))
+                .applicationStart(now.minusDays(1))
+                .applicationEnd(now.plusDays(5))
+                .status(ProgramStatus.OPEN)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("동시에 접수된 신청은 접수 순서대로 정원만큼 좌석을 얻고 나머지는 대기자 명단에 등록")
+    void concurrentAdmissionsAreSeatedInTicketOrder() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        ConcurrentLinkedQueue<ProgramAdmissionTicket> issued = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (int i = 0; i < APPLICANTS; i++) {
+            long userId = 20_000L + i;
+            executor.submit(() -> issued.add(admissionQueue.enqueue(programId, userId, "신청합니다")));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        drainAll(List.copyOf(issued));
+
+        // then
+        List<ProgramAdmissionTicket> results = issued.stream()
+                .map(ticket -> admissionQueue.find(ticket.ticketNumber()).orElseThrow())
+                .sorted((a, b) -> Long.compare(a.ticketNumber(), b.ticketNumber()))
+                .toList();
+        assertThat(results).hasSize(APPLICANTS);
+        assertThat(results.subList(0, CAPACITY)).allMatch(ticket -> ticket.status() == Status.SEATED);
+        assertThat(results.subList(CAPACITY, APPLICANTS)).allMatch(ticket -> ticket.status() == Status.WAITLISTED);
+        assertThat(results.get(CAPACITY).waitlistPosition()).isEqualTo(1);
+        assertThat(results.get(APPLICANTS - 1).waitlistPosition()).isEqualTo(APPLICANTS - CAPACITY);
+        assertThat(programRepository.findById(programId).orElseThrow().getCurrentParticipants()).isEqualTo(CAPACITY);
+        assertThat(applicationRepository.countByProgramIdAndStatus(programId, ApplicationStatus.PENDING))
+                .isEqualTo(CAPACITY);
+        assertThat(applicationRepository.countByProgramIdAndStatus(programId, ApplicationStatus.WAITLISTED))
+                .isEqualTo(APPLICANTS - CAPACITY);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 중복 접수는 첫 대기표만 처리되고 나머지는 거부")
+    void duplicateAdmissionsRejected() {
+        // given
+        List<ProgramAdmissionTicket> tickets = IntStream.range(0, 3)
+                .mapToObj(i -> admissionQueue.enqueue(programId, 100L, null))
+                .toList();
+
+        // when
+        drainAll(tickets);
+
+        // then
+        Map<Status, Long> counts = tickets.stream()
+                .map(ticket -> admissionQueue.find(ticket.ticketNumber()).orElseThrow())
+                .collect(Collectors.groupingBy(ProgramAdmissionTicket::status, Collectors.counting()));
+        assertThat(counts).containsEntry(Status.SEATED, 1L).containsEntry(Status.REJECTED, 2L);
+        assertThat(applicationRepository.findByProgramId(programId)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("대기표 완료를 기다리면 처리 결과를 받음")
+    void awaitReturnsResultOnceProcessed() throws Exception {
+        // given
+        ProgramAdmissionTicket ticket = admissionQueue.enqueue(programId, 100L, null);
+
+        // when
+        var result = admissionQueue.await(ticket.ticketNumber(), Duration.ofSeconds(10));
+        drainAll(List.of(ticket));
+
+        // then
+        assertThat(ticket.status()).isEqualTo(Status.QUEUED);
+        assertThat(result.get(10, TimeUnit.SECONDS).status()).isEqualTo(Status.SEATED);
+    }
+
+    /**
+     * 대기열을 비우고 (스케줄러가 처리 중인 배치 포함) 모든 대기표가 처리될 때까지 대기
+     */
+    private void drainAll(List<ProgramAdmissionTicket> tickets) {
+        long deadline = System.nanoTime() + Duration.ofMinutes(1).toNanos();
+        while (admissionQueue.size() > 0 && System.nanoTime() < deadline) {
+            admissionQueue.drain();
+        }
+        tickets.forEach(ticket -> admissionQueue.await(ticket.ticketNumber(), Duration.ofMinutes(1)).join());
+    }
+}
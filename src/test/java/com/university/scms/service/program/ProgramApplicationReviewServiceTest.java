@@ -0,0 +1,146 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramApplication;
+import com.university.scms.domain.program.entity.ProgramParticipant;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramApplicationRepository;
+import com.university.scms.domain.program.repository.ProgramParticipantRepository;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProgramApplicationReviewService 테스트
+ * 일괄 승인/거부가 신청 상태, 참여자, 좌석 수, 대기자 명단에 한 번에 반영되는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProgramApplicationReviewServiceTest {
+
+    private static final int CAPACITY = 300;
+    private static final int WAITLISTED = 20;
+
+    @Autowired
+    private ProgramApplicationReviewService reviewService;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private ProgramApplicationRepository applicationRepository;
+
+    @Autowired
+    private ProgramParticipantRepository participantRepository;
+
+    private Long programId;
+    private List<Long> pendingIds;
+    private List<Long> waitlistedIds;
+
+    @BeforeEach
+    void setUp() {
+        participantRepository.deleteAll();
+        applicationRepository.deleteAll();
+        programRepository.deleteAll();
+
+        LocalDateTime now = LocalDateTime.now();
+        Program program = programRepository.save(Program.builder()
+                .title("리더십 캠프")
+                .category("교육")
+                .organizerId(1L)
+                .capacity(CAPACITY)
+                .currentParticipants(CAPACITY)
+                .startDate(now.plusDays(7))
+                .endDate(now.plusDays(8))
+                .applicationStart(now.minusDays(1))
+                .applicationEnd(now.plusDays(5))
+                .status(ProgramStatus.OPEN)
+                .build());
+        programId = program.getId();
+
+        List<ProgramApplication> applications = new ArrayList<>();
+        for (int i = 0; i < CAPACITY + WAITLISTED; i++) {
+            applications.add(ProgramApplication.builder()
+                    .program(program)
+                    .userId(10_000L + i)
+                    .status(i < CAPACITY ? ApplicationStatus.PENDING : ApplicationStatus.WAITLISTED)
+                    .applicationDate(now.minusHours(1).plusSeconds(i))
+                    .build());
+        }
+        List<Long> ids = applicationRepository.saveAll(applications).stream().map(ProgramApplication::getId).toList();
+        pendingIds = ids.subList(0, CAPACITY);
+        waitlistedIds = ids.subList(CAPACITY, ids.size());
+    }
+
+    @Test
+    @DisplayName("일괄 승인하면 모든 신청이 승인되고 참여자로 등록되며 참여자 수는 그대로")
+    void approveAll() {
+        // when
+        ProgramReviewResult result = reviewService.review(
+                programId, pendingIds, ProgramReviewDecision.APPROVE, 99L, null);
+
+        // then
+        assertThat(result.reviewedIds()).containsExactlyElementsOf(pendingIds);
+        assertThat(result.skippedIds()).isEmpty();
+        assertThat(applicationRepository.countByProgramIdAndStatus(programId, ApplicationStatus.APPROVED))
+                .isEqualTo(CAPACITY);
+        assertThat(participantRepository.findByProgramId(programId))
+                .hasSize(CAPACITY)
+                .extracting(ProgramParticipant::getUserId)
+                .doesNotHaveDuplicates();
+        assertThat(programRepository.findById(programId).orElseThrow().getCurrentParticipants())
+                .isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("일괄 거부하면 반환된 좌석을 대기 순서대로 넘기고 남는 좌석은 한 번에 반환")
+    void rejectHandsOverSeatsThenReleasesRest() {
+        // given: 좌석 점유 신청 30건 거부 → 대기자 20명 승격, 10석 반환
+        List<Long> rejected = pendingIds.subList(0, 30);
+
+        // when
+        ProgramReviewResult result = reviewService.review(
+                programId, rejected, ProgramReviewDecision.REJECT, 99L, "정원 조정");
+
+        // then
+        assertThat(result.reviewedIds()).containsExactlyElementsOf(rejected);
+        assertThat(result.promotedIds()).containsExactlyElementsOf(waitlistedIds);
+        assertThat(applicationRepository.countByProgramIdAndStatus(programId, ApplicationStatus.REJECTED))
+                .isEqualTo(30);
+        assertThat(applicationRepository.countByProgramIdAndStatus(programId, ApplicationStatus.WAITLISTED))
+                .isZero();
+        assertThat(programRepository.findById(programId).orElseThrow().getCurrentParticipants())
+                .isEqualTo(CAPACITY - 10);
+        assertThat(applicationRepository.findById(rejected.get(0)).orElseThrow().getRejectionReason())
+                .isEqualTo("정원 조정");
+    }
+
+    @Test
+    @DisplayName("검토할 수 없는 상태의 신청과 다른 프로그램의 신청은 건너뜀")
+    void skipsUnreviewableApplications() {
+        // given
+        reviewService.review(programId, pendingIds.subList(0, 5), ProgramReviewDecision.APPROVE, 99L, null);
+        List<Long> ids = new ArrayList<>(pendingIds.subList(0, 10));
+        ids.add(waitlistedIds.get(0));
+        ids.add(-1L);
+
+        // when
+        ProgramReviewResult result = reviewService.review(programId, ids, ProgramReviewDecision.APPROVE, 99L, null);
+
+        // then
+        assertThat(result.reviewedIds()).containsExactlyElementsOf(pendingIds.subList(5, 10));
+        assertThat(result.skippedIds()).hasSize(7).contains(waitlistedIds.get(0), -1L);
+        assertThat(participantRepository.findByProgramId(programId)).hasSize(10);
+    }
+}
@@ -0,0 +1,173 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramApplication;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramApplicationRepository;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * ProgramApplicationService 테스트
+ * 취소 시 좌석 승계, 대기 신청 스윕, 마감 캐시, 중복 신청 거부를 검증합니다.
+ * (스케줄 스윕이 테스트 중에 끼어들지 않도록 주기를 늘려 둡니다.)
+ */
+@SpringBootTest(properties = "program.waitlist.sweep-delay-ms=3600000")
+@ActiveProfiles("test")
+class ProgramApplicationServiceTest {
+
+    private static final int CAPACITY = 50;
+
+    @Autowired
+    private ProgramApplicationService applicationService;
+
+    @Autowired
+    private ProgramSeatGate seatGate;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private ProgramApplicationRepository applicationRepository;
+
+    @Autowired
+    private ProgramWaitlistSweeper waitlistSweeper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long programId;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository.deleteAll();
+        programRepository.deleteAll();
+
+        LocalDateTime now = LocalDateTime.now();
+        Program program = programRepository.save(Program.builder()
+                .title("선착순 특강")
+                .category("교육")
+                .organizerId(1L)
+                .capacity(CAPACITY)
+                .startDate(now.plusDays(7))
+                .endDate(now.plusDays(8))
+                .applicationStart(now.minusDays(1))
+                .applicationEnd(now.plusDays(5))
+                .status(ProgramStatus.OPEN)
+                .build());
+        programId = program.getId();
+        seatGate.reopen(programId);
+    }
+
+    @Test
+    @DisplayName("좌석을 점유한 신청이 취소되면 가장 먼저 대기한 신청이 좌석을 넘겨받음")
+    void cancelPromotesFirstWaitlisted() {
+        // given
+        for (int i = 0; i < CAPACITY; i++) {
+            applicationService.apply(programId, 100L + i, null);
+        }
+        ProgramApplicationResult first = applicationService.apply(programId, 900L, null);
+        ProgramApplicationResult second = applicationService.apply(programId, 901L, null);
+        ProgramApplication seatedApplication = applicationRepository.findByProgramIdAndUserId(programId, 100L)
+                .orElseThrow();
+
+        // when
+        applicationService.cancel(seatedApplication.getId(), 100L);
+
+        // then
+        assertThat(first.status()).isEqualTo(ApplicationStatus.WAITLISTED);
+        assertThat(first.waitlistPosition()).isEqualTo(1);
+        assertThat(second.waitlistPosition()).isEqualTo(2);
+        assertThat(applicationRepository.findById(first.applicationId()).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.PENDING);
+        assertThat(applicationRepository.findById(second.applicationId()).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.WAITLISTED);
+        assertThat(programRepository.findById(programId).orElseThrow().getCurrentParticipants())
+                .isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("빈 좌석을 두고 대기 중인 신청은 스윕이 대기 순서대로 승급시킴")
+    void sweepPromotesWaitlistedIntoFreeSeat() {
+        // given: 취소가 대기 신청 커밋 전에 좌석을 반환해 빈 좌석과 대기자가 함께 남은 상태
+        for (int i = 0; i < CAPACITY; i++) {
+            applicationService.apply(programId, 100L + i, null);
+        }
+        ProgramApplicationResult first = applicationService.apply(programId, 900L, null);
+        ProgramApplicationResult second = applicationService.apply(programId, 901L, null);
+        jdbcTemplate.update("UPDATE programs SET current_participants = current_participants - 1 WHERE id = ?",
+                programId);
+
+        // when
+        waitlistSweeper.sweep();
+
+        // then
+        assertThat(applicationRepository.findById(first.applicationId()).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.PENDING);
+        assertThat(applicationRepository.findById(second.applicationId()).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.WAITLISTED);
+        assertThat(programRepository.findById(programId).orElseThrow().getCurrentParticipants())
+                .isEqualTo(CAPACITY);
+        assertThat(waitlistSweeper.sweep()).isZero();
+    }
+
+    @Test
+    @DisplayName("좌석 반환 이전에 확인한 마감은 반환 이후 기록되어도 무시됨")
+    void staleSoldOutIgnoredAfterReopen() {
+        // given
+        long observedAtNanos = System.nanoTime();
+        seatGate.reopen(programId);
+
+        // when
+        seatGate.markSoldOut(programId, observedAtNanos);
+
+        // then
+        assertThat(seatGate.mayHaveSeat(programId)).isTrue();
+        seatGate.markSoldOut(programId, System.nanoTime());
+        assertThat(seatGate.mayHaveSeat(programId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기자가 없을 때 취소하면 좌석이 반환되고 다음 신청이 좌석을 얻음")
+    void cancelWithoutWaitlistReleasesSeat() {
+        // given
+        ProgramApplicationResult result = applicationService.apply(programId, 100L, null);
+
+        // when
+        applicationService.cancel(result.applicationId(), 100L);
+        ProgramApplicationResult next = applicationService.apply(programId, 101L, null);
+
+        // then
+        assertThat(next.isSeated()).isTrue();
+        assertThat(programRepository.findById(programId).orElseThrow().getCurrentParticipants()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 중복 신청은 거부되고 좌석도 점유하지 않음")
+    void duplicateApplicationRejected() {
+        // given
+        applicationService.apply(programId, 100L, null);
+
+        // when
+        Throwable thrown = catchThrowable(() -> applicationService.apply(programId, 100L, null));
+
+        // then
+        List<ProgramApplication> applications = applicationRepository.findByProgramId(programId);
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        assertThat(applications).hasSize(1);
+        assertThat(programRepository.findById(programId).orElseThrow().getCurrentParticipants()).isEqualTo(1);
+    }
+}
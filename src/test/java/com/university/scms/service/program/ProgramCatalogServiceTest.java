@@ -0,0 +1,141 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import com.university.scms.dto.program.ProgramCatalogResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.university.scms.service.program.ProgramSearchIndexTest.document;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ProgramCatalogService / ProgramCatalogCursor 테스트
+ */
+class ProgramCatalogServiceTest {
+
+    private static final LocalDateTime OCTOBER = LocalDateTime.of(2026, 10, 20, 10, 0);
+
+    private ProgramRepository programRepository;
+    private ProgramSearchIndex searchIndex;
+    private ProgramCatalogService catalogService;
+
+    @BeforeEach
+    void setUp() {
+        programRepository = mock(ProgramRepository.class);
+        searchIndex = new ProgramSearchIndex(null);
+        catalogService = new ProgramCatalogService(programRepository, searchIndex, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("커서는 인코딩한 값 그대로 해석되고 비어 있으면 첫 페이지")
+    void cursorRoundTrip() {
+        // given
+        ProgramCatalogCursor cursor = new ProgramCatalogCursor(LocalDateTime.of(2026, 10, 18, 9, 30, 0, 123_456_000), 42L);
+
+        // when
+        ProgramCatalogCursor decoded = ProgramCatalogCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(ProgramCatalogCursor.decode(null)).isEqualTo(ProgramCatalogCursor.FIRST);
+        assertThat(ProgramCatalogCursor.decode(" ")).isEqualTo(ProgramCatalogCursor.FIRST);
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 커서는 IllegalArgumentException (400)")
+    void rejectsInvalidCursor() {
+        assertThatThrownBy(() -> catalogService.getCatalog(null, null, null, "!!not-base64!!", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProgramCatalogCursor.decode("bm8tc2VwYXJhdG9y"))  // "no-separator"
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProgramCatalogCursor.decode("MjAyNi0xMC0xOFQwOTozMHxhYmM"))  // "2026-10-18T09:30|abc"
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("검색어가 있으면 색인 순서대로 PK 조회 결과를 정렬하고 삭제된 프로그램은 제외")
+    void keywordPathKeepsIndexOrder() {
+        // given: 색인 순서는 등록 최신순 3 → 2 → 1, DB에서는 2가 이미 삭제됨
+        searchIndex.index(document(1L, "AI 특강", "인공지능 기초", "교육", ProgramStatus.OPEN, OCTOBER));
+        searchIndex.index(document(2L, "진로 특강", "선배와의 대화", "진로", ProgramStatus.OPEN, OCTOBER));
+        searchIndex.index(document(3L, "면접 특강", "모의 면접", "진로", ProgramStatus.OPEN, OCTOBER));
+        when(programRepository.findAllById(List.of(3L, 2L, 1L)))
+                .thenReturn(List.of(program(1L), program(3L)));
+
+        // when
+        ProgramCatalogResponse response = catalogService.getCatalog("특강", null, null, null, 10);
+
+        // then
+        assertThat(response.programs()).extracting(ProgramCatalogResponse.Item::id).containsExactly(3L, 1L);
+        assertThat(response.nextCursor()).isNull();
+        assertThat(response.estimatedTotal()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("검색어 다음 페이지 커서는 마지막 항목을 가리킴")
+    void keywordPathReturnsNextCursor() {
+        // given
+        searchIndex.index(document(1L, "AI 특강", "인공지능 기초", "교육", ProgramStatus.OPEN, OCTOBER));
+        searchIndex.index(document(2L, "진로 특강", "선배와의 대화", "진로", ProgramStatus.OPEN, OCTOBER));
+        when(programRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(program(2L), program(1L)));
+
+        // when
+        ProgramCatalogResponse response = catalogService.getCatalog("특강", null, null, null, 1);
+
+        // then
+        assertThat(response.programs()).extracting(ProgramCatalogResponse.Item::id).containsExactly(2L);
+        assertThat(ProgramCatalogCursor.decode(response.nextCursor()))
+                .isEqualTo(new ProgramCatalogCursor(createdAt(2L), 2L));
+    }
+
+    @Test
+    @DisplayName("조건별 건수 캐시는 최대 개수를 넘으면 새 조건을 캐시하지 않음")
+    void countCacheIsBounded() {
+        // given
+        when(programRepository.findCatalogPage(any(), any(), any(), anyLong(), any())).thenReturn(List.of());
+        when(programRepository.countCatalog(isNull(), any())).thenReturn(5L);
+        for (int i = 0; i < ProgramCatalogService.MAX_CACHED_COUNTS; i++) {
+            catalogService.getCatalog(null, null, "카테고리" + i, null, 10);
+        }
+
+        // when
+        catalogService.getCatalog(null, null, "카테고리0", null, 10);
+        catalogService.getCatalog(null, null, "넘친 카테고리", null, 10);
+        ProgramCatalogResponse response = catalogService.getCatalog(null, null, "넘친 카테고리", null, 10);
+
+        // then
+        assertThat(response.estimatedTotal()).isEqualTo(5L);
+        verify(programRepository, times(1)).countCatalog(isNull(), eq("카테고리0"));
+        verify(programRepository, times(2)).countCatalog(isNull(), eq("넘친 카테고리"));
+    }
+
+    private static Program program(Long id) {
+        Program program = Program.builder().id(id).title("특강 " + id).category("교육").organizerId(1L).build();
+        ReflectionTestUtils.setField(program, "createdAt", createdAt(id));
+        return program;
+    }
+
+    /**
+     * {@link ProgramSearchIndexTest#document}와 같은 등록 일시
+     */
+    private static LocalDateTime createdAt(Long id) {
+        return OCTOBER.minusDays(30).plusMinutes(id);
+    }
+}
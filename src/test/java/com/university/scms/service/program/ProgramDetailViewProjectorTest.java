@@ -0,0 +1,197 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramApplication;
+import com.university.scms.domain.program.entity.ProgramParticipant;
+import com.university.scms.domain.program.entity.ProgramSatisfaction;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramApplicationRepository;
+import com.university.scms.domain.program.repository.ProgramDetailViewRepository;
+import com.university.scms.domain.program.repository.ProgramParticipantRepository;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import com.university.scms.domain.program.repository.ProgramSatisfactionRepository;
+import com.university.scms.dto.program.ProgramDetailResponse;
+import com.university.scms.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * ProgramDetailViewProjector 테스트
+ * 신청/출석/만족도 변경이 상세 조회 모델에 반영되는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProgramDetailViewProjectorTest {
+
+    @Autowired
+    private ProgramDetailViewProjector projector;
+
+    @Autowired
+    private ProgramDetailService detailService;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private ProgramApplicationRepository applicationRepository;
+
+    @Autowired
+    private ProgramParticipantRepository participantRepository;
+
+    @Autowired
+    private ProgramSatisfactionRepository satisfactionRepository;
+
+    @Autowired
+    private ProgramDetailViewRepository detailViewRepository;
+
+    private Program program;
+
+    @BeforeEach
+    void setUp() {
+        satisfactionRepository.deleteAll();
+        participantRepository.deleteAll();
+        applicationRepository.deleteAll();
+        detailViewRepository.deleteAll();
+        programRepository.deleteAll();
+
+        LocalDateTime now = LocalDateTime.now();
+        program = programRepository.save(Program.builder()
+                .title("데이터 분석 캠프")
+                .category("교육")
+                .organizerId(1L)
+                .capacity(30)
+                .startDate(now.plusDays(7))
+                .endDate(now.plusDays(8))
+                .applicationStart(now.minusDays(1))
+                .applicationEnd(now.plusDays(5))
+                .status(ProgramStatus.OPEN)
+                .build());
+    }
+
+    @Test
+    @DisplayName("신청/출석/만족도 변경 후 재계산하면 집계가 조회 모델에 반영")
+    void refreshDirtyAggregatesActivity() {
+        // given
+        ProgramApplication approved = applicationRepository.save(
+                ProgramApplication.builder().program(program).userId(1L).build());
+        approved.approve(99L);
+        applicationRepository.save(approved);
+        ProgramApplication rejected = applicationRepository.save(
+                ProgramApplication.builder().program(program).userId(2L).build());
+        rejected.reject(99L, "정원 초과");
+        applicationRepository.save(rejected);
+        applicationRepository.save(ProgramApplication.builder().program(program).userId(3L).build());
+
+        ProgramParticipant attended = ProgramParticipant.builder().program(program).userId(1L).build();
+        attended.confirmAttendance(99L);
+        participantRepository.save(attended);
+        ProgramParticipant absent = ProgramParticipant.builder().program(program).userId(2L).build();
+        absent.markAbsent(99L);
+        participantRepository.save(absent);
+
+        satisfactionRepository.save(satisfaction(1L, 5, true));
+        satisfactionRepository.save(satisfaction(2L, 3, false));
+
+        // when
+        projector.refreshDirty();
+        ProgramDetailResponse detail = detailService.getDetail(program.getId());
+
+        // then
+        assertThat(detail.title()).isEqualTo("데이터 분석 캠프");
+        assertThat(detail.applications())
+                .isEqualTo(new ProgramDetailResponse.Applications(1, 1, 0, 1, 0));
+        assertThat(detail.attendance().attended()).isEqualTo(1);
+        assertThat(detail.attendance().absent()).isEqualTo(1);
+        assertThat(detail.satisfaction().responses()).isEqualTo(2);
+        assertThat(detail.satisfaction().overall()).isCloseTo(4.0, within(0.001));
+        assertThat(detail.satisfaction().recommendationRate()).isCloseTo(0.5, within(0.001));
+    }
+
+    @Test
+    @DisplayName("재계산 후에는 캐시가 무효화되어 최신 집계를 반환")
+    void refreshEvictsCachedDetail() {
+        // given
+        assertThat(detailService.getDetail(program.getId()).satisfaction().responses()).isZero();
+        satisfactionRepository.save(satisfaction(1L, 4, true));
+
+        // when
+        projector.refresh(List.of(program.getId()));
+
+        // then
+        ProgramDetailResponse detail = detailService.getDetail(program.getId());
+        assertThat(detail.satisfaction().responses()).isEqualTo(1);
+        assertThat(detail.satisfaction().overall()).isCloseTo(4.0, within(0.001));
+    }
+
+    @Test
+    @DisplayName("조회 모델 행이 없는 프로그램은 조회 시점에 재계산")
+    void missingRowIsRefreshedOnRead() {
+        // given
+        detailViewRepository.deleteAll();
+
+        // when
+        ProgramDetailResponse detail = detailService.getDetail(program.getId());
+
+        // then
+        assertThat(detail.id()).isEqualTo(program.getId());
+        assertThat(detailViewRepository.findById(program.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("없는 프로그램 조회는 재계산 없이 404 예외")
+    void missingProgramIsNotRefreshed() {
+        // given
+        long missingId = program.getId() + 1_000;
+
+        // when
+        Throwable thrown = catchThrowable(() -> detailService.getDetail(missingId));
+
+        // then
+        assertThat(thrown).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(detailViewRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("기존 행은 갱신되고 삭제된 프로그램의 행만 제거")
+    void refreshUpsertsAndRemovesDeletedPrograms() {
+        // given
+        Program other = programRepository.save(Program.builder()
+                .title("글쓰기 특강").category("교육").organizerId(1L).capacity(10).status(ProgramStatus.OPEN).build());
+        projector.refresh(List.of(program.getId(), other.getId()));
+        program.setTitle("데이터 분석 캠프 (심화)");
+        programRepository.save(program);
+        programRepository.delete(other);
+
+        // when
+        projector.refresh(List.of(program.getId(), other.getId()));
+
+        // then
+        assertThat(detailViewRepository.findById(program.getId()).orElseThrow().getTitle())
+                .isEqualTo("데이터 분석 캠프 (심화)");
+        assertThat(detailViewRepository.findById(other.getId())).isEmpty();
+    }
+
+    private ProgramSatisfaction satisfaction(Long userId, int rating, boolean recommend) {
+        return ProgramSatisfaction.builder()
+                .program(program)
+                .userId(userId)
+                .overallRating(rating)
+                .contentRating(rating)
+                .instructorRating(rating)
+                .facilityRating(rating)
+                .usefulnessRating(rating)
+                .wouldRecommend(recommend)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramApplicationRepository;
+import com.university.scms.domain.program.repository.ProgramDetailViewRepository;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository;
+import com.university.scms.domain.program.repository.ProgramJdbcRepository.LifecycleDeadline;
+import com.university.scms.domain.program.repository.ProgramParticipantRepository;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import com.university.scms.domain.program.repository.ProgramSatisfactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 프로그램 상태 전이 SQL 테스트
+ * 경계가 지난 프로그램만 잠그고 전이하며, CANCELLED 프로그램은 건드리지 않는지 검증합니다.
+ * (주기 작업이 끼어들지 않도록 눈금/구간 연장 간격을 늘려 둡니다.)
+ */
+@SpringBootTest(properties = {"program.status.tick-ms=3600000", "program.status.reload-ms=3600000"})
+@ActiveProfiles("test")
+class ProgramLifecycleTransitionTest {
+
+    @Autowired
+    private ProgramStatusScheduler scheduler;
+
+    @Autowired
+    private ProgramJdbcRepository programJdbcRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private ProgramApplicationRepository applicationRepository;
+
+    @Autowired
+    private ProgramParticipantRepository participantRepository;
+
+    @Autowired
+    private ProgramSatisfactionRepository satisfactionRepository;
+
+    @Autowired
+    private ProgramDetailViewRepository detailViewRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        satisfactionRepository.deleteAll();
+        participantRepository.deleteAll();
+        applicationRepository.deleteAll();
+        detailViewRepository.deleteAll();
+        programRepository.deleteAll();
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("모집 마감이 지난 OPEN 프로그램만 잠그고 CLOSED로 전이")
+    void lockAndAdvanceOnlyDuePrograms() {
+        // given
+        Program due = program("모집 마감 지남", ProgramStatus.OPEN, now.minusDays(3), now.minusHours(1), now.plusDays(2));
+        Program notDue = program("모집 중", ProgramStatus.OPEN, now.minusDays(3), now.plusDays(1), now.plusDays(2));
+        Program cancelled = program("취소됨", ProgramStatus.CANCELLED, now.minusDays(3), now.minusHours(1), now.plusDays(2));
+        List<Long> ids = List.of(due.getId(), notDue.getId(), cancelled.getId());
+
+        // when
+        Integer advanced = new TransactionTemplate(transactionManager).execute(status -> {
+            List<Long> locked = programJdbcRepository.lockLifecycleDue(ids, now);
+            assertThat(locked).containsExactly(due.getId());
+            return programJdbcRepository.advanceLifecycle(locked, now);
+        });
+
+        // then
+        assertThat(advanced).isEqualTo(1);
+        assertThat(statusOf(due)).isEqualTo(ProgramStatus.CLOSED);
+        assertThat(statusOf(notDue)).isEqualTo(ProgramStatus.OPEN);
+        assertThat(statusOf(cancelled)).isEqualTo(ProgramStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("구간 안의 경계만 조회하고 CANCELLED 프로그램의 경계는 제외")
+    void findDeadlinesSkipsCancelled() {
+        // given: 모집 마감이 1시간 뒤
+        LocalDateTime applicationEnd = now.plusHours(1);
+        Program open = program("모집 중", ProgramStatus.OPEN, now.minusDays(1), applicationEnd, now.plusDays(2));
+        program("취소됨", ProgramStatus.CANCELLED, now.minusDays(1), applicationEnd, now.plusDays(2));
+
+        // when
+        List<LifecycleDeadline> deadlines = programJdbcRepository.findLifecycleDeadlines(now, now.plusHours(2));
+
+        // then
+        assertThat(deadlines).hasSize(1);
+        assertThat(deadlines.get(0).programId()).isEqualTo(open.getId());
+        assertThat(deadlines.get(0).deadline()).isCloseTo(applicationEnd, within(1, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("일괄 보정은 지난 경계를 모두 반영하고 CANCELLED 프로그램은 그대로 둠")
+    void catchUpAdvancesDueAndLeavesCancelled() {
+        // given: 기간이 모두 지난 DRAFT, 진행 중이어야 할 CLOSED, 취소된 프로그램
+        Program finished = program("종료됨", ProgramStatus.DRAFT, now.minusDays(5), now.minusDays(4), now.minusDays(1));
+        Program running = program("진행 중", ProgramStatus.CLOSED, now.minusDays(5), now.minusDays(4), now.plusDays(1));
+        Program cancelled = program("취소됨", ProgramStatus.CANCELLED, now.minusDays(5), now.minusDays(4), now.minusDays(1));
+
+        // when
+        int advanced = scheduler.catchUp();
+
+        // then
+        assertThat(advanced).isEqualTo(2);
+        assertThat(statusOf(finished)).isEqualTo(ProgramStatus.COMPLETED);
+        assertThat(statusOf(running)).isEqualTo(ProgramStatus.IN_PROGRESS);
+        assertThat(statusOf(cancelled)).isEqualTo(ProgramStatus.CANCELLED);
+    }
+
+    /**
+     * 시작일은 모집 마감 다음 날, 종료일은 endDate
+     */
+    private Program program(String title, ProgramStatus status, LocalDateTime applicationStart,
+                            LocalDateTime applicationEnd, LocalDateTime endDate) {
+        LocalDateTime startDate = applicationEnd.plusDays(1).isBefore(endDate) ? applicationEnd.plusDays(1) : endDate.minusHours(1);
+        return programRepository.save(Program.builder()
+                .title(title)
+                .category("교육")
+                .organizerId(1L)
+                .capacity(30)
+                .applicationStart(applicationStart)
+                .applicationEnd(applicationEnd)
+                .startDate(startDate)
+                .endDate(endDate)
+                .status(status)
+                .build());
+    }
+
+    private ProgramStatus statusOf(Program program) {
+        return programRepository.findById(program.getId()).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,109 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramSatisfaction;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import com.university.scms.domain.program.repository.ProgramSatisfactionRepository;
+import com.university.scms.dto.common.RatingSummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * ProgramSatisfactionAggregator 테스트
+ * 만족도 저장/수정/삭제가 같은 트랜잭션에서 누적 집계에 반영되고, 대조 작업이 어긋난 집계를 보정하는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProgramSatisfactionAggregatorTest {
+
+    @Autowired
+    private ProgramSatisfactionAggregator aggregator;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private ProgramSatisfactionRepository satisfactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Program program;
+
+    @BeforeEach
+    void setUp() {
+        satisfactionRepository.deleteAll();
+        programRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM program_satisfaction_aggregates");
+
+        LocalDateTime now = LocalDateTime.now();
+        program = programRepository.save(Program.builder()
+                .title("글쓰기 특강")
+                .category("교육")
+                .organizerId(1L)
+                .capacity(30)
+                .startDate(now.minusDays(3))
+                .endDate(now.minusDays(2))
+                .status(ProgramStatus.COMPLETED)
+                .build());
+    }
+
+    @Test
+    @DisplayName("만족도 저장/수정/삭제 시 누적 집계의 평균/분산/추천 비율이 원본과 일치")
+    void aggregateFollowsSaveUpdateAndDelete() {
+        // given
+        ProgramSatisfaction first = satisfactionRepository.save(satisfaction(1L, 5, true));
+        ProgramSatisfaction second = satisfactionRepository.save(satisfaction(2L, 3, false));
+        satisfactionRepository.save(satisfaction(3L, 1, true));
+
+        // when
+        ProgramSatisfaction loaded = satisfactionRepository.findById(second.getId()).orElseThrow();
+        loaded.update(4, null, null, null, null, "좋았습니다", null, true);
+        satisfactionRepository.save(loaded);
+        satisfactionRepository.deleteById(first.getId());
+
+        // then: 남은 전반적 만족도 4, 1
+        RatingSummaryResponse summary = aggregator.getSummary(program.getId());
+        assertThat(summary.responseCount()).isEqualTo(2);
+        assertThat(summary.dimensions().get(0).mean()).isCloseTo(2.5, within(1e-9));
+        assertThat(summary.dimensions().get(0).variance()).isCloseTo(2.25, within(1e-9));
+        assertThat(summary.recommendationRate()).isCloseTo(1.0, within(1e-9));
+        assertThat(summary.dimensions().get(0).mean())
+                .isCloseTo(satisfactionRepository.getAverageOverallRatingByProgramId(program.getId()), within(1e-9));
+        assertThat(aggregator.reconcile()).isZero();
+    }
+
+    @Test
+    @DisplayName("엔티티를 거치지 않은 벌크 변경은 대조 작업이 찾아 보정")
+    void reconcileRepairsDriftFromBulkChanges() {
+        // given
+        satisfactionRepository.save(satisfaction(1L, 5, true));
+        satisfactionRepository.save(satisfaction(2L, 3, false));
+        jdbcTemplate.update("UPDATE program_satisfactions SET overall_rating = 1 WHERE user_id = 1");
+
+        // when
+        int repaired = aggregator.reconcile();
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(aggregator.getSummary(program.getId()).dimensions().get(0).mean())
+                .isCloseTo(2.0, within(1e-9));
+        assertThat(aggregator.reconcile()).isZero();
+    }
+
+    private ProgramSatisfaction satisfaction(Long userId, int rating, boolean recommend) {
+        return ProgramSatisfaction.create(program, userId, rating, rating, rating, rating, rating,
+                null, null, recommend);
+    }
+}
@@ -0,0 +1,84 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramSearchDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로그램 검색 지연 시간 벤치마크
+ *
+ * <p>10만 건을 색인한 뒤 입력 중인 검색어(한 글자씩 늘어나는 접두어)로 검색해 p50/p99를 출력합니다.
+ * DB 없이 실행되며 {@code gradle benchmark -Dbenchmark.programs=100000}으로 실행합니다.</p>
+ */
+@Tag("benchmark")
+class ProgramSearchBenchmarkTest {
+
+    private static final int PROGRAMS = Integer.getInteger("benchmark.programs", 100_000);
+    private static final int QUERIES = 20_000;
+
+    private static final String[] SUBJECTS = {"인공지능", "데이터 분석", "취업", "진로", "리더십", "글쓰기", "토익", "창업",
+            "면접", "코딩", "심리 상담", "봉사", "외국어", "디자인", "마케팅", "금융", "프레젠테이션", "독서"};
+    private static final String[] FORMATS = {"특강", "워크샵", "캠프", "세미나", "멘토링", "경진대회", "스터디", "클래스"};
+    private static final String[] CATEGORIES = {"학습역량", "진로지도", "심리상담", "취업지원", "봉사"};
+    private static final String[] TYPED = {"특", "특강", "인공", "인공지능", "데이터", "데이터 분", "취업 워", "리더십 캠",
+            "코딩 스터", "진로 멘토링", "면접 특강을", "프레젠테이", "마케팅 세미나"};
+
+    @Test
+    @DisplayName("10만 건 검색어 자동 완성 p99 20ms 이내")
+    void searchAsYouTypeLatency() {
+        // given
+        ProgramSearchIndex searchIndex = new ProgramSearchIndex(null);
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2026, 3, 2, 10, 0);
+        long indexStart = System.nanoTime();
+        for (long id = 1; id <= PROGRAMS; id++) {
+            String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+            String format = FORMATS[random.nextInt(FORMATS.length)];
+            LocalDateTime start = base.plusDays(random.nextInt(365));
+            searchIndex.index(new ProgramSearchDocument(id,
+                    "%d학기 %s %s".formatted(1 + random.nextInt(2), subject, format),
+                    "%s 역량을 키우는 %s입니다. 참여 학생에게 마일리지를 지급합니다. 과정 %d".formatted(subject, format, id),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    ProgramStatus.values()[random.nextInt(ProgramStatus.values().length)],
+                    "공학관 " + random.nextInt(500) + "호",
+                    30, start, start.plusHours(2), start.minusDays(14), start.minusDays(1), base.plusSeconds(id)));
+        }
+        long indexMillis = (System.nanoTime() - indexStart) / 1_000_000;
+
+        // when
+        for (int i = 0; i < 2_000; i++) {
+            searchIndex.search(condition(random));
+        }
+        List<Long> latencies = new ArrayList<>(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            long started = System.nanoTime();
+            searchIndex.search(condition(random));
+            latencies.add(System.nanoTime() - started);
+        }
+
+        // then
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        double p50 = sorted[sorted.length / 2] / 1_000_000.0;
+        double p99 = sorted[(int) (sorted.length * 0.99)] / 1_000_000.0;
+        System.out.printf("[benchmark] programs=%d indexMillis=%d queries=%d p50=%.3fms p99=%.3fms max=%.3fms%n",
+                PROGRAMS, indexMillis, QUERIES, p50, p99, Arrays.stream(sorted).max().orElse(0) / 1_000_000.0);
+        assertThat(p99).isLessThan(20.0);
+    }
+
+    private static ProgramSearchCondition condition(Random random) {
+        String keyword = TYPED[random.nextInt(TYPED.length)];
+        String category = random.nextInt(3) == 0 ? CATEGORIES[random.nextInt(CATEGORIES.length)] : null;
+        ProgramStatus status = random.nextInt(3) == 0 ? ProgramStatus.OPEN : null;
+        return new ProgramSearchCondition(keyword, category, status, null, null, 0, 20);
+    }
+}
@@ -0,0 +1,160 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ProgramChangedEvent;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramSearchDocument;
+import com.university.scms.dto.program.ProgramSearchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ProgramSearchIndex 테스트
+ * DB 없이 색인에 직접 문서를 넣어 검색/필터/분류별 건수를 검증합니다.
+ */
+class ProgramSearchIndexTest {
+
+    private static final LocalDateTime OCTOBER = LocalDateTime.of(2026, 10, 20, 10, 0);
+    private static final LocalDateTime NOVEMBER = LocalDateTime.of(2026, 11, 20, 10, 0);
+
+    private ProgramSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new ProgramSearchIndex(null);
+        searchIndex.index(document(1L, "AI 특강", "인공지능 기초 교육", "교육", ProgramStatus.OPEN, OCTOBER));
+        searchIndex.index(document(2L, "취업 워크샵", "이력서와 면접 특강을 함께 진행합니다", "진로", ProgramStatus.OPEN, NOVEMBER));
+        searchIndex.index(document(3L, "진로 특강", "선배와의 대화", "진로", ProgramStatus.COMPLETED, OCTOBER));
+    }
+
+    @Test
+    @DisplayName("제목에 검색어가 있는 프로그램이 설명에만 있는 프로그램보다 먼저 나옴")
+    void titleMatchesFirst() {
+        // when
+        ProgramSearchResponse response = searchIndex.search(ProgramSearchCondition.keyword("특강"));
+
+        // then
+        assertThat(response.totalCount()).isEqualTo(3);
+        assertThat(response.programs()).extracting(ProgramSearchResponse.Item::id).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 어절과 입력 중인 자모가 있어도 검색")
+    void searchAsYouTypeWithKoreanParticles() {
+        // when & then
+        assertThat(searchIndex.search(ProgramSearchCondition.keyword("면접 특강을")).programs())
+                .extracting(ProgramSearchResponse.Item::id).containsExactly(2L);
+        assertThat(searchIndex.search(ProgramSearchCondition.keyword("워크ㅅ")).programs())
+                .extracting(ProgramSearchResponse.Item::id).containsExactly(2L);
+        assertThat(searchIndex.search(ProgramSearchCondition.keyword("취")).programs())
+                .extracting(ProgramSearchResponse.Item::id).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("분류별 건수는 자기 필터를 제외한 나머지 조건으로 집계")
+    void facetsIgnoreOwnFilter() {
+        // when
+        ProgramSearchResponse response = searchIndex.search(new ProgramSearchCondition(
+                "특강", "진로", null, null, null, 0, 20));
+
+        // then
+        assertThat(response.totalCount()).isEqualTo(2);
+        assertThat(response.facets().categories()).containsEntry("교육", 1L).containsEntry("진로", 2L);
+        assertThat(response.facets().statuses())
+                .containsEntry(ProgramStatus.OPEN, 1L)
+                .containsEntry(ProgramStatus.COMPLETED, 1L);
+        assertThat(response.facets().startMonths()).containsEntry("2026-10", 1L).containsEntry("2026-11", 1L);
+    }
+
+    @Test
+    @DisplayName("운영 기간이 겹치는 프로그램만 조회")
+    void filtersByDateRange() {
+        // when
+        ProgramSearchResponse response = searchIndex.search(new ProgramSearchCondition(
+                null, null, null, LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 30), 0, 20));
+
+        // then
+        assertThat(response.programs()).extracting(ProgramSearchResponse.Item::id).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제 이벤트가 색인에 반영")
+    void appliesChangeEvents() {
+        // when
+        searchIndex.onProgramChanged(new ProgramChangedEvent(1L,
+                document(1L, "데이터 분석 캠프", "파이썬 실습", "교육", ProgramStatus.OPEN, OCTOBER)));
+        searchIndex.onProgramChanged(new ProgramChangedEvent(3L, null));
+
+        // then
+        assertThat(searchIndex.size()).isEqualTo(2);
+        assertThat(searchIndex.search(ProgramSearchCondition.keyword("특강")).programs())
+                .extracting(ProgramSearchResponse.Item::id).containsExactly(2L);
+        assertThat(searchIndex.search(ProgramSearchCondition.keyword("캠프")).programs())
+                .extracting(ProgramSearchResponse.Item::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("페이지 경계가 제목 일치 목록과 나머지 목록 사이에 걸쳐도 순서 유지")
+    void paginatesAcrossTitleAndOtherMatches() {
+        // when
+        ProgramSearchResponse first = searchIndex.search(new ProgramSearchCondition("특강", null, null, null, null, 0, 2));
+        ProgramSearchResponse second = searchIndex.search(new ProgramSearchCondition("특강", null, null, null, null, 1, 2));
+
+        // then
+        assertThat(first.programs()).extracting(ProgramSearchResponse.Item::id).containsExactly(3L, 1L);
+        assertThat(second.programs()).extracting(ProgramSearchResponse.Item::id).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("매우 큰 페이지 번호는 넘치지 않고 빈 페이지와 전체 건수를 반환")
+    void hugePageReturnsEmptyPage() {
+        // when
+        ProgramSearchResponse response = searchIndex.search(
+                new ProgramSearchCondition("특강", null, null, null, null, Integer.MAX_VALUE, ProgramSearchCondition.MAX_SIZE));
+
+        // then
+        assertThat(response.programs()).isEmpty();
+        assertThat(response.totalCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("커서 다음 항목을 등록 최신순으로 조회하고 건수는 커서와 무관")
+    void findIdsAfterCursor() {
+        // when
+        ProgramSearchIndex.KeysetPage first = searchIndex.findIdsAfter("특강", null, null, ProgramCatalogCursor.FIRST, 2);
+        ProgramSearchDocument last = document(1L, "AI 특강", "인공지능 기초 교육", "교육", ProgramStatus.OPEN, OCTOBER);
+        ProgramSearchIndex.KeysetPage second = searchIndex.findIdsAfter("특강", null, null,
+                new ProgramCatalogCursor(last.createdAt(), last.id()), 2);
+
+        // then (등록 일시: 2번(11월 기준) > 3번 > 1번)
+        assertThat(first.programIds()).containsExactly(2L, 3L);
+        assertThat(first.totalCount()).isEqualTo(3);
+        assertThat(second.programIds()).isEmpty();
+        assertThat(searchIndex.findIdsAfter("특강", null, null,
+                new ProgramCatalogCursor(OCTOBER.minusDays(30).plusMinutes(3), 3L), 2).programIds())
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException")
+    void rejectsMalformedCursor() {
+        // when & then
+        assertThat(ProgramCatalogCursor.decode(new ProgramCatalogCursor(OCTOBER, 7L).encode()))
+                .isEqualTo(new ProgramCatalogCursor(OCTOBER, 7L));
+        assertThatThrownBy(() -> ProgramCatalogCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static ProgramSearchDocument document(Long id, String title, String description, String category,
+                                          ProgramStatus status, LocalDateTime startDate) {
+        return new ProgramSearchDocument(id, title, description, category, status, "학생회관", 30,
+                startDate, startDate.plusHours(2), startDate.minusDays(14), startDate.minusDays(1),
+                startDate.minusDays(30).plusMinutes(id));
+    }
+}
@@ -0,0 +1,116 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ApplicationStatus;
+import com.university.scms.domain.program.entity.Program;
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramApplicationRepository;
+import com.university.scms.domain.program.repository.ProgramRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로그램 좌석 예약 부하 테스트
+ * 정원보다 훨씬 많은 신청이 동시에 몰려도 정원을 초과하지 않고 나머지는 대기자 명단에 들어가는지 검증합니다.
+ * 기본 실행에서는 제외되며 {@code gradle benchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class ProgramSeatReservationLoadTest {
+
+    private static final int CAPACITY = 50;
+    private static final int APPLICANTS = 5_000;
+    private static final int THREADS = 200;
+
+    @Autowired
+    private ProgramApplicationService applicationService;
+
+    @Autowired
+    private ProgramSeatGate seatGate;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private ProgramApplicationRepository applicationRepository;
+
+    private Long programId;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository.deleteAll();
+        programRepository.deleteAll();
+
+        LocalDateTime now = LocalDateTime.now();
+        Program program = programRepository.save(Program.builder()
+                .title("선착순 특강")
+                .category("교육")
+                .organizerId(1L)
+                .capacity(CAPACITY)
+                .startDate(now.plusDays(7))
+                .endDate(now.plusDays(8))
+                .applicationStart(now.minusDays(1))
+                .applicationEnd(now.plusDays(5))
+                .status(ProgramStatus.OPEN)
+                .build());
+        programId = program.getId();
+        seatGate.reopen(programId);
+    }
+
+    @Test
+    @DisplayName("5,000명이 동시에 신청해도 정원 50명만 좌석을 얻고 나머지는 대기자 명단에 등록")
+    void concurrentApplicationsNeverOverbook() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(APPLICANTS);
+        AtomicInteger seated = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < APPLICANTS; i++) {
+            long userId = 10_000L + i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (applicationService.apply(programId, userId, "신청합니다").isSeated()) {
+                        seated.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+        executor.shutdown();
+
+        // then
+        Program program = programRepository.findById(programId).orElseThrow();
+        assertThat(failures.get()).isZero();
+        assertThat(seated.get()).isEqualTo(CAPACITY);
+        assertThat(program.getCurrentParticipants()).isEqualTo(CAPACITY);
+        assertThat(applicationRepository.countByProgramIdAndStatus(programId, ApplicationStatus.PENDING))
+                .isEqualTo(CAPACITY);
+        assertThat(applicationRepository.countByProgramIdAndStatus(programId, ApplicationStatus.WAITLISTED))
+                .isEqualTo(APPLICANTS - CAPACITY);
+    }
+}
@@ -0,0 +1,47 @@
+package com.university.scms.service.program;
+
+import com.university.scms.domain.program.entity.ProgramStatus;
+import com.university.scms.domain.program.repository.ProgramSearchDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProgramStatusScheduler 전이 규칙 테스트
+ */
+class ProgramStatusSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @Test
+    @DisplayName("마지막으로 지난 경계의 상태로 전이")
+    void targetIsStatusOfLastPassedBoundary() {
+        assertThat(ProgramStatusScheduler.targetStatus(document(ProgramStatus.DRAFT, -3, 1, 2, 3), NOW))
+                .isEqualTo(ProgramStatus.OPEN);
+        assertThat(ProgramStatusScheduler.targetStatus(document(ProgramStatus.OPEN, -3, -2, 2, 3), NOW))
+                .isEqualTo(ProgramStatus.CLOSED);
+        assertThat(ProgramStatusScheduler.targetStatus(document(ProgramStatus.OPEN, -3, -2, 0, 3), NOW))
+                .isEqualTo(ProgramStatus.IN_PROGRESS);  // 경계 시각 정각에 전이
+        assertThat(ProgramStatusScheduler.targetStatus(document(ProgramStatus.IN_PROGRESS, -3, -2, -1, 0), NOW))
+                .isEqualTo(ProgramStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("전이할 필요가 없거나 뒤로 돌아가는 경우와 취소된 프로그램은 전이하지 않음")
+    void neverMovesBackwardOrTouchesCancelled() {
+        assertThat(ProgramStatusScheduler.targetStatus(document(ProgramStatus.OPEN, -3, 1, 2, 3), NOW)).isNull();
+        assertThat(ProgramStatusScheduler.targetStatus(document(ProgramStatus.CLOSED, -3, 1, 2, 3), NOW)).isNull();
+        assertThat(ProgramStatusScheduler.targetStatus(document(ProgramStatus.CANCELLED, -3, -2, -1, 0), NOW))
+                .isNull();
+    }
+
+    private ProgramSearchDocument document(ProgramStatus status, int applicationStart, int applicationEnd,
+                                           int start, int end) {
+        return new ProgramSearchDocument(1L, "프로그램", null, "교육", status, null, 30,
+                NOW.plusHours(start), NOW.plusHours(end),
+                NOW.plusHours(applicationStart), NOW.plusHours(applicationEnd), NOW.minusDays(7));
+    }
+}
@@ -0,0 +1,65 @@
+package com.university.scms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ICalendarWriter 테스트
+ */
+class ICalendarWriterTest {
+
+    @Test
+    @DisplayName("TEXT 값의 특수 문자를 이스케이프하고 줄 끝은 CRLF")
+    void escapesTextAndUsesCrlf() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+
+        // when
+        new ICalendarWriter(out)
+                .begin("VEVENT")
+                .text("SUMMARY", "진로, 학업; a\\b\r\n다음 줄")
+                .localDateTime("DTSTART", LocalDateTime.of(2026, 10, 19, 9, 30))
+                .utcDateTime("DTSTAMP", Instant.parse("2026-10-18T01:02:03Z"))
+                .end("VEVENT");
+
+        // then
+        assertThat(out.toString()).isEqualTo(
+                "BEGIN:VEVENT\r\n" +
+                "SUMMARY:진로\\, 학업\\; a\\\\b\\n다음 줄\r\n" +
+                "DTSTART:20261019T093000\r\n" +
+                "DTSTAMP:20261018T010203Z\r\n" +
+                "END:VEVENT\r\n");
+    }
+
+    @Test
+    @DisplayName("75옥텟을 넘는 줄은 UTF-8 문자 경계에서 접힘")
+    void foldsLongLinesOnCharacterBoundaries() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        String value = "상담".repeat(40);
+
+        // when
+        new ICalendarWriter(out).text("SUMMARY", value);
+
+        // then
+        String[] lines = out.toString().split("\r\n");
+        assertThat(lines.length).isGreaterThan(1);
+        for (String line : lines) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+        StringBuilder unfolded = new StringBuilder(lines[0]);
+        for (int i = 1; i < lines.length; i++) {
+            assertThat(lines[i]).startsWith(" ");
+            unfolded.append(lines[i].substring(1));
+        }
+        assertThat(unfolded.toString()).isEqualTo("SUMMARY:" + value);
+    }
+}
@@ -0,0 +1,84 @@
+package com.university.scms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IntervalTree 테스트
+ */
+class IntervalTreeTest {
+
+    @Test
+    @DisplayName("반열린 구간이라 맞닿은 구간은 겹치지 않음")
+    void touchingIntervalsDoNotOverlap() {
+        // given
+        IntervalTree tree = new IntervalTree();
+        tree.put(1L, 600, 660);
+
+        // when & then
+        assertThat(tree.overlaps(540, 600)).isFalse();
+        assertThat(tree.overlaps(660, 720)).isFalse();
+        assertThat(tree.overlaps(650, 700)).isTrue();
+        assertThat(tree.findOverlapEnd(500, 601)).isEqualTo(660);
+        assertThat(tree.findOverlapEnd(700, 760)).isEqualTo(IntervalTree.NONE);
+    }
+
+    @Test
+    @DisplayName("같은 ID로 다시 넣으면 교체되고 삭제하면 더 이상 겹치지 않음")
+    void putReplacesAndRemoveDeletes() {
+        // given
+        IntervalTree tree = new IntervalTree();
+        tree.put(1L, 600, 660);
+
+        // when
+        tree.put(1L, 900, 960);
+
+        // then
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.overlaps(600, 660)).isFalse();
+        assertThat(tree.overlaps(930, 931)).isTrue();
+        assertThat(tree.remove(1L)).isTrue();
+        assertThat(tree.remove(1L)).isFalse();
+        assertThat(tree.overlaps(900, 960)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무작위 삽입/삭제 후 겹침 조회 결과가 전수 비교와 일치")
+    void matchesBruteForce() {
+        // given
+        Random random = new Random(7);
+        IntervalTree tree = new IntervalTree();
+        Map<Long, long[]> expected = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long id = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                tree.remove(id);
+                expected.remove(id);
+            } else {
+                long start = random.nextInt(10_000);
+                long end = start + 1 + random.nextInt(120);
+                tree.put(id, start, end);
+                expected.put(id, new long[]{start, end});
+            }
+        }
+
+        // when & then
+        assertThat(tree.size()).isEqualTo(expected.size());
+        for (int i = 0; i < 2_000; i++) {
+            long start = random.nextInt(10_200);
+            long end = start + 1 + random.nextInt(60);
+            boolean bruteForce = expected.values().stream().anyMatch(v -> v[0] < end && v[1] > start);
+            long overlapEnd = tree.findOverlapEnd(start, end);
+            assertThat(overlapEnd != IntervalTree.NONE).isEqualTo(bruteForce);
+            if (bruteForce) {
+                assertThat(expected.values()).anyMatch(v -> v[1] == overlapEnd && v[0] < end && v[1] > start);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.university.scms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InvertedIndex 테스트
+ */
+class InvertedIndexTest {
+
+    @Test
+    @DisplayName("모든 색인어를 포함한 문서만 오름차순으로 반환")
+    void intersectReturnsDocumentsContainingAllTerms() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.add(1, List.of("특강", "취업"));
+        index.add(2, List.of("특강"));
+        index.add(3, List.of("특강", "취업", "면접"));
+
+        // when & then
+        assertThat(index.intersect(List.of("특강", "취업"))).containsExactly(1, 3);
+        assertThat(index.intersect(List.of("특강", "없음"))).isEmpty();
+        assertThat(index.intersect(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("추가/제거를 섞어도 교집합이 기준 구현과 일치")
+    void matchesReferenceUnderRandomUpdates() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        Map<Integer, Set<String>> reference = new HashMap<>();
+        Random random = new Random(7);
+        List<String> vocabulary = List.of("a", "b", "c", "d", "e", "f");
+
+        // when
+        for (int i = 0; i < 5_000; i++) {
+            int docId = random.nextInt(500);
+            Set<String> previous = reference.remove(docId);
+            if (previous != null) {
+                index.remove(docId, previous);
+            }
+            if (random.nextInt(4) != 0) {
+                Set<String> terms = new HashSet<>();
+                for (String term : vocabulary) {
+                    if (random.nextBoolean()) {
+                        terms.add(term);
+                    }
+                }
+                index.add(docId, terms);
+                reference.put(docId, terms);
+            }
+        }
+
+        // then
+        List<String> query = List.of("a", "c", "e");
+        List<Integer> expected = new ArrayList<>();
+        reference.forEach((docId, terms) -> {
+            if (terms.containsAll(query)) {
+                expected.add(docId);
+            }
+        });
+        expected.sort(Integer::compare);
+        assertThat(index.intersect(query)).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+}
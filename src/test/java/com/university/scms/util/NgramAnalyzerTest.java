@@ -0,0 +1,51 @@
+package com.university.scms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NgramAnalyzer 테스트
+ */
+class NgramAnalyzerTest {
+
+    @Test
+    @DisplayName("토큰별 2-gram을 색인어로 추출")
+    void indexTermsAreBigramsPerToken() {
+        // when & then
+        assertThat(NgramAnalyzer.indexTerms("AI 특강을", false))
+                .containsExactly("ai", "특강", "강을");
+    }
+
+    @Test
+    @DisplayName("1-gram 옵션이면 각 글자도 색인어에 포함")
+    void indexTermsWithUnigrams() {
+        // when & then
+        assertThat(NgramAnalyzer.indexTerms("특강", true))
+                .containsExactlyInAnyOrder("특강", "특", "강");
+    }
+
+    @Test
+    @DisplayName("전각 문자와 대문자는 정규화 후 색인")
+    void normalizesFullWidthAndCase() {
+        // when & then
+        assertThat(NgramAnalyzer.indexTerms("ＡＩ Workshop", false))
+                .contains("ai", "wo", "op");
+    }
+
+    @Test
+    @DisplayName("입력 중인 마지막 자모는 검색어에서 제외")
+    void stripsComposingJamoFromQuery() {
+        // when & then
+        assertThat(NgramAnalyzer.queryTerms("특가ㅇ")).containsExactly("특가");
+        assertThat(NgramAnalyzer.queryTerms("ㅌ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 1-gram으로 조회")
+    void singleCharacterQuery() {
+        // when & then
+        assertThat(NgramAnalyzer.queryTerms("특")).containsExactly("특");
+    }
+}
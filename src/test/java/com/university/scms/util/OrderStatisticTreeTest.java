@@ -0,0 +1,71 @@
+package com.university.scms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderStatisticTree 테스트
+ */
+class OrderStatisticTreeTest {
+
+    @Test
+    @DisplayName("삽입/삭제/순위/k번째 조회가 정렬 집합과 일치")
+    void matchesSortedSetUnderRandomOperations() {
+        // given
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> reference = new TreeSet<>();
+        Random random = new Random(42);
+
+        // when & then
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(tree.remove(value)).isEqualTo(reference.remove(value));
+            } else {
+                assertThat(tree.add(value)).isEqualTo(reference.add(value));
+            }
+            if (i % 500 == 0) {
+                assertConsistent(tree, reference, random.nextInt(2_000));
+            }
+        }
+        assertConsistent(tree, reference, 1_000);
+    }
+
+    @Test
+    @DisplayName("범위 조회는 경계를 벗어나도 안전하게 잘림")
+    void rangeIsClamped() {
+        // given
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.reverseOrder());
+        for (int i = 1; i <= 5; i++) {
+            tree.add(i * 10);
+        }
+
+        // when
+        List<Integer> head = tree.range(-3, 2);
+        List<Integer> tail = tree.range(3, 100);
+
+        // then
+        assertThat(head).containsExactly(50, 40);
+        assertThat(tail).containsExactly(20, 10);
+        assertThat(tree.countLessThan(35)).isEqualTo(2);
+    }
+
+    private void assertConsistent(OrderStatisticTree<Integer> tree, TreeSet<Integer> reference, int probe) {
+        List<Integer> expected = new ArrayList<>(reference);
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(tree.range(0, tree.size())).isEqualTo(expected);
+        assertThat(tree.countLessThan(probe)).isEqualTo(reference.headSet(probe).size());
+        if (!expected.isEmpty()) {
+            int index = expected.size() / 2;
+            assertThat(tree.get(index)).isEqualTo(expected.get(index));
+        }
+    }
+}
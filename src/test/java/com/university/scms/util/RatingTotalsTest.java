@@ -0,0 +1,85 @@
+package com.university.scms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * RatingTotals 테스트
+ */
+class RatingTotalsTest {
+
+    @Test
+    @DisplayName("누적 합계로 계산한 평균/분산/추천 비율이 원본 값과 일치")
+    void meanAndVarianceMatchRawValues() {
+        // given
+        RatingTotals totals = RatingTotals.empty(2)
+                .plus(RatingTotals.of(true, 5, 4))
+                .plus(RatingTotals.of(false, 3, 4))
+                .plus(RatingTotals.of(true, 1, null));
+
+        // when & then
+        assertThat(totals.count()).isEqualTo(3);
+        assertThat(totals.mean(0)).isCloseTo(3.0, within(1e-9));
+        assertThat(totals.variance(0)).isCloseTo(8.0 / 3.0, within(1e-9));  // (4 + 0 + 4) / 3
+        assertThat(totals.mean(1)).isCloseTo(8.0 / 3.0, within(1e-9));      // null은 0점
+        assertThat(totals.recommendationRate()).isCloseTo(2.0 / 3.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("응답이 없으면 평균/분산/추천 비율은 null")
+    void emptyTotalsHaveNoStatistics() {
+        RatingTotals totals = RatingTotals.empty(5);
+
+        assertThat(totals.isZero()).isTrue();
+        assertThat(totals.mean(0)).isNull();
+        assertThat(totals.variance(0)).isNull();
+        assertThat(totals.recommendationRate()).isNull();
+    }
+
+    @Test
+    @DisplayName("추가/수정/삭제 증감분을 누적하면 원본을 다시 합산한 값과 같음")
+    void appliedDeltasMatchRecomputedTotals() {
+        // given
+        Random random = new Random(42);
+        List<RatingTotals> rows = new ArrayList<>();
+        RatingTotals running = RatingTotals.empty(3);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            int action = rows.isEmpty() ? 0 : random.nextInt(3);
+            RatingTotals sample = RatingTotals.of(random.nextBoolean(),
+                    1 + random.nextInt(5), 1 + random.nextInt(5), 1 + random.nextInt(5));
+            if (action == 0) {
+                rows.add(sample);
+                running = running.plus(sample);
+            } else if (action == 1) {
+                RatingTotals before = rows.set(random.nextInt(rows.size()), sample);
+                running = running.plus(sample.minus(before));
+            } else {
+                running = running.plus(rows.remove(random.nextInt(rows.size())).negate());
+            }
+        }
+
+        // then
+        RatingTotals recomputed = rows.stream().reduce(RatingTotals.empty(3), RatingTotals::plus);
+        assertThat(running).isEqualTo(recomputed);
+        assertThat(running.count()).isEqualTo(rows.size());
+    }
+
+    @Test
+    @DisplayName("평점이 같으면 수정 증감분은 0")
+    void unchangedRatingsProduceZeroDelta() {
+        RatingTotals before = RatingTotals.of(true, 4, 5);
+        RatingTotals after = RatingTotals.of(true, 4, 5);
+
+        assertThat(after.minus(before).isZero()).isTrue();
+        assertThat(RatingTotals.of(false, 4, 5).minus(before).isZero()).isFalse();
+    }
+}
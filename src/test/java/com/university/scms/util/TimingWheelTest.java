@@ -0,0 +1,85 @@
+package com.university.scms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TimingWheel 테스트
+ */
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("마감 눈금이 되었을 때만 만료")
+    void expiresOnDeadlineTick() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, 0);
+        wheel.schedule("a", 2500);
+        wheel.schedule("b", 3000);
+
+        // when & then
+        assertThat(wheel.advance(1999)).isEmpty();
+        assertThat(wheel.advance(2000)).containsExactly("a");
+        assertThat(wheel.advance(2999)).isEmpty();
+        assertThat(wheel.advance(3000)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 항목은 같은 슬롯에 남았다가 자기 바퀴에서 만료")
+    void keepsEntriesForLaterRounds() {
+        // given: 슬롯 4개, 눈금 1, 10 → 같은 슬롯(2)과 다른 바퀴
+        TimingWheel<String> wheel = new TimingWheel<>(1, 4, 0);
+        wheel.schedule("near", 2);
+        wheel.schedule("far", 10);
+
+        // when & then
+        assertThat(wheel.advance(6)).containsExactly("near");
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(9)).isEmpty();
+        assertThat(wheel.advance(10)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감은 다음 진행에서 바로 만료")
+    void pastDeadlineExpiresOnNextAdvance() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, 0);
+        wheel.advance(5000);
+
+        // when
+        wheel.schedule("late", 1000);
+
+        // then
+        assertThat(wheel.advance(5000)).isEmpty();  // 처리한 눈금은 다시 처리하지 않음
+        assertThat(wheel.advance(6000)).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("여러 바퀴를 한 번에 건너뛰어도 도래한 항목을 모두 만료")
+    void longPauseExpiresEverythingDue() {
+        // given
+        Random random = new Random(42);
+        TimingWheel<Integer> wheel = new TimingWheel<>(10, 16, 0);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            long deadline = random.nextInt(20_000);
+            wheel.schedule(i, deadline);
+            if (deadline <= 10_000) {
+                expected.add(i);
+            }
+        }
+
+        // when
+        List<Integer> expired = wheel.advance(10_000);
+
+        // then
+        assertThat(expired).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(wheel.size()).isEqualTo(1000 - expected.size());
+    }
+}
@@ -0,0 +1,65 @@
+package com.university.scms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WeeklyBitmap 테스트
+ */
+class WeeklyBitmapTest {
+
+    @Test
+    @DisplayName("구간에 완전히 포함된 15분 칸만 켜지고 종료 시각 칸은 제외")
+    void setsOnlyFullyCoveredQuarters() {
+        // given
+        WeeklyBitmap bitmap = new WeeklyBitmap();
+
+        // when
+        bitmap.set(DayOfWeek.TUESDAY, LocalTime.of(9, 10), LocalTime.of(10, 0));
+
+        // then: 09:15, 09:30, 09:45
+        assertThat(bitmap.cardinality()).isEqualTo(3);
+        assertThat(bitmap.get(WeeklyBitmap.slotOf(DayOfWeek.TUESDAY, LocalTime.of(9, 0)))).isFalse();
+        assertThat(bitmap.get(WeeklyBitmap.slotOf(DayOfWeek.TUESDAY, LocalTime.of(9, 59)))).isTrue();
+        assertThat(bitmap.get(WeeklyBitmap.slotOf(DayOfWeek.TUESDAY, LocalTime.of(10, 0)))).isFalse();
+        assertThat(bitmap.get(WeeklyBitmap.slotOf(DayOfWeek.MONDAY, LocalTime.of(9, 30)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("자정 종료는 하루 끝까지이며 일요일 마지막 칸까지 표현")
+    void midnightEndCoversRestOfDay() {
+        // given
+        WeeklyBitmap bitmap = new WeeklyBitmap();
+
+        // when
+        bitmap.set(DayOfWeek.SUNDAY, LocalTime.of(23, 0), LocalTime.MIDNIGHT);
+
+        // then
+        int last = WeeklyBitmap.slotOf(DayOfWeek.SUNDAY, LocalTime.of(23, 45));
+        assertThat(last).isEqualTo(WeeklyBitmap.SLOTS - 1);
+        assertThat(bitmap.containsAll(last - 3, last + 1)).isTrue();
+        assertThat(bitmap.nextSetSlot(0)).isEqualTo(last - 3);
+        assertThat(bitmap.nextSetSlot(last + 1)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("구간 중 한 칸이라도 비면 containsAll은 false")
+    void containsAllRequiresEverySlot() {
+        // given
+        WeeklyBitmap bitmap = new WeeklyBitmap();
+        bitmap.set(DayOfWeek.FRIDAY, LocalTime.of(9, 0), LocalTime.of(12, 0));
+        bitmap.set(DayOfWeek.FRIDAY, LocalTime.of(13, 0), LocalTime.of(18, 0));
+        int nine = WeeklyBitmap.slotOf(DayOfWeek.FRIDAY, LocalTime.of(9, 0));
+
+        // when & then
+        assertThat(bitmap.containsAll(nine, nine + 12)).isTrue();
+        assertThat(bitmap.containsAll(nine, nine + 13)).isFalse();
+        assertThat(bitmap.containsAll(nine, nine)).isFalse();
+        assertThat(new WeeklyBitmap().isEmpty()).isTrue();
+    }
+}